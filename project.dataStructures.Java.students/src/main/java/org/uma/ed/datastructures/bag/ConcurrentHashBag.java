@@ -0,0 +1,300 @@
+package org.uma.ed.datastructures.bag;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A thread-safe implementation of the {@link Bag} interface, where each distinct element has its own
+ * striped counter.
+ * <p>
+ * Elements are keys of a {@link ConcurrentHashMap} and their occurrences are counted by a
+ * {@link LongAdder}, which spreads increments from different threads over separate cells that are
+ * only added up when read. Once an element has been inserted, further insertions of it only take a
+ * shared lock and seldom contend on its counter, so counting throughput scales with the number of
+ * threads inserting concurrently, even when all of them insert the same few elements. No external
+ * synchronization is needed.
+ * <p>
+ * Updates ({@code insert}, {@code delete}) share a {@link StampedLock} in read mode, so they run
+ * concurrently with each other. Reads ({@code occurrences}, {@code count}, {@code size},
+ * {@code isEmpty}) and the creation of iterators take it in write mode, so they wait for updates in
+ * progress and see the bag as it is at a single point in time, and {@code clear} does the same to
+ * empty it atomically. An iterator copies all counts when it is created, so it yields each element
+ * exactly as many times as its count at that moment, regardless of later updates, and never throws
+ * {@link java.util.ConcurrentModificationException}.
+ * <p>
+ * {@code delete} must not take the count of an element below zero, so deletions of the same element
+ * are serialized by the map, although they still run concurrently with insertions. A counter that
+ * drops to zero can only be removed from the map while no update is in progress, since an insertion
+ * may already hold it: {@code delete} removes it right away if it can take the lock in write mode
+ * without waiting, and otherwise it is removed by the next read that takes the lock.
+ *
+ * @param <T> The type of elements in the bag.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class ConcurrentHashBag<T> extends AbstractBag<T> implements Bag<T> {
+
+  private final ConcurrentHashMap<T, LongAdder> counters;  // Striped counter for each element.
+  private final LongAdder size;                            // Total number of occurrences.
+  private final StampedLock lock;                          // Shared by updates, exclusive for reads.
+
+  /*
+   * INVARIANT (while holding lock in write mode):
+   *  - For every element in counters, its counter holds its number of occurrences, which is >= 0.
+   *    Counters holding zero may remain until removed by purge().
+   *  - size holds the sum of all counters.
+   */
+
+  /**
+   * Constructs an empty {@code ConcurrentHashBag}.
+   * <p> Time complexity: O(1)
+   */
+  public ConcurrentHashBag() {
+    this.counters = new ConcurrentHashMap<>();
+    this.size = new LongAdder();
+    this.lock = new StampedLock();
+  }
+
+  /**
+   * Creates an empty {@code ConcurrentHashBag}.
+   * <p> Time complexity: O(1)
+   */
+  public static <T> ConcurrentHashBag<T> empty() {
+    return new ConcurrentHashBag<>();
+  }
+
+  /**
+   * Creates a new {@code ConcurrentHashBag} from the given elements.
+   * <p> Time complexity: Near O(m) on average, where m is the number of elements.
+   */
+  @SafeVarargs
+  public static <T> ConcurrentHashBag<T> of(T... elements) {
+    ConcurrentHashBag<T> bag = new ConcurrentHashBag<>();
+    bag.insert(elements);
+    return bag;
+  }
+
+  /**
+   * Creates a new {@code ConcurrentHashBag} from an iterable.
+   * <p> Time complexity: Near O(m) on average, where m is the number of elements.
+   */
+  public static <T> ConcurrentHashBag<T> from(Iterable<T> iterable) {
+    ConcurrentHashBag<T> bag = new ConcurrentHashBag<>();
+    for (T element : iterable) {
+      bag.insert(element);
+    }
+    return bag;
+  }
+
+  /**
+   * Creates a new {@code ConcurrentHashBag} from any {@code Bag}.
+   * <p> Time complexity: Near O(m) on average, where m is the total number of elements.
+   */
+  public static <T> ConcurrentHashBag<T> copyOf(Bag<T> that) {
+    return from(that);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(s), where s is the number of stripes in use, plus the time taken by
+   * pending updates and the removal of counters holding zero.
+   */
+  @Override
+  public boolean isEmpty() {
+    return total() == 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   * The result saturates at {@code Integer.MAX_VALUE}.
+   * <p> Time complexity: O(s), where s is the number of stripes in use, plus the time taken by
+   * pending updates and the removal of counters holding zero.
+   */
+  @Override
+  public int size() {
+    return saturated(total());
+  }
+
+  private long total() {
+    long stamp = lock.writeLock();
+    try {
+      purge();
+      return size.sum();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * Removes counters holding zero. Must be called while holding lock in write mode, so that no
+   * insertion holds one of them.
+   */
+  private void purge() {
+    counters.values().removeIf(counter -> counter.sum() == 0);
+  }
+
+  /**
+   * Returns the counter of an element, creating it if needed.
+   */
+  private LongAdder counter(T element) {
+    LongAdder counter = counters.get(element); // lock-free fast path for elements already in bag
+    return counter != null ? counter : counters.computeIfAbsent(element, key -> new LongAdder());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: Near O(1) on average.
+   */
+  @Override
+  public void insert(T element) {
+    long stamp = lock.readLock();
+    try {
+      counter(element).increment();
+      size.increment();
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: Near O(1) on average.
+   */
+  @Override
+  public void delete(T element) {
+    boolean[] emptied = {false};
+    long stamp = lock.readLock();
+    try {
+      // computeIfPresent serializes deletions of the same element. Concurrent insertions can only
+      // increase the count, so it is still positive when decremented.
+      counters.computeIfPresent(element, (key, counter) -> {
+        if (counter.sum() > 0) {
+          counter.decrement();
+          size.decrement();
+          emptied[0] = counter.sum() == 0;
+        }
+        return counter;
+      });
+    } finally {
+      lock.unlockRead(stamp);
+    }
+    if (emptied[0]) {
+      stamp = lock.tryWriteLock();
+      if (stamp != 0) {
+        // no insertion is in progress, so none can be holding the counter
+        try {
+          counters.computeIfPresent(element, (key, counter) -> counter.sum() == 0 ? null : counter);
+        } finally {
+          lock.unlockWrite(stamp);
+        }
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(n), where n is the number of distinct elements, plus the time taken by
+   * pending updates.
+   */
+  @Override
+  public void clear() {
+    long stamp = lock.writeLock();
+    try {
+      counters.clear();
+      size.reset();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * The result saturates at {@code Integer.MAX_VALUE}; use {@link #count} for larger counts.
+   * <p> Time complexity: Near O(1) on average, plus the time taken by pending updates.
+   */
+  @Override
+  public int occurrences(T element) {
+    return saturated(count(element));
+  }
+
+  /**
+   * Returns the number of occurrences of an element in this bag, as a {@code long}.
+   * <p> Time complexity: Near O(1) on average, plus the time taken by pending updates.
+   *
+   * @param element the element whose occurrences are to be counted.
+   * @return the number of times the element appears in the bag.
+   */
+  public long count(T element) {
+    long stamp = lock.writeLock();
+    try {
+      LongAdder counter = counters.get(element);
+      return counter == null ? 0 : counter.sum();
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  private static int saturated(long count) {
+    return (int) Math.min(count, Integer.MAX_VALUE);
+  }
+
+  /**
+   * {@inheritDoc}
+   * The iterator works on a snapshot of the bag taken when it is created, so it is not affected by
+   * later updates.
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new ConcurrentHashBagIterator();
+  }
+
+  /**
+   * An iterator over a snapshot of the counts, taken while holding lock in write mode, yielding each
+   * element according to its number of occurrences in the snapshot.
+   */
+  private final class ConcurrentHashBagIterator implements Iterator<T> {
+    private final List<T> elements;      // Elements in the snapshot
+    private final List<Long> counts;     // Their (positive) counts in the snapshot
+    private int index;                   // Current element
+    private long occurrencesLeft;        // Occurrences of current element still to be yielded
+
+    public ConcurrentHashBagIterator() {
+      elements = new ArrayList<>();
+      counts = new ArrayList<>();
+      long stamp = lock.writeLock();
+      try {
+        purge();
+        counters.forEach((element, counter) -> {
+          elements.add(element);
+          counts.add(counter.sum());
+        });
+      } finally {
+        lock.unlockWrite(stamp);
+      }
+      index = 0;
+      occurrencesLeft = elements.isEmpty() ? 0 : counts.get(0);
+    }
+
+    @Override
+    public boolean hasNext() {
+      return occurrencesLeft > 0;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T element = elements.get(index);
+      if (--occurrencesLeft == 0 && ++index < elements.size()) {
+        occurrencesLeft = counts.get(index);
+      }
+      return element;
+    }
+  }
+}
@@ -0,0 +1,279 @@
+package org.uma.ed.datastructures.bag;
+
+import org.uma.ed.datastructures.dictionary.Dictionary;
+import org.uma.ed.datastructures.dictionary.JDKHashDictionary;
+import org.uma.ed.datastructures.utils.hashCode.HashCode;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * An approximate implementation of the {@link Bag} interface using a Count-Min sketch, which uses a
+ * fixed amount of memory regardless of the number of elements inserted.
+ * <p>
+ * The sketch is a matrix of counters with {@code depth} rows and {@code width} columns. Each row
+ * has its own hash function, and inserting an element increments, in every row, the counter at the
+ * column given by the hash of the element in that row. The number of occurrences of an element is
+ * estimated as the minimum of its counters. As unrelated elements may share counters, the estimate
+ * is never smaller than the actual number of occurrences, and, with {@code width = ⌈e/ε⌉} and
+ * {@code depth = ⌈ln(1/δ)⌉}, it exceeds it by more than {@code ε·N} with probability at most
+ * {@code δ}, where N is the size of the bag.
+ * <p>
+ * Elements themselves are not stored, so they cannot be iterated over. Instead, the bag keeps
+ * track of its heavy hitters: elements whose estimated number of occurrences is at least a given
+ * fraction φ of the size of the bag. About {@code 2/φ} candidates at most are tracked at any time,
+ * as long as ε is much smaller than φ.
+ * <p>
+ * Deletions are only valid for elements previously inserted, and not more times than they were
+ * inserted (the strict turnstile model). As elements are not stored, a bag cannot tell an element
+ * that was never inserted from one whose counters are all shared with inserted elements, so deleting
+ * such an element decrements those counters, and later estimates of the elements sharing them may be
+ * smaller than their actual number of occurrences.
+ * <p>
+ * {@code insert}, {@code delete} and {@code occurrences} run in O(depth) time.
+ *
+ * @param <T> The type of elements in the bag.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class CountMinSketchBag<T> implements Bag<T> {
+
+  private static final double DEFAULT_EPSILON = 0.001;
+  private static final double DEFAULT_DELTA = 0.01;
+  private static final double DEFAULT_HEAVY_HITTER_FRACTION = 0.01;
+
+  private final int width;                    // Number of columns.
+  private final int depth;                    // Number of rows, i.e. hash functions.
+  private final long[] counters;              // Row-major depth x width matrix of counters.
+  private long size;                          // Total number of occurrences.
+  private final double heavyHitterFraction;   // Fraction φ of size defining heavy hitters.
+  private final Map<T, Long> heavyHitters;    // Candidate heavy hitters and their last estimates.
+
+  /*
+   * INVARIANT:
+   *  - counters.length == depth * width, and counters[row * width + column] is the number of
+   *    occurrences of elements hashed to column in row.
+   *  - size is the sum of counters in any row.
+   *  - Every element whose estimate is at least heavyHitterFraction * size when inserted is in
+   *    heavyHitters, and heavyHitters.size() <= 2 / heavyHitterFraction after pruning.
+   */
+
+  /**
+   * Constructs an empty {@code CountMinSketchBag} with the given dimensions.
+   * <p> Time complexity: O(width * depth)
+   *
+   * @param width               number of counters per row.
+   * @param depth               number of rows.
+   * @param heavyHitterFraction fraction of the size of the bag that an element must reach to be a heavy hitter.
+   * @throws IllegalArgumentException if width or depth are not positive or the fraction is not in (0, 1].
+   */
+  public CountMinSketchBag(int width, int depth, double heavyHitterFraction) {
+    if (width <= 0 || depth <= 0) {
+      throw new IllegalArgumentException("Width and depth must be greater than 0");
+    }
+    if (heavyHitterFraction <= 0 || heavyHitterFraction > 1) {
+      throw new IllegalArgumentException("Heavy hitter fraction must be in (0, 1]");
+    }
+    this.width = width;
+    this.depth = depth;
+    this.counters = new long[Math.multiplyExact(width, depth)];
+    this.size = 0;
+    this.heavyHitterFraction = heavyHitterFraction;
+    this.heavyHitters = new HashMap<>();
+  }
+
+  /**
+   * Creates an empty {@code CountMinSketchBag} whose estimates exceed actual occurrences by more than
+   * {@code epsilon} times the size of the bag with probability at most {@code delta}.
+   * <p> Time complexity: O(ln(1/δ) / ε)
+   *
+   * @param epsilon             error bound, as a fraction of the size of the bag.
+   * @param delta               probability of exceeding the error bound.
+   * @param heavyHitterFraction fraction of the size of the bag that an element must reach to be a heavy hitter.
+   * @return an empty {@code CountMinSketchBag}.
+   * @throws IllegalArgumentException if epsilon or delta are not in (0, 1).
+   */
+  public static <T> CountMinSketchBag<T> withErrorBounds(double epsilon, double delta, double heavyHitterFraction) {
+    if (epsilon <= 0 || epsilon >= 1 || delta <= 0 || delta >= 1) {
+      throw new IllegalArgumentException("Epsilon and delta must be in (0, 1)");
+    }
+    int width = (int) Math.ceil(Math.E / epsilon);
+    int depth = (int) Math.ceil(Math.log(1 / delta));
+    return new CountMinSketchBag<>(width, depth, heavyHitterFraction);
+  }
+
+  /**
+   * Creates an empty {@code CountMinSketchBag} with ε = 0.001, δ = 0.01 and φ = 0.01.
+   * <p> Time complexity: O(1)
+   */
+  public static <T> CountMinSketchBag<T> empty() {
+    return withErrorBounds(DEFAULT_EPSILON, DEFAULT_DELTA, DEFAULT_HEAVY_HITTER_FRACTION);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   * The size is exact. The result saturates at {@code Integer.MAX_VALUE}; use {@link #count()}
+   * for larger sizes.
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int size() {
+    return (int) Math.min(size, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the total number of elements in this bag, as a {@code long}.
+   * <p> Time complexity: O(1)
+   *
+   * @return the total number of elements in the bag.
+   */
+  public long count() {
+    return size;
+  }
+
+  /**
+   * Returns the column of the counter for an element in a row, given the 64-bit hash of the element.
+   * Row hash functions are derived from two halves of the hash, as {@code h1 + row * h2}.
+   */
+  private int column(long hash, int row) {
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    return ((h1 + row * h2) & 0x7fffffff) % width;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(depth)
+   */
+  @Override
+  public void insert(T element) {
+    long hash = HashCode.mix64(element);
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      int index = row * width + column(hash, row);
+      counters[index]++;
+      estimate = Math.min(estimate, counters[index]);
+    }
+    size++;
+
+    if (estimate >= heavyHitterFraction * size) {
+      heavyHitters.put(element, estimate);
+      if (heavyHitters.size() > 2 / heavyHitterFraction) {
+        pruneHeavyHitters();
+      }
+    }
+  }
+
+  /**
+   * Removes candidates that are no longer heavy hitters.
+   */
+  private void pruneHeavyHitters() {
+    heavyHitters.entrySet().removeIf(entry -> occurrences(entry.getKey()) < heavyHitterFraction * size);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p>
+   * PRECONDITION: the element must have been inserted at least as many times as it is deleted.
+   * Otherwise, estimates for other elements may become smaller than their actual occurrences.
+   * If the estimated number of occurrences of the element is 0, the bag remains unchanged, but a
+   * positive estimate does not mean that the element was inserted: its counters may all have been
+   * incremented by other elements, and this cannot be detected.
+   * <p> Time complexity: O(depth)
+   */
+  @Override
+  public void delete(T element) {
+    if (estimate(element) == 0) {
+      return;
+    }
+    long hash = HashCode.mix64(element);
+    for (int row = 0; row < depth; row++) {
+      counters[row * width + column(hash, row)]--;
+    }
+    size--;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(width * depth)
+   */
+  @Override
+  public void clear() {
+    for (int i = 0; i < counters.length; i++) {
+      counters[i] = 0;
+    }
+    size = 0;
+    heavyHitters.clear();
+  }
+
+  /**
+   * {@inheritDoc}
+   * The result is an estimate that is never smaller than the actual number of occurrences. It
+   * saturates at {@code Integer.MAX_VALUE}; use {@link #estimate} for larger counts.
+   * <p> Time complexity: O(depth)
+   */
+  @Override
+  public int occurrences(T element) {
+    return (int) Math.min(estimate(element), Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns an estimate of the number of occurrences of an element in this bag, as a {@code long}.
+   * The estimate is never smaller than the actual number of occurrences.
+   * <p> Time complexity: O(depth)
+   *
+   * @param element the element whose occurrences are to be estimated.
+   * @return estimated number of times the element appears in the bag.
+   */
+  public long estimate(T element) {
+    long hash = HashCode.mix64(element);
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < depth; row++) {
+      estimate = Math.min(estimate, counters[row * width + column(hash, row)]);
+    }
+    return estimate;
+  }
+
+  /**
+   * Returns the heavy hitters in this bag, i.e. the elements whose estimated number of occurrences
+   * is at least the heavy hitter fraction of the size of the bag, with their current estimates.
+   * Unless elements have been deleted, every element that actually reaches that fraction is included.
+   * <p> Time complexity: O(depth / φ)
+   *
+   * @return a dictionary from heavy hitters to their estimated number of occurrences.
+   */
+  public Dictionary<T, Long> heavyHitters() {
+    pruneHeavyHitters();
+    JDKHashDictionary<T, Long> result = JDKHashDictionary.empty();
+    for (T element : heavyHitters.keySet()) {
+      result.insert(element, estimate(element));
+    }
+    return result;
+  }
+
+  /**
+   * Unsupported, as elements are not stored in a {@code CountMinSketchBag}. Use
+   * {@link #heavyHitters()} to retrieve the most frequent ones.
+   *
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public Iterator<T> iterator() {
+    throw new UnsupportedOperationException("iterator on CountMinSketchBag: elements are not stored");
+  }
+
+  @Override
+  public String toString() {
+    return "CountMinSketchBag(width=" + width + ", depth=" + depth + ", size=" + size + ")";
+  }
+}
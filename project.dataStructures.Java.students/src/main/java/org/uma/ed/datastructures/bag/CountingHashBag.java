@@ -0,0 +1,315 @@
+package org.uma.ed.datastructures.bag;
+
+import org.uma.ed.datastructures.hashtable.HashPrimes;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An implementation of the {@link Bag} interface using open addressing with linear probing, where
+ * occurrence counters are stored in an {@code int} array parallel to the array of elements.
+ * <p>
+ * Unlike {@link HashBag}, which replaces an immutable element-count pair every time an occurrence is
+ * added or removed, this bag increments or decrements the counter of the element in place, so no
+ * object is allocated per occurrence. This makes it suitable for counting frequencies of many
+ * repeated elements. Basic operations run in near constant time O(1) on average.
+ * <p>
+ * This implementation does not maintain any specific order for its elements. Elements stored in
+ * this bag must have a proper implementation of {@code equals()} and {@code hashCode()}.
+ *
+ * @param <T> The type of elements in the bag.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class CountingHashBag<T> extends AbstractBag<T> implements Bag<T> {
+
+  private static final int DEFAULT_NUM_CELLS = HashPrimes.primeGreaterThan(32);
+  private static final double DEFAULT_MAX_LOAD_FACTOR = 0.5;
+
+  private T[] elements;       // The array of cells storing distinct elements.
+  private int[] counts;       // Number of occurrences of element in each cell.
+  private int distinct;       // Number of distinct elements, i.e. non-null cells.
+  private int size;           // Total number of occurrences of all elements.
+  private final double maxLoadFactor;
+
+  /*
+   * INVARIANT:
+   *  - elements.length == counts.length. A null cell in elements is empty and its count is 0.
+   *  - For every non-null cell i, counts[i] > 0 is the number of occurrences of elements[i].
+   *  - distinct is the number of non-null cells, and size is the sum of all counts.
+   *  - All elements belonging to the same probing sequence form a contiguous block (a "cluster").
+   *    A null cell marks the end of a cluster.
+   */
+
+  /**
+   * Constructs an empty {@code CountingHashBag} with a specified initial capacity and load factor.
+   * <p> Time complexity: O(numCells)
+   */
+  @SuppressWarnings("unchecked")
+  public CountingHashBag(int numCells, double maxLoadFactor) {
+    if (numCells <= 0) {
+      throw new IllegalArgumentException("Initial number of cells must be greater than 0");
+    }
+    this.elements = (T[]) new Object[numCells];
+    this.counts = new int[numCells];
+    this.distinct = 0;
+    this.size = 0;
+    this.maxLoadFactor = maxLoadFactor;
+  }
+
+  /**
+   * Constructs an empty {@code CountingHashBag} with default capacity and load factor.
+   * <p> Time complexity: O(1)
+   */
+  public CountingHashBag() {
+    this(DEFAULT_NUM_CELLS, DEFAULT_MAX_LOAD_FACTOR);
+  }
+
+  /**
+   * Creates an empty {@code CountingHashBag}.
+   * <p> Time complexity: O(1)
+   */
+  public static <T> CountingHashBag<T> empty() {
+    return new CountingHashBag<>();
+  }
+
+  /**
+   * Creates an empty {@code CountingHashBag} with enough initial capacity to hold the
+   * specified number of distinct elements without needing to rehash.
+   * <p> Time complexity: O(capacity)
+   */
+  public static <T> CountingHashBag<T> withCapacity(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Initial capacity must be greater than 0");
+    }
+    return new CountingHashBag<>(HashPrimes.primeGreaterThan((int) (capacity / DEFAULT_MAX_LOAD_FACTOR)),
+        DEFAULT_MAX_LOAD_FACTOR);
+  }
+
+  /**
+   * Creates a new {@code CountingHashBag} from the given elements.
+   * <p> Time complexity: Near O(m) on average, where m is the number of elements.
+   */
+  @SafeVarargs
+  public static <T> CountingHashBag<T> of(T... elements) {
+    CountingHashBag<T> bag = new CountingHashBag<>();
+    bag.insert(elements);
+    return bag;
+  }
+
+  /**
+   * Creates a new {@code CountingHashBag} from an iterable.
+   * <p> Time complexity: Near O(m) on average, where m is the number of elements.
+   */
+  public static <T> CountingHashBag<T> from(Iterable<T> iterable) {
+    CountingHashBag<T> bag = new CountingHashBag<>();
+    for (T element : iterable) {
+      bag.insert(element);
+    }
+    return bag;
+  }
+
+  /**
+   * Creates a new {@code CountingHashBag} that is a copy of the given one.
+   * <p> Time complexity: O(c), where c is the number of cells of the source bag.
+   */
+  public static <T> CountingHashBag<T> copyOf(CountingHashBag<T> that) {
+    CountingHashBag<T> copy = new CountingHashBag<>(that.elements.length, that.maxLoadFactor);
+    System.arraycopy(that.elements, 0, copy.elements, 0, that.elements.length);
+    System.arraycopy(that.counts, 0, copy.counts, 0, that.counts.length);
+    copy.distinct = that.distinct;
+    copy.size = that.size;
+    return copy;
+  }
+
+  /**
+   * Creates a new {@code CountingHashBag} from any {@code Bag}.
+   * <p> Time complexity: Near O(m) on average, where m is the total number of elements.
+   */
+  public static <T> CountingHashBag<T> copyOf(Bag<T> that) {
+    if (that instanceof CountingHashBag<T> countingHashBag) {
+      return copyOf(countingHashBag);
+    }
+    return from(that);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Primary hash function to map an element to an initial cell index.
+   */
+  private int hash(T element) {
+    return (element.hashCode() & 0x7fffffff) % elements.length;
+  }
+
+  /**
+   * Computes the next index in the probing sequence (with wrap-around).
+   */
+  private int advance(int index) {
+    return (index + 1) % elements.length;
+  }
+
+  /**
+   * Finds the index for a given element.
+   * @return The index where the element is located, or the first empty cell in its probe sequence if not found.
+   */
+  private int searchIndex(T element) {
+    int index = hash(element);
+    while (elements[index] != null && !elements[index].equals(element)) {
+      index = advance(index);
+    }
+    return index;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: Near O(1) on average. Can be O(n) if rehashing occurs.
+   */
+  @Override
+  public void insert(T element) {
+    int index = searchIndex(element);
+    if (elements[index] == null) {
+      if ((double) (distinct + 1) / elements.length > maxLoadFactor) {
+        rehashing();
+        index = searchIndex(element);
+      }
+      elements[index] = element;
+      distinct++;
+    }
+    counts[index]++;
+    size++;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: Near O(1) on average.
+   */
+  @Override
+  public void delete(T element) {
+    int index = searchIndex(element);
+    if (elements[index] == null) {
+      return;
+    }
+    size--;
+    if (--counts[index] == 0) {
+      elements[index] = null;
+      distinct--;
+      // reinsert remaining elements in cluster, so that probing sequences are not broken
+      index = advance(index);
+      while (elements[index] != null) {
+        T toRelocate = elements[index];
+        int occurrences = counts[index];
+        elements[index] = null;
+        counts[index] = 0;
+        int newIndex = searchIndex(toRelocate);
+        elements[newIndex] = toRelocate;
+        counts[newIndex] = occurrences;
+        index = advance(index);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(c), where c is the number of cells.
+   */
+  @Override
+  public void clear() {
+    for (int i = 0; i < elements.length; i++) {
+      elements[i] = null;
+      counts[i] = 0;
+    }
+    distinct = 0;
+    size = 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: Near O(1) on average.
+   */
+  @Override
+  public int occurrences(T element) {
+    return counts[searchIndex(element)];
+  }
+
+  /**
+   * Doubles the table size to the next prime number and re-inserts all elements with their counts.
+   */
+  @SuppressWarnings("unchecked")
+  private void rehashing() {
+    T[] oldElements = elements;
+    int[] oldCounts = counts;
+
+    int newCapacity = HashPrimes.primeDoubleThan(oldElements.length);
+    elements = (T[]) new Object[newCapacity];
+    counts = new int[newCapacity];
+
+    for (int i = 0; i < oldElements.length; i++) {
+      if (oldElements[i] != null) {
+        int newIndex = searchIndex(oldElements[i]);
+        elements[newIndex] = oldElements[i];
+        counts[newIndex] = oldCounts[i];
+      }
+    }
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new CountingHashBagIterator();
+  }
+
+  /**
+   * An iterator that traverses the cells of the table, yielding each element according to its
+   * number of occurrences.
+   */
+  private final class CountingHashBagIterator implements Iterator<T> {
+    private int index;            // Current cell
+    private int occurrencesLeft;  // Occurrences of element in current cell still to be yielded
+
+    public CountingHashBagIterator() {
+      index = -1;
+      occurrencesLeft = 0;
+      advanceToNextElement();
+    }
+
+    private void advanceToNextElement() {
+      do {
+        index++;
+      } while (index < elements.length && elements[index] == null);
+      occurrencesLeft = index < elements.length ? counts[index] : 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return occurrencesLeft > 0;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T element = elements[index];
+      if (--occurrencesLeft == 0) {
+        advanceToNextElement();
+      }
+      return element;
+    }
+  }
+}
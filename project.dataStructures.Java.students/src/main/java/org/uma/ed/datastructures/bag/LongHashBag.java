@@ -0,0 +1,358 @@
+package org.uma.ed.datastructures.bag;
+
+import org.uma.ed.datastructures.hashtable.HashPrimes;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * An implementation of the {@link Bag} interface for {@code long} elements, using open addressing
+ * with linear probing over primitive arrays.
+ * <p>
+ * Elements and their occurrence counters are stored in two parallel arrays, of {@code long} elements
+ * and {@code int} counters, so neither elements nor counters are boxed and no object is allocated
+ * when an occurrence is added or removed. This makes it suitable for counting frequencies of many
+ * repeated long integers. The primitive methods
+ * {@link #insert(long)}, {@link #delete(long)}, {@link #occurrences(long)} and {@link #contains(long)},
+ * as well as the {@link PrimitiveIterator.OfLong} returned by {@link #iterator()}, avoid boxing
+ * altogether. Basic operations run in near constant time O(1) on average.
+ * <p>
+ * This implementation does not maintain any specific order for its elements.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class LongHashBag extends AbstractBag<Long> implements Bag<Long> {
+
+  private static final int DEFAULT_NUM_CELLS = HashPrimes.primeGreaterThan(32);
+  private static final double DEFAULT_MAX_LOAD_FACTOR = 0.5;
+
+  private long[] elements;     // The array of cells storing distinct elements.
+  private int[] counts;       // Number of occurrences of element in each cell. 0 means empty cell.
+  private int distinct;       // Number of distinct elements, i.e. non-empty cells.
+  private int size;           // Total number of occurrences of all elements.
+  private final double maxLoadFactor;
+
+  /*
+   * INVARIANT:
+   *  - elements.length == counts.length. Cell i is empty iff counts[i] == 0.
+   *  - For every non-empty cell i, counts[i] is the number of occurrences of elements[i].
+   *  - distinct is the number of non-empty cells, and size is the sum of all counts.
+   *  - All elements belonging to the same probing sequence form a contiguous block (a "cluster").
+   *    An empty cell marks the end of a cluster.
+   */
+
+  /**
+   * Constructs an empty {@code LongHashBag} with a specified initial capacity and load factor.
+   * <p> Time complexity: O(numCells)
+   */
+  public LongHashBag(int numCells, double maxLoadFactor) {
+    if (numCells <= 0) {
+      throw new IllegalArgumentException("Initial number of cells must be greater than 0");
+    }
+    this.elements = new long[numCells];
+    this.counts = new int[numCells];
+    this.distinct = 0;
+    this.size = 0;
+    this.maxLoadFactor = maxLoadFactor;
+  }
+
+  /**
+   * Constructs an empty {@code LongHashBag} with default capacity and load factor.
+   * <p> Time complexity: O(1)
+   */
+  public LongHashBag() {
+    this(DEFAULT_NUM_CELLS, DEFAULT_MAX_LOAD_FACTOR);
+  }
+
+  /**
+   * Creates an empty {@code LongHashBag}.
+   * <p> Time complexity: O(1)
+   */
+  public static LongHashBag empty() {
+    return new LongHashBag();
+  }
+
+  /**
+   * Creates an empty {@code LongHashBag} with enough initial capacity to hold the
+   * specified number of distinct elements without needing to rehash.
+   * <p> Time complexity: O(capacity)
+   */
+  public static LongHashBag withCapacity(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Initial capacity must be greater than 0");
+    }
+    return new LongHashBag(HashPrimes.primeGreaterThan((int) (capacity / DEFAULT_MAX_LOAD_FACTOR)),
+        DEFAULT_MAX_LOAD_FACTOR);
+  }
+
+  /**
+   * Creates a new {@code LongHashBag} from the given elements.
+   * <p> Time complexity: Near O(m) on average, where m is the number of elements.
+   */
+  public static LongHashBag of(long... elements) {
+    LongHashBag bag = new LongHashBag();
+    for (long element : elements) {
+      bag.insert(element);
+    }
+    return bag;
+  }
+
+  /**
+   * Creates a new {@code LongHashBag} from an iterable.
+   * <p> Time complexity: Near O(m) on average, where m is the number of elements.
+   */
+  public static LongHashBag from(Iterable<Long> iterable) {
+    LongHashBag bag = new LongHashBag();
+    for (long element : iterable) {
+      bag.insert(element);
+    }
+    return bag;
+  }
+
+  /**
+   * Creates a new {@code LongHashBag} that is a copy of the given one.
+   * <p> Time complexity: O(c), where c is the number of cells of the source bag.
+   */
+  public static LongHashBag copyOf(LongHashBag that) {
+    LongHashBag copy = new LongHashBag(that.elements.length, that.maxLoadFactor);
+    System.arraycopy(that.elements, 0, copy.elements, 0, that.elements.length);
+    System.arraycopy(that.counts, 0, copy.counts, 0, that.counts.length);
+    copy.distinct = that.distinct;
+    copy.size = that.size;
+    return copy;
+  }
+
+  /**
+   * Creates a new {@code LongHashBag} from any {@code Bag}.
+   * <p> Time complexity: Near O(m) on average, where m is the total number of elements.
+   */
+  public static LongHashBag copyOf(Bag<Long> that) {
+    if (that instanceof LongHashBag longHashBag) {
+      return copyOf(longHashBag);
+    }
+    return from(that);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Primary hash function to map an element to an initial cell index.
+   */
+  private int hash(long element) {
+    return (Long.hashCode(element) & 0x7fffffff) % elements.length;
+  }
+
+  /**
+   * Computes the next index in the probing sequence (with wrap-around).
+   */
+  private int advance(int index) {
+    return (index + 1) % elements.length;
+  }
+
+  /**
+   * Finds the index for a given element.
+   * @return The index where the element is located, or the first empty cell in its probe sequence if not found.
+   */
+  private int searchIndex(long element) {
+    int index = hash(element);
+    while (counts[index] != 0 && elements[index] != element) {
+      index = advance(index);
+    }
+    return index;
+  }
+
+  /**
+   * Adds one occurrence of an element to this bag, without boxing it.
+   * <p> Time complexity: Near O(1) on average. Can be O(n) if rehashing occurs.
+   *
+   * @param element the element to be added.
+   */
+  public void insert(long element) {
+    int index = searchIndex(element);
+    if (counts[index] == 0) {
+      if ((double) (distinct + 1) / elements.length > maxLoadFactor) {
+        rehashing();
+        index = searchIndex(element);
+      }
+      elements[index] = element;
+      distinct++;
+    }
+    counts[index]++;
+    size++;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: Near O(1) on average. Can be O(n) if rehashing occurs.
+   */
+  @Override
+  public void insert(Long element) {
+    insert(element.longValue());
+  }
+
+  /**
+   * Removes one occurrence of an element from this bag, without boxing it. If the element is not in
+   * the bag, the bag remains unchanged.
+   * <p> Time complexity: Near O(1) on average.
+   *
+   * @param element the element to be removed.
+   */
+  public void delete(long element) {
+    int index = searchIndex(element);
+    if (counts[index] == 0) {
+      return;
+    }
+    size--;
+    if (--counts[index] == 0) {
+      distinct--;
+      // reinsert remaining elements in cluster, so that probing sequences are not broken
+      index = advance(index);
+      while (counts[index] != 0) {
+        long toRelocate = elements[index];
+        int occurrences = counts[index];
+        counts[index] = 0;
+        int newIndex = searchIndex(toRelocate);
+        elements[newIndex] = toRelocate;
+        counts[newIndex] = occurrences;
+        index = advance(index);
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: Near O(1) on average.
+   */
+  @Override
+  public void delete(Long element) {
+    delete(element.longValue());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(c), where c is the number of cells.
+   */
+  @Override
+  public void clear() {
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = 0;
+    }
+    distinct = 0;
+    size = 0;
+  }
+
+  /**
+   * Returns the number of occurrences of an element in this bag, without boxing it.
+   * <p> Time complexity: Near O(1) on average.
+   *
+   * @param element the element whose occurrences are to be counted.
+   * @return the number of times the element appears in the bag.
+   */
+  public int occurrences(long element) {
+    return counts[searchIndex(element)];
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: Near O(1) on average.
+   */
+  @Override
+  public int occurrences(Long element) {
+    return occurrences(element.longValue());
+  }
+
+  /**
+   * Returns {@code true} if this bag contains at least one occurrence of an element, without boxing it.
+   * <p> Time complexity: Near O(1) on average.
+   *
+   * @param element the element whose presence in this bag is to be tested.
+   * @return {@code true} if this bag contains the element.
+   */
+  public boolean contains(long element) {
+    return occurrences(element) > 0;
+  }
+
+  /**
+   * Doubles the table size to the next prime number and re-inserts all elements with their counts.
+   */
+  private void rehashing() {
+    long[] oldElements = elements;
+    int[] oldCounts = counts;
+
+    int newCapacity = HashPrimes.primeDoubleThan(oldElements.length);
+    elements = new long[newCapacity];
+    counts = new int[newCapacity];
+
+    for (int i = 0; i < oldElements.length; i++) {
+      if (oldCounts[i] != 0) {
+        int newIndex = searchIndex(oldElements[i]);
+        elements[newIndex] = oldElements[i];
+        counts[newIndex] = oldCounts[i];
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * Use {@link PrimitiveIterator.OfLong#nextLong()} on the returned iterator to avoid boxing.
+   */
+  @Override
+  public PrimitiveIterator.OfLong iterator() {
+    return new LongHashBagIterator();
+  }
+
+  /**
+   * An iterator that traverses the cells of the table, yielding each element according to its
+   * number of occurrences.
+   */
+  private final class LongHashBagIterator implements PrimitiveIterator.OfLong {
+    private int index;            // Current cell
+    private int occurrencesLeft;  // Occurrences of element in current cell still to be yielded
+
+    public LongHashBagIterator() {
+      index = -1;
+      occurrencesLeft = 0;
+      advanceToNextElement();
+    }
+
+    private void advanceToNextElement() {
+      do {
+        index++;
+      } while (index < counts.length && counts[index] == 0);
+      occurrencesLeft = index < counts.length ? counts[index] : 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return occurrencesLeft > 0;
+    }
+
+    @Override
+    public long nextLong() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      long element = elements[index];
+      if (--occurrencesLeft == 0) {
+        advanceToNextElement();
+      }
+      return element;
+    }
+  }
+}
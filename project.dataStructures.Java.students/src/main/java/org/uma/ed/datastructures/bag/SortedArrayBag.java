@@ -4,6 +4,8 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import org.uma.ed.datastructures.utils.batch.Batches;
+import org.uma.ed.datastructures.utils.iterator.SortedIterators;
 
 /**
  * An implementation of the {@link SortedBag} interface using a sorted dynamic array of bins.
@@ -97,18 +99,18 @@ public class SortedArrayBag<T> extends AbstractSortedBag<T> implements SortedBag
 
   /**
    * Creates a new {@code SortedArrayBag} from the given elements.
-   * <p>Time complexity: O(m^2) in the worst case due to repeated linear-time insertions.</p>
+   * <p>Time complexity: O(m log m), as elements are inserted with {@link #insertAll}.</p>
    */
   @SafeVarargs
   public static <T> SortedArrayBag<T> of(Comparator<T> comparator, T... elements) {
     SortedArrayBag<T> bag = new SortedArrayBag<>(comparator);
-    bag.insert(elements);
+    bag.insertAll(Arrays.asList(elements));
     return bag;
   }
 
   /**
    * Creates a new {@code SortedArrayBag} from the given elements with natural ordering.
-   * <p>Time complexity: O(m^2) in the worst case.</p>
+   * <p>Time complexity: O(m log m).</p>
    */
   @SafeVarargs
   public static <T extends Comparable<? super T>> SortedArrayBag<T> of(T... elements) {
@@ -117,19 +119,17 @@ public class SortedArrayBag<T> extends AbstractSortedBag<T> implements SortedBag
 
   /**
    * Creates a new {@code SortedArrayBag} from an iterable.
-   * <p>Time complexity: O(m^2) in the worst case.</p>
+   * <p>Time complexity: O(m log m), as elements are inserted with {@link #insertAll}.</p>
    */
   public static <T> SortedArrayBag<T> from(Comparator<T> comparator, Iterable<T> iterable) {
     SortedArrayBag<T> bag = new SortedArrayBag<>(comparator);
-    for (T element : iterable) {
-      bag.insert(element);
-    }
+    bag.insertAll(iterable);
     return bag;
   }
 
   /**
    * Creates a new {@code SortedArrayBag} from an iterable with natural ordering.
-   * <p>Time complexity: O(m^2) in the worst case.</p>
+   * <p>Time complexity: O(m log m).</p>
    */
   public static <T extends Comparable<? super T>> SortedArrayBag<T> from(Iterable<T> iterable) {
     return from(Comparator.naturalOrder(), iterable);
@@ -248,6 +248,71 @@ public class SortedArrayBag<T> extends AbstractSortedBag<T> implements SortedBag
     }
   }
 
+  /**
+   * Inserts all elements in an iterable into this bag.
+   * <p>
+   * The batch is sorted and equal elements are grouped into bins. Then, bins of the batch whose
+   * element is already in the bag are located by galloping forward through the array, which gives
+   * the final number of bins, and the batch is merged into the array from right to left, so that
+   * every bin in the bag moves at most once, straight to its final position.
+   * <p>Time complexity: O(n + k log k), where n is the number of bins in the bag and k the number
+   * of elements in the batch.</p>
+   *
+   * @param iterable the batch of elements to insert.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public void insertAll(Iterable<T> iterable) {
+    T[] batch = Batches.sorted(iterable, comparator);
+
+    // group equal elements in batch into bins
+    Bin<T>[] batchBins = (Bin<T>[]) new Bin[batch.length];
+    int k = 0;
+    int start = 0;
+    while (start < batch.length) {
+      int end = start + 1;
+      while (end < batch.length && comparator.compare(batch[start], batch[end]) == 0) {
+        end++;
+      }
+      batchBins[k++] = Bin.of(batch[end - 1], end - start);
+      start = end;
+    }
+
+    // count bins in batch whose element is already in this bag
+    Comparator<Bin<T>> binComparator = Bin.byElement(comparator);
+    int common = 0;
+    int from = 0;
+    for (int j = 0; j < k; j++) {
+      from = SortedIterators.gallop(elements, from, bins, batchBins[j], binComparator);
+      if (from < bins && binComparator.compare(elements[from], batchBins[j]) == 0) {
+        common++;
+      }
+    }
+
+    int newBins = bins + k - common;
+    if (newBins > elements.length) {
+      elements = Arrays.copyOf(elements, Math.max(newBins, 2 * elements.length));
+    }
+
+    // merge backwards; elements[0...i] are already in place once batch is exhausted
+    int i = bins - 1;
+    int j = k - 1;
+    int last = newBins - 1;
+    while (j >= 0) {
+      int cmp = i < 0 ? -1 : binComparator.compare(elements[i], batchBins[j]);
+      if (cmp > 0) {
+        elements[last--] = elements[i--];
+      } else if (cmp == 0) {
+        elements[last--] = Bin.of(batchBins[j].element, elements[i].occurrences + batchBins[j].occurrences);
+        i--;
+        j--;
+      } else {
+        elements[last--] = batchBins[j--];
+      }
+    }
+    bins = newBins;
+    size += batch.length;
+  }
+
   @Override
   public void delete(T element) {
     if(isEmpty()){
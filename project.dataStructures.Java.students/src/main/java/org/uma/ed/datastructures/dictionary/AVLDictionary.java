@@ -2,12 +2,16 @@ package org.uma.ed.datastructures.dictionary;
 
 import org.uma.ed.datastructures.searchtree.AVL;
 import org.uma.ed.datastructures.searchtree.EmptySearchTreeException;
+import org.uma.ed.datastructures.searchtree.PersistentAVL;
 import org.uma.ed.datastructures.searchtree.SearchTree;
+import org.uma.ed.datastructures.searchtree.SplayTree;
+import org.uma.ed.datastructures.searchtree.Treap;
 
 import java.awt.*;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
  * An implementation of the {@link SortedDictionary} interface using an AVL tree.
@@ -16,6 +20,11 @@ import java.util.NoSuchElementException;
  * The underlying AVL tree ensures that the dictionary remains balanced, providing
  * guaranteed O(log n) time complexity for {@code insert}, {@code delete}, {@code valueOf},
  * and {@code isDefinedAt} operations.
+ * <p>
+ * Dictionaries created with {@link #persistent(Comparator)} are backed by a {@link PersistentAVL}
+ * tree instead, so that copying them is an O(1) operation.
+ * Dictionaries created with {@link #splay(Comparator)} or {@link #treap(Comparator)} are backed by
+ * a {@link SplayTree} or a {@link Treap}, which favor recently or frequently accessed keys.
  *
  * @param <K> The type of keys maintained by this dictionary.
  * @param <V> The type of mapped values.
@@ -59,6 +68,67 @@ public class AVLDictionary<K, V> extends AbstractSortedDictionary<K, V> implemen
     return new AVLDictionary<K, V>(Comparator.naturalOrder());
   }
 
+  /**
+   * Creates an empty {@code AVLDictionary} backed by a {@link PersistentAVL} tree, ordered by the
+   * specified comparator. Copies of this dictionary taken with {@link #copyOf(AVLDictionary)} share
+   * all nodes with it.
+   * <p> Time complexity: O(1)
+   */
+  public static <K, V> AVLDictionary<K, V> persistent(Comparator<K> comparator) {
+    return new AVLDictionary<>(comparator, PersistentAVL.empty(Entry.onKeyComparator(comparator)));
+  }
+
+  /**
+   * Creates an empty {@code AVLDictionary} backed by a {@link PersistentAVL} tree, ordered by the
+   * natural ordering of its keys.
+   * <p> Time complexity: O(1)
+   */
+  public static <K extends Comparable<? super K>, V> AVLDictionary<K, V> persistent() {
+    return AVLDictionary.<K, V>persistent(Comparator.naturalOrder());
+  }
+
+  /**
+   * Creates an empty {@code AVLDictionary} backed by a {@link SplayTree}, ordered by the specified
+   * comparator. Recently accessed keys are found faster, but operations run in O(log n) amortized time.
+   * <p> Lookups splay the underlying tree, but may be done while iterating the dictionary.
+   * Inserting or deleting keys while iterating makes the iterator throw a
+   * {@link java.util.ConcurrentModificationException}, as with other dictionaries.
+   * <p> Time complexity: O(1)
+   */
+  public static <K, V> AVLDictionary<K, V> splay(Comparator<K> comparator) {
+    return new AVLDictionary<>(comparator, SplayTree.empty(Entry.onKeyComparator(comparator)));
+  }
+
+  /**
+   * Creates an empty {@code AVLDictionary} backed by a {@link SplayTree}, ordered by the natural
+   * ordering of its keys.
+   * <p> Time complexity: O(1)
+   */
+  public static <K extends Comparable<? super K>, V> AVLDictionary<K, V> splay() {
+    return AVLDictionary.<K, V>splay(Comparator.naturalOrder());
+  }
+
+  /**
+   * Creates an empty {@code AVLDictionary} backed by a {@link Treap}, ordered by the specified
+   * comparator. Frequently accessed keys are found faster, and operations run in O(log n) expected time.
+   * <p> Lookups may restructure the underlying tree, but may be done while iterating the dictionary.
+   * Inserting or deleting keys while iterating makes the iterator throw a
+   * {@link java.util.ConcurrentModificationException}, as with other dictionaries.
+   * <p> Time complexity: O(1)
+   */
+  public static <K, V> AVLDictionary<K, V> treap(Comparator<K> comparator) {
+    return new AVLDictionary<>(comparator, Treap.empty(Entry.onKeyComparator(comparator)));
+  }
+
+  /**
+   * Creates an empty {@code AVLDictionary} backed by a {@link Treap}, ordered by the natural
+   * ordering of its keys.
+   * <p> Time complexity: O(1)
+   */
+  public static <K extends Comparable<? super K>, V> AVLDictionary<K, V> treap() {
+    return AVLDictionary.<K, V>treap(Comparator.naturalOrder());
+  }
+
   /**
    * Creates a new {@code AVLDictionary} from the given entries.
    * <p> Time complexity: O(n log n)
@@ -104,9 +174,18 @@ public class AVLDictionary<K, V> extends AbstractSortedDictionary<K, V> implemen
   /**
    * Creates a new {@code AVLDictionary} containing the same mappings as the given dictionary.
    * <p> This is an efficient O(n) operation using the underlying tree's copy mechanism.
-   * <p> Time complexity: O(n)
+   * If the given dictionary is backed by a {@code PersistentAVL} tree, the copy shares all nodes
+   * with it and no node is copied at all.
+   * <p> Time complexity: O(n), or O(1) for persistent dictionaries.
    */
   public static <K, V> AVLDictionary<K, V> copyOf(AVLDictionary<K, V> that) {
+    if (that.avlTree instanceof PersistentAVL<Entry<K, V>> persistentAVL) {
+      return new AVLDictionary<>(that.comparator(), persistentAVL.snapshot());
+    } else if (that.avlTree instanceof SplayTree<Entry<K, V>> splayTree) {
+      return new AVLDictionary<>(that.comparator(), SplayTree.copyOf(splayTree));
+    } else if (that.avlTree instanceof Treap<Entry<K, V>> treap) {
+      return new AVLDictionary<>(that.comparator(), Treap.copyOf(treap));
+    }
     return new AVLDictionary<>(that.comparator(), AVL.copyOf(that.avlTree));
   }
 
@@ -248,6 +327,15 @@ public class AVLDictionary<K, V> extends AbstractSortedDictionary<K, V> implemen
     return entries().iterator();
   }
 
+  /**
+   * {@inheritDoc}
+   * Entries are visited in ascending order of keys without creating an iterator.
+   */
+  @Override
+  public void forEach(Consumer<? super Entry<K, V>> action) {
+    avlTree.forEachInOrder(action);
+  }
+
   // --- Private Iterator Helper Classes ---
 
   private abstract class EntryIterator<T> implements Iterator<T> {
@@ -0,0 +1,262 @@
+package org.uma.ed.datastructures.dictionary;
+
+import org.uma.ed.datastructures.skiplist.LockFreeSkipList;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * A thread-safe implementation of the {@link SortedDictionary} interface using a
+ * {@link LockFreeSkipList} of key-value entries.
+ * <p>
+ * The skip list keeps entries sorted by key, according to the dictionary's comparator.
+ * Operations {@code insert}, {@code delete}, {@code valueOf} and {@code isDefinedAt} run in
+ * O(log n) expected time and can be invoked concurrently from many threads without any
+ * external synchronization; none of them ever blocks other threads.
+ * <p>
+ * The {@code keys()}, {@code values()} and {@code entries()} views are weakly consistent:
+ * they traverse mappings in ascending key order, never fail because of concurrent updates,
+ * and may or may not reflect updates performed after their iterators were created.
+ *
+ * @param <K> The type of keys maintained by this dictionary.
+ * @param <V> The type of mapped values.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class ConcurrentSkipListDictionary<K, V> extends AbstractSortedDictionary<K, V> implements SortedDictionary<K, V> {
+
+  private final Comparator<K> comparator;
+  private final LockFreeSkipList<Entry<K, V>> skipList;
+
+  /**
+   * Constructs an empty {@code ConcurrentSkipListDictionary}, ordered by the specified comparator.
+   * <p> Time complexity: O(1)
+   */
+  public ConcurrentSkipListDictionary(Comparator<K> comparator) {
+    this.comparator = comparator;
+    this.skipList = LockFreeSkipList.empty(Entry.onKeyComparator(comparator));
+  }
+
+  /**
+   * Creates an empty {@code ConcurrentSkipListDictionary}, ordered by the specified comparator.
+   * <p> Time complexity: O(1)
+   */
+  public static <K, V> ConcurrentSkipListDictionary<K, V> empty(Comparator<K> comparator) {
+    return new ConcurrentSkipListDictionary<>(comparator);
+  }
+
+  /**
+   * Creates an empty {@code ConcurrentSkipListDictionary}, ordered by the natural ordering of its keys.
+   * <p> Time complexity: O(1)
+   */
+  public static <K extends Comparable<? super K>, V> ConcurrentSkipListDictionary<K, V> empty() {
+    return new ConcurrentSkipListDictionary<K, V>(Comparator.naturalOrder());
+  }
+
+  /**
+   * Creates a new {@code ConcurrentSkipListDictionary} from the given entries.
+   * <p> Time complexity: O(n log n) expected.
+   */
+  @SafeVarargs
+  public static <K, V> ConcurrentSkipListDictionary<K, V> of(Comparator<K> comparator, Entry<K, V>... entries) {
+    ConcurrentSkipListDictionary<K, V> dictionary = new ConcurrentSkipListDictionary<>(comparator);
+    for (Entry<K, V> entry : entries) {
+      dictionary.insert(entry);
+    }
+    return dictionary;
+  }
+
+  /**
+   * Creates a new {@code ConcurrentSkipListDictionary} from the given entries with natural key ordering.
+   * <p> Time complexity: O(n log n) expected.
+   */
+  @SafeVarargs
+  public static <K extends Comparable<? super K>, V> ConcurrentSkipListDictionary<K, V> of(Entry<K, V>... entries) {
+    return of(Comparator.naturalOrder(), entries);
+  }
+
+  /**
+   * Creates a new {@code ConcurrentSkipListDictionary} from an iterable of entries.
+   * <p> Time complexity: O(n log n) expected.
+   */
+  public static <K, V> ConcurrentSkipListDictionary<K, V> from(Comparator<K> comparator, Iterable<Entry<K, V>> iterable) {
+    ConcurrentSkipListDictionary<K, V> dictionary = new ConcurrentSkipListDictionary<>(comparator);
+    for (Entry<K, V> entry : iterable) {
+      dictionary.insert(entry);
+    }
+    return dictionary;
+  }
+
+  /**
+   * Creates a new {@code ConcurrentSkipListDictionary} from an iterable of entries with natural key ordering.
+   * <p> Time complexity: O(n log n) expected.
+   */
+  public static <K extends Comparable<? super K>, V> ConcurrentSkipListDictionary<K, V> from(Iterable<Entry<K, V>> entries) {
+    return from(Comparator.naturalOrder(), entries);
+  }
+
+  /**
+   * Creates a new {@code ConcurrentSkipListDictionary} containing the same mappings as the given sorted dictionary.
+   * <p> Time complexity: O(n log n) expected.
+   */
+  public static <K, V> ConcurrentSkipListDictionary<K, V> copyOf(SortedDictionary<K, V> that) {
+    return from(that.comparator(), that);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean isEmpty() { return skipList.isEmpty(); }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int size() { return skipList.size(); }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public Comparator<K> comparator() {
+    return comparator;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public void insert(Entry<K, V> entry) {
+    skipList.insert(entry);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public V valueOf(K key) {
+    Entry<K, V> entry = skipList.search(Entry.withKey(key));
+    return entry == null ? null : entry.value();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public boolean isDefinedAt(K key) {
+    return skipList.contains(Entry.withKey(key));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public void delete(K key) {
+    skipList.delete(Entry.withKey(key));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> This operation is not atomic: entries inserted concurrently may survive it.
+   * <p> Time complexity: O(n) expected.
+   */
+  @Override
+  public void clear() {
+    skipList.clear();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1) expected.
+   */
+  @Override
+  public Entry<K, V> minimum() {
+    return skipList.minimum();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public Entry<K, V> maximum() {
+    return skipList.maximum();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(n) for the full iteration.
+   */
+  @Override
+  public Iterable<K> keys() {
+    return () -> new KeyIterator(skipList.iterator());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(n) for the full iteration.
+   */
+  @Override
+  public Iterable<V> values() {
+    return () -> new ValueIterator(skipList.iterator());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(n) for the full iteration.
+   */
+  @Override
+  public Iterable<Entry<K, V>> entries() {
+    return skipList;
+  }
+
+  @Override
+  public Iterator<Entry<K, V>> iterator() {
+    return skipList.iterator();
+  }
+
+  // --- Private Iterator Helper Classes ---
+
+  private abstract class EntryIterator<T> implements Iterator<T> {
+    protected final Iterator<Entry<K, V>> iterator;
+
+    EntryIterator(Iterator<Entry<K, V>> iterator) {
+      this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+  }
+
+  private final class KeyIterator extends EntryIterator<K> {
+    KeyIterator(Iterator<Entry<K, V>> iterator) {
+      super(iterator);
+    }
+
+    @Override
+    public K next() {
+      return iterator.next().key();
+    }
+  }
+
+  private final class ValueIterator extends EntryIterator<V> {
+    ValueIterator(Iterator<Entry<K, V>> iterator) {
+      super(iterator);
+    }
+
+    @Override
+    public V next() {
+      return iterator.next().value();
+    }
+  }
+}
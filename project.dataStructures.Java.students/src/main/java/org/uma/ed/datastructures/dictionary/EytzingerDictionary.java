@@ -0,0 +1,231 @@
+package org.uma.ed.datastructures.dictionary;
+
+import org.uma.ed.datastructures.set.EytzingerSet;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable, read-optimized implementation of the {@link SortedDictionary} interface that stores
+ * its entries in an {@link EytzingerSet}, using the Eytzinger (breadth-first) array layout.
+ * <p>
+ * Lookups with {@code valueOf} and {@code isDefinedAt} run in O(log n) time with a cache-friendly
+ * access pattern. Dictionaries of this class are meant for build-once, query-many lookup tables. They
+ * are created from a {@link SortedDictionary} in O(n) time, for instance with
+ * {@link SortedArrayDictionary#frozen()}, and any attempt to modify them throws an
+ * {@link UnsupportedOperationException}. Iteration still returns entries in ascending order of keys.
+ *
+ * @param <K> The type of keys maintained by this dictionary.
+ * @param <V> The type of mapped values.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class EytzingerDictionary<K, V> extends AbstractSortedDictionary<K, V> implements SortedDictionary<K, V> {
+
+  private final Comparator<K> comparator;
+  private final EytzingerSet<Entry<K, V>> entries;
+
+  /**
+   * Private constructor for internal use.
+   */
+  private EytzingerDictionary(Comparator<K> comparator, EytzingerSet<Entry<K, V>> entries) {
+    this.comparator = comparator;
+    this.entries = entries;
+  }
+
+  /**
+   * Creates a new {@code EytzingerDictionary} containing the same mappings as the given sorted dictionary.
+   * <p> Time complexity: O(n)
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public static <K, V> EytzingerDictionary<K, V> copyOf(SortedDictionary<K, V> that) {
+    Entry<K, V>[] sortedEntries = (Entry<K, V>[]) new Entry[that.size()];
+    int size = 0;
+    for (Entry<K, V> entry : that.entries()) {
+      sortedEntries[size++] = entry;
+    }
+    return fromSortedArray(that.comparator(), sortedEntries, size);
+  }
+
+  /**
+   * Creates a new {@code EytzingerDictionary} containing entries in {@code sortedEntries[0...size-1]}.
+   * <p>
+   * PRECONDITION: keys of entries in {@code sortedEntries[0...size-1]} are in strictly ascending order
+   * as per the comparator.
+   * <p> Time complexity: O(n)
+   */
+  static <K, V> EytzingerDictionary<K, V> fromSortedArray(Comparator<K> comparator, Entry<K, V>[] sortedEntries, int size) {
+    return new EytzingerDictionary<>(comparator,
+        EytzingerSet.fromSortedArray(Entry.onKeyComparator(comparator), sortedEntries, size));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public Comparator<K> comparator() {
+    return comparator;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean isEmpty() {
+    return entries.isEmpty();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Unsupported, as {@code EytzingerDictionary}s are immutable.
+   *
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void insert(Entry<K, V> entry) {
+    throw new UnsupportedOperationException("insert on immutable EytzingerDictionary");
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public V valueOf(K key) {
+    Entry<K, V> entry = entries.search(Entry.withKey(key));
+    return entry == null ? null : entry.value();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public boolean isDefinedAt(K key) {
+    return entries.contains(Entry.withKey(key));
+  }
+
+  /**
+   * Unsupported, as {@code EytzingerDictionary}s are immutable.
+   *
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void delete(K key) {
+    throw new UnsupportedOperationException("delete on immutable EytzingerDictionary");
+  }
+
+  /**
+   * Unsupported, as {@code EytzingerDictionary}s are immutable.
+   *
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException("clear on immutable EytzingerDictionary");
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public Entry<K, V> minimum() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("minimum on empty dictionary");
+    }
+    return entries.minimum();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public Entry<K, V> maximum() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("maximum on empty dictionary");
+    }
+    return entries.maximum();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(n) for the full iteration.
+   */
+  @Override
+  public Iterable<K> keys() {
+    return () -> new KeyIterator(entries.iterator());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(n) for the full iteration.
+   */
+  @Override
+  public Iterable<V> values() {
+    return () -> new ValueIterator(entries.iterator());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(n) for the full iteration.
+   */
+  @Override
+  public Iterable<Entry<K, V>> entries() {
+    return entries;
+  }
+
+  @Override
+  public Iterator<Entry<K, V>> iterator() {
+    return entries.iterator();
+  }
+
+  // --- Private Iterator Helper Classes ---
+
+  private abstract class EntryIterator<T> implements Iterator<T> {
+    protected final Iterator<Entry<K, V>> iterator;
+
+    EntryIterator(Iterator<Entry<K, V>> iterator) {
+      this.iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+  }
+
+  private final class KeyIterator extends EntryIterator<K> {
+    KeyIterator(Iterator<Entry<K, V>> iterator) {
+      super(iterator);
+    }
+
+    @Override
+    public K next() {
+      return iterator.next().key();
+    }
+  }
+
+  private final class ValueIterator extends EntryIterator<V> {
+    ValueIterator(Iterator<Entry<K, V>> iterator) {
+      super(iterator);
+    }
+
+    @Override
+    public V next() {
+      return iterator.next().value();
+    }
+  }
+}
@@ -0,0 +1,225 @@
+package org.uma.ed.datastructures.dictionary;
+
+import org.uma.ed.datastructures.set.BloomFilter;
+import org.uma.ed.datastructures.set.CuckooFilter;
+import org.uma.ed.datastructures.set.MembershipFilter;
+
+import java.util.Iterator;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link Dictionary} that keeps a {@link MembershipFilter} of its keys in front of another
+ * dictionary, so that lookups for absent keys are usually rejected by the filter without touching
+ * the underlying dictionary.
+ * <p>
+ * This is useful when the underlying dictionary, such as a large {@link HashDictionary}, does not
+ * fit in cache and most calls to {@code isDefinedAt} or {@code valueOf} are misses: the filter is
+ * much smaller, and rejects a definite miss after reading a couple of bits ({@link BloomFilter}) or
+ * two buckets ({@link CuckooFilter}).
+ * <p>
+ * The filter is maintained automatically, in the same way as by
+ * {@link org.uma.ed.datastructures.set.FilteredSet}: keys of inserted entries are inserted in the
+ * filter, keys of deleted entries are deleted from it if it supports deletion, and it is rebuilt
+ * from the keys in the dictionary, with twice its size as capacity, when it is outgrown, full, or
+ * has too many stale keys. The underlying dictionary must not be modified other than through this
+ * dictionary.
+ *
+ * @param <K> The type of keys maintained by this dictionary.
+ * @param <V> The type of mapped values.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class FilteredDictionary<K, V> extends AbstractDictionary<K, V> implements Dictionary<K, V> {
+
+  private static final int MINIMUM_FILTER_CAPACITY = 64;
+  private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+  private final Dictionary<K, V> dictionary;                      // The underlying dictionary.
+  private final IntFunction<MembershipFilter<K>> filterFactory;   // Builds a filter with a given capacity.
+  private MembershipFilter<K> filter;                             // Summary of keys in dictionary.
+  private int staleDeletions;                                     // Deletions not applied to filter.
+
+  /*
+   * INVARIANT:
+   *  - Every key in dictionary has been inserted in filter (so filter has no false negatives).
+   *  - staleDeletions is the number of keys deleted from dictionary but not from filter since it was built.
+   */
+
+  /**
+   * Constructs a {@code FilteredDictionary} in front of a given dictionary, building filters with a
+   * given factory.
+   * <p> Time complexity: O(n), where n is the size of the underlying dictionary.
+   *
+   * @param dictionary    the underlying dictionary.
+   * @param filterFactory a function returning an empty filter for a given capacity.
+   */
+  public FilteredDictionary(Dictionary<K, V> dictionary, IntFunction<MembershipFilter<K>> filterFactory) {
+    this.dictionary = dictionary;
+    this.filterFactory = filterFactory;
+    rebuildFilter();
+  }
+
+  /**
+   * Creates a {@code FilteredDictionary} in front of a given dictionary, using Bloom filters with a
+   * given false positive rate.
+   * <p> Time complexity: O(n), where n is the size of the underlying dictionary.
+   */
+  public static <K, V> FilteredDictionary<K, V> withBloomFilter(Dictionary<K, V> dictionary, double falsePositiveRate) {
+    return new FilteredDictionary<>(dictionary, capacity -> BloomFilter.withCapacity(capacity, falsePositiveRate));
+  }
+
+  /**
+   * Creates a {@code FilteredDictionary} in front of a given dictionary, using Bloom filters with a
+   * 1% false positive rate.
+   * <p> Time complexity: O(n), where n is the size of the underlying dictionary.
+   */
+  public static <K, V> FilteredDictionary<K, V> withBloomFilter(Dictionary<K, V> dictionary) {
+    return withBloomFilter(dictionary, DEFAULT_FALSE_POSITIVE_RATE);
+  }
+
+  /**
+   * Creates a {@code FilteredDictionary} in front of a given dictionary, using cuckoo filters.
+   * <p> Time complexity: O(n), where n is the size of the underlying dictionary.
+   */
+  public static <K, V> FilteredDictionary<K, V> withCuckooFilter(Dictionary<K, V> dictionary) {
+    return new FilteredDictionary<>(dictionary, CuckooFilter::withCapacity);
+  }
+
+  /**
+   * Replaces the filter with a new one built from the keys in the underlying dictionary.
+   */
+  private void rebuildFilter() {
+    int capacity = Math.max(MINIMUM_FILTER_CAPACITY, 2 * dictionary.size());
+    while (!fillFilter(capacity)) {
+      capacity *= 2;
+    }
+    staleDeletions = 0;
+  }
+
+  /**
+   * Sets filter to a new one with given capacity, holding all keys in the underlying dictionary.
+   * Returns {@code false} if the new filter got full before all of them were inserted.
+   */
+  private boolean fillFilter(int capacity) {
+    filter = filterFactory.apply(capacity);
+    for (K key : dictionary.keys()) {
+      if (!filter.insert(key)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the filter currently in front of the underlying dictionary.
+   *
+   * @return the current filter.
+   */
+  public MembershipFilter<K> filter() {
+    return filter;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: same as for the underlying dictionary.
+   */
+  @Override
+  public boolean isEmpty() {
+    return dictionary.isEmpty();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: same as for the underlying dictionary.
+   */
+  @Override
+  public int size() {
+    return dictionary.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1) for the filter, plus a lookup and an insertion in the underlying
+   * dictionary. Can be O(n) if the filter is rebuilt.
+   */
+  @Override
+  public void insert(Entry<K, V> entry) {
+    if (filter.mightContain(entry.key()) && dictionary.isDefinedAt(entry.key())) {
+      dictionary.insert(entry); // replace value; filter is unchanged
+      return;
+    }
+    dictionary.insert(entry);
+    if (!filter.insert(entry.key()) || dictionary.size() > filter.capacity()) {
+      rebuildFilter();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1) for keys rejected by the filter. Otherwise, the time of a lookup in the
+   * underlying dictionary is added.
+   */
+  @Override
+  public V valueOf(K key) {
+    return filter.mightContain(key) ? dictionary.valueOf(key) : null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1) for keys rejected by the filter. Otherwise, the time of a lookup in the
+   * underlying dictionary is added.
+   */
+  @Override
+  public boolean isDefinedAt(K key) {
+    return filter.mightContain(key) && dictionary.isDefinedAt(key);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1) for keys rejected by the filter. Otherwise, the time of a lookup and a
+   * deletion in the underlying dictionary is added. Can be O(n) if the filter is rebuilt.
+   */
+  @Override
+  public void delete(K key) {
+    if (!filter.mightContain(key) || !dictionary.isDefinedAt(key)) {
+      return;
+    }
+    dictionary.delete(key);
+    if (filter.supportsDeletion()) {
+      filter.delete(key);
+    } else if (++staleDeletions > filter.capacity() / 2) {
+      rebuildFilter();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: same as for the underlying dictionary, plus the size of the filter.
+   */
+  @Override
+  public void clear() {
+    dictionary.clear();
+    filter.clear();
+    staleDeletions = 0;
+  }
+
+  @Override
+  public Iterable<K> keys() {
+    return dictionary.keys();
+  }
+
+  @Override
+  public Iterable<V> values() {
+    return dictionary.values();
+  }
+
+  @Override
+  public Iterable<Entry<K, V>> entries() {
+    return dictionary.entries();
+  }
+
+  @Override
+  public Iterator<Entry<K, V>> iterator() {
+    return dictionary.iterator();
+  }
+}
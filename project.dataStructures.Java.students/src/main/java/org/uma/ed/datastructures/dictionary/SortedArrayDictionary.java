@@ -4,6 +4,8 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import org.uma.ed.datastructures.utils.batch.Batches;
+import org.uma.ed.datastructures.utils.iterator.SortedIterators;
 
 /**
  * An implementation of the {@link SortedDictionary} interface using a sorted dynamic array
@@ -181,12 +183,74 @@ public class SortedArrayDictionary<K, V> extends AbstractSortedDictionary<K, V>
     throw new UnsupportedOperationException("Not implemented yet");
   }
 
+  /**
+   * Returns an immutable copy of this dictionary in a read-optimized layout, suitable for
+   * dictionaries that are built once and then queried many times. Later changes to this dictionary
+   * are not reflected in the copy.
+   * <p>Time complexity: O(n)</p>
+   */
+  public EytzingerDictionary<K, V> frozen() {
+    return EytzingerDictionary.fromSortedArray(comparator, elements, size);
+  }
+
   private void ensureCapacity() {
     if (size == elements.length) {
       elements = Arrays.copyOf(elements, size * 2);
     }
   }
 
+  /**
+   * Inserts all entries in an iterable into this dictionary. The result is the same as inserting
+   * them one by one, in iteration order, so the last entry for each key wins.
+   * <p>
+   * The batch is sorted by key and entries with repeated keys are removed. Then, keys of the batch
+   * already in the dictionary are located by galloping forward through the array, which gives the
+   * final size, and the batch is merged into the array from right to left, so that every entry in
+   * the dictionary moves at most once, straight to its final position.
+   * <p>Time complexity: O(n + k log k), where k is the number of entries in the batch.</p>
+   *
+   * @param iterable the batch of entries to insert.
+   */
+  @SuppressWarnings("unchecked")
+  public void insertAll(Iterable<Entry<K, V>> iterable) {
+    Comparator<Entry<K, V>> entryComparator = Entry.onKeyComparator(comparator);
+    Entry<K, V>[] batch = Batches.sorted(iterable, entryComparator, Entry[]::new);
+    int k = Batches.distinct(batch, entryComparator);
+
+    // count entries in batch whose key is already in this dictionary
+    int common = 0;
+    int from = 0;
+    for (int j = 0; j < k; j++) {
+      from = SortedIterators.gallop(elements, from, size, batch[j], entryComparator);
+      if (from < size && entryComparator.compare(elements[from], batch[j]) == 0) {
+        common++;
+      }
+    }
+
+    int newSize = size + k - common;
+    if (newSize > elements.length) {
+      elements = Arrays.copyOf(elements, Math.max(newSize, 2 * elements.length));
+    }
+
+    // merge backwards; elements[0...i] are already in place once batch is exhausted
+    int i = size - 1;
+    int j = k - 1;
+    int last = newSize - 1;
+    while (j >= 0) {
+      int cmp = i < 0 ? -1 : entryComparator.compare(elements[i], batch[j]);
+      if (cmp > 0) {
+        elements[last--] = elements[i--];
+      } else {
+        // batch entry replaces the one with same key in dictionary
+        elements[last--] = batch[j--];
+        if (cmp == 0) {
+          i--;
+        }
+      }
+    }
+    size = newSize;
+  }
+
   @Override
   public void insert(Entry<K, V> entry) {
     throw new UnsupportedOperationException("Not implemented yet");
@@ -0,0 +1,117 @@
+package org.uma.ed.datastructures.graph;
+
+import java.util.function.ToIntFunction;
+import org.uma.ed.datastructures.dictionary.Dictionary;
+import org.uma.ed.datastructures.dictionary.JDKHashDictionary;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.priorityqueue.JDKPriorityQueue;
+import org.uma.ed.datastructures.priorityqueue.PriorityQueue;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+import org.uma.ed.datastructures.tuple.Tuple2;
+
+/**
+ * A utility class for computing a shortest path between two vertices in a weighted graph using the A*
+ * search algorithm.
+ * <p>
+ * A* is a variant of {@link Dijkstra}'s algorithm that is guided towards the target by a heuristic
+ * function {@code h}, which estimates the cost of a shortest path from each vertex to the target.
+ * Vertices are settled in order of {@code g(v) + h(v)}, where {@code g(v)} is the cost of the best path
+ * found from the source to {@code v}, rather than in order of {@code g(v)}. Thus, vertices leading away
+ * from the target are postponed, and often never settled. The search stops as soon as the target is
+ * settled.
+ * <p>
+ * The heuristic must be consistent: {@code h(target) == 0} and {@code h(u) <= w + h(v)} for every edge
+ * {@code (u, v)} with weight {@code w} (for instance, the straight-line distance in geometric graphs).
+ * Then each vertex is settled at most once and the path found is a shortest one. A heuristic that is
+ * always zero makes A* behave as Dijkstra's algorithm stopped at the target.
+ * <p>
+ * Note: This algorithm assumes all edge weights are non-negative.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public final class AStar {
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private AStar() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  /**
+   * A vertex reached by the search with the cost of the best path found to it and its priority, that is,
+   * that cost plus the heuristic estimate to the target. Implements {@code Comparable} to be used in a
+   * priority queue.
+   */
+  private record Label<V>(V vertex, int cost, int priority) implements Comparable<Label<V>> {
+    @Override
+    public int compareTo(Label<V> that) {
+      return Integer.compare(this.priority, that.priority);
+    }
+
+    static <V> Label<V> of(V vertex, int cost, int priority) {
+      return new Label<>(vertex, cost, priority);
+    }
+  }
+
+  /**
+   * Computes the cost and vertices of a shortest path between two vertices.
+   * <p>
+   * Note: This algorithm assumes all edge weights are non-negative and {@code heuristic} is consistent.
+   *
+   * @param <V>           the type of the vertices.
+   * @param weightedGraph the weighted graph.
+   * @param source        the source vertex.
+   * @param target        the target vertex.
+   * @param heuristic     a consistent estimate of the cost of a shortest path from each vertex to
+   *                      {@code target}.
+   * @return a pair with the minimum cost and the list of vertices in a shortest path from {@code source}
+   * to {@code target}, or {@code null} if {@code target} is not reachable from {@code source}.
+   * @throws GraphException if {@code source} or {@code target} are not in the graph.
+   */
+  public static <V> Tuple2<Integer, List<V>> aStar(WeightedGraph<V, Integer> weightedGraph, V source, V target,
+                                                   ToIntFunction<V> heuristic) {
+    weightedGraph.successors(target); // throws GraphException if target is not in the graph
+
+    PriorityQueue<Label<V>> queue = JDKPriorityQueue.empty();
+    Dictionary<V, Integer> costs = JDKHashDictionary.empty();        // Best cost found to each vertex.
+    Dictionary<V, V> predecessors = JDKHashDictionary.empty();      // Predecessor in best path found.
+    Set<V> settled = JDKHashSet.empty();
+
+    costs.insert(source, 0);
+    queue.enqueue(Label.of(source, 0, heuristic.applyAsInt(source)));
+    while (!queue.isEmpty()) {
+      Label<V> label = queue.first();
+      queue.dequeue();
+      V vertex = label.vertex();
+      if (settled.contains(vertex) || label.cost() != costs.valueOf(vertex)) {
+        continue; // outdated label
+      }
+      if (vertex.equals(target)) {
+        JDKArrayList<V> path = JDKArrayList.empty();
+        for (V step = target; step != null; step = predecessors.valueOf(step)) {
+          path.prepend(step);
+        }
+        return Tuple2.of(label.cost(), path);
+      }
+      settled.insert(vertex);
+
+      for (WeightedGraph.Successor<V, Integer> successor : weightedGraph.successors(vertex)) {
+        V next = successor.vertex();
+        if (settled.contains(next)) {
+          continue;
+        }
+        int cost = label.cost() + successor.weight();
+        Integer bestCost = costs.valueOf(next);
+        if (bestCost == null || cost < bestCost) {
+          costs.insert(next, cost);
+          predecessors.insert(next, vertex);
+          queue.enqueue(Label.of(next, cost, cost + heuristic.applyAsInt(next)));
+        }
+      }
+    }
+    return null;
+  }
+}
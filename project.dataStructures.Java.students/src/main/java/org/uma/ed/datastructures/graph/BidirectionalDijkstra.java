@@ -0,0 +1,163 @@
+package org.uma.ed.datastructures.graph;
+
+import org.uma.ed.datastructures.dictionary.Dictionary;
+import org.uma.ed.datastructures.dictionary.JDKHashDictionary;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.priorityqueue.JDKPriorityQueue;
+import org.uma.ed.datastructures.priorityqueue.PriorityQueue;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+import org.uma.ed.datastructures.tuple.Tuple2;
+
+/**
+ * A utility class for computing a shortest path between two vertices in a weighted graph using
+ * bidirectional Dijkstra's algorithm.
+ * <p>
+ * Unlike {@link Dijkstra}, which computes shortest paths from a source to every vertex, this algorithm
+ * runs two searches simultaneously: a forward one from the source and a backward one from the target
+ * (as the graph is undirected, both follow the same edges). Each step advances the search whose next
+ * vertex is closer to its origin. Whenever an edge joins a vertex settled by one search with a vertex
+ * reached by the other, the cost of the path through that edge is an upper bound {@code mu} of the
+ * shortest path cost. The algorithm stops as soon as the sum of the minimum costs in both priority
+ * queues is at least {@code mu}, as no path through unsettled vertices can be shorter.
+ * <p>
+ * Each search explores a ball of about half the radius of a single Dijkstra search, so in graphs where
+ * the number of vertices grows quickly with distance (such as road networks) far fewer vertices are
+ * settled.
+ * <p>
+ * Note: This algorithm assumes all edge weights are non-negative.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public final class BidirectionalDijkstra {
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private BidirectionalDijkstra() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  /**
+   * A vertex reached by a search with a tentative cost. Implements {@code Comparable} to be used in a
+   * priority queue.
+   */
+  private record Label<V>(V vertex, int cost) implements Comparable<Label<V>> {
+    @Override
+    public int compareTo(Label<V> that) {
+      return Integer.compare(this.cost, that.cost);
+    }
+
+    static <V> Label<V> of(V vertex, int cost) {
+      return new Label<>(vertex, cost);
+    }
+  }
+
+  /**
+   * State of a search from one of the endpoints.
+   */
+  private static final class Search<V> {
+    final PriorityQueue<Label<V>> queue = JDKPriorityQueue.empty();
+    final Dictionary<V, Integer> costs = JDKHashDictionary.empty();        // Tentative costs.
+    final Dictionary<V, V> predecessors = JDKHashDictionary.empty();      // Predecessor in best path found.
+    final Set<V> settled = JDKHashSet.empty();
+
+    Search(V origin) {
+      costs.insert(origin, 0);
+      queue.enqueue(Label.of(origin, 0));
+    }
+
+    /**
+     * Discards labels of settled vertices or with outdated costs at the front of the queue.
+     */
+    void skipStale() {
+      while (!queue.isEmpty()) {
+        Label<V> label = queue.first();
+        if (!settled.contains(label.vertex()) && label.cost() == costs.valueOf(label.vertex())) {
+          return;
+        }
+        queue.dequeue();
+      }
+    }
+
+    int minCost() {
+      return queue.first().cost();
+    }
+  }
+
+  /**
+   * Computes the cost and vertices of a shortest path between two vertices.
+   * <p>
+   * Note: This algorithm assumes all edge weights are non-negative.
+   *
+   * @param <V>           the type of the vertices.
+   * @param weightedGraph the weighted graph.
+   * @param source        the source vertex.
+   * @param target        the target vertex.
+   * @return a pair with the minimum cost and the list of vertices in a shortest path from {@code source}
+   * to {@code target}, or {@code null} if {@code target} is not reachable from {@code source}.
+   * @throws GraphException if {@code source} or {@code target} are not in the graph.
+   */
+  public static <V> Tuple2<Integer, List<V>> bidirectionalDijkstra(WeightedGraph<V, Integer> weightedGraph,
+                                                                   V source, V target) {
+    weightedGraph.successors(target); // throws GraphException if target is not in the graph
+    if (source.equals(target)) {
+      weightedGraph.successors(source);
+      return Tuple2.of(0, JDKArrayList.of(source));
+    }
+
+    Search<V> forward = new Search<>(source);
+    Search<V> backward = new Search<>(target);
+    int mu = Integer.MAX_VALUE;   // Cost of shortest path found so far.
+    V meetForward = null;         // Path with cost mu goes through edge (meetForward, meetBackward).
+    V meetBackward = null;
+
+    forward.skipStale();
+    backward.skipStale();
+    while (!forward.queue.isEmpty() && !backward.queue.isEmpty()
+        && (long) forward.minCost() + backward.minCost() < mu) {
+      boolean isForward = forward.minCost() <= backward.minCost();
+      Search<V> search = isForward ? forward : backward;
+      Search<V> other = isForward ? backward : forward;
+
+      Label<V> label = search.queue.first();
+      search.queue.dequeue();
+      V vertex = label.vertex();
+      search.settled.insert(vertex);
+
+      for (WeightedGraph.Successor<V, Integer> successor : weightedGraph.successors(vertex)) {
+        V next = successor.vertex();
+        if (search.settled.contains(next)) {
+          continue;
+        }
+        int cost = label.cost() + successor.weight();
+        Integer bestCost = search.costs.valueOf(next);
+        if (bestCost == null || cost < bestCost) {
+          search.costs.insert(next, cost);
+          search.predecessors.insert(next, vertex);
+          search.queue.enqueue(Label.of(next, cost));
+        }
+        Integer otherCost = other.costs.valueOf(next);
+        if (otherCost != null && (long) cost + otherCost < mu) {
+          mu = cost + otherCost;
+          meetForward = isForward ? vertex : next;
+          meetBackward = isForward ? next : vertex;
+        }
+      }
+      search.skipStale();
+    }
+
+    if (meetForward == null) {
+      return null;
+    }
+    JDKArrayList<V> path = JDKArrayList.empty();
+    for (V vertex = meetForward; vertex != null; vertex = forward.predecessors.valueOf(vertex)) {
+      path.prepend(vertex);
+    }
+    for (V vertex = meetBackward; vertex != null; vertex = backward.predecessors.valueOf(vertex)) {
+      path.append(vertex);
+    }
+    return Tuple2.of(mu, path);
+  }
+}
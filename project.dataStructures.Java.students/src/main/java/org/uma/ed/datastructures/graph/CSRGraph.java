@@ -0,0 +1,761 @@
+package org.uma.ed.datastructures.graph;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.ToDoubleFunction;
+import org.uma.ed.datastructures.set.AbstractSet;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+
+/**
+ * An immutable graph stored in compressed sparse row (CSR) format.
+ * <p>
+ * Vertices are numbered with consecutive integer identifiers {@code 0...n-1}, and the adjacency lists
+ * of all vertices are stored one after another in a single array of identifiers. The successors of the
+ * vertex with identifier {@code u} are {@code targets[offsets[u]...offsets[u+1]-1]}, sorted in
+ * ascending order. Each stored successor is called an arc: a directed graph has one arc per edge and
+ * an undirected graph has two, one in each direction. Weights of arcs, if any, are stored in a
+ * parallel array of {@code int}s or {@code double}s.
+ * <p>
+ * Compared to {@link DictionaryGraph}, {@link DictionaryDiGraph} and {@link DictionaryWeightedGraph},
+ * which use several objects and a hash table per vertex, a {@code CSRGraph} takes two or three array
+ * elements per arc and scanning the successors of a vertex reads contiguous memory. Graphs are built
+ * once, in O(n + m log m) time, from a {@link Graph}, {@link DiGraph} or {@link WeightedGraph}, and
+ * cannot be modified afterwards.
+ * <p>
+ * A {@code CSRGraph} is {@link Traversable}, so {@link BreadthFirstTraversal} and
+ * {@link DepthFirstTraversal} can run over it, and graphs with {@code int} weights can be seen as a
+ * {@link WeightedGraph} with {@link #asWeightedGraph()}, so {@link Dijkstra} can run over them too.
+ * Identifiers are assigned by a {@link VertexIndex}. Algorithms that work directly on identifiers can
+ * use {@link #arcStart}, {@link #arcEnd}, {@link #arcTarget} and {@link #arcWeight}, which never
+ * allocate, as {@link Dijkstra#costs(CSRGraph, Object)} and {@link DeltaStepping} do.
+ *
+ * @param <V> The type of the vertices in the graph.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class CSRGraph<V> implements Traversable<V> {
+
+  private final VertexIndex<V> index;             // Identifier of each vertex, or null if vertices are identifiers.
+  private final int[] offsets;                    // Arcs of u are in [offsets[u], offsets[u+1]).
+  private final int[] targets;                    // Target identifier of each arc.
+  private final int[] intWeights;                 // Weight of each arc, or null.
+  private final double[] doubleWeights;           // Weight of each arc, or null.
+  private final boolean directed;
+
+  /*
+   * INVARIANT:
+   *  - offsets.length == n + 1, offsets[0] == 0 and offsets[n] == targets.length.
+   *  - Either index.size() == n, or index is null and the vertices are the Integers 0...n-1.
+   *  - offsets is non-decreasing, and targets in each range [offsets[u], offsets[u+1]) are sorted in
+   *    strictly ascending order.
+   *  - At most one of intWeights and doubleWeights is non-null, with the same length as targets.
+   *  - If the graph is undirected, for each arc from u to v there is an arc from v to u with the same weight.
+   */
+
+  /**
+   * Private constructor for internal use.
+   */
+  private CSRGraph(VertexIndex<V> index, int[] offsets, int[] targets,
+                   int[] intWeights, double[] doubleWeights, boolean directed) {
+    this.index = index;
+    this.offsets = offsets;
+    this.targets = targets;
+    this.intWeights = intWeights;
+    this.doubleWeights = doubleWeights;
+    this.directed = directed;
+  }
+
+  /**
+   * Creates a {@code CSRGraph} with the same vertices and edges as an undirected graph.
+   * <p> Time complexity: O(n + m log m)
+   *
+   * @param <V>   the type of the vertices.
+   * @param graph the graph to be copied.
+   * @return an undirected, unweighted {@code CSRGraph} equivalent to {@code graph}.
+   */
+  public static <V> CSRGraph<V> of(Graph<V> graph) {
+    Builder<V> builder = new Builder<>(graph.vertices(), false, false, false);
+    for (int u = 0; u < builder.index.size(); u++) {
+      for (V successor : graph.successors(builder.index.vertex(u))) {
+        builder.addArc(builder.idOf(successor), 0, 0);
+      }
+      builder.endRow(u);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a {@code CSRGraph} with the same vertices and edges as a directed graph.
+   * <p> Time complexity: O(n + m log m)
+   *
+   * @param <V>     the type of the vertices.
+   * @param diGraph the directed graph to be copied.
+   * @return a directed, unweighted {@code CSRGraph} equivalent to {@code diGraph}.
+   */
+  public static <V> CSRGraph<V> of(DiGraph<V> diGraph) {
+    Builder<V> builder = new Builder<>(diGraph.vertices(), true, false, false);
+    for (int u = 0; u < builder.index.size(); u++) {
+      for (V successor : diGraph.successors(builder.index.vertex(u))) {
+        builder.addArc(builder.idOf(successor), 0, 0);
+      }
+      builder.endRow(u);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a {@code CSRGraph} with {@code int} weights with the same vertices and edges as a weighted
+   * graph.
+   * <p> Time complexity: O(n + m log m)
+   *
+   * @param <V>           the type of the vertices.
+   * @param weightedGraph the weighted graph to be copied.
+   * @return an undirected {@code CSRGraph} with {@code int} weights equivalent to {@code weightedGraph}.
+   */
+  public static <V> CSRGraph<V> of(WeightedGraph<V, Integer> weightedGraph) {
+    Builder<V> builder = new Builder<>(weightedGraph.vertices(), false, true, false);
+    for (int u = 0; u < builder.index.size(); u++) {
+      for (WeightedGraph.Successor<V, Integer> successor : weightedGraph.successors(builder.index.vertex(u))) {
+        builder.addArc(builder.idOf(successor.vertex()), successor.weight(), 0);
+      }
+      builder.endRow(u);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a {@code CSRGraph} with {@code double} weights with the same vertices and edges as a
+   * weighted graph, converting weights with a given function.
+   * <p> Time complexity: O(n + m log m)
+   *
+   * @param <V>           the type of the vertices.
+   * @param <W>           the type of the weights in {@code weightedGraph}.
+   * @param weightedGraph the weighted graph to be copied.
+   * @param toDouble      function converting each weight to a {@code double}.
+   * @return an undirected {@code CSRGraph} with {@code double} weights equivalent to {@code weightedGraph}.
+   */
+  public static <V, W> CSRGraph<V> withDoubleWeights(WeightedGraph<V, W> weightedGraph, ToDoubleFunction<W> toDouble) {
+    Builder<V> builder = new Builder<>(weightedGraph.vertices(), false, false, true);
+    for (int u = 0; u < builder.index.size(); u++) {
+      for (WeightedGraph.Successor<V, W> successor : weightedGraph.successors(builder.index.vertex(u))) {
+        builder.addArc(builder.idOf(successor.vertex()), 0, toDouble.applyAsDouble(successor.weight()));
+      }
+      builder.endRow(u);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Creates a directed {@code CSRGraph} with the vertices of a traversable structure that are reachable
+   * from a source vertex, and the arcs leaving them.
+   * <p>
+   * Vertices are numbered in breadth-first order as they are found, so the source has identifier 0, and
+   * each vertex and arc is hashed once. This lets algorithms that run over identifiers handle any
+   * {@link Traversable}, even one that cannot list all its vertices.
+   * <p> Time complexity: O(n + m log m), where n and m count reachable vertices and arcs.
+   *
+   * @param <V>         the type of the vertices.
+   * @param traversable the traversable structure.
+   * @param source      the source vertex.
+   * @return a directed, unweighted {@code CSRGraph} with the part of {@code traversable} reachable from
+   * {@code source}.
+   */
+  public static <V> CSRGraph<V> reachableFrom(Traversable<V> traversable, V source) {
+    VertexIndex<V> index = VertexIndex.empty();
+    index.intern(source);
+    int[] offsets = new int[17];
+    int[] targets = new int[16];
+    int numArcs = 0;
+    // the index works as the queue of a breadth-first search: vertices are appended when found
+    for (int u = 0; u < index.size(); u++) {
+      for (V successor : traversable.successors(index.vertex(u))) {
+        if (numArcs == targets.length) {
+          targets = Arrays.copyOf(targets, 2 * numArcs);
+        }
+        targets[numArcs++] = index.intern(successor);
+      }
+      if (u + 1 == offsets.length) {
+        offsets = Arrays.copyOf(offsets, 2 * offsets.length);
+      }
+      offsets[u + 1] = numArcs;
+      sortRow(targets, null, null, offsets[u], numArcs);
+    }
+    return new CSRGraph<>(index, Arrays.copyOf(offsets, index.size() + 1), Arrays.copyOf(targets, numArcs),
+        null, null, true);
+  }
+
+  /**
+   * Accumulates rows of arcs, in order of source identifier, and builds a {@code CSRGraph} with them.
+   */
+  private static final class Builder<V> {
+    private final VertexIndex<V> index;
+    private final int[] offsets;
+    private int[] targets;
+    private int[] intWeights;
+    private double[] doubleWeights;
+    private int numArcs;
+    private final boolean directed;
+
+    Builder(Set<V> vertexSet, boolean directed, boolean withIntWeights, boolean withDoubleWeights) {
+      this.index = VertexIndex.from(vertexSet);
+      this.offsets = new int[index.size() + 1];
+      this.targets = new int[Math.max(16, index.size())];
+      this.intWeights = withIntWeights ? new int[targets.length] : null;
+      this.doubleWeights = withDoubleWeights ? new double[targets.length] : null;
+      this.numArcs = 0;
+      this.directed = directed;
+    }
+
+    int idOf(V vertex) {
+      int id = index.idOf(vertex);
+      if (id < 0) {
+        throw new GraphException("CSRGraph: vertex " + vertex + " is not in the graph.");
+      }
+      return id;
+    }
+
+    void addArc(int target, int intWeight, double doubleWeight) {
+      if (numArcs == targets.length) {
+        targets = Arrays.copyOf(targets, 2 * numArcs);
+        if (intWeights != null) {
+          intWeights = Arrays.copyOf(intWeights, 2 * numArcs);
+        }
+        if (doubleWeights != null) {
+          doubleWeights = Arrays.copyOf(doubleWeights, 2 * numArcs);
+        }
+      }
+      targets[numArcs] = target;
+      if (intWeights != null) {
+        intWeights[numArcs] = intWeight;
+      }
+      if (doubleWeights != null) {
+        doubleWeights[numArcs] = doubleWeight;
+      }
+      numArcs++;
+    }
+
+    /**
+     * Closes row of arcs with source u, sorting them by target.
+     */
+    void endRow(int u) {
+      offsets[u + 1] = numArcs;
+      sortRow(targets, intWeights, doubleWeights, offsets[u], numArcs);
+    }
+
+    CSRGraph<V> build() {
+      return new CSRGraph<>(index, offsets, Arrays.copyOf(targets, numArcs),
+          intWeights == null ? null : Arrays.copyOf(intWeights, numArcs),
+          doubleWeights == null ? null : Arrays.copyOf(doubleWeights, numArcs), directed);
+    }
+  }
+
+  /**
+   * Sorts arcs in {@code [start, end)} by target, permuting their weights accordingly.
+   */
+  private static void sortRow(int[] targets, int[] intWeights, double[] doubleWeights, int start, int end) {
+    boolean sorted = true;
+    for (int arc = start + 1; arc < end && sorted; arc++) {
+      sorted = targets[arc - 1] < targets[arc];
+    }
+    if (sorted) {
+      return;
+    }
+    // sort (target, position) pairs packed in longs, then permute weights accordingly
+    long[] pairs = new long[end - start];
+    for (int arc = start; arc < end; arc++) {
+      pairs[arc - start] = ((long) targets[arc] << 32) | (arc - start);
+    }
+    Arrays.sort(pairs);
+    int[] rowIntWeights = intWeights == null ? null : Arrays.copyOfRange(intWeights, start, end);
+    double[] rowDoubleWeights = doubleWeights == null ? null : Arrays.copyOfRange(doubleWeights, start, end);
+    for (int i = 0; i < pairs.length; i++) {
+      int arc = start + i;
+      int position = (int) pairs[i];
+      targets[arc] = (int) (pairs[i] >>> 32);
+      if (rowIntWeights != null) {
+        intWeights[arc] = rowIntWeights[position];
+      }
+      if (rowDoubleWeights != null) {
+        doubleWeights[arc] = rowDoubleWeights[position];
+      }
+    }
+  }
+
+  /**
+   * Creates a {@code CSRGraph} whose vertices are the integers {@code 0...numberOfVertices-1} from
+   * arrays describing its edges. Edge {@code i} goes from {@code sources[i]} to {@code targets[i]} and,
+   * if {@code weights} is not {@code null}, has weight {@code weights[i]}. For undirected graphs, each
+   * edge must be given once, and arcs in both directions are created for it.
+   * <p>
+   * This avoids building an intermediate {@link Graph} for large or synthetic graphs. No dictionary of
+   * identifiers is kept, as each vertex is its own identifier.
+   * <p>
+   * PRECONDITION: there are no loops nor repeated edges.
+   * <p> Time complexity: O(n + m log d), where d is the maximum degree.
+   *
+   * @param numberOfVertices the number of vertices.
+   * @param sources          the source of each edge.
+   * @param targets          the target of each edge.
+   * @param weights          the weight of each edge, or {@code null} for an unweighted graph.
+   * @param directed         whether the graph is directed.
+   * @return a new {@code CSRGraph} with the given edges.
+   * @throws GraphException if any endpoint is not in {@code 0...numberOfVertices-1}.
+   */
+  public static CSRGraph<Integer> fromArcs(int numberOfVertices, int[] sources, int[] targets, int[] weights,
+                                           boolean directed) {
+    int numEdges = sources.length;
+    int numArcs = directed ? numEdges : 2 * numEdges;
+    int[] offsets = new int[numberOfVertices + 1];
+    for (int edge = 0; edge < numEdges; edge++) {
+      int source = sources[edge];
+      int target = targets[edge];
+      if (source < 0 || source >= numberOfVertices || target < 0 || target >= numberOfVertices) {
+        throw new GraphException("fromArcs: edge " + source + " -> " + target + " has an endpoint out of range.");
+      }
+      offsets[source + 1]++;
+      if (!directed) {
+        offsets[target + 1]++;
+      }
+    }
+    for (int u = 0; u < numberOfVertices; u++) {
+      offsets[u + 1] += offsets[u];
+    }
+    // counting sort of arcs by source
+    int[] next = Arrays.copyOf(offsets, numberOfVertices);
+    int[] arcTargets = new int[numArcs];
+    int[] arcWeights = weights == null ? null : new int[numArcs];
+    for (int edge = 0; edge < numEdges; edge++) {
+      int arc = next[sources[edge]]++;
+      arcTargets[arc] = targets[edge];
+      if (arcWeights != null) {
+        arcWeights[arc] = weights[edge];
+      }
+      if (!directed) {
+        arc = next[targets[edge]]++;
+        arcTargets[arc] = sources[edge];
+        if (arcWeights != null) {
+          arcWeights[arc] = weights[edge];
+        }
+      }
+    }
+    for (int u = 0; u < numberOfVertices; u++) {
+      sortRow(arcTargets, arcWeights, null, offsets[u], offsets[u + 1]);
+    }
+    return new CSRGraph<>(null, offsets, arcTargets, arcWeights, null, directed);
+  }
+
+  /**
+   * Returns the transpose of this graph, with the same vertices and identifiers and all arcs reversed.
+   * Arcs leaving a vertex in the transpose are the arcs entering it in this graph, so that algorithms
+   * can scan predecessors of vertices in directed graphs. Undirected graphs are their own transpose.
+   * <p> Time complexity: O(n + m) for directed graphs, O(1) for undirected ones.
+   *
+   * @return the transpose of this graph.
+   */
+  public CSRGraph<V> transpose() {
+    if (!directed) {
+      return this;
+    }
+    int n = numberOfVertices();
+    int[] reversedOffsets = new int[n + 1];
+    for (int target : targets) {
+      reversedOffsets[target + 1]++;
+    }
+    for (int u = 0; u < n; u++) {
+      reversedOffsets[u + 1] += reversedOffsets[u];
+    }
+    int[] next = Arrays.copyOf(reversedOffsets, n);
+    int[] reversedTargets = new int[targets.length];
+    int[] reversedIntWeights = intWeights == null ? null : new int[targets.length];
+    double[] reversedDoubleWeights = doubleWeights == null ? null : new double[targets.length];
+    // sources are visited in ascending order, so rows of the transpose come out sorted
+    for (int u = 0; u < n; u++) {
+      for (int arc = offsets[u]; arc < offsets[u + 1]; arc++) {
+        int reversedArc = next[targets[arc]]++;
+        reversedTargets[reversedArc] = u;
+        if (reversedIntWeights != null) {
+          reversedIntWeights[reversedArc] = intWeights[arc];
+        }
+        if (reversedDoubleWeights != null) {
+          reversedDoubleWeights[reversedArc] = doubleWeights[arc];
+        }
+      }
+    }
+    return new CSRGraph<>(index, reversedOffsets, reversedTargets, reversedIntWeights,
+        reversedDoubleWeights, true);
+  }
+
+  /**
+   * Checks whether this graph is directed.
+   * <p> Time complexity: O(1)
+   *
+   * @return {@code true} if this graph was built from a {@link DiGraph}, {@code false} otherwise.
+   */
+  public boolean isDirected() {
+    return directed;
+  }
+
+  /**
+   * Checks whether arcs of this graph have {@code int} weights.
+   * <p> Time complexity: O(1)
+   *
+   * @return {@code true} if arcs have {@code int} weights, {@code false} otherwise.
+   */
+  public boolean hasIntWeights() {
+    return intWeights != null;
+  }
+
+  /**
+   * Checks whether arcs of this graph have {@code double} weights.
+   * <p> Time complexity: O(1)
+   *
+   * @return {@code true} if arcs have {@code double} weights, {@code false} otherwise.
+   */
+  public boolean hasDoubleWeights() {
+    return doubleWeights != null;
+  }
+
+  /**
+   * Returns the number of vertices in this graph.
+   * <p> Time complexity: O(1)
+   *
+   * @return the number of vertices.
+   */
+  public int numberOfVertices() {
+    return offsets.length - 1;
+  }
+
+  /**
+   * Returns the number of edges in this graph. For undirected graphs, this is half the number of arcs.
+   * <p> Time complexity: O(1)
+   *
+   * @return the number of edges.
+   */
+  public int numberOfEdges() {
+    return directed ? targets.length : targets.length / 2;
+  }
+
+  /**
+   * Returns the number of arcs in this graph.
+   * <p> Time complexity: O(1)
+   *
+   * @return the number of arcs.
+   */
+  public int numberOfArcs() {
+    return targets.length;
+  }
+
+  /**
+   * Returns the identifier of a vertex.
+   * <p> Time complexity: O(1) on average.
+   *
+   * @param vertex the vertex.
+   * @return the identifier of {@code vertex}, in {@code 0...numberOfVertices()-1}.
+   * @throws GraphException if the vertex is not in the graph.
+   */
+  public int idOf(V vertex) {
+    int id = lookup(vertex);
+    if (id < 0) {
+      throw new GraphException("idOf: vertex " + vertex + " is not in the graph.");
+    }
+    return id;
+  }
+
+  /**
+   * Returns the vertex with a given identifier.
+   * <p> Time complexity: O(1)
+   *
+   * @param id the identifier, in {@code 0...numberOfVertices()-1}.
+   * @return the vertex with identifier {@code id}.
+   */
+  @SuppressWarnings("unchecked")
+  public V vertex(int id) {
+    return index == null ? (V) Integer.valueOf(id) : index.vertex(id);
+  }
+
+  /**
+   * Returns identifier of a vertex, or -1 if it is not in this graph.
+   */
+  @SuppressWarnings("unchecked")
+  private int lookup(Object vertex) {
+    if (index == null) {
+      return vertex instanceof Integer id && id >= 0 && id < numberOfVertices() ? id : -1;
+    }
+    return index.idOf((V) vertex);
+  }
+
+  /**
+   * Returns the index of the first arc leaving a vertex.
+   * <p> Time complexity: O(1)
+   *
+   * @param id the identifier of the vertex.
+   * @return the index of the first arc leaving the vertex.
+   */
+  public int arcStart(int id) {
+    return offsets[id];
+  }
+
+  /**
+   * Returns the index following the last arc leaving a vertex.
+   * <p> Time complexity: O(1)
+   *
+   * @param id the identifier of the vertex.
+   * @return the index following the last arc leaving the vertex.
+   */
+  public int arcEnd(int id) {
+    return offsets[id + 1];
+  }
+
+  /**
+   * Returns the number of arcs leaving a vertex.
+   * <p> Time complexity: O(1)
+   *
+   * @param id the identifier of the vertex.
+   * @return the out-degree of the vertex, or its degree if the graph is undirected.
+   */
+  public int outDegree(int id) {
+    return offsets[id + 1] - offsets[id];
+  }
+
+  /**
+   * Returns the identifier of the target of an arc.
+   * <p> Time complexity: O(1)
+   *
+   * @param arc the index of the arc.
+   * @return the identifier of the vertex the arc leads to.
+   */
+  public int arcTarget(int arc) {
+    return targets[arc];
+  }
+
+  /**
+   * Returns the {@code int} weight of an arc.
+   * <p> Time complexity: O(1)
+   *
+   * @param arc the index of the arc.
+   * @return the weight of the arc.
+   * @throws GraphException if arcs of this graph do not have {@code int} weights.
+   */
+  public int arcWeight(int arc) {
+    if (intWeights == null) {
+      throw new GraphException("arcWeight: graph does not have int weights.");
+    }
+    return intWeights[arc];
+  }
+
+  /**
+   * Returns the {@code double} weight of an arc. For graphs with {@code int} weights, the weight is
+   * converted to a {@code double}.
+   * <p> Time complexity: O(1)
+   *
+   * @param arc the index of the arc.
+   * @return the weight of the arc.
+   * @throws GraphException if arcs of this graph do not have weights.
+   */
+  public double arcDoubleWeight(int arc) {
+    if (doubleWeights != null) {
+      return doubleWeights[arc];
+    } else if (intWeights != null) {
+      return intWeights[arc];
+    }
+    throw new GraphException("arcDoubleWeight: graph does not have weights.");
+  }
+
+  /**
+   * Returns the index of the arc from one vertex to another.
+   * <p> Time complexity: O(log d), where d is the out-degree of {@code source}.
+   *
+   * @param source      the identifier of the source vertex.
+   * @param destination the identifier of the destination vertex.
+   * @return the index of the arc, or -1 if there is none.
+   */
+  public int arc(int source, int destination) {
+    int arc = Arrays.binarySearch(targets, offsets[source], offsets[source + 1], destination);
+    return arc >= 0 ? arc : -1;
+  }
+
+  /**
+   * Returns a set with all vertices in this graph.
+   * <p> Time complexity: O(n)
+   *
+   * @return a new {@code Set} with all vertices.
+   */
+  public Set<V> vertices() {
+    Set<V> set = JDKHashSet.withCapacity(numberOfVertices());
+    for (int id = 0; id < numberOfVertices(); id++) {
+      set.insert(vertex(id));
+    }
+    return set;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> The returned set is an unmodifiable view of the arcs of the vertex, which takes O(1) time to
+   * create. Its {@code contains} method takes O(log d) time, where d is the out-degree of the vertex.
+   *
+   * @throws GraphException if the vertex is not in the graph.
+   */
+  @Override
+  public Set<V> successors(V vertex) {
+    int id = lookup(vertex);
+    if (id < 0) {
+      throw new GraphException("successors: vertex " + vertex + " is not in the graph.");
+    }
+    return new SuccessorSet(id);
+  }
+
+  /**
+   * An unmodifiable set view of the successors of a vertex.
+   */
+  private final class SuccessorSet extends AbstractSet<V> implements Set<V> {
+    private final int id;
+
+    SuccessorSet(int id) {
+      this.id = id;
+    }
+
+    @Override
+    public boolean isEmpty() {
+      return outDegree(id) == 0;
+    }
+
+    @Override
+    public int size() {
+      return outDegree(id);
+    }
+
+    @Override
+    public void insert(V element) {
+      throw new UnsupportedOperationException("insert on immutable CSRGraph");
+    }
+
+    @Override
+    public boolean contains(V element) {
+      int other = lookup(element);
+      return other >= 0 && arc(id, other) >= 0;
+    }
+
+    @Override
+    public void delete(V element) {
+      throw new UnsupportedOperationException("delete on immutable CSRGraph");
+    }
+
+    @Override
+    public void clear() {
+      throw new UnsupportedOperationException("clear on immutable CSRGraph");
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+      return new Iterator<>() {
+        int arc = arcStart(id);
+
+        @Override
+        public boolean hasNext() {
+          return arc < arcEnd(id);
+        }
+
+        @Override
+        public V next() {
+          if (!hasNext()) {
+            throw new NoSuchElementException();
+          }
+          return vertex(targets[arc++]);
+        }
+      };
+    }
+  }
+
+  /**
+   * Returns an unmodifiable {@link WeightedGraph} view of this graph, so that algorithms on weighted
+   * graphs such as {@link Dijkstra} can run over it. Any attempt to modify the view throws an
+   * {@link UnsupportedOperationException}.
+   * <p> Time complexity: O(1)
+   *
+   * @return a {@code WeightedGraph} view of this graph.
+   * @throws GraphException if this graph is directed or does not have {@code int} weights.
+   */
+  public WeightedGraph<V, Integer> asWeightedGraph() {
+    if (directed || intWeights == null) {
+      throw new GraphException("asWeightedGraph: graph must be undirected and have int weights.");
+    }
+    return new WeightedGraphView();
+  }
+
+  /**
+   * An unmodifiable {@link WeightedGraph} view of this graph.
+   */
+  private final class WeightedGraphView implements WeightedGraph<V, Integer> {
+
+    @Override
+    public boolean isEmpty() {
+      return numberOfVertices() == 0;
+    }
+
+    @Override
+    public void addVertex(V vertex) {
+      throw new UnsupportedOperationException("addVertex on immutable CSRGraph");
+    }
+
+    @Override
+    public void deleteVertex(V vertex) {
+      throw new UnsupportedOperationException("deleteVertex on immutable CSRGraph");
+    }
+
+    @Override
+    public void addEdge(V vertex1, V vertex2, Integer weight) {
+      throw new UnsupportedOperationException("addEdge on immutable CSRGraph");
+    }
+
+    @Override
+    public void deleteEdge(V vertex1, V vertex2) {
+      throw new UnsupportedOperationException("deleteEdge on immutable CSRGraph");
+    }
+
+    @Override
+    public Set<Successor<V, Integer>> successors(V vertex) {
+      int id = idOf(vertex);
+      Set<Successor<V, Integer>> set = JDKHashSet.withCapacity(outDegree(id));
+      for (int arc = arcStart(id); arc < arcEnd(id); arc++) {
+        set.insert(Successor.of(vertex(targets[arc]), intWeights[arc]));
+      }
+      return set;
+    }
+
+    @Override
+    public Set<V> vertices() {
+      return CSRGraph.this.vertices();
+    }
+
+    @Override
+    public Set<WeightedEdge<V, Integer>> edges() {
+      Set<WeightedEdge<V, Integer>> set = JDKHashSet.withCapacity(numberOfEdges());
+      for (int u = 0; u < numberOfVertices(); u++) {
+        for (int arc = arcStart(u); arc < arcEnd(u); arc++) {
+          if (u < targets[arc]) {
+            set.insert(WeightedEdge.of(vertex(u), vertex(targets[arc]), intWeights[arc]));
+          }
+        }
+      }
+      return set;
+    }
+
+    @Override
+    public int numberOfVertices() {
+      return CSRGraph.this.numberOfVertices();
+    }
+
+    @Override
+    public int numberOfEdges() {
+      return CSRGraph.this.numberOfEdges();
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "(vertices=" + numberOfVertices() + ", arcs=" + targets.length
+        + ", directed=" + directed + ")";
+  }
+}
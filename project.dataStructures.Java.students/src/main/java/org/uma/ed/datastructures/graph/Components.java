@@ -0,0 +1,188 @@
+package org.uma.ed.datastructures.graph;
+
+import java.util.Arrays;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+
+/**
+ * Connected components of undirected graphs and strongly connected components of directed graphs.
+ * <p>
+ * Both algorithms visit each vertex and each edge once, over the vertex identifiers of a
+ * {@link CSRGraph}, so they take linear time. Other graphs are first converted with
+ * {@link CSRGraph#of(Graph)} or {@link CSRGraph#of(DiGraph)}. In contrast, finding components by starting a
+ * {@link DepthFirstTraversal} from every vertex not yet assigned to a component revisits vertices and
+ * takes quadratic time in the worst case.
+ * <p>
+ * Depth-first search for strongly connected components is iterative, with an explicit stack of pending
+ * vertices and their next arc to explore, so its depth is not limited by the size of the call stack of
+ * the thread.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public final class Components {
+  private Components() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  /**
+   * Computes the connected components of an undirected graph.
+   * <p> Time complexity: O(n + m log m), due to the conversion to a {@code CSRGraph}.
+   *
+   * @param <V>   the type of the vertices.
+   * @param graph the undirected graph.
+   * @return a list with a set for each connected component, containing its vertices.
+   */
+  public static <V> List<Set<V>> connectedComponents(Graph<V> graph) {
+    return connectedComponents(CSRGraph.of(graph));
+  }
+
+  /**
+   * Computes the connected components of an undirected {@code CSRGraph}.
+   * <p> Time complexity: O(n + m)
+   *
+   * @param <V>   the type of the vertices.
+   * @param graph the undirected graph.
+   * @return a list with a set for each connected component, containing its vertices, in order of the
+   * smallest identifier in each component.
+   * @throws GraphException if {@code graph} is directed.
+   */
+  public static <V> List<Set<V>> connectedComponents(CSRGraph<V> graph) {
+    if (graph.isDirected()) {
+      throw new GraphException("connectedComponents: graph is directed.");
+    }
+    int numberOfVertices = graph.numberOfVertices();
+    int[] componentOf = new int[numberOfVertices];
+    Arrays.fill(componentOf, -1);
+    int[] queue = new int[numberOfVertices];
+    int numberOfComponents = 0;
+    for (int root = 0; root < numberOfVertices; root++) {
+      if (componentOf[root] < 0) {
+        // breadth-first search from root, labelling vertices when enqueued
+        int head = 0, tail = 0;
+        componentOf[root] = numberOfComponents;
+        queue[tail++] = root;
+        while (head < tail) {
+          int u = queue[head++];
+          for (int arc = graph.arcStart(u); arc < graph.arcEnd(u); arc++) {
+            int v = graph.arcTarget(arc);
+            if (componentOf[v] < 0) {
+              componentOf[v] = numberOfComponents;
+              queue[tail++] = v;
+            }
+          }
+        }
+        numberOfComponents++;
+      }
+    }
+    return groupByComponent(graph, componentOf, numberOfComponents);
+  }
+
+  /**
+   * Computes the strongly connected components of a directed graph, using Tarjan's algorithm.
+   * <p> Time complexity: O(n + m log m), due to the conversion to a {@code CSRGraph}.
+   *
+   * @param <V>     the type of the vertices.
+   * @param diGraph the directed graph.
+   * @return a list with a set for each strongly connected component, containing its vertices, in reverse
+   * topological order: if there is an edge from a vertex in one component to a vertex in another one,
+   * the latter comes first in the list.
+   */
+  public static <V> List<Set<V>> stronglyConnectedComponents(DiGraph<V> diGraph) {
+    return stronglyConnectedComponents(CSRGraph.of(diGraph));
+  }
+
+  /**
+   * Computes the strongly connected components of a {@code CSRGraph}, using Tarjan's algorithm. If the
+   * graph is undirected, these are its connected components.
+   * <p> Time complexity: O(n + m)
+   *
+   * @param <V>   the type of the vertices.
+   * @param graph the graph.
+   * @return a list with a set for each strongly connected component, containing its vertices, in reverse
+   * topological order: if there is an arc from a vertex in one component to a vertex in another one,
+   * the latter comes first in the list.
+   */
+  public static <V> List<Set<V>> stronglyConnectedComponents(CSRGraph<V> graph) {
+    int numberOfVertices = graph.numberOfVertices();
+    int[] discovery = new int[numberOfVertices];   // Discovery time of each vertex, or -1.
+    Arrays.fill(discovery, -1);
+    int[] low = new int[numberOfVertices];         // Smallest discovery time reachable in DFS subtree.
+    boolean[] onStack = new boolean[numberOfVertices];
+    int[] stack = new int[numberOfVertices];       // Visited vertices not yet assigned to a component.
+    int stackSize = 0;
+    int[] pendingVertices = new int[numberOfVertices]; // Vertices on current DFS path.
+    int[] pendingArcs = new int[numberOfVertices];     // Next arc to explore for each of them.
+    int[] componentOf = new int[numberOfVertices];
+    int numberOfComponents = 0;
+    int time = 0;
+
+    for (int root = 0; root < numberOfVertices; root++) {
+      if (discovery[root] >= 0) {
+        continue;
+      }
+      discovery[root] = low[root] = time++;
+      stack[stackSize++] = root;
+      onStack[root] = true;
+      pendingVertices[0] = root;
+      pendingArcs[0] = graph.arcStart(root);
+      int depth = 1;
+      while (depth > 0) {
+        int u = pendingVertices[depth - 1];
+        int arc = pendingArcs[depth - 1];
+        if (arc < graph.arcEnd(u)) {
+          pendingArcs[depth - 1]++;
+          int v = graph.arcTarget(arc);
+          if (discovery[v] < 0) {
+            // tree arc: descend to v
+            discovery[v] = low[v] = time++;
+            stack[stackSize++] = v;
+            onStack[v] = true;
+            pendingVertices[depth] = v;
+            pendingArcs[depth] = graph.arcStart(v);
+            depth++;
+          } else if (onStack[v]) {
+            low[u] = Math.min(low[u], discovery[v]);
+          }
+        } else {
+          // all arcs of u explored: return to its parent
+          depth--;
+          if (low[u] == discovery[u]) {
+            // u is the root of a component, made of vertices above it in the stack
+            int v;
+            do {
+              v = stack[--stackSize];
+              onStack[v] = false;
+              componentOf[v] = numberOfComponents;
+            } while (v != u);
+            numberOfComponents++;
+          }
+          if (depth > 0) {
+            int parent = pendingVertices[depth - 1];
+            low[parent] = Math.min(low[parent], low[u]);
+          }
+        }
+      }
+    }
+    return groupByComponent(graph, componentOf, numberOfComponents);
+  }
+
+  /**
+   * Builds a set of vertices for each component, given the component of each vertex.
+   */
+  private static <V> List<Set<V>> groupByComponent(CSRGraph<V> graph, int[] componentOf, int numberOfComponents) {
+    int[] sizes = new int[numberOfComponents];
+    for (int component : componentOf) {
+      sizes[component]++;
+    }
+    List<Set<V>> components = JDKArrayList.withCapacity(Math.max(1, numberOfComponents));
+    for (int component = 0; component < numberOfComponents; component++) {
+      components.append(JDKHashSet.withCapacity(Math.max(1, sizes[component])));
+    }
+    for (int u = 0; u < componentOf.length; u++) {
+      components.get(componentOf[u]).insert(graph.vertex(u));
+    }
+    return components;
+  }
+}
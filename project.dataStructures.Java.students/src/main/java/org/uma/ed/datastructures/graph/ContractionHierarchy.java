@@ -0,0 +1,687 @@
+package org.uma.ed.datastructures.graph;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import org.uma.ed.datastructures.heap.IndexedMinHeap;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.tuple.Tuple2;
+
+/**
+ * An index for answering many shortest path queries between pairs of vertices of a static weighted
+ * graph, using contraction hierarchies (Geisberger, Sanders, Schultes and Delling).
+ * <p>
+ * Preprocessing contracts vertices one at a time, in order of importance. Contracting a vertex
+ * {@code v} removes it from the remaining graph, and for each pair of its neighbors {@code u} and
+ * {@code w} adds a shortcut edge {@code u - w} with weight {@code w(u, v) + w(v, w)}, unless a local
+ * search (witness search) finds a path from {@code u} to {@code w} avoiding {@code v} that is not
+ * longer. Thus, distances among remaining vertices are preserved. Vertices are ordered with a priority
+ * queue keyed by their edge difference (shortcuts needed minus edges removed) plus their number of
+ * contracted neighbors, so that contracting them adds few shortcuts and spreads uniformly over the
+ * graph. The rank of a vertex is its position in this order.
+ * <p>
+ * Every shortest path in the original graph has a counterpart in the graph with shortcuts that first
+ * goes up in rank and then goes down. Hence, a query runs a bidirectional Dijkstra search from both
+ * endpoints that only follows edges towards higher ranked vertices (upward search graph). As the
+ * graph is undirected, the downward search graph used by the backward search is the reverse of the
+ * upward one, so both searches use the same arcs. Each search settles a small fraction of the graph,
+ * and the shortest path goes through the vertex minimizing the sum of both costs. Paths are recovered
+ * by recursively unpacking shortcuts, each of which records the vertex it bypasses.
+ * <p>
+ * Upward arcs are stored in compressed sparse row format, as in {@link CSRGraph}, so a built index can
+ * be written with {@link #writeTo} and read back with {@link #readFrom}, for instance to preprocess a
+ * graph offline. Indexes are immutable and can be queried from several threads concurrently.
+ * <p>
+ * Note: This index assumes all edge weights are non-negative.
+ *
+ * @param <V> the type of the vertices.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public final class ContractionHierarchy<V> {
+  private static final int MAGIC = 0x43484958;        // "CHIX"
+  private static final int VERSION = 1;
+  private static final int NO_MIDDLE = -1;
+  private static final int INFINITY = Integer.MAX_VALUE;
+  private static final int MAX_WITNESS_SETTLED = 500; // Limit on vertices settled by a witness search.
+
+  private final VertexIndex<V> index;   // Identifier of each vertex.
+  private final int[] ranks;            // Position of each vertex in the contraction order.
+  private final int[] offsets;          // Upward arcs of vertex u are offsets[u]...offsets[u+1]-1.
+  private final int[] targets;          // Target of each upward arc, sorted for each vertex.
+  private final int[] weights;          // Weight of each upward arc.
+  private final int[] middles;          // Vertex bypassed by each shortcut, or NO_MIDDLE for edges.
+  private final ThreadLocal<Query> queries = ThreadLocal.withInitial(Query::new);
+
+  /*
+   * INVARIANT:
+   *  - ranks is a permutation of 0...n-1.
+   *  - For every arc from u to targets[a], ranks[u] < ranks[targets[a]].
+   *  - For every shortcut from u to w with middle m, ranks[m] < ranks[u] and there are arcs from m to u
+   *    and from m to w whose weights add up to the weight of the shortcut.
+   *  - For any vertices s and t, the cost of a shortest path between them is the minimum over vertices
+   *    x of the costs of upward paths from s to x and from t to x.
+   */
+
+  private ContractionHierarchy(VertexIndex<V> index, int[] ranks, int[] offsets, int[] targets, int[] weights,
+                               int[] middles) {
+    this.index = index;
+    this.ranks = ranks;
+    this.offsets = offsets;
+    this.targets = targets;
+    this.weights = weights;
+    this.middles = middles;
+  }
+
+  /**
+   * Builds a contraction hierarchy for a weighted graph.
+   * <p> Time complexity: depends on the structure of the graph. It is about O(n log n) for road-like
+   * graphs, but can be much larger for dense graphs.
+   *
+   * @param <V>           the type of the vertices.
+   * @param weightedGraph the weighted graph.
+   * @return a contraction hierarchy for {@code weightedGraph}.
+   * @throws GraphException if some edge weight is negative.
+   */
+  public static <V> ContractionHierarchy<V> of(WeightedGraph<V, Integer> weightedGraph) {
+    VertexIndex<V> index = VertexIndex.from(weightedGraph.vertices());
+    Contraction contraction = new Contraction(index.size());
+    for (int u = 0; u < index.size(); u++) {
+      for (WeightedGraph.Successor<V, Integer> successor : weightedGraph.successors(index.vertex(u))) {
+        int v = index.idOf(successor.vertex());
+        if (successor.weight() < 0) {
+          throw new GraphException("ContractionHierarchy: negative weight " + successor.weight()
+              + " for edge from " + index.vertex(u) + " to " + successor.vertex());
+        }
+        if (u < v) {
+          contraction.addOrDecreaseEdge(u, v, successor.weight(), NO_MIDDLE);
+        }
+      }
+    }
+    contraction.contractAll();
+    return contraction.build(index);
+  }
+
+  /**
+   * State of the preprocessing: the remaining graph with its shortcuts, stored as an adjacency list
+   * per vertex, and the priority queue of vertices to contract.
+   */
+  private static final class Contraction {
+    private final int numberOfVertices;
+    private final int[][] adjacentVertices;   // Neighbors of each vertex, including contracted ones.
+    private final int[][] adjacentWeights;    // Weight of edge to each neighbor.
+    private final int[][] adjacentMiddles;    // Middle vertex of edge to each neighbor, or NO_MIDDLE.
+    private final int[] degrees;              // Number of neighbors of each vertex.
+    private final boolean[] contracted;
+    private final int[] contractedNeighbors;  // Number of contracted neighbors of each vertex.
+    private final int[] ranks;
+
+    // state of witness searches
+    private final int[] witnessCosts;
+    private final int[] touched;
+    private int numberOfTouched;
+    private final IndexedMinHeap witnessQueue;
+
+    Contraction(int numberOfVertices) {
+      this.numberOfVertices = numberOfVertices;
+      this.adjacentVertices = new int[numberOfVertices][];
+      this.adjacentWeights = new int[numberOfVertices][];
+      this.adjacentMiddles = new int[numberOfVertices][];
+      for (int v = 0; v < numberOfVertices; v++) {
+        adjacentVertices[v] = new int[4];
+        adjacentWeights[v] = new int[4];
+        adjacentMiddles[v] = new int[4];
+      }
+      this.degrees = new int[numberOfVertices];
+      this.contracted = new boolean[numberOfVertices];
+      this.contractedNeighbors = new int[numberOfVertices];
+      this.ranks = new int[numberOfVertices];
+      this.witnessCosts = new int[numberOfVertices];
+      Arrays.fill(witnessCosts, INFINITY);
+      this.touched = new int[numberOfVertices];
+      this.numberOfTouched = 0;
+      this.witnessQueue = IndexedMinHeap.withCapacity(numberOfVertices);
+    }
+
+    /**
+     * Adds an edge between two vertices or, if they are already adjacent through a heavier edge,
+     * replaces it.
+     */
+    void addOrDecreaseEdge(int u, int w, int weight, int middle) {
+      addOrDecreaseArc(u, w, weight, middle);
+      addOrDecreaseArc(w, u, weight, middle);
+    }
+
+    private void addOrDecreaseArc(int u, int w, int weight, int middle) {
+      int[] vertices = adjacentVertices[u];
+      for (int i = 0; i < degrees[u]; i++) {
+        if (vertices[i] == w) {
+          if (weight < adjacentWeights[u][i]) {
+            adjacentWeights[u][i] = weight;
+            adjacentMiddles[u][i] = middle;
+          }
+          return;
+        }
+      }
+      if (degrees[u] == vertices.length) {
+        adjacentVertices[u] = Arrays.copyOf(vertices, 2 * degrees[u]);
+        adjacentWeights[u] = Arrays.copyOf(adjacentWeights[u], 2 * degrees[u]);
+        adjacentMiddles[u] = Arrays.copyOf(adjacentMiddles[u], 2 * degrees[u]);
+      }
+      adjacentVertices[u][degrees[u]] = w;
+      adjacentWeights[u][degrees[u]] = weight;
+      adjacentMiddles[u][degrees[u]] = middle;
+      degrees[u]++;
+    }
+
+    /**
+     * Computes costs of paths from a source avoiding a vertex and contracted vertices, until all
+     * vertices at cost at most {@code maxCost} are settled or the search gets too large. Costs found are
+     * left in {@code witnessCosts}, and are costs of actual paths.
+     */
+    private void witnessSearch(int source, int avoided, int maxCost) {
+      witnessCosts[source] = 0;
+      touched[numberOfTouched++] = source;
+      witnessQueue.insertOrDecrease(source, 0);
+      int settled = 0;
+      while (!witnessQueue.isEmpty() && witnessQueue.minimumPriority() <= maxCost
+          && settled < MAX_WITNESS_SETTLED) {
+        int vertex = witnessQueue.deleteMinimum();
+        settled++;
+        for (int i = 0; i < degrees[vertex]; i++) {
+          int next = adjacentVertices[vertex][i];
+          if (next != avoided && !contracted[next]) {
+            int cost = witnessCosts[vertex] + adjacentWeights[vertex][i];
+            if (cost < witnessCosts[next]) {
+              if (witnessCosts[next] == INFINITY) {
+                touched[numberOfTouched++] = next;
+              }
+              witnessCosts[next] = cost;
+              witnessQueue.insertOrDecrease(next, cost);
+            }
+          }
+        }
+      }
+      witnessQueue.clear();
+    }
+
+    private void resetWitnessCosts() {
+      for (int i = 0; i < numberOfTouched; i++) {
+        witnessCosts[touched[i]] = INFINITY;
+      }
+      numberOfTouched = 0;
+    }
+
+    /**
+     * Computes the shortcuts needed to contract a vertex, and adds them if {@code simulate} is false.
+     *
+     * @return the number of shortcuts needed.
+     */
+    private int contract(int vertex, boolean simulate) {
+      // copy remaining neighbors, as adding shortcuts may reallocate adjacency arrays
+      int[] neighbors = new int[degrees[vertex]];
+      int[] neighborWeights = new int[degrees[vertex]];
+      int numberOfNeighbors = 0;
+      int maxWeight = 0;
+      for (int i = 0; i < degrees[vertex]; i++) {
+        int neighbor = adjacentVertices[vertex][i];
+        if (!contracted[neighbor]) {
+          neighbors[numberOfNeighbors] = neighbor;
+          neighborWeights[numberOfNeighbors] = adjacentWeights[vertex][i];
+          maxWeight = Math.max(maxWeight, neighborWeights[numberOfNeighbors]);
+          numberOfNeighbors++;
+        }
+      }
+
+      int shortcuts = 0;
+      for (int i = 0; i < numberOfNeighbors - 1; i++) {
+        int u = neighbors[i];
+        witnessSearch(u, vertex, neighborWeights[i] + maxWeight);
+        for (int j = i + 1; j < numberOfNeighbors; j++) {
+          int w = neighbors[j];
+          int costThroughVertex = neighborWeights[i] + neighborWeights[j];
+          if (witnessCosts[w] > costThroughVertex) {
+            shortcuts++;
+            if (!simulate) {
+              addOrDecreaseEdge(u, w, costThroughVertex, vertex);
+            }
+          }
+        }
+        resetWitnessCosts();
+      }
+      return shortcuts;
+    }
+
+    private int remainingDegree(int vertex) {
+      int degree = 0;
+      for (int i = 0; i < degrees[vertex]; i++) {
+        if (!contracted[adjacentVertices[vertex][i]]) {
+          degree++;
+        }
+      }
+      return degree;
+    }
+
+    /**
+     * Priority of a vertex in the contraction order. Smaller is contracted first.
+     */
+    private int priority(int vertex) {
+      return contract(vertex, true) - remainingDegree(vertex) + contractedNeighbors[vertex];
+    }
+
+    /**
+     * Contracts all vertices, computing their ranks.
+     */
+    void contractAll() {
+      IndexedMinHeap priorityQueue = IndexedMinHeap.withCapacity(numberOfVertices);
+      for (int vertex = 0; vertex < numberOfVertices; vertex++) {
+        priorityQueue.insertOrUpdate(vertex, priority(vertex));
+      }
+      int rank = 0;
+      while (!priorityQueue.isEmpty()) {
+        int vertex = priorityQueue.deleteMinimum();
+        // lazy update: priority may have grown since it was computed
+        int priority = priority(vertex);
+        if (!priorityQueue.isEmpty() && priority > priorityQueue.minimumPriority()) {
+          priorityQueue.insertOrUpdate(vertex, priority);
+          continue;
+        }
+        contract(vertex, false);
+        contracted[vertex] = true;
+        ranks[vertex] = rank++;
+        for (int i = 0; i < degrees[vertex]; i++) {
+          int neighbor = adjacentVertices[vertex][i];
+          if (!contracted[neighbor]) {
+            contractedNeighbors[neighbor]++;
+            priorityQueue.insertOrUpdate(neighbor, priority(neighbor));
+          }
+        }
+      }
+    }
+
+    /**
+     * Builds the upward search graph, keeping for each vertex the edges to higher ranked neighbors.
+     */
+    <V> ContractionHierarchy<V> build(VertexIndex<V> index) {
+      int[] offsets = new int[numberOfVertices + 1];
+      for (int u = 0; u < numberOfVertices; u++) {
+        int upward = 0;
+        for (int i = 0; i < degrees[u]; i++) {
+          if (ranks[adjacentVertices[u][i]] > ranks[u]) {
+            upward++;
+          }
+        }
+        offsets[u + 1] = offsets[u] + upward;
+      }
+      int numberOfArcs = offsets[numberOfVertices];
+      int[] targets = new int[numberOfArcs];
+      int[] weights = new int[numberOfArcs];
+      int[] middles = new int[numberOfArcs];
+      for (int u = 0; u < numberOfVertices; u++) {
+        // sort (target, position) pairs packed in longs, then copy arcs in that order
+        long[] pairs = new long[offsets[u + 1] - offsets[u]];
+        int numberOfPairs = 0;
+        for (int i = 0; i < degrees[u]; i++) {
+          if (ranks[adjacentVertices[u][i]] > ranks[u]) {
+            pairs[numberOfPairs++] = ((long) adjacentVertices[u][i] << 32) | i;
+          }
+        }
+        Arrays.sort(pairs);
+        for (int k = 0; k < pairs.length; k++) {
+          int i = (int) pairs[k];
+          int arc = offsets[u] + k;
+          targets[arc] = adjacentVertices[u][i];
+          weights[arc] = adjacentWeights[u][i];
+          middles[arc] = adjacentMiddles[u][i];
+        }
+      }
+      return new ContractionHierarchy<>(index, ranks, offsets, targets, weights, middles);
+    }
+  }
+
+  /**
+   * Returns the number of vertices in the indexed graph.
+   * <p> Time complexity: O(1)
+   *
+   * @return the number of vertices.
+   */
+  public int numberOfVertices() {
+    return ranks.length;
+  }
+
+  /**
+   * Returns the number of arcs in the upward search graph, including shortcuts.
+   * <p> Time complexity: O(1)
+   *
+   * @return the number of upward arcs.
+   */
+  public int numberOfArcs() {
+    return targets.length;
+  }
+
+  /**
+   * Returns the number of shortcuts added by preprocessing.
+   * <p> Time complexity: O(m)
+   *
+   * @return the number of shortcuts.
+   */
+  public int numberOfShortcuts() {
+    int shortcuts = 0;
+    for (int middle : middles) {
+      if (middle != NO_MIDDLE) {
+        shortcuts++;
+      }
+    }
+    return shortcuts;
+  }
+
+  private int idOf(V vertex, String operation) {
+    int id = index.idOf(vertex);
+    if (id < 0) {
+      throw new GraphException(operation + ": vertex " + vertex + " is not in the graph.");
+    }
+    return id;
+  }
+
+  /**
+   * Computes the cost of a shortest path between two vertices.
+   * <p> Time complexity: proportional to the size of the upward search spaces of both vertices, which
+   * is typically much smaller than the graph.
+   *
+   * @param source the source vertex.
+   * @param target the target vertex.
+   * @return the cost of a shortest path from {@code source} to {@code target}, or {@code null} if
+   * {@code target} is not reachable from {@code source}.
+   * @throws GraphException if {@code source} or {@code target} are not in the graph.
+   */
+  public Integer distance(V source, V target) {
+    int sourceId = idOf(source, "distance");
+    int targetId = idOf(target, "distance");
+    Query query = queries.get();
+    try {
+      int cost = query.run(sourceId, targetId);
+      return cost == INFINITY ? null : cost;
+    } finally {
+      query.reset();
+    }
+  }
+
+  /**
+   * Computes the cost and vertices of a shortest path between two vertices.
+   * <p> Time complexity: proportional to the size of the upward search spaces of both vertices plus
+   * the number of vertices in the path.
+   *
+   * @param source the source vertex.
+   * @param target the target vertex.
+   * @return a pair with the minimum cost and the list of vertices in a shortest path from {@code source}
+   * to {@code target}, or {@code null} if {@code target} is not reachable from {@code source}.
+   * @throws GraphException if {@code source} or {@code target} are not in the graph.
+   */
+  public Tuple2<Integer, List<V>> shortestPath(V source, V target) {
+    int sourceId = idOf(source, "shortestPath");
+    int targetId = idOf(target, "shortestPath");
+    Query query = queries.get();
+    try {
+      int cost = query.run(sourceId, targetId);
+      if (cost == INFINITY) {
+        return null;
+      }
+      return Tuple2.of(cost, query.path());
+    } finally {
+      query.reset();
+    }
+  }
+
+  /**
+   * Returns the upward arc from the lower ranked to the higher ranked of two adjacent vertices.
+   */
+  private int arcBetween(int u, int w) {
+    int lower = ranks[u] < ranks[w] ? u : w;
+    int higher = lower == u ? w : u;
+    return Arrays.binarySearch(targets, offsets[lower], offsets[lower + 1], higher);
+  }
+
+  /**
+   * Appends to a path the vertices in the original graph after {@code from} and up to {@code to},
+   * which are joined by an arc, unpacking it recursively if it is a shortcut.
+   */
+  private void unpack(int from, int to, int arc, List<V> path) {
+    int middle = middles[arc];
+    if (middle == NO_MIDDLE) {
+      path.append(index.vertex(to));
+    } else {
+      unpack(from, middle, arcBetween(from, middle), path);
+      unpack(middle, to, arcBetween(middle, to), path);
+    }
+  }
+
+  /**
+   * State of a query: a forward search from the source and a backward search from the target over the
+   * upward search graph. Arrays are allocated once per thread and only touched entries are reset after
+   * each query, so that a query takes time proportional to the explored search spaces.
+   */
+  private final class Query {
+    private static final int FORWARD = 0, BACKWARD = 1;
+
+    private final int[][] costs;          // Cost of best path found to each vertex in each direction.
+    private final int[][] parents;        // Vertex preceding each vertex in that path.
+    private final int[][] parentArcs;     // Arc from parent to each vertex in that path.
+    private final IndexedMinHeap[] priorityQueues;
+    private final int[] touched;          // Vertices reached by any of the searches.
+    private int numberOfTouched;
+    private int source, target, meeting;  // Shortest path goes up from source to meeting and down to target.
+
+    Query() {
+      int numberOfVertices = numberOfVertices();
+      costs = new int[2][numberOfVertices];
+      Arrays.fill(costs[FORWARD], INFINITY);
+      Arrays.fill(costs[BACKWARD], INFINITY);
+      parents = new int[2][numberOfVertices];
+      parentArcs = new int[2][numberOfVertices];
+      priorityQueues = new IndexedMinHeap[]{
+          IndexedMinHeap.withCapacity(numberOfVertices), IndexedMinHeap.withCapacity(numberOfVertices)};
+      touched = new int[numberOfVertices];
+      numberOfTouched = 0;
+    }
+
+    private void reach(int direction, int vertex, int cost, int parent, int arc) {
+      if (costs[FORWARD][vertex] == INFINITY && costs[BACKWARD][vertex] == INFINITY) {
+        touched[numberOfTouched++] = vertex;
+      }
+      costs[direction][vertex] = cost;
+      parents[direction][vertex] = parent;
+      parentArcs[direction][vertex] = arc;
+      priorityQueues[direction].insertOrDecrease(vertex, cost);
+    }
+
+    private boolean isActive(int direction, int best) {
+      IndexedMinHeap priorityQueue = priorityQueues[direction];
+      return !priorityQueue.isEmpty() && priorityQueue.minimumPriority() < best;
+    }
+
+    /**
+     * Computes cost of a shortest path between two vertices, or INFINITY if there is none.
+     */
+    int run(int source, int target) {
+      this.source = source;
+      this.target = target;
+      this.meeting = -1;
+      reach(FORWARD, source, 0, source, -1);
+      reach(BACKWARD, target, 0, target, -1);
+      int best = INFINITY;
+      // each search goes on while it may find a better meeting vertex
+      boolean forwardActive, backwardActive;
+      while ((forwardActive = isActive(FORWARD, best)) | (backwardActive = isActive(BACKWARD, best))) {
+        int direction = forwardActive && (!backwardActive
+            || priorityQueues[FORWARD].minimumPriority() <= priorityQueues[BACKWARD].minimumPriority())
+            ? FORWARD : BACKWARD;
+        int[] directionCosts = costs[direction];
+        int[] otherCosts = costs[1 - direction];
+        int vertex = priorityQueues[direction].deleteMinimum();
+        int cost = directionCosts[vertex];
+        if (otherCosts[vertex] != INFINITY && cost + otherCosts[vertex] < best) {
+          best = cost + otherCosts[vertex];
+          meeting = vertex;
+        }
+        for (int arc = offsets[vertex]; arc < offsets[vertex + 1]; arc++) {
+          int next = targets[arc];
+          int nextCost = cost + weights[arc];
+          if (nextCost < directionCosts[next]) {
+            reach(direction, next, nextCost, vertex, arc);
+          }
+        }
+      }
+      return best;
+    }
+
+    /**
+     * Returns a shortest path found by last call to {@link #run}, unpacking shortcuts.
+     */
+    List<V> path() {
+      // vertices from meeting down to source in the forward search
+      JDKArrayList<Integer> up = JDKArrayList.empty();
+      for (int vertex = meeting; vertex != source; vertex = parents[FORWARD][vertex]) {
+        up.append(vertex);
+      }
+      List<V> path = JDKArrayList.empty();
+      path.append(index.vertex(source));
+      int from = source;
+      for (int i = up.size() - 1; i >= 0; i--) {
+        int to = up.get(i);
+        unpack(from, to, parentArcs[FORWARD][to], path);
+        from = to;
+      }
+      // from meeting down to target, following the backward search
+      for (int vertex = meeting; vertex != target; vertex = parents[BACKWARD][vertex]) {
+        int next = parents[BACKWARD][vertex];
+        unpack(vertex, next, parentArcs[BACKWARD][vertex], path);
+      }
+      return path;
+    }
+
+    /**
+     * Restores arrays and queues for next query.
+     */
+    void reset() {
+      for (int i = 0; i < numberOfTouched; i++) {
+        costs[FORWARD][touched[i]] = INFINITY;
+        costs[BACKWARD][touched[i]] = INFINITY;
+      }
+      numberOfTouched = 0;
+      priorityQueues[FORWARD].clear();
+      priorityQueues[BACKWARD].clear();
+    }
+  }
+
+  /**
+   * Writes a vertex to a binary output.
+   *
+   * @param <V> the type of the vertices.
+   */
+  @FunctionalInterface
+  public interface VertexWriter<V> {
+    void write(DataOutput output, V vertex) throws IOException;
+  }
+
+  /**
+   * Reads a vertex from a binary input.
+   *
+   * @param <V> the type of the vertices.
+   */
+  @FunctionalInterface
+  public interface VertexReader<V> {
+    V read(DataInput input) throws IOException;
+  }
+
+  /**
+   * Writes this index to a binary output, so that it can be read back with {@link #readFrom}.
+   * <p>
+   * The format is a header with the magic number {@code "CHIX"}, a format version and the number of
+   * vertices, followed by the vertices in order of identifier (written by {@code vertexWriter}), their
+   * ranks, the offsets of their upward arcs, the number of upward arcs, and the target, weight and
+   * middle vertex (-1 for original edges) of each arc. Integers are written in big-endian order, as
+   * with {@link DataOutput#writeInt}.
+   * <p> Time complexity: O(n + m)
+   *
+   * @param output       the output to write to.
+   * @param vertexWriter the function writing each vertex.
+   * @throws IOException if an I/O error occurs.
+   */
+  public void writeTo(DataOutput output, VertexWriter<V> vertexWriter) throws IOException {
+    output.writeInt(MAGIC);
+    output.writeInt(VERSION);
+    output.writeInt(numberOfVertices());
+    for (int id = 0; id < numberOfVertices(); id++) {
+      vertexWriter.write(output, index.vertex(id));
+    }
+    writeInts(output, ranks);
+    writeInts(output, offsets);
+    output.writeInt(targets.length);
+    writeInts(output, targets);
+    writeInts(output, weights);
+    writeInts(output, middles);
+  }
+
+  private static void writeInts(DataOutput output, int[] array) throws IOException {
+    for (int element : array) {
+      output.writeInt(element);
+    }
+  }
+
+  private static int[] readInts(DataInput input, int length) throws IOException {
+    int[] array = new int[length];
+    for (int i = 0; i < length; i++) {
+      array[i] = input.readInt();
+    }
+    return array;
+  }
+
+  /**
+   * Reads an index written by {@link #writeTo}.
+   * <p> Time complexity: O(n + m)
+   *
+   * @param <V>          the type of the vertices.
+   * @param input        the input to read from.
+   * @param vertexReader the function reading each vertex.
+   * @return the index read.
+   * @throws IOException if an I/O error occurs or the input is not a valid index.
+   */
+  public static <V> ContractionHierarchy<V> readFrom(DataInput input, VertexReader<V> vertexReader)
+      throws IOException {
+    if (input.readInt() != MAGIC) {
+      throw new IOException("readFrom: input is not a contraction hierarchy");
+    }
+    int version = input.readInt();
+    if (version != VERSION) {
+      throw new IOException("readFrom: unsupported contraction hierarchy version " + version);
+    }
+    int numberOfVertices = input.readInt();
+    VertexIndex<V> index = VertexIndex.withCapacity(numberOfVertices);
+    for (int id = 0; id < numberOfVertices; id++) {
+      if (index.intern(vertexReader.read(input)) != id) {
+        throw new IOException("readFrom: repeated vertex in contraction hierarchy");
+      }
+    }
+    int[] ranks = readInts(input, numberOfVertices);
+    int[] offsets = readInts(input, numberOfVertices + 1);
+    int numberOfArcs = input.readInt();
+    if (numberOfArcs != offsets[numberOfVertices]) {
+      throw new IOException("readFrom: inconsistent number of arcs in contraction hierarchy");
+    }
+    int[] targets = readInts(input, numberOfArcs);
+    int[] weights = readInts(input, numberOfArcs);
+    int[] middles = readInts(input, numberOfArcs);
+    return new ContractionHierarchy<>(index, ranks, offsets, targets, weights, middles);
+  }
+
+  /**
+   * Returns a string representation of this index with its size.
+   */
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "(vertices=" + numberOfVertices() + ", arcs=" + numberOfArcs()
+        + ", shortcuts=" + numberOfShortcuts() + ")";
+  }
+}
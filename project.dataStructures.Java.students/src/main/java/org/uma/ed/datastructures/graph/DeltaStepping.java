@@ -0,0 +1,415 @@
+package org.uma.ed.datastructures.graph;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import org.uma.ed.datastructures.dictionary.Dictionary;
+import org.uma.ed.datastructures.dictionary.JDKHashDictionary;
+
+/**
+ * A utility class for computing costs of shortest paths from a source vertex in large weighted graphs
+ * in parallel, using the delta-stepping algorithm (Meyer and Sanders).
+ * <p>
+ * Dijkstra's algorithm settles one vertex at a time, in order of cost, so it is inherently sequential.
+ * Delta-stepping relaxes that order: tentative costs of vertices are grouped in buckets of width
+ * {@code delta}, so that bucket {@code i} holds vertices with tentative cost in
+ * {@code [i * delta, (i + 1) * delta)}, and all vertices in the first non-empty bucket are processed in
+ * parallel. Arcs are split in light ones (with weight at most {@code delta}), whose relaxation may put
+ * vertices back in the current bucket, and heavy ones, which always lead to later buckets:
+ * <ol>
+ *     <li>Light arcs of vertices in the current bucket are relaxed in parallel, repeatedly, until the
+ *     bucket stays empty. Then, costs of all vertices removed from it are final.</li>
+ *     <li>Heavy arcs of those vertices are relaxed in parallel, once.</li>
+ * </ol>
+ * Tentative costs are kept in an {@code int[]} indexed by vertex identifier in a {@link CSRGraph}, and
+ * lowered with atomic compare-and-set operations, so that concurrent relaxations of arcs entering the
+ * same vertex keep the smallest cost. A vertex is added to a bucket each time its cost is lowered, and
+ * entries for vertices whose cost was later lowered to an earlier bucket are skipped. As every
+ * tentative cost is less than the cost of the current bucket plus {@code delta} plus the maximum weight
+ * {@code w}, only {@code ceil(w / delta) + 1} buckets are kept, and reused cyclically.
+ * <p>
+ * With {@code delta} equal to 1 and integer weights, each bucket holds vertices with the same cost, as in
+ * a parallel version of Dijkstra's algorithm. With a very large {@code delta}, there is a single bucket
+ * and the algorithm becomes a parallel version of Bellman-Ford's. Intermediate values trade parallelism
+ * for repeated relaxations; by default, {@code delta} is the average weight of arcs.
+ * <p>
+ * Note: This algorithm assumes all arc weights are non-negative.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public final class DeltaStepping {
+
+  private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+  private static final int INFINITY = Integer.MAX_VALUE;
+  private static final int MAX_BUCKETS = 1 << 20;   // Maximum number of cyclic buckets.
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private DeltaStepping() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  /**
+   * Computes the cost of shortest paths from a source vertex to all reachable vertices of a graph with
+   * {@code int} weights, using the common {@link ForkJoinPool} and the average weight of arcs as
+   * {@code delta}.
+   * <p> Time complexity: O(n + m + L / delta * log n) steps with O(n + m) work on graphs with random
+   * weights, where L is the maximum cost of a shortest path.
+   *
+   * @param <V>    the type of the vertices.
+   * @param graph  the graph with {@code int} weights.
+   * @param source the source vertex.
+   * @return a dictionary mapping each vertex reachable from {@code source} to the cost of a shortest path
+   * to it, as {@link Dijkstra#dijkstra} does.
+   * @throws GraphException if {@code source} is not in the graph, the graph has no {@code int} weights
+   *                        or some negative weight, or some shortest path costs {@code Integer.MAX_VALUE}
+   *                        or more.
+   */
+  public static <V> Dictionary<V, Integer> deltaStepping(CSRGraph<V> graph, V source) {
+    return deltaStepping(graph, source, defaultDelta(graph), ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Computes the cost of shortest paths from a source vertex to all reachable vertices of a graph with
+   * {@code int} weights, using a given {@link ForkJoinPool} and bucket width.
+   * <p> Time complexity: O(n + m) work on graphs with random weights and a suitable {@code delta}.
+   *
+   * @param <V>    the type of the vertices.
+   * @param graph  the graph with {@code int} weights.
+   * @param source the source vertex.
+   * @param delta  the width of buckets.
+   * @param pool   the pool where buckets are processed.
+   * @return a dictionary mapping each vertex reachable from {@code source} to the cost of a shortest path
+   * to it, as {@link Dijkstra#dijkstra} does.
+   * @throws GraphException           if {@code source} is not in the graph, the graph has no {@code int}
+   *                                  weights or some negative weight, or some shortest path costs
+   *                                  {@code Integer.MAX_VALUE} or more.
+   * @throws IllegalArgumentException if {@code delta} is not positive, or so small that more than
+   *                                  {@code 2^20} buckets are needed for the maximum weight.
+   */
+  public static <V> Dictionary<V, Integer> deltaStepping(CSRGraph<V> graph, V source, int delta, ForkJoinPool pool) {
+    int[] costs = costs(graph, source, delta, pool);
+    int numberOfReachable = 0;
+    for (int cost : costs) {
+      if (cost >= 0) {
+        numberOfReachable++;
+      }
+    }
+    Dictionary<V, Integer> result = JDKHashDictionary.withCapacity(Math.max(1, numberOfReachable));
+    for (int id = 0; id < costs.length; id++) {
+      if (costs[id] >= 0) {
+        result.insert(graph.vertex(id), costs[id]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Computes the cost of shortest paths from a source vertex to all vertices of a graph with {@code int}
+   * weights, indexed by identifier in the graph.
+   * <p> Time complexity: O(n + m) work on graphs with random weights and a suitable {@code delta}.
+   *
+   * @param <V>    the type of the vertices.
+   * @param graph  the graph with {@code int} weights.
+   * @param source the source vertex.
+   * @param delta  the width of buckets.
+   * @param pool   the pool where buckets are processed.
+   * @return a new array with the cost of a shortest path to each vertex, or -1 for unreachable vertices.
+   * @throws GraphException           if {@code source} is not in the graph, the graph has no {@code int}
+   *                                  weights or some negative weight, or some shortest path costs
+   *                                  {@code Integer.MAX_VALUE} or more.
+   * @throws IllegalArgumentException if {@code delta} is not positive, or so small that more than
+   *                                  {@code 2^20} buckets are needed for the maximum weight.
+   */
+  public static <V> int[] costs(CSRGraph<V> graph, V source, int delta, ForkJoinPool pool) {
+    if (delta <= 0) {
+      throw new IllegalArgumentException("deltaStepping: delta must be positive");
+    }
+    int sourceId = graph.idOf(source);
+    int maxWeight = maxWeight(graph);
+    long numberOfBuckets = (maxWeight + (long) delta - 1) / delta + 1;
+    if (numberOfBuckets > MAX_BUCKETS) {
+      throw new IllegalArgumentException("deltaStepping: delta " + delta + " needs " + numberOfBuckets
+          + " buckets for maximum weight " + maxWeight);
+    }
+    Search search = new Search(graph, delta, (int) numberOfBuckets, pool);
+    search.run(sourceId);
+    int[] costs = search.costs;
+    if (search.overflowed) {
+      checkCostsFit(graph, costs);
+    }
+    for (int id = 0; id < costs.length; id++) {
+      if (costs[id] == INFINITY) {
+        costs[id] = -1;
+      }
+    }
+    return costs;
+  }
+
+  /**
+   * Checks that no vertex was left unreached only because costs of paths to it do not fit in an
+   * {@code int}. Relaxations whose cost does not fit are discarded, so costs of paths that fit are right,
+   * and a reachable vertex with no such path is the target of an arc leaving a reached vertex.
+   *
+   * @throws GraphException if some shortest path costs {@code Integer.MAX_VALUE} or more.
+   */
+  private static void checkCostsFit(CSRGraph<?> graph, int[] costs) {
+    for (int v = 0; v < costs.length; v++) {
+      if (costs[v] != INFINITY) {
+        for (int arc = graph.arcStart(v); arc < graph.arcEnd(v); arc++) {
+          if (costs[graph.arcTarget(arc)] == INFINITY) {
+            throw new GraphException("deltaStepping: cost of shortest path to "
+                + graph.vertex(graph.arcTarget(arc)) + " does not fit in an int.");
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the maximum weight of arcs in a graph, or 0 if it has no arcs.
+   *
+   * @throws GraphException if the graph has no {@code int} weights or some negative weight.
+   */
+  private static int maxWeight(CSRGraph<?> graph) {
+    if (!graph.hasIntWeights()) {
+      throw new GraphException("deltaStepping: graph has no int weights.");
+    }
+    int maxWeight = 0;
+    for (int arc = 0; arc < graph.numberOfArcs(); arc++) {
+      int weight = graph.arcWeight(arc);
+      if (weight < 0) {
+        throw new GraphException("deltaStepping: negative weight " + weight + " for arc to "
+            + graph.vertex(graph.arcTarget(arc)));
+      }
+      maxWeight = Math.max(maxWeight, weight);
+    }
+    return maxWeight;
+  }
+
+  /**
+   * Returns the default width of buckets for a graph: the average weight of its arcs, and at least 1.
+   */
+  static int defaultDelta(CSRGraph<?> graph) {
+    if (!graph.hasIntWeights() || graph.numberOfArcs() == 0) {
+      return 1;
+    }
+    long totalWeight = 0;
+    for (int arc = 0; arc < graph.numberOfArcs(); arc++) {
+      totalWeight += graph.arcWeight(arc);
+    }
+    return (int) Math.max(1, Math.min(Integer.MAX_VALUE, totalWeight / graph.numberOfArcs()));
+  }
+
+  /**
+   * Buckets of vertices, indexed by cost divided by delta. Only a window of consecutive buckets can be
+   * non-empty at any time, so bucket {@code i} is kept in slot {@code i % slots.length}. Tasks add
+   * entries in batches, and the search takes whole buckets between parallel phases.
+   */
+  private static final class Buckets {
+    private final int[][] lists;      // Vertices in each slot, or null.
+    private final int[] sizes;        // Number of vertices in each slot.
+    private int size = 0;             // Number of vertices in all slots.
+
+    /*
+     * INVARIANT:
+     *  - All vertices in a slot were added to buckets with the same index modulo number of slots.
+     *  - size is the sum of sizes.
+     */
+
+    Buckets(int numberOfSlots) {
+      this.lists = new int[numberOfSlots][];
+      this.sizes = new int[numberOfSlots];
+    }
+
+    /**
+     * Adds vertices to buckets, given as pairs of bucket and vertex packed in {@code long}s.
+     */
+    synchronized void addAll(long[] entries, int numberOfEntries) {
+      for (int i = 0; i < numberOfEntries; i++) {
+        int slot = (int) (entries[i] >>> 32) % sizes.length;
+        int vertex = (int) entries[i];
+        if (lists[slot] == null) {
+          lists[slot] = new int[16];
+        } else if (sizes[slot] == lists[slot].length) {
+          lists[slot] = Arrays.copyOf(lists[slot], 2 * sizes[slot]);
+        }
+        lists[slot][sizes[slot]++] = vertex;
+      }
+      size += numberOfEntries;
+    }
+
+    /**
+     * Index of first non-empty bucket from a given one, or -1 if all are empty. Some slot is non-empty
+     * unless all are, so at most one round of slots is scanned.
+     */
+    int nextNonEmpty(int from) {
+      if (size == 0) {
+        return -1;
+      }
+      int bucket = from;
+      while (isEmpty(bucket)) {
+        bucket++;
+      }
+      return bucket;
+    }
+
+    boolean isEmpty(int bucket) {
+      return sizes[bucket % sizes.length] == 0;
+    }
+
+    /**
+     * Removes all vertices in a bucket and returns them.
+     */
+    int[] take(int bucket) {
+      int slot = bucket % sizes.length;
+      int[] vertices = Arrays.copyOf(lists[slot], sizes[slot]);
+      size -= sizes[slot];
+      lists[slot] = null;
+      sizes[slot] = 0;
+      return vertices;
+    }
+  }
+
+  /**
+   * Vertices found by a task: those whose cost it lowered, with their new buckets, and those it removed
+   * from the current bucket for the first time.
+   */
+  private static final class Found {
+    private long[] entries = new long[64];
+    private int numberOfEntries = 0;
+    private int[] settled = new int[64];
+    private int numberOfSettled = 0;
+
+    void add(int bucket, int vertex) {
+      if (numberOfEntries == entries.length) {
+        entries = Arrays.copyOf(entries, 2 * numberOfEntries);
+      }
+      entries[numberOfEntries++] = ((long) bucket << 32) | vertex;
+    }
+
+    void settle(int vertex) {
+      if (numberOfSettled == settled.length) {
+        settled = Arrays.copyOf(settled, 2 * numberOfSettled);
+      }
+      settled[numberOfSettled++] = vertex;
+    }
+  }
+
+  /**
+   * State of a search over a graph.
+   */
+  private static final class Search {
+    private final CSRGraph<?> graph;
+    private final int delta;
+    private final ForkJoinPool pool;
+    private final int[] costs;                // Tentative cost of each vertex, or INFINITY.
+    private final int[] removedFrom;          // Last bucket each vertex was removed from, or -1.
+    private final Buckets buckets;
+
+    private int[] settled;                    // Vertices removed from current bucket.
+    private int numberOfSettled;
+    private volatile boolean overflowed;      // Whether some relaxation was discarded as too costly.
+
+    Search(CSRGraph<?> graph, int delta, int numberOfBuckets, ForkJoinPool pool) {
+      this.graph = graph;
+      this.delta = delta;
+      this.pool = pool;
+      this.buckets = new Buckets(numberOfBuckets);
+      this.costs = new int[graph.numberOfVertices()];
+      this.removedFrom = new int[graph.numberOfVertices()];
+      Arrays.fill(costs, INFINITY);
+      Arrays.fill(removedFrom, -1);
+      this.settled = new int[16];
+    }
+
+    void run(int source) {
+      costs[source] = 0;
+      Found initial = new Found();
+      initial.add(0, source);
+      buckets.addAll(initial.entries, initial.numberOfEntries);
+
+      int bucket = 0;
+      while ((bucket = buckets.nextNonEmpty(bucket)) >= 0) {
+        numberOfSettled = 0;
+        // light arcs may put vertices back in current bucket
+        while (!buckets.isEmpty(bucket)) {
+          int[] frontier = buckets.take(bucket);
+          int current = bucket;
+          pool.invoke(new RangeTask(0, frontier.length, (from, until) -> {
+            Found found = new Found();
+            for (int i = from; i < until; i++) {
+              int v = frontier[i];
+              int cost = (int) INTS.getVolatile(costs, v);
+              if (cost / delta != current) {
+                continue; // stale entry: cost was lowered to an earlier bucket
+              }
+              if ((int) INTS.getAndSet(removedFrom, v, current) != current) {
+                found.settle(v);
+              }
+              relaxArcs(v, cost, true, found);
+            }
+            flush(found);
+          }));
+        }
+        // costs of vertices removed from bucket are final, so heavy arcs are relaxed once
+        int[] vertices = Arrays.copyOf(settled, numberOfSettled);
+        pool.invoke(new RangeTask(0, vertices.length, (from, until) -> {
+          Found found = new Found();
+          for (int i = from; i < until; i++) {
+            int v = vertices[i];
+            relaxArcs(v, costs[v], false, found);
+          }
+          flush(found);
+        }));
+        bucket++;
+      }
+    }
+
+    /**
+     * Relaxes light or heavy arcs leaving a vertex with a given cost.
+     */
+    private void relaxArcs(int v, int cost, boolean light, Found found) {
+      for (int arc = graph.arcStart(v); arc < graph.arcEnd(v); arc++) {
+        int weight = graph.arcWeight(arc);
+        if ((weight <= delta) == light) {
+          int u = graph.arcTarget(arc);
+          long sum = (long) cost + weight;
+          if (sum >= INFINITY) {
+            overflowed = true; // checked once the search is over
+            continue;
+          }
+          int newCost = (int) sum;
+          int oldCost = (int) INTS.getVolatile(costs, u);
+          while (newCost < oldCost) {
+            if (INTS.compareAndSet(costs, u, oldCost, newCost)) {
+              found.add(newCost / delta, u);
+              break;
+            }
+            oldCost = (int) INTS.getVolatile(costs, u);
+          }
+        }
+      }
+    }
+
+    /**
+     * Publishes vertices found by a task.
+     */
+    private void flush(Found found) {
+      if (found.numberOfEntries > 0) {
+        buckets.addAll(found.entries, found.numberOfEntries);
+      }
+      if (found.numberOfSettled > 0) {
+        synchronized (this) {
+          if (numberOfSettled + found.numberOfSettled > settled.length) {
+            settled = Arrays.copyOf(settled, Math.max(2 * settled.length, numberOfSettled + found.numberOfSettled));
+          }
+          System.arraycopy(found.settled, 0, settled, numberOfSettled, found.numberOfSettled);
+          numberOfSettled += found.numberOfSettled;
+        }
+      }
+    }
+  }
+}
@@ -1,12 +1,14 @@
 package org.uma.ed.datastructures.graph;
 
+import java.util.Arrays;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
 import org.uma.ed.datastructures.dictionary.Dictionary;
 import org.uma.ed.datastructures.dictionary.JDKHashDictionary;
-import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.heap.IndexedMinHeap;
 import org.uma.ed.datastructures.list.List;
 import org.uma.ed.datastructures.priorityqueue.JDKPriorityQueue;
 import org.uma.ed.datastructures.priorityqueue.PriorityQueue;
-import org.uma.ed.datastructures.set.JDKHashSet;
 import org.uma.ed.datastructures.set.Set;
 import org.uma.ed.datastructures.tuple.Tuple2;
 
@@ -24,6 +26,12 @@ import org.uma.ed.datastructures.tuple.Tuple2;
  * In each step, it considers all possible "extensions" (edges) from the finalized set to the
  * unfinalized set, chooses the one that results in the shortest total path, and moves the
  * destination vertex of that extension to the finalized set.
+ * <p>
+ * Methods taking a {@link CSRGraph} work over vertex identifiers instead: costs and predecessors are kept
+ * in arrays, and the priority queue is an {@link IndexedMinHeap} of identifiers whose priority is
+ * decreased in place when a shorter path is found. Thus, relaxing an arc neither hashes its destination
+ * nor allocates objects, and vertices are only translated back when results are returned. A
+ * {@link WeightedGraph} can be converted once with {@link CSRGraph#of(WeightedGraph)}.
  *
  * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
  */
@@ -62,24 +70,377 @@ public final class Dijkstra {
    * @return a {@code Dictionary} mapping reachable vertices to their shortest path costs.
    */
   public static <V> Dictionary<V, Integer> dijkstra(
-      WeightedGraph<V, Integer> weightedGraph, V source) { throw new UnsupportedOperationException("Not implemented yet");  }
+      WeightedGraph<V, Integer> weightedGraph, V source) {
+    return shortestPathTree(weightedGraph, source).costs();
+  }
 
   /**
-   * A version of Extension that also carries the full path from the source.
+   * Computes the shortest paths from a source vertex to all other vertices, as a tree that answers cost
+   * and path queries on demand.
+   * <p>
+   * Each extension in the priority queue only records the vertex it extends, so when its destination is
+   * finalized, that vertex becomes its predecessor in the tree. Paths are not built during the search,
+   * but reconstructed from predecessors by {@link ShortestPathTree#pathTo} when requested.
+   * <p>
+   * Note: This algorithm assumes all edge weights are non-negative.
+   * <p> Time complexity: O(m log m)
+   *
+   * @param <V>           the type of the vertices.
+   * @param weightedGraph the weighted graph.
+   * @param source        the source vertex.
+   * @return the tree of shortest paths from {@code source} to all reachable vertices.
+   * @throws GraphException if {@code source} is not in the graph.
    */
-  private record PathExtension<V>(V source, V destination, Integer totalCost, List<V> path) implements Comparable<PathExtension<V>> {
-    @Override
-    public int compareTo(PathExtension<V> that) {
-      return this.totalCost.compareTo(that.totalCost);
+  public static <V> ShortestPathTree<V> shortestPathTree(WeightedGraph<V, Integer> weightedGraph, V source) {
+    Dictionary<V, Integer> costs = JDKHashDictionary.empty();       // Finalized vertices and their costs.
+    Dictionary<V, V> predecessors = JDKHashDictionary.empty();
+    PriorityQueue<Extension<V>> priorityQueue = JDKPriorityQueue.empty();
+
+    // source is its own predecessor
+    priorityQueue.enqueue(Extension.of(source, source, 0));
+    while (!priorityQueue.isEmpty()) {
+      Extension<V> extension = priorityQueue.first();
+      priorityQueue.dequeue();
+      V vertex = extension.destination();
+      if (costs.isDefinedAt(vertex)) {
+        continue; // already finalized through a cheaper extension
+      }
+      costs.insert(vertex, extension.totalCost());
+      predecessors.insert(vertex, extension.source());
+      for (WeightedGraph.Successor<V, Integer> successor : weightedGraph.successors(vertex)) {
+        if (!costs.isDefinedAt(successor.vertex())) {
+          priorityQueue.enqueue(Extension.of(vertex, successor.vertex(), extension.totalCost() + successor.weight()));
+        }
+      }
+    }
+    return new ShortestPathTree<>(source, costs, predecessors);
+  }
+
+  /**
+   * Returns identifier of a vertex in an index of the vertices of a graph.
+   *
+   * @throws GraphException if {@code vertex} is not in the index.
+   */
+  private static <V> int idOf(VertexIndex<V> index, V vertex, String operation) {
+    int id = index.idOf(vertex);
+    if (id < 0) {
+      throw new GraphException(operation + ": vertex " + vertex + " is not in the graph.");
+    }
+    return id;
+  }
+
+  /**
+   * Computes the costs of the shortest paths from a source vertex to all other vertices in a graph with
+   * weights of any type, whose costs are given as {@code long}s by a function.
+   * <p>
+   * Unlike {@link #dijkstra}, costs are kept in a {@code long} array indexed by vertex identifier in a
+   * {@link VertexIndex}, and the priority queue is an {@link IndexedMinHeap} that decreases the priority
+   * of a vertex in place when a shorter path to it is found, so the search itself creates no entries or
+   * boxed costs. Edges are still read through {@link WeightedGraph#successors}, which may allocate a set,
+   * an iterator and a successor object per edge, and whose vertices are hashed to find their
+   * identifiers. For graphs with {@code int} weights, {@link #dijkstraLong(CSRGraph, Object)} reads arcs
+   * from arrays instead and allocates nothing while relaxing them.
+   * <p>
+   * Note: This algorithm assumes all edge weights are non-negative.
+   * <p> Time complexity: O(m log n)
+   *
+   * @param <V>           the type of the vertices.
+   * @param <W>           the type of the weights.
+   * @param weightedGraph the weighted graph.
+   * @param source        the source vertex.
+   * @param weight        function giving the cost of each weight.
+   * @return a {@code Dictionary} mapping reachable vertices to their shortest path costs.
+   * @throws GraphException if {@code source} is not in the graph or some weight has a negative cost.
+   */
+  public static <V, W> Dictionary<V, Long> dijkstraLong(WeightedGraph<V, W> weightedGraph, V source,
+                                                        ToLongFunction<W> weight) {
+    VertexIndex<V> index = VertexIndex.from(weightedGraph.vertices());
+    int numberOfVertices = index.size();
+    int sourceId = idOf(index, source, "dijkstraLong");
+
+    long[] costs = new long[numberOfVertices];
+    Arrays.fill(costs, Long.MAX_VALUE);
+    boolean[] finalized = new boolean[numberOfVertices];
+    IndexedMinHeap priorityQueue = IndexedMinHeap.withCapacity(numberOfVertices);
+    Dictionary<V, Long> result = JDKHashDictionary.withCapacity(numberOfVertices);
+
+    costs[sourceId] = 0;
+    priorityQueue.insertOrDecrease(sourceId, 0);
+    while (!priorityQueue.isEmpty()) {
+      int vertex = priorityQueue.deleteMinimum();
+      finalized[vertex] = true;
+      result.insert(index.vertex(vertex), costs[vertex]);
+      for (WeightedGraph.Successor<V, W> successor : weightedGraph.successors(index.vertex(vertex))) {
+        int destination = index.idOf(successor.vertex());
+        if (!finalized[destination]) {
+          long edgeCost = weight.applyAsLong(successor.weight());
+          if (edgeCost < 0) {
+            throw new GraphException("dijkstraLong: negative cost " + edgeCost + " for edge from "
+                + index.vertex(vertex) + " to " + successor.vertex());
+          }
+          long totalCost = costs[vertex] + edgeCost;
+          if (totalCost < costs[destination]) {
+            costs[destination] = totalCost;
+            priorityQueue.insertOrDecrease(destination, totalCost);
+          }
+        }
+      }
     }
+    return result;
+  }
+
+  /**
+   * Computes the costs of the shortest paths from a source vertex to all other vertices in a graph with
+   * weights of any type, whose costs are given as {@code double}s by a function.
+   * <p>
+   * As in {@link #dijkstraLong(WeightedGraph, Object, ToLongFunction)}, costs are kept in a
+   * {@code double} array, but edges are read through {@link WeightedGraph#successors}, which may
+   * allocate. Priorities in the {@link IndexedMinHeap} are the IEEE 754 bit patterns of costs, which are
+   * ordered as {@code long}s in the same way as the non-negative {@code double}s they represent. For an
+   * allocation-free search, see {@link #dijkstraDouble(CSRGraph, Object)}.
+   * <p>
+   * Note: This algorithm assumes all edge weights are non-negative.
+   * <p> Time complexity: O(m log n)
+   *
+   * @param <V>           the type of the vertices.
+   * @param <W>           the type of the weights.
+   * @param weightedGraph the weighted graph.
+   * @param source        the source vertex.
+   * @param weight        function giving the cost of each weight.
+   * @return a {@code Dictionary} mapping reachable vertices to their shortest path costs.
+   * @throws GraphException if {@code source} is not in the graph or some weight has a negative or NaN
+   *                        cost.
+   */
+  public static <V, W> Dictionary<V, Double> dijkstraDouble(WeightedGraph<V, W> weightedGraph, V source,
+                                                            ToDoubleFunction<W> weight) {
+    VertexIndex<V> index = VertexIndex.from(weightedGraph.vertices());
+    int numberOfVertices = index.size();
+    int sourceId = idOf(index, source, "dijkstraDouble");
 
-    static <V> PathExtension<V> of(V source, V destination, Integer totalCost, List<V> path) {
-      return new PathExtension<>(source, destination, totalCost, path);
+    double[] costs = new double[numberOfVertices];
+    Arrays.fill(costs, Double.POSITIVE_INFINITY);
+    boolean[] finalized = new boolean[numberOfVertices];
+    IndexedMinHeap priorityQueue = IndexedMinHeap.withCapacity(numberOfVertices);
+    Dictionary<V, Double> result = JDKHashDictionary.withCapacity(numberOfVertices);
+
+    costs[sourceId] = 0.0;
+    priorityQueue.insertOrDecrease(sourceId, Double.doubleToLongBits(0.0));
+    while (!priorityQueue.isEmpty()) {
+      int vertex = priorityQueue.deleteMinimum();
+      finalized[vertex] = true;
+      result.insert(index.vertex(vertex), costs[vertex]);
+      for (WeightedGraph.Successor<V, W> successor : weightedGraph.successors(index.vertex(vertex))) {
+        int destination = index.idOf(successor.vertex());
+        if (!finalized[destination]) {
+          double edgeCost = weight.applyAsDouble(successor.weight());
+          if (!(edgeCost >= 0)) {
+            throw new GraphException("dijkstraDouble: invalid cost " + edgeCost + " for edge from "
+                + index.vertex(vertex) + " to " + successor.vertex());
+          }
+          double totalCost = costs[vertex] + edgeCost;
+          if (totalCost < costs[destination]) {
+            costs[destination] = totalCost;
+            priorityQueue.insertOrDecrease(destination, Double.doubleToLongBits(totalCost));
+          }
+        }
+      }
     }
+    return result;
+  }
+
+  /**
+   * Computes the costs of the shortest paths from a source vertex to all vertices of a {@link CSRGraph}
+   * with {@code int} weights, indexed by identifier in the graph.
+   * <p>
+   * Arcs are scanned with {@link CSRGraph#arcStart}, {@link CSRGraph#arcTarget} and
+   * {@link CSRGraph#arcWeight}, costs are kept in a {@code long} array and the priority queue is an
+   * {@link IndexedMinHeap}, so no objects are allocated after the arrays are created.
+   * <p>
+   * Note: This algorithm assumes all edge weights are non-negative.
+   * <p> Time complexity: O(m log n)
+   *
+   * @param <V>    the type of the vertices.
+   * @param graph  the graph with {@code int} weights.
+   * @param source the source vertex.
+   * @return a new array with the cost of a shortest path to each vertex, or -1 for unreachable vertices.
+   * @throws GraphException if {@code source} is not in the graph, or the graph has no {@code int} weights
+   *                        or some negative weight.
+   */
+  public static <V> long[] costs(CSRGraph<V> graph, V source) {
+    long[] costs = new long[graph.numberOfVertices()];
+    search(graph, graph.idOf(source), costs, null, "costs");
+    return costs;
+  }
+
+  /**
+   * Computes the shortest paths from a source vertex to all other vertices of a {@link CSRGraph} with
+   * {@code int} weights, as a tree that answers cost and path queries on demand.
+   * <p>
+   * Works as {@link #costs(CSRGraph, Object)}, also recording the predecessor of each vertex in an
+   * {@code int} array. Costs and predecessors are translated back to vertices once the search is over.
+   * <p>
+   * Note: This algorithm assumes all edge weights are non-negative.
+   * <p> Time complexity: O(m log n)
+   *
+   * @param <V>    the type of the vertices.
+   * @param graph  the graph with {@code int} weights.
+   * @param source the source vertex.
+   * @return the tree of shortest paths from {@code source} to all reachable vertices.
+   * @throws GraphException if {@code source} is not in the graph, the graph has no {@code int} weights or
+   *                        some negative weight, or the cost of some shortest path does not fit in an
+   *                        {@code int}.
+   */
+  public static <V> ShortestPathTree<V> shortestPathTree(CSRGraph<V> graph, V source) {
+    int numberOfVertices = graph.numberOfVertices();
+    long[] costs = new long[numberOfVertices];
+    int[] predecessors = new int[numberOfVertices];
+    search(graph, graph.idOf(source), costs, predecessors, "shortestPathTree");
+
+    Dictionary<V, Integer> costsOfVertices = JDKHashDictionary.withCapacity(Math.max(1, numberOfVertices));
+    Dictionary<V, V> predecessorsOfVertices = JDKHashDictionary.withCapacity(Math.max(1, numberOfVertices));
+    for (int id = 0; id < numberOfVertices; id++) {
+      if (costs[id] > Integer.MAX_VALUE) {
+        throw new GraphException("shortestPathTree: cost " + costs[id] + " of shortest path to "
+            + graph.vertex(id) + " does not fit in an int.");
+      }
+      if (costs[id] >= 0) {
+        costsOfVertices.insert(graph.vertex(id), (int) costs[id]);
+        predecessorsOfVertices.insert(graph.vertex(id), graph.vertex(predecessors[id]));
+      }
+    }
+    return new ShortestPathTree<>(source, costsOfVertices, predecessorsOfVertices);
+  }
+
+  /**
+   * Runs Dijkstra's algorithm from a vertex over the arcs of a {@code CSRGraph} with {@code int} weights.
+   * Stores in {@code costs} the cost of a shortest path to each vertex, or -1 for unreachable vertices,
+   * and, if {@code predecessors} is not null, the predecessor of each reachable vertex in its path. The
+   * source is its own predecessor.
+   *
+   * @throws GraphException if the graph has no {@code int} weights or some negative weight.
+   */
+  private static void search(CSRGraph<?> graph, int sourceId, long[] costs, int[] predecessors, String operation) {
+    int numberOfVertices = graph.numberOfVertices();
+    Arrays.fill(costs, -1);
+    boolean[] finalized = new boolean[numberOfVertices];
+    IndexedMinHeap priorityQueue = IndexedMinHeap.withCapacity(numberOfVertices);
+
+    costs[sourceId] = 0;
+    if (predecessors != null) {
+      predecessors[sourceId] = sourceId;
+    }
+    priorityQueue.insertOrDecrease(sourceId, 0);
+    while (!priorityQueue.isEmpty()) {
+      int vertex = priorityQueue.deleteMinimum();
+      finalized[vertex] = true;
+      for (int arc = graph.arcStart(vertex); arc < graph.arcEnd(vertex); arc++) {
+        int destination = graph.arcTarget(arc);
+        if (!finalized[destination]) {
+          int weight = graph.arcWeight(arc);
+          if (weight < 0) {
+            throw new GraphException(operation + ": negative weight " + weight + " for arc from "
+                + graph.vertex(vertex) + " to " + graph.vertex(destination));
+          }
+          long totalCost = costs[vertex] + weight;
+          if (costs[destination] < 0 || totalCost < costs[destination]) {
+            costs[destination] = totalCost;
+            if (predecessors != null) {
+              predecessors[destination] = vertex;
+            }
+            priorityQueue.insertOrDecrease(destination, totalCost);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Computes the costs of the shortest paths from a source vertex to all other vertices of a
+   * {@link CSRGraph} with {@code int} weights.
+   * <p>
+   * Works as {@link #costs(CSRGraph, Object)}, so relaxing an arc allocates no objects: costs are only
+   * boxed once per reachable vertex, when stored in the resulting dictionary.
+   * <p>
+   * Note: This algorithm assumes all edge weights are non-negative.
+   * <p> Time complexity: O(m log n)
+   *
+   * @param <V>    the type of the vertices.
+   * @param graph  the graph with {@code int} weights.
+   * @param source the source vertex.
+   * @return a {@code Dictionary} mapping reachable vertices to their shortest path costs.
+   * @throws GraphException if {@code source} is not in the graph, or the graph has no {@code int} weights
+   *                        or some negative weight.
+   */
+  public static <V> Dictionary<V, Long> dijkstraLong(CSRGraph<V> graph, V source) {
+    long[] costs = costs(graph, source);
+    Dictionary<V, Long> result = JDKHashDictionary.withCapacity(Math.max(1, graph.numberOfVertices()));
+    for (int id = 0; id < costs.length; id++) {
+      if (costs[id] >= 0) {
+        result.insert(graph.vertex(id), costs[id]);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Computes the costs of the shortest paths from a source vertex to all other vertices of a
+   * {@link CSRGraph} with {@code int} or {@code double} weights.
+   * <p>
+   * Arcs are scanned with {@link CSRGraph#arcStart}, {@link CSRGraph#arcTarget} and
+   * {@link CSRGraph#arcDoubleWeight}, so relaxing an arc allocates no objects. Priorities in the
+   * {@link IndexedMinHeap} are the IEEE 754 bit patterns of costs, as in
+   * {@link #dijkstraDouble(WeightedGraph, Object, ToDoubleFunction)}.
+   * <p>
+   * Note: This algorithm assumes all edge weights are non-negative.
+   * <p> Time complexity: O(m log n)
+   *
+   * @param <V>    the type of the vertices.
+   * @param graph  the weighted graph.
+   * @param source the source vertex.
+   * @return a {@code Dictionary} mapping reachable vertices to their shortest path costs.
+   * @throws GraphException if {@code source} is not in the graph, or the graph has no weights or some
+   *                        negative or NaN weight.
+   */
+  public static <V> Dictionary<V, Double> dijkstraDouble(CSRGraph<V> graph, V source) {
+    int sourceId = graph.idOf(source);
+    int numberOfVertices = graph.numberOfVertices();
+    double[] costs = new double[numberOfVertices];
+    Arrays.fill(costs, Double.POSITIVE_INFINITY);
+    boolean[] finalized = new boolean[numberOfVertices];
+    IndexedMinHeap priorityQueue = IndexedMinHeap.withCapacity(numberOfVertices);
+    Dictionary<V, Double> result = JDKHashDictionary.withCapacity(Math.max(1, numberOfVertices));
+
+    costs[sourceId] = 0.0;
+    priorityQueue.insertOrDecrease(sourceId, Double.doubleToLongBits(0.0));
+    while (!priorityQueue.isEmpty()) {
+      int vertex = priorityQueue.deleteMinimum();
+      finalized[vertex] = true;
+      result.insert(graph.vertex(vertex), costs[vertex]);
+      for (int arc = graph.arcStart(vertex); arc < graph.arcEnd(vertex); arc++) {
+        int destination = graph.arcTarget(arc);
+        if (!finalized[destination]) {
+          double weight = graph.arcDoubleWeight(arc);
+          if (!(weight >= 0)) {
+            throw new GraphException("dijkstraDouble: invalid weight " + weight + " for arc from "
+                + graph.vertex(vertex) + " to " + graph.vertex(destination));
+          }
+          double totalCost = costs[vertex] + weight;
+          if (totalCost < costs[destination]) {
+            costs[destination] = totalCost;
+            priorityQueue.insertOrDecrease(destination, Double.doubleToLongBits(totalCost));
+          }
+        }
+      }
+    }
+    return result;
   }
 
   /**
    * Computes the shortest paths (costs and vertex sequences) from a source vertex to all other vertices.
+   * <p>
+   * Paths are reconstructed from a {@link ShortestPathTree} once the search is over, so no path is
+   * copied when an edge is relaxed. If only some paths are needed, {@link #shortestPathTree} avoids
+   * building the rest.
    *
    * @param <V>           the type of the vertices.
    * @param weightedGraph the weighted graph.
@@ -88,5 +449,7 @@ public final class Dijkstra {
    *         minimum cost and the list of vertices in the shortest path.
    */
   public static <V> Dictionary<V, Tuple2<Integer, List<V>>> dijkstraPaths(
-      WeightedGraph<V, Integer> weightedGraph, V source) { throw new UnsupportedOperationException("Not implemented yet"); }
-}
\ No newline at end of file
+      WeightedGraph<V, Integer> weightedGraph, V source) {
+    return shortestPathTree(weightedGraph, source).costsAndPaths();
+  }
+}
@@ -0,0 +1,116 @@
+package org.uma.ed.datastructures.graph;
+
+import java.util.Arrays;
+
+/**
+ * A disjoint-set (union-find) structure over integer elements {@code 0...size-1}.
+ * <p>
+ * Each set is a tree whose root is the representative of the set, stored as an array with the parent
+ * of each element. Unions link the root of the tree with smaller rank (an upper bound of its height)
+ * below the other one, and finds make every visited element point to its grandparent (path halving).
+ * Together, they make any sequence of m operations take O(m α(n)) time, where α is the extremely slowly
+ * growing inverse Ackermann function.
+ * <p>
+ * Used by {@link IncrementalConnectivity} and by minimum spanning tree algorithms.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+final class DisjointSetForest {
+  private int[] parents;      // Parent of each element in its tree. Roots are their own parent.
+  private byte[] ranks;       // Rank of each root.
+  private int[] sizes;        // Number of elements in the set of each root.
+  private int size;           // Number of elements.
+  private int numberOfSets;
+
+  /*
+   * INVARIANT:
+   *  - Following parents from any element ends at the root of its set.
+   *  - ranks[r] >= height of the tree rooted at r, and such a tree has at least 2^ranks[r] elements.
+   *  - sizes[r] is the number of elements in the tree rooted at r.
+   */
+
+  DisjointSetForest(int initialCapacity) {
+    int capacity = Math.max(1, initialCapacity);
+    this.parents = new int[capacity];
+    this.ranks = new byte[capacity];
+    this.sizes = new int[capacity];
+    this.size = 0;
+    this.numberOfSets = 0;
+  }
+
+  /**
+   * Creates a forest with elements {@code 0...size-1}, each one in a set of its own.
+   */
+  static DisjointSetForest withSingletons(int size) {
+    DisjointSetForest forest = new DisjointSetForest(size);
+    for (int i = 0; i < size; i++) {
+      forest.add();
+    }
+    return forest;
+  }
+
+  int size() {
+    return size;
+  }
+
+  int numberOfSets() {
+    return numberOfSets;
+  }
+
+  /**
+   * Adds a new element in a set of its own, and returns it.
+   */
+  int add() {
+    if (size == parents.length) {
+      parents = Arrays.copyOf(parents, 2 * size);
+      ranks = Arrays.copyOf(ranks, 2 * size);
+      sizes = Arrays.copyOf(sizes, 2 * size);
+    }
+    parents[size] = size;
+    sizes[size] = 1;
+    numberOfSets++;
+    return size++;
+  }
+
+  /**
+   * Returns the representative of the set of an element.
+   */
+  int find(int element) {
+    while (parents[element] != element) {
+      parents[element] = parents[parents[element]];
+      element = parents[element];
+    }
+    return element;
+  }
+
+  /**
+   * Joins the sets of two elements.
+   *
+   * @return {@code true} if they were in different sets, {@code false} otherwise.
+   */
+  boolean union(int element1, int element2) {
+    int root1 = find(element1);
+    int root2 = find(element2);
+    if (root1 == root2) {
+      return false;
+    }
+    if (ranks[root1] < ranks[root2]) {
+      int root = root1;
+      root1 = root2;
+      root2 = root;
+    } else if (ranks[root1] == ranks[root2]) {
+      ranks[root1]++;
+    }
+    parents[root2] = root1;
+    sizes[root1] += sizes[root2];
+    numberOfSets--;
+    return true;
+  }
+
+  /**
+   * Returns the number of elements in the set of an element.
+   */
+  int sizeOfSet(int element) {
+    return sizes[find(element)];
+  }
+}
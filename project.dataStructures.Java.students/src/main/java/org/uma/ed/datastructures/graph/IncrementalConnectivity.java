@@ -0,0 +1,187 @@
+package org.uma.ed.datastructures.graph;
+
+/**
+ * Connected components of an undirected graph that only grows, maintained as vertices and edges are
+ * added.
+ * <p>
+ * Vertices are numbered by a {@link VertexIndex}, and components are sets of a disjoint-set (union-find)
+ * forest over their identifiers: adding an edge joins the components of its endpoints. Thus, adding
+ * edges and checking whether two vertices are connected take nearly constant amortized time, whereas
+ * recomputing components with {@link Components#connectedComponents} after each change takes linear
+ * time. Edges themselves are not stored, so they cannot be deleted.
+ *
+ * @param <V> the type of the vertices.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public final class IncrementalConnectivity<V> {
+  private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  private final VertexIndex<V> index;       // Identifier of each vertex.
+  private final DisjointSetForest forest;   // Components, as sets of identifiers.
+
+  /*
+   * INVARIANT:
+   *  - index and forest have the same size.
+   *  - Two vertices are in the same set of forest iff they are connected by added edges.
+   */
+
+  private IncrementalConnectivity(int initialCapacity) {
+    this.index = VertexIndex.withCapacity(initialCapacity);
+    this.forest = new DisjointSetForest(initialCapacity);
+  }
+
+  /**
+   * Creates an {@code IncrementalConnectivity} with no vertices.
+   * <p> Time complexity: O(1)
+   *
+   * @param <V> the type of the vertices.
+   * @return an empty {@code IncrementalConnectivity}.
+   */
+  public static <V> IncrementalConnectivity<V> empty() {
+    return new IncrementalConnectivity<>(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  /**
+   * Creates an {@code IncrementalConnectivity} with given vertices and no edges.
+   * <p> Time complexity: O(n)
+   *
+   * @param <V>      the type of the vertices.
+   * @param vertices the vertices.
+   * @return an {@code IncrementalConnectivity} where each vertex is a component of its own.
+   */
+  public static <V> IncrementalConnectivity<V> from(Iterable<V> vertices) {
+    IncrementalConnectivity<V> connectivity = empty();
+    for (V vertex : vertices) {
+      connectivity.addVertex(vertex);
+    }
+    return connectivity;
+  }
+
+  /**
+   * Creates an {@code IncrementalConnectivity} with the vertices and edges of an undirected graph.
+   * <p> Time complexity: O(n + m α(n))
+   *
+   * @param <V>   the type of the vertices.
+   * @param graph the undirected graph.
+   * @return an {@code IncrementalConnectivity} with the components of {@code graph}.
+   */
+  public static <V> IncrementalConnectivity<V> of(Graph<V> graph) {
+    IncrementalConnectivity<V> connectivity = from(graph.vertices());
+    for (Edge<V> edge : graph.edges()) {
+      connectivity.addEdge(edge.vertex1(), edge.vertex2());
+    }
+    return connectivity;
+  }
+
+  /**
+   * Returns the number of vertices.
+   * <p> Time complexity: O(1)
+   *
+   * @return the number of vertices.
+   */
+  public int numberOfVertices() {
+    return forest.size();
+  }
+
+  /**
+   * Returns the number of connected components.
+   * <p> Time complexity: O(1)
+   *
+   * @return the number of connected components.
+   */
+  public int numberOfComponents() {
+    return forest.numberOfSets();
+  }
+
+  /**
+   * Checks whether a vertex has been added.
+   * <p> Time complexity: O(1) on average.
+   *
+   * @param vertex the vertex.
+   * @return {@code true} if {@code vertex} has been added, {@code false} otherwise.
+   */
+  public boolean containsVertex(V vertex) {
+    return index.contains(vertex);
+  }
+
+  /**
+   * Adds a vertex, as a component of its own. If it was already added, nothing is done.
+   * <p> Time complexity: O(1) on average.
+   *
+   * @param vertex the vertex to add.
+   */
+  public void addVertex(V vertex) {
+    if (index.intern(vertex) == forest.size()) {
+      forest.add();
+    }
+  }
+
+  private int idOf(V vertex, String operation) {
+    int id = index.idOf(vertex);
+    if (id < 0) {
+      throw new GraphException(operation + ": vertex " + vertex + " is not in the graph.");
+    }
+    return id;
+  }
+
+  /**
+   * Adds an edge between two vertices, joining their components.
+   * <p> Time complexity: O(α(n)) amortized.
+   *
+   * @param vertex1 one endpoint of the edge.
+   * @param vertex2 the other endpoint of the edge.
+   * @return {@code true} if the vertices were in different components, {@code false} otherwise.
+   * @throws GraphException if any of the vertices has not been added.
+   */
+  public boolean addEdge(V vertex1, V vertex2) {
+    return forest.union(idOf(vertex1, "addEdge"), idOf(vertex2, "addEdge"));
+  }
+
+  /**
+   * Checks whether two vertices are connected.
+   * <p> Time complexity: O(α(n)) amortized.
+   *
+   * @param vertex1 one vertex.
+   * @param vertex2 another vertex.
+   * @return {@code true} if there is a path between both vertices, {@code false} otherwise.
+   * @throws GraphException if any of the vertices has not been added.
+   */
+  public boolean areConnected(V vertex1, V vertex2) {
+    return forest.find(idOf(vertex1, "areConnected")) == forest.find(idOf(vertex2, "areConnected"));
+  }
+
+  /**
+   * Returns a representative vertex of the component of a vertex. Two vertices are connected iff they
+   * have the same representative, until an edge joining their components is added.
+   * <p> Time complexity: O(α(n)) amortized.
+   *
+   * @param vertex the vertex.
+   * @return the representative of the component of {@code vertex}.
+   * @throws GraphException if {@code vertex} has not been added.
+   */
+  public V representative(V vertex) {
+    return index.vertex(forest.find(idOf(vertex, "representative")));
+  }
+
+  /**
+   * Returns the number of vertices in the component of a vertex.
+   * <p> Time complexity: O(α(n)) amortized.
+   *
+   * @param vertex the vertex.
+   * @return the size of the component of {@code vertex}.
+   * @throws GraphException if {@code vertex} has not been added.
+   */
+  public int componentSize(V vertex) {
+    return forest.sizeOfSet(idOf(vertex, "componentSize"));
+  }
+
+  /**
+   * Returns a string representation of this structure with its size.
+   */
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "(vertices=" + numberOfVertices() + ", components="
+        + numberOfComponents() + ")";
+  }
+}
@@ -0,0 +1,84 @@
+package org.uma.ed.datastructures.graph;
+
+import java.util.Arrays;
+
+/**
+ * An implementation of the {@link IndexedTraversal} framework that performs a Breadth-First Search
+ * (BFS), visiting vertices in the same order as {@link BreadthFirstTraversal}.
+ * <p>
+ * This class achieves the BFS strategy by providing a FIFO (First-In-First-Out) store of edges,
+ * implemented as a circular array of {@code long}s.
+ *
+ * @param <V> The type of the elements (vertices) in the traversable structure.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class IndexedBreadthFirstTraversal<V> extends IndexedTraversal<V> {
+
+  /**
+   * Constructs a new {@code IndexedBreadthFirstTraversal} starting from a given source vertex.
+   *
+   * @param traversable the graph-like data structure to be traversed.
+   * @param source      the starting vertex for the traversal.
+   */
+  public IndexedBreadthFirstTraversal(Traversable<V> traversable, V source) {
+    super(traversable, source);
+  }
+
+  /**
+   * Factory method to create an {@code IndexedBreadthFirstTraversal} instance.
+   *
+   * @param <V>         the type of elements in the structure.
+   * @param traversable the data structure to be traversed.
+   * @param source      the starting point for the traversal.
+   * @return a new {@code IndexedBreadthFirstTraversal} object ready for iteration.
+   */
+  public static <V> IndexedBreadthFirstTraversal<V> of(Traversable<V> traversable, V source) {
+    return new IndexedBreadthFirstTraversal<>(traversable, source);
+  }
+
+  /**
+   * A FIFO store of edges in a circular array, which is doubled when full.
+   */
+  private static final class FIFOStore implements EdgeStore {
+    private long[] edges = new long[16];
+    private int first = 0;    // Index of first edge in the queue.
+    private int size = 0;     // Number of edges in the queue.
+
+    @Override
+    public boolean isEmpty() {
+      return size == 0;
+    }
+
+    @Override
+    public void insert(long edge) {
+      if (size == edges.length) {
+        long[] newEdges = Arrays.copyOf(edges, 2 * size);
+        // move wrapped part after the old end of the array
+        System.arraycopy(edges, 0, newEdges, size, first);
+        edges = newEdges;
+      }
+      edges[(first + size) & (edges.length - 1)] = edge;
+      size++;
+    }
+
+    @Override
+    public long extract() {
+      long edge = edges[first];
+      first = (first + 1) & (edges.length - 1);
+      size--;
+      return edge;
+    }
+  }
+
+  /**
+   * Provides the concrete implementation of the template method from the {@code IndexedTraversal}
+   * superclass, returning a new FIFO store.
+   *
+   * @return a new FIFO {@code EdgeStore} instance.
+   */
+  @Override
+  EdgeStore newStore() {
+    return new FIFOStore();
+  }
+}
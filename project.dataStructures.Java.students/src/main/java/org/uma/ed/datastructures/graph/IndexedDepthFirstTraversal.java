@@ -0,0 +1,76 @@
+package org.uma.ed.datastructures.graph;
+
+import java.util.Arrays;
+
+/**
+ * An implementation of the {@link IndexedTraversal} framework that performs a Depth-First Search
+ * (DFS), visiting vertices in the same order as {@link DepthFirstTraversal}.
+ * <p>
+ * This class achieves the DFS strategy by providing a LIFO (Last-In-First-Out) store of edges,
+ * implemented as an array of {@code long}s.
+ *
+ * @param <V> The type of the elements (vertices) in the traversable structure.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class IndexedDepthFirstTraversal<V> extends IndexedTraversal<V> {
+
+  /**
+   * Constructs a new {@code IndexedDepthFirstTraversal} starting from a given source vertex.
+   *
+   * @param traversable the graph-like data structure to be traversed.
+   * @param source      the starting vertex for the traversal.
+   */
+  public IndexedDepthFirstTraversal(Traversable<V> traversable, V source) {
+    super(traversable, source);
+  }
+
+  /**
+   * Factory method to create an {@code IndexedDepthFirstTraversal} instance.
+   *
+   * @param <V>         the type of elements in the structure.
+   * @param traversable the data structure to be traversed.
+   * @param source      the starting point for the traversal.
+   * @return a new {@code IndexedDepthFirstTraversal} object ready for iteration.
+   */
+  public static <V> IndexedDepthFirstTraversal<V> of(Traversable<V> traversable, V source) {
+    return new IndexedDepthFirstTraversal<>(traversable, source);
+  }
+
+  /**
+   * A LIFO store of edges in an array, which is doubled when full.
+   */
+  private static final class LIFOStore implements EdgeStore {
+    private long[] edges = new long[16];
+    private int size = 0;     // Number of edges in the stack.
+
+    @Override
+    public boolean isEmpty() {
+      return size == 0;
+    }
+
+    @Override
+    public void insert(long edge) {
+      if (size == edges.length) {
+        edges = Arrays.copyOf(edges, 2 * size);
+      }
+      edges[size++] = edge;
+    }
+
+    @Override
+    public long extract() {
+      return edges[--size];
+    }
+  }
+
+  /**
+   * Provides the concrete implementation of the template method from the {@code IndexedTraversal}
+   * superclass, returning a new LIFO store.
+   *
+   * @return a new LIFO {@code EdgeStore} instance.
+   */
+  @Override
+  EdgeStore newStore() {
+    return new LIFOStore();
+  }
+}
@@ -0,0 +1,216 @@
+package org.uma.ed.datastructures.graph;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+
+/**
+ * A version of the {@link Traversal} framework that keeps the state of the traversal in arrays indexed
+ * by vertex identifiers.
+ * <p>
+ * The structure is first converted, once, into a {@link CSRGraph}: a {@code CSRGraph} is used
+ * directly, and any other {@link Traversable} is replaced by the part of it reachable from the source
+ * (see {@link CSRGraph#reachableFrom}), which hashes each vertex and edge once. From then on, every
+ * traversal only handles identifiers: visited vertices are recorded in a {@code boolean[]}, the
+ * predecessor of each visited vertex in an {@code int[]}, successors are scanned in the arc arrays of
+ * the graph, and the edges waiting to be explored are stored as pairs of identifiers packed in
+ * {@code long}s. Thus, exploring an edge hashes nothing, whereas {@link Traversal} hashes its
+ * destination when checking and updating its visited set and its dictionary of sources. Vertices are
+ * translated back from identifiers only when they are returned.
+ * <p>
+ * As in {@link Traversal}, the traversal order is given by the store returned by {@link #newStore()}.
+ * Successors of each vertex are explored in order of identifier, so over a {@code CSRGraph}, vertices
+ * and paths are visited in the same order as by the corresponding {@link Traversal}. Over other
+ * structures, ties are broken by the order in which vertices were found while building the graph.
+ *
+ * @param <V> The type of the elements (vertices) in the traversable structure.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public abstract class IndexedTraversal<V> {
+  private final CSRGraph<V> graph;          // The structure to be traversed, over identifiers.
+  private final int sourceId;               // Identifier of the starting vertex for the traversal.
+
+  /**
+   * Constructs a new IndexedTraversal object.
+   * <p> Time complexity: O(1) for a {@code CSRGraph}, O(n + m log m) for other structures.
+   *
+   * @param traversable The data structure to be traversed.
+   * @param source      The starting point for the traversal.
+   * @throws GraphException if {@code traversable} is a {@code CSRGraph} that does not contain {@code source}.
+   */
+  public IndexedTraversal(Traversable<V> traversable, V source) {
+    if (traversable instanceof CSRGraph<V> csrGraph) {
+      this.graph = csrGraph;
+      this.sourceId = csrGraph.idOf(source);
+    } else {
+      this.graph = CSRGraph.reachableFrom(traversable, source);
+      this.sourceId = 0;
+    }
+  }
+
+  /**
+   * A store of edges, each one represented by the identifiers of its source and destination packed in
+   * a {@code long}.
+   */
+  interface EdgeStore {
+    boolean isEmpty();
+
+    void insert(long edge);
+
+    long extract();
+  }
+
+  /**
+   * Packs an edge from {@code source} to {@code destination} in a {@code long}.
+   */
+  static long edge(int source, int destination) {
+    return ((long) source << 32) | (destination & 0xFFFFFFFFL);
+  }
+
+  private static int edgeSource(long edge) {
+    return (int) (edge >>> 32);
+  }
+
+  private static int edgeDestination(long edge) {
+    return (int) edge;
+  }
+
+  /**
+   * Abstract template method that must be implemented by concrete subclasses, providing the store that
+   * defines the traversal strategy, as {@link Traversal#newStore()} does.
+   *
+   * @return A new, empty {@code EdgeStore} instance that dictates the traversal order.
+   */
+  abstract EdgeStore newStore();
+
+  /**
+   * Provides the shared, core logic for all traversal iterators.
+   * It uses a "lookahead" mechanism (`nextVertex`) to implement `hasNext()` and `next()`.
+   */
+  private abstract class BaseIterator {
+    protected final boolean[] visited; // Whether each vertex has been visited.
+    protected final int[] sources;     // Predecessor of each visited vertex on the traversal path.
+    protected final EdgeStore store;   // The "fringe" of the traversal, holding edges to explore.
+    protected int nextVertex;          // The next vertex to be yielded by the iterator, or -1.
+
+    public BaseIterator() {
+      this.visited = new boolean[graph.numberOfVertices()];
+      this.sources = new int[visited.length];
+      this.store = newStore();
+
+      // Start the traversal by adding the source vertex to the store. It is its own predecessor.
+      this.store.insert(edge(sourceId, sourceId));
+
+      // Find the first vertex to yield.
+      advanceTraversal();
+    }
+
+    /**
+     * The engine of the traversal. It repeatedly extracts edges from the store until it
+     * finds an unvisited vertex. This vertex becomes the next result of the iterator.
+     */
+    protected void advanceTraversal() {
+      nextVertex = -1;
+      while (!store.isEmpty() && nextVertex < 0) {
+        long edge = store.extract();
+        int vertex = edgeDestination(edge);
+
+        if (!visited[vertex]) {
+          // Found a new vertex to visit.
+          nextVertex = vertex;
+          visited[vertex] = true;
+          sources[vertex] = edgeSource(edge);
+
+          // Add all unvisited successors of this new vertex to the store for future exploration.
+          for (int arc = graph.arcStart(vertex); arc < graph.arcEnd(vertex); arc++) {
+            int successor = graph.arcTarget(arc);
+            if (!visited[successor]) {
+              store.insert(edge(vertex, successor));
+            }
+          }
+        }
+      }
+    }
+
+    public boolean hasNext() {
+      return nextVertex >= 0;
+    }
+  }
+
+  /**
+   * An iterator that yields the vertices of the graph in the order of traversal.
+   */
+  private final class VerticesIterator extends BaseIterator implements Iterator<V> {
+    @Override
+    public V next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      V vertexToReturn = graph.vertex(nextVertex);
+      advanceTraversal(); // Prepare for the next call.
+      return vertexToReturn;
+    }
+  }
+
+  /**
+   * Returns an iterator over the vertices in the traversal order.
+   */
+  public Iterator<V> verticesIterator() {
+    return new VerticesIterator();
+  }
+
+  /**
+   * Returns an {@code Iterable} of the vertices in the traversal order.
+   */
+  public Iterable<V> vertices() {
+    return this::verticesIterator;
+  }
+
+  /**
+   * An iterator that yields the paths from the source to each vertex in the order of traversal.
+   */
+  private final class PathsIterator extends BaseIterator implements Iterator<List<V>> {
+
+    /**
+     * Reconstructs the path from the initial traversal source to a given vertex
+     * by backtracking using the `sources` array.
+     */
+    private List<V> pathTo(int vertex) {
+      List<V> path = JDKArrayList.empty();
+      int current = vertex;
+      // Backtrack from vertex to the source, which is its own predecessor.
+      while (sources[current] != current) {
+        path.prepend(graph.vertex(current));
+        current = sources[current];
+      }
+      path.prepend(graph.vertex(current)); // Add the source at the beginning.
+      return path;
+    }
+
+    @Override
+    public List<V> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      List<V> pathToReturn = pathTo(nextVertex);
+      advanceTraversal(); // Prepare for the next call.
+      return pathToReturn;
+    }
+  }
+
+  /**
+   * Returns an iterator over the paths from the source to each vertex.
+   */
+  public Iterator<List<V>> pathsIterator() {
+    return new PathsIterator();
+  }
+
+  /**
+   * Returns an {@code Iterable} of the paths from the source to each vertex.
+   */
+  public Iterable<List<V>> paths() {
+    return this::pathsIterator;
+  }
+}
@@ -0,0 +1,183 @@
+package org.uma.ed.datastructures.graph;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import org.uma.ed.datastructures.heap.IndexedMinHeap;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+
+/**
+ * Minimum spanning trees of undirected weighted graphs, using Kruskal's and Prim's algorithms.
+ * <p>
+ * Weights are compared with a {@link Comparator}, so they can be of any type. If the graph is not
+ * connected, both algorithms compute a minimum spanning forest, with a minimum spanning tree for each
+ * connected component.
+ * <p>
+ * Both algorithms start by numbering vertices with a {@link VertexIndex} and sorting all edges by
+ * weight, with {@link Arrays#parallelSort(Object[], Comparator)}, which splits large arrays among the
+ * threads of the common fork-join pool. Kruskal's algorithm then scans edges in order, keeping those that
+ * join two different components of a disjoint-set forest (see {@link DisjointSetForest}). Prim's
+ * algorithm grows a tree from a vertex, using an {@link IndexedMinHeap} of vertices out of the tree
+ * whose priority is the position in sorted order of the lightest edge joining them to the tree. Using
+ * positions as priorities, Prim's algorithm only compares weights while sorting.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public final class MinimumSpanningTree {
+  private MinimumSpanningTree() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  /**
+   * An edge between vertices given by their identifiers.
+   */
+  private record IdEdge<W>(int vertex1, int vertex2, W weight) {
+  }
+
+  /**
+   * Edges of a graph over identifiers, sorted by weight.
+   */
+  private record SortedEdges<V, W>(VertexIndex<V> index, IdEdge<W>[] edges) {
+    WeightedEdge<V, W> weightedEdge(int position) {
+      IdEdge<W> edge = edges[position];
+      return WeightedEdge.of(index.vertex(edge.vertex1()), index.vertex(edge.vertex2()), edge.weight());
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static <V, W> SortedEdges<V, W> sortedEdges(WeightedGraph<V, W> weightedGraph, Comparator<W> comparator) {
+    VertexIndex<V> index = VertexIndex.from(weightedGraph.vertices());
+    IdEdge<W>[] edges = new IdEdge[Math.max(16, weightedGraph.numberOfEdges())];
+    int numberOfEdges = 0;
+    for (int u = 0; u < index.size(); u++) {
+      for (WeightedGraph.Successor<V, W> successor : weightedGraph.successors(index.vertex(u))) {
+        int v = index.idOf(successor.vertex());
+        // each edge is found from both endpoints, and loops are useless
+        if (u < v) {
+          if (numberOfEdges == edges.length) {
+            edges = Arrays.copyOf(edges, 2 * numberOfEdges);
+          }
+          edges[numberOfEdges++] = new IdEdge<>(u, v, successor.weight());
+        }
+      }
+    }
+    edges = Arrays.copyOf(edges, numberOfEdges);
+    Arrays.parallelSort(edges, (edge1, edge2) -> comparator.compare(edge1.weight(), edge2.weight()));
+    return new SortedEdges<>(index, edges);
+  }
+
+  /**
+   * Computes a minimum spanning tree (or forest) of a weighted graph, using Kruskal's algorithm.
+   * <p> Time complexity: O(m log m)
+   *
+   * @param <V>           the type of the vertices.
+   * @param <W>           the type of the weights.
+   * @param weightedGraph the undirected weighted graph.
+   * @param comparator    the comparator defining the order of weights.
+   * @return a set with the edges of a minimum spanning forest of {@code weightedGraph}.
+   */
+  public static <V, W> Set<WeightedEdge<V, W>> kruskal(WeightedGraph<V, W> weightedGraph, Comparator<W> comparator) {
+    SortedEdges<V, W> sortedEdges = sortedEdges(weightedGraph, comparator);
+    int numberOfVertices = sortedEdges.index().size();
+    DisjointSetForest components = DisjointSetForest.withSingletons(numberOfVertices);
+    Set<WeightedEdge<V, W>> tree = JDKHashSet.withCapacity(Math.max(1, numberOfVertices));
+    IdEdge<W>[] edges = sortedEdges.edges();
+    // a forest with c components has n - c edges, so stop when a single component is left
+    for (int position = 0; position < edges.length && components.numberOfSets() > 1; position++) {
+      if (components.union(edges[position].vertex1(), edges[position].vertex2())) {
+        tree.insert(sortedEdges.weightedEdge(position));
+      }
+    }
+    return tree;
+  }
+
+  /**
+   * Computes a minimum spanning tree (or forest) of a weighted graph with comparable weights, using
+   * Kruskal's algorithm.
+   * <p> Time complexity: O(m log m)
+   *
+   * @param <V>           the type of the vertices.
+   * @param <W>           the type of the weights.
+   * @param weightedGraph the undirected weighted graph.
+   * @return a set with the edges of a minimum spanning forest of {@code weightedGraph}.
+   */
+  public static <V, W extends Comparable<? super W>> Set<WeightedEdge<V, W>> kruskal(WeightedGraph<V, W> weightedGraph) {
+    return kruskal(weightedGraph, Comparator.naturalOrder());
+  }
+
+  /**
+   * Computes a minimum spanning tree (or forest) of a weighted graph, using Prim's algorithm.
+   * <p> Time complexity: O(m log m)
+   *
+   * @param <V>           the type of the vertices.
+   * @param <W>           the type of the weights.
+   * @param weightedGraph the undirected weighted graph.
+   * @param comparator    the comparator defining the order of weights.
+   * @return a set with the edges of a minimum spanning forest of {@code weightedGraph}.
+   */
+  public static <V, W> Set<WeightedEdge<V, W>> prim(WeightedGraph<V, W> weightedGraph, Comparator<W> comparator) {
+    SortedEdges<V, W> sortedEdges = sortedEdges(weightedGraph, comparator);
+    int numberOfVertices = sortedEdges.index().size();
+    IdEdge<W>[] edges = sortedEdges.edges();
+
+    // incident edges of each vertex, as positions in sorted order
+    int[] offsets = new int[numberOfVertices + 1];
+    for (IdEdge<W> edge : edges) {
+      offsets[edge.vertex1() + 1]++;
+      offsets[edge.vertex2() + 1]++;
+    }
+    for (int u = 0; u < numberOfVertices; u++) {
+      offsets[u + 1] += offsets[u];
+    }
+    int[] next = Arrays.copyOf(offsets, numberOfVertices);
+    int[] incidentEdges = new int[2 * edges.length];
+    for (int position = 0; position < edges.length; position++) {
+      incidentEdges[next[edges[position].vertex1()]++] = position;
+      incidentEdges[next[edges[position].vertex2()]++] = position;
+    }
+
+    boolean[] inTree = new boolean[numberOfVertices];
+    int[] lightestEdges = new int[numberOfVertices];  // Lightest edge joining each vertex to the tree.
+    IndexedMinHeap priorityQueue = IndexedMinHeap.withCapacity(numberOfVertices);
+    Set<WeightedEdge<V, W>> tree = JDKHashSet.withCapacity(Math.max(1, numberOfVertices));
+    for (int root = 0; root < numberOfVertices; root++) {
+      if (inTree[root]) {
+        continue;
+      }
+      // grow a tree for the component of root
+      inTree[root] = true;
+      int vertex = root;
+      while (true) {
+        for (int i = offsets[vertex]; i < offsets[vertex + 1]; i++) {
+          int position = incidentEdges[i];
+          IdEdge<W> edge = edges[position];
+          int other = edge.vertex1() == vertex ? edge.vertex2() : edge.vertex1();
+          if (!inTree[other] && priorityQueue.insertOrDecrease(other, position)) {
+            lightestEdges[other] = position;
+          }
+        }
+        if (priorityQueue.isEmpty()) {
+          break;
+        }
+        vertex = priorityQueue.deleteMinimum();
+        inTree[vertex] = true;
+        tree.insert(sortedEdges.weightedEdge(lightestEdges[vertex]));
+      }
+    }
+    return tree;
+  }
+
+  /**
+   * Computes a minimum spanning tree (or forest) of a weighted graph with comparable weights, using
+   * Prim's algorithm.
+   * <p> Time complexity: O(m log m)
+   *
+   * @param <V>           the type of the vertices.
+   * @param <W>           the type of the weights.
+   * @param weightedGraph the undirected weighted graph.
+   * @return a set with the edges of a minimum spanning forest of {@code weightedGraph}.
+   */
+  public static <V, W extends Comparable<? super W>> Set<WeightedEdge<V, W>> prim(WeightedGraph<V, W> weightedGraph) {
+    return prim(weightedGraph, Comparator.naturalOrder());
+  }
+}
@@ -0,0 +1,349 @@
+package org.uma.ed.datastructures.graph;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+
+/**
+ * A utility class for computing breadth-first search trees of large graphs in parallel.
+ * <p>
+ * The search is level-synchronous: all vertices at distance {@code d} from the source (the frontier)
+ * are expanded in parallel on a {@link ForkJoinPool} before any vertex at distance {@code d + 1}. It
+ * runs over a {@link CSRGraph}, so that vertices are integer identifiers and the search state is kept
+ * in primitive arrays rather than in dictionaries and sets of vertices, as {@link BreadthFirstTraversal}
+ * does.
+ * <p>
+ * Each level is expanded in one of two directions (direction-optimizing search, by Beamer, Asanović and
+ * Patterson):
+ * <ul>
+ *     <li>Top-down: the frontier is a queue of identifiers, and arcs leaving each vertex in it are
+ *     scanned. Unvisited targets are claimed with an atomic compare-and-set on their parent, so that
+ *     each vertex joins the next frontier exactly once.</li>
+ *     <li>Bottom-up: the frontier is a bitmap, and each unvisited vertex scans arcs entering it until it
+ *     finds a parent in the frontier. Each unvisited vertex is handled by a single task, so no atomic
+ *     operations are needed, and the scan stops at the first parent found.</li>
+ * </ul>
+ * Top-down steps are cheap while the frontier is small, but in low-diameter graphs the frontier soon
+ * covers a large fraction of arcs, most of which lead to already visited vertices. The search switches
+ * to bottom-up when arcs leaving the frontier exceed {@code 1 / ALPHA} of the arcs leaving unvisited
+ * vertices, and back to top-down once the frontier shrinks below {@code 1 / BETA} of the vertices.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public final class ParallelBreadthFirstSearch {
+
+  private static final int ALPHA = 14;          // Switch to bottom-up when mf > mu / ALPHA.
+  private static final int BETA = 24;           // Switch to top-down when nf < n / BETA.
+
+  private static final VarHandle INTS = MethodHandles.arrayElementVarHandle(int[].class);
+  private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private ParallelBreadthFirstSearch() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  /**
+   * Computes a breadth-first search tree of a graph from a source vertex, using the common
+   * {@link ForkJoinPool}.
+   * <p> Time complexity: O(n + m) work.
+   *
+   * @param <V>    the type of the vertices.
+   * @param graph  the graph to search.
+   * @param source the source vertex.
+   * @return distances and parents of all vertices in the search tree.
+   * @throws GraphException if {@code source} is not in the graph.
+   */
+  public static <V> Result<V> search(CSRGraph<V> graph, V source) {
+    return search(graph, source, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Computes a breadth-first search tree of a graph from a source vertex, using a given
+   * {@link ForkJoinPool}.
+   * <p> Time complexity: O(n + m) work.
+   *
+   * @param <V>    the type of the vertices.
+   * @param graph  the graph to search.
+   * @param source the source vertex.
+   * @param pool   the pool where levels are expanded.
+   * @return distances and parents of all vertices in the search tree.
+   * @throws GraphException if {@code source} is not in the graph.
+   */
+  public static <V> Result<V> search(CSRGraph<V> graph, V source, ForkJoinPool pool) {
+    int sourceId = graph.idOf(source);
+    Search search = new Search(graph, pool);
+    search.run(sourceId);
+    return new Result<>(graph, sourceId, search.distances, search.parents);
+  }
+
+  /**
+   * Result of a breadth-first search: distance from the source and parent in the search tree of each
+   * vertex.
+   *
+   * @param <V> the type of the vertices.
+   */
+  public static final class Result<V> {
+    private final CSRGraph<V> graph;
+    private final int source;
+    private final int[] distances;
+    private final int[] parents;
+
+    /*
+     * INVARIANT:
+     *  - distances[source] == 0 and parents[source] == source.
+     *  - For any other vertex v reachable from source, distances[v] == distances[parents[v]] + 1 and
+     *    there is an arc from parents[v] to v.
+     *  - For any vertex v not reachable from source, distances[v] == parents[v] == -1.
+     */
+
+    private Result(CSRGraph<V> graph, int source, int[] distances, int[] parents) {
+      this.graph = graph;
+      this.source = source;
+      this.distances = distances;
+      this.parents = parents;
+    }
+
+    /**
+     * Returns the source vertex of the search.
+     * <p> Time complexity: O(1)
+     *
+     * @return the source vertex.
+     */
+    public V source() {
+      return graph.vertex(source);
+    }
+
+    /**
+     * Returns number of edges in a shortest path from the source to each vertex, indexed by identifier in
+     * the graph, or -1 for unreachable vertices.
+     * <p> Time complexity: O(n)
+     *
+     * @return a new array with the distance to each vertex.
+     */
+    public int[] distances() {
+      return distances.clone();
+    }
+
+    /**
+     * Returns the identifier of the parent of each vertex in the search tree, indexed by identifier in
+     * the graph. The source is its own parent, and unreachable vertices have -1 as parent.
+     * <p> Time complexity: O(n)
+     *
+     * @return a new array with the parent of each vertex.
+     */
+    public int[] parents() {
+      return parents.clone();
+    }
+
+    /**
+     * Checks whether a vertex is reachable from the source.
+     * <p> Time complexity: O(1) on average.
+     *
+     * @param vertex the vertex to check.
+     * @return {@code true} if there is a path from the source to {@code vertex}.
+     * @throws GraphException if {@code vertex} is not in the graph.
+     */
+    public boolean isReachable(V vertex) {
+      return distances[graph.idOf(vertex)] >= 0;
+    }
+
+    /**
+     * Returns number of edges in a shortest path from the source to a vertex.
+     * <p> Time complexity: O(1) on average.
+     *
+     * @param vertex the destination vertex.
+     * @return the distance from the source to {@code vertex}, or -1 if it is not reachable.
+     * @throws GraphException if {@code vertex} is not in the graph.
+     */
+    public int distanceTo(V vertex) {
+      return distances[graph.idOf(vertex)];
+    }
+
+    /**
+     * Returns a shortest path from the source to a vertex, following parents in the search tree.
+     * <p> Time complexity: O(d), where d is the distance to the vertex.
+     *
+     * @param vertex the destination vertex.
+     * @return a list with the vertices in the path, starting at the source and ending at {@code vertex},
+     * or an empty list if {@code vertex} is not reachable.
+     * @throws GraphException if {@code vertex} is not in the graph.
+     */
+    public List<V> pathTo(V vertex) {
+      int id = graph.idOf(vertex);
+      if (distances[id] < 0) {
+        return JDKArrayList.empty();
+      }
+      @SuppressWarnings("unchecked")
+      V[] path = (V[]) new Object[distances[id] + 1];
+      for (int i = path.length - 1; i >= 0; i--) {
+        path[i] = graph.vertex(id);
+        id = parents[id];
+      }
+      return JDKArrayList.of(path);
+    }
+  }
+
+  /**
+   * State of a search over a graph.
+   */
+  private static final class Search {
+    private final CSRGraph<?> graph;
+    private final ForkJoinPool pool;
+    private final int numberOfVertices;
+    private final int[] distances;
+    private final int[] parents;
+    private CSRGraph<?> transpose;            // Computed on first bottom-up step.
+
+    private int level;                        // Distance of vertices in current frontier.
+    private int[] queue;                      // Current frontier in top-down steps.
+    private int[] nextQueue;                  // Buffer for next frontier in top-down steps.
+    private long[] bitmap;                    // Current frontier in bottom-up steps.
+    private int frontierSize;                 // Number of vertices in current frontier.
+
+    // Results of a step.
+    private final AtomicInteger nextSize = new AtomicInteger();
+    private final AtomicLong nextArcs = new AtomicLong();
+
+    Search(CSRGraph<?> graph, ForkJoinPool pool) {
+      this.graph = graph;
+      this.pool = pool;
+      this.numberOfVertices = graph.numberOfVertices();
+      this.distances = new int[numberOfVertices];
+      this.parents = new int[numberOfVertices];
+      Arrays.fill(distances, -1);
+      Arrays.fill(parents, -1);
+    }
+
+    void run(int source) {
+      distances[source] = 0;
+      parents[source] = source;
+      level = 0;
+      queue = new int[]{source};
+      frontierSize = 1;
+      boolean bottomUp = false;
+      long frontierArcs = graph.outDegree(source);          // mf: arcs leaving the frontier.
+      long unexploredArcs = graph.numberOfArcs() - frontierArcs;  // mu: arcs leaving unvisited vertices.
+      int previousSize = 0;
+      while (frontierSize > 0) {
+        if (!bottomUp && frontierArcs > unexploredArcs / ALPHA) {
+          bitmap = queueToBitmap();
+          bottomUp = true;
+        } else if (bottomUp && frontierSize < numberOfVertices / BETA && frontierSize < previousSize) {
+          queue = bitmapToQueue();
+          bottomUp = false;
+        }
+        nextSize.set(0);
+        nextArcs.set(0);
+        if (bottomUp) {
+          bottomUpStep();
+        } else {
+          topDownStep();
+        }
+        previousSize = frontierSize;
+        frontierSize = nextSize.get();
+        frontierArcs = nextArcs.get();
+        unexploredArcs -= frontierArcs;
+        level++;
+      }
+    }
+
+    private void topDownStep() {
+      int[] frontier = queue;
+      if (nextQueue == null) {
+        nextQueue = new int[numberOfVertices];
+      }
+      int[] next = nextQueue;
+      int nextDistance = level + 1;
+      pool.invoke(new RangeTask(0, frontierSize, (from, until) -> {
+        int[] found = new int[16];
+        int numFound = 0;
+        long arcs = 0;
+        for (int i = from; i < until; i++) {
+          int u = frontier[i];
+          for (int arc = graph.arcStart(u); arc < graph.arcEnd(u); arc++) {
+            int v = graph.arcTarget(arc);
+            if (parents[v] < 0 && INTS.compareAndSet(parents, v, -1, u)) {
+              distances[v] = nextDistance;
+              if (numFound == found.length) {
+                found = Arrays.copyOf(found, 2 * numFound);
+              }
+              found[numFound++] = v;
+              arcs += graph.outDegree(v);
+            }
+          }
+        }
+        if (numFound > 0) {
+          System.arraycopy(found, 0, next, nextSize.getAndAdd(numFound), numFound);
+          nextArcs.addAndGet(arcs);
+        }
+      }));
+      nextQueue = frontier.length == numberOfVertices ? frontier : null;
+      queue = next;
+    }
+
+    private void bottomUpStep() {
+      if (transpose == null) {
+        transpose = graph.transpose();
+      }
+      long[] frontier = bitmap;
+      long[] next = new long[frontier.length];
+      int nextDistance = level + 1;
+      pool.invoke(new RangeTask(0, numberOfVertices, (from, until) -> {
+        int numFound = 0;
+        long arcs = 0;
+        for (int v = from; v < until; v++) {
+          if (parents[v] < 0) {
+            for (int arc = transpose.arcStart(v); arc < transpose.arcEnd(v); arc++) {
+              int u = transpose.arcTarget(arc);
+              if ((frontier[u >>> 6] & (1L << u)) != 0) {
+                parents[v] = u;
+                distances[v] = nextDistance;
+                next[v >>> 6] |= 1L << v;  // only this task writes this word
+                numFound++;
+                arcs += graph.outDegree(v);
+                break;
+              }
+            }
+          }
+        }
+        if (numFound > 0) {
+          nextSize.addAndGet(numFound);
+          nextArcs.addAndGet(arcs);
+        }
+      }));
+      bitmap = next;
+    }
+
+    private long[] queueToBitmap() {
+      int[] frontier = queue;
+      long[] words = new long[(numberOfVertices + 63) >>> 6];
+      pool.invoke(new RangeTask(0, frontierSize, (from, until) -> {
+        for (int i = from; i < until; i++) {
+          int v = frontier[i];
+          LONGS.getAndBitwiseOr(words, v >>> 6, 1L << v);
+        }
+      }));
+      return words;
+    }
+
+    private int[] bitmapToQueue() {
+      int[] frontier = nextQueue != null ? nextQueue : new int[numberOfVertices];
+      nextQueue = null;
+      int size = 0;
+      for (int i = 0; i < bitmap.length; i++) {
+        for (long word = bitmap[i]; word != 0; word &= word - 1) {
+          frontier[size++] = 64 * i + Long.numberOfTrailingZeros(word);
+        }
+      }
+      return frontier;
+    }
+  }
+}
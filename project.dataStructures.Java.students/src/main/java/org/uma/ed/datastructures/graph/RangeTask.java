@@ -0,0 +1,46 @@
+package org.uma.ed.datastructures.graph;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * A fork-join task running a body over a range of indices {@code [from, until)}, by recursively
+ * splitting the range at multiples of a grain until pieces are no larger than the grain. The grain is a
+ * multiple of 64, so if {@code from} is a multiple of 64, no two pieces share a word of a bitmap.
+ * <p>
+ * Used by the parallel graph algorithms in this package, {@link ParallelBreadthFirstSearch} and
+ * {@link DeltaStepping}, to process frontiers of vertices.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+final class RangeTask extends RecursiveAction {
+  private static final long serialVersionUID = -3318463075260418532L;
+
+  static final int GRAIN = 1024;        // Indices handled sequentially by a task. Multiple of 64.
+
+  /**
+   * Body of a task over a range of indices.
+   */
+  @FunctionalInterface
+  interface RangeBody {
+    void run(int from, int until);
+  }
+
+  private final int from, until;
+  private final transient RangeBody body;   // Tasks are never serialized, and bodies are lambdas.
+
+  RangeTask(int from, int until, RangeBody body) {
+    this.from = from;
+    this.until = until;
+    this.body = body;
+  }
+
+  @Override
+  protected void compute() {
+    if (until - from <= GRAIN) {
+      body.run(from, until);
+    } else {
+      int middle = from + Math.max(GRAIN, (until - from) / 2 / GRAIN * GRAIN);
+      invokeAll(new RangeTask(from, middle, body), new RangeTask(middle, until, body));
+    }
+  }
+}
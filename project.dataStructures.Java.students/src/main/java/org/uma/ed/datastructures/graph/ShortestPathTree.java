@@ -0,0 +1,140 @@
+package org.uma.ed.datastructures.graph;
+
+import org.uma.ed.datastructures.dictionary.Dictionary;
+import org.uma.ed.datastructures.dictionary.JDKHashDictionary;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.tuple.Tuple2;
+
+/**
+ * Shortest paths from a source vertex to all vertices reachable from it in a weighted graph, as computed
+ * by {@link Dijkstra#shortestPathTree}.
+ * <p>
+ * Rather than storing a full path for each vertex, the tree keeps the cost of a shortest path to each
+ * reachable vertex and its predecessor in that path. As every prefix of a shortest path is also a
+ * shortest path, following predecessors from a vertex back to the source yields a shortest path to it.
+ * Thus, the tree takes O(n) space, and a path is only built when requested by {@link #pathTo}, in time
+ * proportional to its length.
+ *
+ * @param <V> the type of the vertices.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public final class ShortestPathTree<V> {
+  private final V source;
+  private final Dictionary<V, Integer> costs;         // Cost of a shortest path to each reachable vertex.
+  private final Dictionary<V, V> predecessors;        // Predecessor of each reachable vertex in its path.
+
+  /*
+   * INVARIANT:
+   *  - costs and predecessors are defined for the same vertices, which are those reachable from source.
+   *  - costs.valueOf(source) == 0 and predecessors.valueOf(source) == source.
+   *  - For any other reachable vertex v with predecessor u, there is an edge from u to v with weight w, and
+   *    costs.valueOf(v) == costs.valueOf(u) + w.
+   */
+
+  /**
+   * Constructs a shortest path tree from the costs and predecessors of reachable vertices.
+   *
+   * @param source       the source vertex.
+   * @param costs        the cost of a shortest path to each reachable vertex.
+   * @param predecessors the predecessor of each reachable vertex in its shortest path.
+   */
+  ShortestPathTree(V source, Dictionary<V, Integer> costs, Dictionary<V, V> predecessors) {
+    this.source = source;
+    this.costs = costs;
+    this.predecessors = predecessors;
+  }
+
+  /**
+   * Returns the cost of a shortest path to each reachable vertex. Used by {@link Dijkstra}.
+   */
+  Dictionary<V, Integer> costs() {
+    return costs;
+  }
+
+  /**
+   * Returns the cost of and a shortest path to each reachable vertex. Used by {@link Dijkstra}.
+   */
+  Dictionary<V, Tuple2<Integer, List<V>>> costsAndPaths() {
+    Dictionary<V, Tuple2<Integer, List<V>>> paths = JDKHashDictionary.withCapacity(Math.max(1, costs.size()));
+    for (V vertex : costs.keys()) {
+      paths.insert(vertex, Tuple2.of(costs.valueOf(vertex), pathTo(vertex)));
+    }
+    return paths;
+  }
+
+  /**
+   * Returns the source vertex of this tree.
+   * <p> Time complexity: O(1)
+   *
+   * @return the source vertex.
+   */
+  public V source() {
+    return source;
+  }
+
+  /**
+   * Returns the vertices reachable from the source.
+   * <p> Time complexity: O(1)
+   *
+   * @return an {@code Iterable} over the vertices reachable from the source.
+   */
+  public Iterable<V> reachableVertices() {
+    return costs.keys();
+  }
+
+  /**
+   * Checks whether a vertex is reachable from the source.
+   * <p> Time complexity: O(1) on average.
+   *
+   * @param vertex the vertex to check.
+   * @return {@code true} if there is a path from the source to {@code vertex}.
+   */
+  public boolean isReachable(V vertex) {
+    return costs.isDefinedAt(vertex);
+  }
+
+  /**
+   * Returns the cost of a shortest path from the source to a vertex.
+   * <p> Time complexity: O(1) on average.
+   *
+   * @param vertex the destination vertex.
+   * @return the cost of a shortest path to {@code vertex}, or {@code null} if it is not reachable.
+   */
+  public Integer distanceTo(V vertex) {
+    return costs.valueOf(vertex);
+  }
+
+  /**
+   * Returns a shortest path from the source to a vertex, by backtracking through predecessors.
+   * <p> Time complexity: O(d), where d is the number of vertices in the path.
+   *
+   * @param vertex the destination vertex.
+   * @return a list with the vertices in the path, starting at the source and ending at {@code vertex},
+   * or an empty list if {@code vertex} is not reachable.
+   */
+  public List<V> pathTo(V vertex) {
+    List<V> path = JDKArrayList.empty();
+    if (!isReachable(vertex)) {
+      return path;
+    }
+    V current = vertex;
+    // Backtrack from vertex to the source, which is its own predecessor.
+    while (!current.equals(source)) {
+      path.prepend(current);
+      current = predecessors.valueOf(current);
+    }
+    path.prepend(source);
+    return path;
+  }
+
+  /**
+   * Returns a string representation of this tree, with the cost of a shortest path to each reachable
+   * vertex.
+   */
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "(source=" + source + ", costs=" + costs + ")";
+  }
+}
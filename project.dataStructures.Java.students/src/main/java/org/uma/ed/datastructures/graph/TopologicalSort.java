@@ -0,0 +1,79 @@
+package org.uma.ed.datastructures.graph;
+
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+
+/**
+ * Topological sorting of directed acyclic graphs, using Kahn's algorithm.
+ * <p>
+ * The algorithm computes the in-degree of every vertex, and repeatedly removes a vertex with no
+ * incoming edges, decrementing in-degrees of its successors. Vertices with in-degree zero wait in a
+ * queue, so they are output in the order they become available. If some vertices are never removed,
+ * they are part of a cycle and the graph has no topological order. In-degrees are kept in an array
+ * indexed by the vertex identifiers of a {@link CSRGraph}, so each vertex and edge is handled once.
+ * Other graphs are first converted with {@link CSRGraph#of(DiGraph)}.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public final class TopologicalSort {
+  private TopologicalSort() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  /**
+   * Computes a topological order of a directed acyclic graph.
+   * <p> Time complexity: O(n + m log m), due to the conversion to a {@code CSRGraph}.
+   *
+   * @param <V>     the type of the vertices.
+   * @param diGraph the directed graph.
+   * @return a list with all vertices of {@code diGraph} such that, for every edge from {@code u} to
+   * {@code v}, {@code u} comes before {@code v}.
+   * @throws GraphException if {@code diGraph} has a cycle.
+   */
+  public static <V> List<V> topologicalSort(DiGraph<V> diGraph) {
+    return topologicalSort(CSRGraph.of(diGraph));
+  }
+
+  /**
+   * Computes a topological order of a directed acyclic {@code CSRGraph}.
+   * <p> Time complexity: O(n + m)
+   *
+   * @param <V>   the type of the vertices.
+   * @param graph the directed graph.
+   * @return a list with all vertices of {@code graph} such that, for every arc from {@code u} to
+   * {@code v}, {@code u} comes before {@code v}.
+   * @throws GraphException if {@code graph} has a cycle, or is undirected and has some edge.
+   */
+  public static <V> List<V> topologicalSort(CSRGraph<V> graph) {
+    int numberOfVertices = graph.numberOfVertices();
+    int[] inDegrees = new int[numberOfVertices];
+    for (int arc = 0; arc < graph.numberOfArcs(); arc++) {
+      inDegrees[graph.arcTarget(arc)]++;
+    }
+    // queue of removed vertices, which is also the resulting order
+    int[] order = new int[numberOfVertices];
+    int head = 0, tail = 0;
+    for (int u = 0; u < numberOfVertices; u++) {
+      if (inDegrees[u] == 0) {
+        order[tail++] = u;
+      }
+    }
+    while (head < tail) {
+      int u = order[head++];
+      for (int arc = graph.arcStart(u); arc < graph.arcEnd(u); arc++) {
+        int v = graph.arcTarget(arc);
+        if (--inDegrees[v] == 0) {
+          order[tail++] = v;
+        }
+      }
+    }
+    if (tail < numberOfVertices) {
+      throw new GraphException("topologicalSort: graph has a cycle.");
+    }
+    List<V> vertices = JDKArrayList.withCapacity(Math.max(1, numberOfVertices));
+    for (int u : order) {
+      vertices.append(graph.vertex(u));
+    }
+    return vertices;
+  }
+}
@@ -0,0 +1,164 @@
+package org.uma.ed.datastructures.graph;
+
+import java.util.Arrays;
+import org.uma.ed.datastructures.dictionary.Dictionary;
+import org.uma.ed.datastructures.dictionary.JDKHashDictionary;
+
+/**
+ * A mapping between vertices of a graph and dense integer identifiers.
+ * <p>
+ * Vertices are interned: the first time a vertex is seen it is given the next free identifier,
+ * starting at 0, and afterwards it is always mapped to the same one. Algorithms can then keep the state
+ * of each vertex (visited flags, costs, predecessors, and so on) in primitive arrays indexed by
+ * identifier, such as {@code boolean[]} or {@code int[]}, rather than in sets and dictionaries of
+ * vertices. Vertices are hashed once when interned or looked up, and translated back from identifiers
+ * with an array access only at the boundary of the algorithm.
+ *
+ * @param <V> the type of the vertices.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public final class VertexIndex<V> {
+  private static final int DEFAULT_INITIAL_CAPACITY = 16;
+
+  private V[] vertices;                           // Vertex with each identifier.
+  private final Dictionary<V, Integer> ids;       // Identifier of each vertex.
+  private int size;                               // Number of interned vertices.
+
+  /*
+   * INVARIANT:
+   *  - Identifiers of interned vertices are 0...size-1.
+   *  - ids maps vertices[i] to i for every i in 0...size-1.
+   */
+
+  @SuppressWarnings("unchecked")
+  private VertexIndex(int initialCapacity) {
+    this.vertices = (V[]) new Object[Math.max(1, initialCapacity)];
+    this.ids = JDKHashDictionary.withCapacity(Math.max(1, initialCapacity));
+    this.size = 0;
+  }
+
+  /**
+   * Creates an empty {@code VertexIndex}.
+   * <p> Time complexity: O(1)
+   *
+   * @param <V> the type of the vertices.
+   * @return an empty {@code VertexIndex}.
+   */
+  public static <V> VertexIndex<V> empty() {
+    return new VertexIndex<>(DEFAULT_INITIAL_CAPACITY);
+  }
+
+  /**
+   * Creates an empty {@code VertexIndex} with room for a given number of vertices.
+   * <p> Time complexity: O(n), where n is the initial capacity.
+   *
+   * @param <V>             the type of the vertices.
+   * @param initialCapacity the number of vertices that can be interned before growing the index.
+   * @return an empty {@code VertexIndex}.
+   */
+  public static <V> VertexIndex<V> withCapacity(int initialCapacity) {
+    return new VertexIndex<>(initialCapacity);
+  }
+
+  /**
+   * Creates a {@code VertexIndex} with the vertices of an iterable, whose identifiers are given in order
+   * of iteration.
+   * <p> Time complexity: O(n)
+   *
+   * @param <V>      the type of the vertices.
+   * @param iterable the vertices to intern.
+   * @return a new {@code VertexIndex} with the vertices of {@code iterable}.
+   */
+  public static <V> VertexIndex<V> from(Iterable<V> iterable) {
+    VertexIndex<V> index = empty();
+    for (V vertex : iterable) {
+      index.intern(vertex);
+    }
+    return index;
+  }
+
+  /**
+   * Returns the number of vertices in this index. Identifiers of vertices are {@code 0...size()-1}.
+   * <p> Time complexity: O(1)
+   *
+   * @return the number of interned vertices.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the identifier of a vertex, interning it with the next free identifier if it was not in this
+   * index.
+   * <p> Time complexity: O(1) on average.
+   *
+   * @param vertex the vertex to intern.
+   * @return the identifier of {@code vertex}.
+   */
+  public int intern(V vertex) {
+    Integer id = ids.valueOf(vertex);
+    if (id != null) {
+      return id;
+    }
+    if (size == vertices.length) {
+      vertices = Arrays.copyOf(vertices, 2 * size);
+    }
+    vertices[size] = vertex;
+    ids.insert(vertex, size);
+    return size++;
+  }
+
+  /**
+   * Returns the identifier of a vertex.
+   * <p> Time complexity: O(1) on average.
+   *
+   * @param vertex the vertex.
+   * @return the identifier of {@code vertex}, or -1 if it is not in this index.
+   */
+  public int idOf(V vertex) {
+    Integer id = ids.valueOf(vertex);
+    return id == null ? -1 : id;
+  }
+
+  /**
+   * Checks whether a vertex is in this index.
+   * <p> Time complexity: O(1) on average.
+   *
+   * @param vertex the vertex.
+   * @return {@code true} if {@code vertex} has been interned, {@code false} otherwise.
+   */
+  public boolean contains(V vertex) {
+    return ids.isDefinedAt(vertex);
+  }
+
+  /**
+   * Returns the vertex with a given identifier.
+   * <p> Time complexity: O(1)
+   *
+   * @param id the identifier.
+   * @return the vertex whose identifier is {@code id}.
+   * @throws IndexOutOfBoundsException if {@code id} is not in {@code 0...size()-1}.
+   */
+  public V vertex(int id) {
+    if (id < 0 || id >= size) {
+      throw new IndexOutOfBoundsException("Identifier " + id + " out of bounds for VertexIndex of size " + size);
+    }
+    return vertices[id];
+  }
+
+  /**
+   * Returns a string representation of this index, with the vertices in order of identifier.
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append("(");
+    for (int id = 0; id < size; id++) {
+      if (id > 0) {
+        sb.append(", ");
+      }
+      sb.append(vertices[id]);
+    }
+    return sb.append(")").toString();
+  }
+}
@@ -0,0 +1,303 @@
+package org.uma.ed.datastructures.heap;
+
+import java.util.Arrays;
+
+/**
+ * A binary min-heap of integer items with {@code long} priorities that supports decreasing the
+ * priority of an item already in the heap.
+ * <p>
+ * Items are integers in {@code 0...capacity-1} (typically, identifiers of vertices in a graph), and each
+ * one can be in the heap at most once. Besides the usual complete binary tree stored in an array
+ * ({@code items}), the heap keeps the priority of each item and its position in the tree in two arrays
+ * indexed by item. This allows {@link #insertOrDecrease} to find an item in the tree in O(1) time and
+ * sift it up in O(log n) time, instead of inserting a new entry as {@link BinaryHeap} would.
+ * <p>
+ * All storage is allocated on construction, so no operation allocates objects or boxes priorities.
+ * This makes the heap suitable for the inner loop of algorithms such as Dijkstra's, where a priority
+ * queue of {@code Comparable} records would allocate one object per relaxed edge.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class IndexedMinHeap {
+  /*
+   * INVARIANT:
+   * - items[0..size-1] represents a complete binary tree, heap-ordered by priorities of items.
+   * - For any item i in the heap, items[positions[i]] == i.
+   * - For any item i not in the heap, positions[i] == -1.
+   */
+
+  private static final int ROOT_INDEX = 0;
+
+  private final int[] items;          // Items in the heap, as a complete binary tree.
+  private final int[] positions;      // Position in items of each item, or -1.
+  private final long[] priorities;    // Priority of each item in the heap.
+  private int size;                   // Number of items in the heap.
+
+  /**
+   * Creates an empty heap for items in {@code 0...capacity-1}.
+   * <p> Time complexity: O(capacity)
+   *
+   * @param capacity number of different items.
+   * @throws IllegalArgumentException if capacity is negative.
+   */
+  public IndexedMinHeap(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("capacity must be non-negative");
+    }
+    this.items = new int[capacity];
+    this.positions = new int[capacity];
+    this.priorities = new long[capacity];
+    Arrays.fill(positions, -1);
+    this.size = 0;
+  }
+
+  /**
+   * Creates an empty heap for items in {@code 0...capacity-1}.
+   * <p> Time complexity: O(capacity)
+   *
+   * @param capacity number of different items.
+   * @return a new empty heap.
+   * @throws IllegalArgumentException if capacity is negative.
+   */
+  public static IndexedMinHeap withCapacity(int capacity) {
+    return new IndexedMinHeap(capacity);
+  }
+
+  /**
+   * Returns the number of different items this heap can store.
+   * <p> Time complexity: O(1)
+   *
+   * @return the capacity of this heap.
+   */
+  public int capacity() {
+    return positions.length;
+  }
+
+  /**
+   * Checks whether this heap is empty.
+   * <p> Time complexity: O(1)
+   *
+   * @return {@code true} if this heap has no items, {@code false} otherwise.
+   */
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Returns the number of items in this heap.
+   * <p> Time complexity: O(1)
+   *
+   * @return the number of items in this heap.
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Removes all items from this heap.
+   * <p> Time complexity: O(n)
+   */
+  public void clear() {
+    for (int i = 0; i < size; i++) {
+      positions[items[i]] = -1;
+    }
+    size = 0;
+  }
+
+  private void checkItem(int item, String operation) {
+    if (item < 0 || item >= positions.length) {
+      throw new IllegalArgumentException(operation + ": item " + item + " is out of range 0..." + (positions.length - 1));
+    }
+  }
+
+  /**
+   * Checks whether an item is in this heap.
+   * <p> Time complexity: O(1)
+   *
+   * @param item the item to check.
+   * @return {@code true} if {@code item} is in this heap, {@code false} otherwise.
+   * @throws IllegalArgumentException if {@code item} is not in {@code 0...capacity-1}.
+   */
+  public boolean contains(int item) {
+    checkItem(item, "contains");
+    return positions[item] >= 0;
+  }
+
+  /**
+   * Returns the priority of an item in this heap.
+   * <p> Time complexity: O(1)
+   *
+   * @param item the item.
+   * @return the priority of {@code item}.
+   * @throws IllegalArgumentException if {@code item} is not in this heap.
+   */
+  public long priority(int item) {
+    if (!contains(item)) {
+      throw new IllegalArgumentException("priority: item " + item + " is not in heap");
+    }
+    return priorities[item];
+  }
+
+  /**
+   * Inserts an item with a given priority, or decreases its priority if it is already in this heap with
+   * a larger one. If it is already in this heap with a priority not larger than the given one, the heap
+   * is not modified.
+   * <p> Time complexity: O(log n)
+   *
+   * @param item     the item.
+   * @param priority the new priority of the item.
+   * @return {@code true} if the heap was modified, {@code false} otherwise.
+   * @throws IllegalArgumentException if {@code item} is not in {@code 0...capacity-1}.
+   */
+  public boolean insertOrDecrease(int item, long priority) {
+    checkItem(item, "insertOrDecrease");
+    int index = positions[item];
+    if (index < 0) {
+      index = size++;
+      items[index] = item;
+      positions[item] = index;
+    } else if (priority >= priorities[item]) {
+      return false;
+    }
+    priorities[item] = priority;
+    heapifyUp(index);
+    return true;
+  }
+
+  /**
+   * Inserts an item with a given priority, or changes its priority if it is already in this heap, whether
+   * the new priority is smaller or larger than the current one.
+   * <p> Time complexity: O(log n)
+   *
+   * @param item     the item.
+   * @param priority the new priority of the item.
+   * @throws IllegalArgumentException if {@code item} is not in {@code 0...capacity-1}.
+   */
+  public void insertOrUpdate(int item, long priority) {
+    checkItem(item, "insertOrUpdate");
+    int index = positions[item];
+    if (index < 0) {
+      index = size++;
+      items[index] = item;
+      positions[item] = index;
+      priorities[item] = priority;
+      heapifyUp(index);
+    } else {
+      long oldPriority = priorities[item];
+      priorities[item] = priority;
+      if (priority < oldPriority) {
+        heapifyUp(index);
+      } else {
+        heapifyDown(index);
+      }
+    }
+  }
+
+  /**
+   * Returns the item with minimum priority in this heap.
+   * <p> Time complexity: O(1)
+   *
+   * @return the item with minimum priority.
+   * @throws EmptyHeapException if this heap is empty.
+   */
+  public int minimum() {
+    if (isEmpty()) {
+      throw new EmptyHeapException("minimum on empty heap");
+    }
+    return items[ROOT_INDEX];
+  }
+
+  /**
+   * Returns the minimum priority of items in this heap.
+   * <p> Time complexity: O(1)
+   *
+   * @return the priority of the item with minimum priority.
+   * @throws EmptyHeapException if this heap is empty.
+   */
+  public long minimumPriority() {
+    if (isEmpty()) {
+      throw new EmptyHeapException("minimumPriority on empty heap");
+    }
+    return priorities[items[ROOT_INDEX]];
+  }
+
+  /**
+   * Removes the item with minimum priority from this heap and returns it.
+   * <p> Time complexity: O(log n)
+   *
+   * @return the removed item.
+   * @throws EmptyHeapException if this heap is empty.
+   */
+  public int deleteMinimum() {
+    if (isEmpty()) {
+      throw new EmptyHeapException("deleteMinimum on empty heap");
+    }
+    int minimum = items[ROOT_INDEX];
+    positions[minimum] = -1;
+    size--;
+    if (size > 0) {
+      items[ROOT_INDEX] = items[size];
+      positions[items[ROOT_INDEX]] = ROOT_INDEX;
+      heapifyDown(ROOT_INDEX);
+    }
+    return minimum;
+  }
+
+  /**
+   * Moves item at given index up until its parent has a priority not larger than its own.
+   */
+  private void heapifyUp(int index) {
+    int item = items[index];
+    long priority = priorities[item];
+    while (index > ROOT_INDEX) {
+      int parentIndex = (index - 1) / 2;
+      int parent = items[parentIndex];
+      if (priorities[parent] <= priority) {
+        break;
+      }
+      items[index] = parent;
+      positions[parent] = index;
+      index = parentIndex;
+    }
+    items[index] = item;
+    positions[item] = index;
+  }
+
+  /**
+   * Moves item at given index down until its children have priorities not smaller than its own.
+   */
+  private void heapifyDown(int index) {
+    int item = items[index];
+    long priority = priorities[item];
+    while (2 * index + 1 < size) {
+      int childIndex = 2 * index + 1;
+      if (childIndex + 1 < size && priorities[items[childIndex + 1]] < priorities[items[childIndex]]) {
+        childIndex++;
+      }
+      int child = items[childIndex];
+      if (priority <= priorities[child]) {
+        break;
+      }
+      items[index] = child;
+      positions[child] = index;
+      index = childIndex;
+    }
+    items[index] = item;
+    positions[item] = index;
+  }
+
+  /**
+   * Returns a string representation of this heap, with its items in heap order and their priorities.
+   */
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append("(");
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(items[i]).append("=").append(priorities[items[i]]);
+    }
+    return sb.append(")").toString();
+  }
+}
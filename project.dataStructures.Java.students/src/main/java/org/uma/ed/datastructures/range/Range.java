@@ -165,6 +165,64 @@ public final class Range implements Iterable<Integer> {
     return (int) ((num + den + (den > 0 ? -1 : 1)) / den);
   }
 
+  /**
+   * Returns the element at a given position in this range.
+   *
+   * @param index the position of the element, starting at 0.
+   * @return the element at position {@code index}, that is, {@code from + index * step}.
+   * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, size())}.
+   */
+  public int get(int index) {
+    if (index < 0 || index >= size()) {
+      throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + this);
+    }
+    return from + index * step;
+  }
+
+  /**
+   * Returns the position of an element in this range.
+   *
+   * @param element the element to search for.
+   * @return the position of {@code element} in this range, or -1 if it is not in this range.
+   */
+  public int indexOf(int element) {
+    long offset = (long) element - from;
+    if (offset % step != 0) {
+      return -1;
+    }
+    long index = offset / step;
+    return index >= 0 && index < size() ? (int) index : -1;
+  }
+
+  /**
+   * Checks whether this range and another object are ranges generating the same sequence of integers.
+   *
+   * @param obj the object to compare with.
+   * @return {@code true} if {@code obj} is a range generating the same integers in the same order.
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof Range that) || this.size() != that.size()) {
+      return false;
+    }
+    int size = size();
+    return size == 0 || (this.from == that.from && (size == 1 || this.step == that.step));
+  }
+
+  /**
+   * Returns a hash code for this range, consistent with {@link #equals}.
+   *
+   * @return the hash code of this range.
+   */
+  @Override
+  public int hashCode() {
+    int size = size();
+    return size == 0 ? 0 : 31 * (31 * from + (size == 1 ? 0 : step)) + size;
+  }
+
   /**
    * Returns a string representation of the range.
    *
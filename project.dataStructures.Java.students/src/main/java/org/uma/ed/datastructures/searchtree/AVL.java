@@ -1,12 +1,17 @@
 package org.uma.ed.datastructures.searchtree;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import org.uma.ed.datastructures.either.Either;
 import org.uma.ed.datastructures.stack.JDKStack;
 import org.uma.ed.datastructures.stack.Stack;
+import org.uma.ed.datastructures.utils.iterator.SeekableIterator;
 
 /**
  * An implementation of the {@link SearchTree} interface using a balanced AVL tree.
@@ -157,6 +162,28 @@ public class AVL<K> implements SearchTree<K> {
   private final Comparator<K> comparator;
   private Node<K> root;
   private int size;
+  /*
+   * Array reused as the stack of in-order traversals, so that traversing this tree again and again
+   * allocates no new stack. A traversal takes it, leaving null, and gives it back when it is over, so
+   * traversals that are in progress at the same time, or abandoned, never share it. Taking and giving it
+   * back are atomic, so that concurrent read-only traversals are still safe.
+   */
+  private Node<K>[] spareStack;
+  private static final VarHandle SPARE_STACK;
+
+  static {
+    try {
+      SPARE_STACK = MethodHandles.lookup().findVarHandle(AVL.class, "spareStack", Node[].class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+  /*
+   * Scratch array reused by insert and delete to record the nodes on the path from the root,
+   * so that they can be rebalanced bottom-up without recursion. Grown lazily as the tree gets taller.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Node<K>[] path = (Node<K>[]) new Node[0];
 
   /**
    * Private constructor for internal use by factory and copy methods.
@@ -274,25 +301,82 @@ public class AVL<K> implements SearchTree<K> {
    * <p> Time complexity: O(log n)
    */
   @Override
-  public void insert(K key) { root = insert(root, key); }
+  public void insert(K key) {
+    Node<K>[] path = path();
+    int depth = 0;
+    Node<K> node = root;
+    while (node != null) {
+      int cmp = comparator.compare(key, node.key);
+      if (cmp == 0) {
+        node.key = key; // Replace existing key. Tree structure is unchanged
+        clearPath(depth);
+        return;
+      }
+      path[depth++] = node;
+      node = (cmp < 0) ? node.left : node.right;
+    }
+    Node<K> newNode = new Node<>(key);
+    size++;
+    if (depth == 0) {
+      root = newNode;
+    } else {
+      Node<K> parent = path[depth - 1];
+      if (comparator.compare(key, parent.key) < 0) {
+        parent.left = newNode;
+      } else {
+        parent.right = newNode;
+      }
+      rebalance(depth);
+    }
+  }
 
   /**
-   * Internal recursive method to insert a key and rebalance the tree on the way up.
+   * Returns the scratch path array, making sure it can hold every node on a root-to-leaf path.
    */
-  private Node<K> insert(Node<K> node, K key) {
-    if (node == null) {
-      size++;
-      return new Node<>(key);
-    }
-    int cmp = comparator.compare(key, node.key);
-    if (cmp < 0) {
-      node.left = insert(node.left, key);
-    } else if (cmp > 0) {
-      node.right = insert(node.right, key);
-    } else {
-      node.key = key; // Replace existing key
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Node<K>[] path() {
+    int height = Node.height(root);
+    if (path.length <= height) {
+      path = (Node<K>[]) new Node[height + 1 + (height >> 1)];
+    }
+    return path;
+  }
+
+  /**
+   * Releases references to the first {@code depth} nodes stored in the scratch path array.
+   */
+  private void clearPath(int depth) {
+    for (int i = 0; i < depth; i++) {
+      path[i] = null;
+    }
+  }
+
+  /**
+   * Rebalances the nodes stored in {@code path[0..depth)}, from the deepest one up to the root,
+   * linking each rebalanced subtree back into its parent. Stops as soon as a subtree keeps both
+   * its root and its height, as nodes above it cannot be affected.
+   */
+  private void rebalance(int depth) {
+    for (int i = depth - 1; i >= 0; i--) {
+      Node<K> node = path[i];
+      path[i] = null;
+      int oldHeight = node.height;
+      Node<K> balanced = node.balanced();
+      if (i == 0) {
+        root = balanced;
+      } else {
+        Node<K> parent = path[i - 1];
+        if (parent.left == node) {
+          parent.left = balanced;
+        } else {
+          parent.right = balanced;
+        }
+      }
+      if (balanced == node && balanced.height == oldHeight) {
+        clearPath(i);
+        return;
+      }
     }
-    return node.balanced(); // Rebalance and update height
   }
 
   /**
@@ -329,62 +413,55 @@ public class AVL<K> implements SearchTree<K> {
    * <p> Time complexity: O(log n)
    */
   @Override
-  public void delete(K key) { root = delete(root, key); }
-
-  /**
-   * Internal recursive method to delete a key and rebalance the tree on the way up.
-   */
-  private Node<K> delete(Node<K> node, K key) {
+  public void delete(K key) {
+    Node<K>[] path = path();
+    int depth = 0;
+    Node<K> node = root;
+    while (node != null) {
+      int cmp = comparator.compare(key, node.key);
+      if (cmp == 0) {
+        break;
+      }
+      path[depth++] = node;
+      node = (cmp < 0) ? node.left : node.right;
+    }
     if (node == null) {
       // Key not found. Nothing to delete.
-    } else {
-      int cmp = comparator.compare(key, node.key);
-      if (cmp < 0) {
-        node.left = delete(node.left, key);
-      } else if (cmp > 0) {
-        node.right = delete(node.right, key);
-      } else {
-        // Node to delete found
-        node = deleteNode(node);
+      clearPath(depth);
+      return;
+    }
+    if (node.left != null && node.right != null) {
+      // Node has two children: replace its key with inorder successor and remove successor node instead.
+      path[depth++] = node;
+      Node<K> successor = node.right;
+      while (successor.left != null) {
+        path[depth++] = successor;
+        successor = successor.left;
       }
+      node.key = successor.key;
+      node = successor;
     }
-    // If node became null, there's nothing to balance.
-    return (node == null) ? null : node.balanced();
+    unlink(node, depth);
   }
 
   /**
-   * Handles the actual deletion of a node once it's found.
-   * @param node The node to delete.
-   * @return The node that replaces the deleted node in the tree structure.
+   * Removes {@code node}, which has at most one child, replacing it by that child. Its ancestors
+   * are expected in {@code path[0..depth)} and are rebalanced afterwards.
    */
-  private Node<K> deleteNode(Node<K> node) {
-    if (node.left == null) {
-      node = node.right;
-    } else if (node.right == null) {
-      node = node.left;
+  private void unlink(Node<K> node, int depth) {
+    Node<K> child = (node.left == null) ? node.right : node.left;
+    if (depth == 0) {
+      root = child;
     } else {
-      // Node has two children: replace with inorder successor.
-      node.right = split(node.right, node);
+      Node<K> parent = path[depth - 1];
+      if (parent.left == node) {
+        parent.left = child;
+      } else {
+        parent.right = child;
+      }
+      rebalance(depth);
     }
     size--;
-    return node;
-  }
-
-  /**
-   * Helper for deletion: finds and removes the minimum key in a subtree.
-   * The key of the minimum node is copied into `temp`, and the node itself is removed.
-   * @param node The root of the subtree to search within.
-   * @param temp A node whose key will be overwritten with the minimum key found.
-   * @return The modified subtree after removing the minimum node.
-   */
-  private static <K> Node<K> split(Node<K> node, Node<K> temp) {
-    if (node.left == null) {
-      temp.key = node.key; // Copy the minimum key
-      return node.right;   // Remove the minimum node
-    } else {
-      node.left = split(node.left, temp);
-      return node.balanced();
-    }
   }
 
   /**
@@ -436,16 +513,14 @@ public class AVL<K> implements SearchTree<K> {
     if (isEmpty()) {
       throw new EmptySearchTreeException("deleteMinimum on empty tree");
     }
-    root = deleteMinimum(root);
-    size--;
-  }
-
-  private static <K> Node<K> deleteMinimum(Node<K> node) {
-    if (node.left == null) {
-      return node.right;
+    Node<K>[] path = path();
+    int depth = 0;
+    Node<K> node = root;
+    while (node.left != null) {
+      path[depth++] = node;
+      node = node.left;
     }
-    node.left = deleteMinimum(node.left);
-    return node.balanced();
+    unlink(node, depth);
   }
 
   /**
@@ -457,18 +532,17 @@ public class AVL<K> implements SearchTree<K> {
     if (isEmpty()) {
       throw new EmptySearchTreeException("deleteMaximum on empty tree");
     }
-    root = deleteMaximum(root);
-    size--;
-  }
-
-  private static <K> Node<K> deleteMaximum(Node<K> node) {
-    if (node.right == null) {
-      return node.left;
+    Node<K>[] path = path();
+    int depth = 0;
+    Node<K> node = root;
+    while (node.right != null) {
+      path[depth++] = node;
+      node = node.right;
     }
-    node.right = deleteMaximum(node.right);
-    return node.balanced();
+    unlink(node, depth);
   }
 
+
   // Almost an iterator on keys in tree
   private abstract class Traversal implements Iterator<K> {
     Stack<Either<Node<K>, Node<K>>> stack = JDKStack.empty();
@@ -503,16 +577,109 @@ public class AVL<K> implements SearchTree<K> {
     }
   }
 
-  private final class InOrderIterator extends Traversal {
-    void pushTree(Node<K> node) {
-      // in reverse order, cause stack is LIFO
-      if (node.right != null) {
-        stack.push(Either.right(node.right));
+  /**
+   * Takes the spare stack of this tree for a traversal, or a new one if it is in use, with room for at
+   * least {@code capacity} nodes.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Node<K>[] takeStack(int capacity) {
+    Node<K>[] stack = (Node<K>[]) SPARE_STACK.getAndSet(this, (Node[]) null);
+    if (stack == null || stack.length < capacity) {
+      stack = (Node<K>[]) new Node[capacity];
+    }
+    return stack;
+  }
+
+  /**
+   * Gives back an empty stack taken with {@link #takeStack}, so that it can be reused.
+   */
+  private void giveBackStack(Node<K>[] stack) {
+    SPARE_STACK.setRelease(this, stack);
+  }
+
+  /*
+   * In-order iterator that keeps a stack with the nodes still to be visited whose left subtree has
+   * already been visited or pushed: the next node is on top, and below it are those ancestors of it
+   * where the path from the root turns left. Thus, the stack holds at most h nodes, where h is the
+   * height of the tree, and each node is pushed and popped once, so a full traversal takes O(n) time.
+   * The stack is an array taken from the tree and given back when the traversal is over (see
+   * spareStack), so iterating a tree repeatedly does not allocate a stack each time. As it holds at most h nodes, it is taken with room for h + 1 nodes.
+   */
+  private final class InOrderIterator implements SeekableIterator<K> {
+    private Node<K>[] stack;    // Pending nodes in stack[0..size), or null once the traversal is over.
+    private int size;
+
+    InOrderIterator() {
+      if (root != null) {
+        stack = takeStack(Node.height(root) + 1);
+        pushLeftSpine(root);
       }
-      stack.push(Either.left(node));
-      if (node.left != null) {
-        stack.push(Either.right(node.left));
+    }
+
+    private void push(Node<K> node) {
+      if (size == stack.length) {
+        stack = Arrays.copyOf(stack, 2 * size);
+      }
+      stack[size++] = node;
+    }
+
+    private void pushLeftSpine(Node<K> node) {
+      while (node != null) {
+        push(node);
+        node = node.left;
+      }
+    }
+
+    /**
+     * Gives back the stack to the tree if the traversal is over.
+     */
+    private void finishIfEmpty() {
+      if (size == 0 && stack != null) {
+        giveBackStack(stack);
+        stack = null;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return size > 0;
+    }
+
+    @Override
+    public K next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
       }
+      Node<K> node = stack[--size];
+      stack[size] = null;
+      pushLeftSpine(node.right);
+      finishIfEmpty();
+      return node.key;
+    }
+
+    @Override
+    public void seek(K key) {
+      if (size == 0 || comparator.compare(stack[size - 1].key, key) >= 0) {
+        return;
+      }
+      // rebuild the stack along a search for key: nodes where the search turns left are those
+      // pending nodes whose keys are greater than or equal to key
+      Arrays.fill(stack, 0, size, null);
+      size = 0;
+      Node<K> current = root;
+      while (current != null) {
+        int cmp = comparator.compare(key, current.key);
+        if (cmp < 0) {
+          push(current);
+          current = current.left;
+        } else if (cmp > 0) {
+          current = current.right;
+        } else {
+          push(current);
+          break;
+        }
+      }
+      finishIfEmpty();
     }
   }
 
@@ -550,6 +717,29 @@ public class AVL<K> implements SearchTree<K> {
     return InOrderIterator::new;
   }
 
+  /**
+   * {@inheritDoc}
+   * <p> Seeking to a key takes O(log n) time.
+   */
+  @Override
+  public SeekableIterator<K> inOrderIterator() {
+    return new InOrderIterator();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Walks the tree as {@link #inOrderIterator()} does, without modifying it, so {@code action} may
+   * query this tree, but must not modify it.
+   * <p> Time complexity: O(n). Uses the spare stack of this tree if no other traversal is using it.
+   */
+  @Override
+  public void forEachInOrder(Consumer<? super K> action) {
+    InOrderIterator iterator = new InOrderIterator();
+    while (iterator.hasNext()) {
+      action.accept(iterator.next());
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
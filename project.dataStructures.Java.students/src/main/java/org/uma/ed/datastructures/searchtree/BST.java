@@ -3,10 +3,15 @@ package org.uma.ed.datastructures.searchtree;
 import org.uma.ed.datastructures.either.Either;
 import org.uma.ed.datastructures.stack.JDKStack;
 import org.uma.ed.datastructures.stack.Stack;
+import org.uma.ed.datastructures.utils.iterator.SeekableIterator;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
  * An implementation of the {@link SearchTree} interface using an unbalanced
@@ -50,6 +55,22 @@ public class BST<K> implements SearchTree<K> {
   private final Comparator<K> comparator;
   private Node<K> root;
   private int size;
+  /*
+   * Array reused as the stack of in-order traversals, so that traversing this tree again and again
+   * allocates no new stack. A traversal takes it, leaving null, and gives it back when it is over, so
+   * traversals that are in progress at the same time, or abandoned, never share it. Taking and giving it
+   * back are atomic, so that concurrent read-only traversals are still safe.
+   */
+  private Node<K>[] spareStack;
+  private static final VarHandle SPARE_STACK;
+
+  static {
+    try {
+      SPARE_STACK = MethodHandles.lookup().findVarHandle(BST.class, "spareStack", Node[].class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
 
   /**
    * Private constructor for internal use.
@@ -175,27 +196,34 @@ public class BST<K> implements SearchTree<K> {
    */
   @Override
   public void insert(K key) {
-    root = insert(root, key);
-  }
-
-  private Node<K> insert(Node<K> node, K key) {
-    if (node == null){
+    if (root == null) {
+      root = new Node<>(key);
       size++;
-      return new Node<>(key);
-    }else{
-      //non-empty
+      return;
+    }
+    // Iteratively descend to the node holding the key or to the parent of its new leaf
+    Node<K> node = root;
+    while (true) {
       int cmp = comparator.compare(key, node.key);
-
-      if(cmp == 0){
+      if (cmp == 0) {
         //key is already in tree
-        node.key = key;//overwrite node with new info
-      }else if(cmp < 0){
-        //insert on the left
-        node.left = insert(node.left, key);
+        node.key = key; //overwrite node with new info
+        return;
+      } else if (cmp < 0) {
+        if (node.left == null) {
+          node.left = new Node<>(key);
+          size++;
+          return;
+        }
+        node = node.left;
       } else {
-        node.right = insert(node.right, key);
+        if (node.right == null) {
+          node.right = new Node<>(key);
+          size++;
+          return;
+        }
+        node = node.right;
       }
-      return node;
     }
   }
 
@@ -255,48 +283,44 @@ public class BST<K> implements SearchTree<K> {
    */
   @Override
   public void delete(K key) {
-    root = delete(root, key);
-  }
-
-  // returns modified tree
-  private Node<K> delete(Node<K> node, K key) {
-    if (node == null) {
-      return null;
-    } else {
+    // Iteratively locate the node holding the key, keeping track of its parent
+    Node<K> parent = null;
+    Node<K> node = root;
+    while (node != null) {
       int cmp = comparator.compare(key, node.key);
-      if (cmp < 0) {
-        node.left = delete(node.left, key);
-      } else if (cmp > 0) {
-        node.right = delete(node.right, key);
-      } else {
-        // found the key
-        if (node.left == null) {
-          node = node.right;
-        } else if (node.right == null) {
-          node = node.left;
-        } else {
-          // We have 2 children
-          node.right = split(node.right, node);
-        }
-        size--;
+      if (cmp == 0) {
+        break;
       }
-      return node;
+      parent = node;
+      node = cmp < 0 ? node.left : node.right;
     }
-  }
-  /**
-   * Precondition: node is a non-empty tree. Removes minimum key from tree rooted at node. Before deletion, key is saved
-   * into temp node. Returns modified tree (without min key).
-   */
-  private static <K> Node<K> split(Node<K> node, Node<K> temp) {
-    if (node.left == null) {
-      // min node found, so copy min key
-      temp.key = node.key;
-      return node.right; // remove node
+    if (node == null) {
+      return; // key not found
+    }
+
+    if (node.left != null && node.right != null) {
+      // We have 2 children: copy minimum key of right subtree into node and remove that minimum node instead
+      Node<K> minParent = node;
+      Node<K> min = node.right;
+      while (min.left != null) {
+        minParent = min;
+        min = min.left;
+      }
+      node.key = min.key;
+      parent = minParent;
+      node = min;
+    }
+
+    // node has at most one child, which replaces it
+    Node<K> child = (node.left == null) ? node.right : node.left;
+    if (parent == null) {
+      root = child;
+    } else if (parent.left == node) {
+      parent.left = child;
     } else {
-      // remove min from left subtree
-      node.left = split(node.left, temp);
-      return node;
+      parent.right = child;
     }
+    size--;
   }
 
   /**
@@ -422,11 +446,109 @@ public class BST<K> implements SearchTree<K> {
     }
   }
 
-  private final class InOrderIterator extends Traversal {
-    void pushTree(Node<K> node) {
-      if (node.right != null) stack.push(Either.right(node.right));
-      stack.push(Either.left(node));
-      if (node.left != null) stack.push(Either.right(node.left));
+  /**
+   * Takes the spare stack of this tree for a traversal, or a new one if it is in use, with room for at
+   * least {@code capacity} nodes.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private Node<K>[] takeStack(int capacity) {
+    Node<K>[] stack = (Node<K>[]) SPARE_STACK.getAndSet(this, (Node[]) null);
+    if (stack == null || stack.length < capacity) {
+      stack = (Node<K>[]) new Node[capacity];
+    }
+    return stack;
+  }
+
+  /**
+   * Gives back an empty stack taken with {@link #takeStack}, so that it can be reused.
+   */
+  private void giveBackStack(Node<K>[] stack) {
+    SPARE_STACK.setRelease(this, stack);
+  }
+
+  /*
+   * In-order iterator that keeps a stack with the nodes still to be visited whose left subtree has
+   * already been visited or pushed: the next node is on top, and below it are those ancestors of it
+   * where the path from the root turns left. Thus, the stack holds at most h nodes, where h is the
+   * height of the tree, and each node is pushed and popped once, so a full traversal takes O(n) time.
+   * The stack is an array taken from the tree and given back when the traversal is over (see
+   * spareStack), so iterating a tree repeatedly does not allocate a stack each time. It grows as needed, up to h nodes.
+   */
+  private final class InOrderIterator implements SeekableIterator<K> {
+    private Node<K>[] stack;    // Pending nodes in stack[0..size), or null once the traversal is over.
+    private int size;
+
+    InOrderIterator() {
+      if (root != null) {
+        stack = takeStack(16);
+        pushLeftSpine(root);
+      }
+    }
+
+    private void push(Node<K> node) {
+      if (size == stack.length) {
+        stack = Arrays.copyOf(stack, 2 * size);
+      }
+      stack[size++] = node;
+    }
+
+    private void pushLeftSpine(Node<K> node) {
+      while (node != null) {
+        push(node);
+        node = node.left;
+      }
+    }
+
+    /**
+     * Gives back the stack to the tree if the traversal is over.
+     */
+    private void finishIfEmpty() {
+      if (size == 0 && stack != null) {
+        giveBackStack(stack);
+        stack = null;
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return size > 0;
+    }
+
+    @Override
+    public K next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Node<K> node = stack[--size];
+      stack[size] = null;
+      pushLeftSpine(node.right);
+      finishIfEmpty();
+      return node.key;
+    }
+
+    @Override
+    public void seek(K key) {
+      if (size == 0 || comparator.compare(stack[size - 1].key, key) >= 0) {
+        return;
+      }
+      // rebuild the stack along a search for key: nodes where the search turns left are those
+      // pending nodes whose keys are greater than or equal to key
+      Arrays.fill(stack, 0, size, null);
+      size = 0;
+      Node<K> current = root;
+      while (current != null) {
+        int cmp = comparator.compare(key, current.key);
+        if (cmp < 0) {
+          push(current);
+          current = current.left;
+        } else if (cmp > 0) {
+          current = current.right;
+        } else {
+          push(current);
+          break;
+        }
+      }
+      finishIfEmpty();
     }
   }
 
@@ -449,6 +571,29 @@ public class BST<K> implements SearchTree<K> {
   @Override
   public Iterable<K> inOrder() { return InOrderIterator::new; }
 
+  /**
+   * {@inheritDoc}
+   * <p> Seeking to a key takes O(log n) time on average, O(n) in the worst case.
+   */
+  @Override
+  public SeekableIterator<K> inOrderIterator() {
+    return new InOrderIterator();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Walks the tree as {@link #inOrderIterator()} does, without modifying it, so {@code action} may
+   * query this tree, but must not modify it.
+   * <p> Time complexity: O(n). Uses the spare stack of this tree if no other traversal is using it.
+   */
+  @Override
+  public void forEachInOrder(Consumer<? super K> action) {
+    InOrderIterator iterator = new InOrderIterator();
+    while (iterator.hasNext()) {
+      action.accept(iterator.next());
+    }
+  }
+
   @Override
   public Iterable<K> preOrder() { return PreOrderIterator::new; }
 
@@ -0,0 +1,579 @@
+package org.uma.ed.datastructures.searchtree;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.uma.ed.datastructures.either.Either;
+import org.uma.ed.datastructures.stack.JDKStack;
+import org.uma.ed.datastructures.stack.Stack;
+
+/**
+ * An implementation of the {@link SearchTree} interface using a persistent (immutable) AVL tree.
+ * <p>
+ * Nodes are never modified once built. Every update copies only the nodes on the path from the
+ * root to the affected position (path copying) and shares all untouched subtrees with the
+ * previous version of the tree. Hence, {@code insert} and {@code delete} still take O(log n) time
+ * and allocate O(log n) new nodes, while taking a {@link #snapshot()} of the whole tree is an O(1)
+ * operation.
+ * <p>
+ * A snapshot is never affected by later updates on the tree it was taken from, so it can be
+ * traversed by reader threads while a single writer thread keeps updating the original tree. The root
+ * and size of each version are published together in one immutable object, so a snapshot taken
+ * concurrently with an update always sees a consistent pair.
+ * Note that concurrent updates from several writer threads still require external synchronization.
+ *
+ * @param <K> Type of keys.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class PersistentAVL<K> implements SearchTree<K> {
+
+  /**
+   * Internal class representing an immutable node in the persistent AVL tree.
+   * Each node stores a key, its height, and references to its children.
+   */
+  private static final class Node<K> {
+    final K key;
+    final int height;
+    final Node<K> left, right;
+
+    Node(Node<K> left, K key, Node<K> right) {
+      this.key = key;
+      this.height = 1 + Math.max(height(left), height(right));
+      this.left = left;
+      this.right = right;
+    }
+
+    /**
+     * Returns the height of a subtree rooted at the given node.
+     * The height of a null (empty) subtree is defined as 0.
+     */
+    static int height(Node<?> node) {
+      return node == null ? 0 : node.height;
+    }
+
+    /**
+     * Calculates the balance factor of a node (height of left subtree minus height of right subtree).
+     */
+    static int balance(Node<?> node) {
+      return node == null ? 0 : height(node.left) - height(node.right);
+    }
+
+    /*
+     * INVARIANT:
+     * - Standard Binary Search Tree property holds (left child < parent < right child).
+     * - No duplicate keys.
+     * - For every node, the absolute difference between the heights of its left and right
+     *   subtrees (the balance factor) is at most 1.
+     * - Nodes are immutable, so they can be safely shared among different versions of a tree.
+     */
+
+    /**
+     * Returns a copy of this node with a different left child.
+     */
+    Node<K> withLeft(Node<K> left) {
+      return left == this.left ? this : new Node<>(left, key, right);
+    }
+
+    /**
+     * Returns a copy of this node with a different right child.
+     */
+    Node<K> withRight(Node<K> right) {
+      return right == this.right ? this : new Node<>(left, key, right);
+    }
+
+    /**
+     * Builds a balanced node from a left subtree, a key and a right subtree whose heights
+     * differ by at most two, applying the necessary single or double rotations.
+     * Rotations create new nodes instead of mutating existing ones.
+     *
+     * @return The root of the balanced subtree.
+     */
+    static <K> Node<K> balanced(Node<K> left, K key, Node<K> right) {
+      int balance = height(left) - height(right);
+      if (balance > 1) { // Left-heavy
+        if (balance(left) < 0) { // Left-Right case (double rotation)
+          Node<K> leftRight = left.right;
+          return new Node<>(new Node<>(left.left, left.key, leftRight.left), leftRight.key,
+              new Node<>(leftRight.right, key, right));
+        }
+        // Left-Left case (single rotation)
+        return new Node<>(left.left, left.key, new Node<>(left.right, key, right));
+      } else if (balance < -1) { // Right-heavy
+        if (balance(right) > 0) { // Right-Left case (double rotation)
+          Node<K> rightLeft = right.left;
+          return new Node<>(new Node<>(left, key, rightLeft.left), rightLeft.key,
+              new Node<>(rightLeft.right, right.key, right.right));
+        }
+        // Right-Right case (single rotation)
+        return new Node<>(new Node<>(left, key, right.left), right.key, right.right);
+      } else { // Already balanced
+        return new Node<>(left, key, right);
+      }
+    }
+
+    /**
+     * Same as {@link #balanced(Node, Object, Node)} but reuses {@code node} if its children did not change.
+     */
+    static <K> Node<K> rebuilt(Node<K> node, Node<K> left, Node<K> right) {
+      if (left == node.left && right == node.right) {
+        return node;
+      }
+      return balanced(left, node.key, right);
+    }
+  }
+
+  /**
+   * Records whether an update on a subtree changed the number of keys in the tree.
+   */
+  private static final class Update {
+    boolean sizeChanged;
+  }
+
+  /**
+   * An immutable version of the tree: its root and its number of keys. Both are published together
+   * through a single volatile field, so that a reader never sees the root of a version with the size of
+   * another one.
+   */
+  private record Version<K>(Node<K> root, int size) {
+  }
+
+  private final Comparator<K> comparator;
+  private volatile Version<K> current;
+
+  /**
+   * Private constructor for internal use by factory, snapshot and copy methods.
+   */
+  private PersistentAVL(Comparator<K> comparator, Version<K> current) {
+    this.comparator = comparator;
+    this.current = current;
+  }
+
+  /**
+   * Constructs an empty {@code PersistentAVL} tree with a specified comparator.
+   * <p> Time complexity: O(1)
+   */
+  public PersistentAVL(Comparator<K> comparator) {
+    this(comparator, new Version<>(null, 0));
+  }
+
+  /**
+   * Creates an empty {@code PersistentAVL} tree with natural ordering.
+   * <p> Time complexity: O(1)
+   */
+  public static <K extends Comparable<? super K>> PersistentAVL<K> empty() {
+    return new PersistentAVL<K>(Comparator.naturalOrder());
+  }
+
+  /**
+   * Creates an empty {@code PersistentAVL} tree with a specified comparator.
+   * <p> Time complexity: O(1)
+   */
+  public static <K> PersistentAVL<K> empty(Comparator<K> comparator) {
+    return new PersistentAVL<>(comparator);
+  }
+
+  /**
+   * Creates a new {@code PersistentAVL} tree from a generic {@code SearchTree}.
+   * <p> Time complexity: O(1) if {@code that} is a {@code PersistentAVL}, O(n log n) otherwise.
+   */
+  public static <K> PersistentAVL<K> copyOf(SearchTree<K> that) {
+    if (that instanceof PersistentAVL<K> persistentAVL) {
+      return copyOf(persistentAVL);
+    }
+    PersistentAVL<K> copy = new PersistentAVL<>(that.comparator());
+    for (K key : that.preOrder()) {
+      copy.insert(key);
+    }
+    return copy;
+  }
+
+  /**
+   * Creates a new {@code PersistentAVL} tree sharing all nodes with the given one.
+   * Later updates on any of both trees do not affect the other one.
+   * <p> Time complexity: O(1)
+   */
+  public static <K> PersistentAVL<K> copyOf(PersistentAVL<K> that) {
+    return that.snapshot();
+  }
+
+  /**
+   * Returns an independent tree holding the current keys in this tree. The snapshot shares
+   * all its nodes with this tree, and later updates on any of both trees do not affect the other one.
+   * <p> Time complexity: O(1)
+   */
+  public PersistentAVL<K> snapshot() {
+    return new PersistentAVL<>(comparator, current);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1).
+   */
+  @Override
+  public void clear() {
+    current = new Version<>(null, 0);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1).
+   */
+  @Override
+  public Comparator<K> comparator() {
+    return comparator;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1).
+   */
+  @Override
+  public boolean isEmpty() {
+    return current.root() == null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1).
+   */
+  @Override
+  public int size() {
+    return current.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1).
+   */
+  @Override
+  public int height() {
+    return Node.height(current.root());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public void insert(K key) {
+    Version<K> version = current;
+    Update update = new Update();
+    Node<K> root = insert(version.root(), key, update);
+    current = new Version<>(root, update.sizeChanged ? version.size() + 1 : version.size());
+  }
+
+  /**
+   * Internal recursive method that returns a new version of the subtree including the key.
+   * Only nodes on the search path are copied.
+   */
+  private Node<K> insert(Node<K> node, K key, Update update) {
+    if (node == null) {
+      update.sizeChanged = true;
+      return new Node<>(null, key, null);
+    }
+    int cmp = comparator.compare(key, node.key);
+    if (cmp < 0) {
+      return Node.rebuilt(node, insert(node.left, key, update), node.right);
+    } else if (cmp > 0) {
+      return Node.rebuilt(node, node.left, insert(node.right, key, update));
+    } else {
+      return new Node<>(node.left, key, node.right); // Replace existing key
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public K search(K key) {
+    Node<K> node = current.root();
+    while (node != null) {
+      int cmp = comparator.compare(key, node.key);
+      if (cmp < 0) {
+        node = node.left;
+      } else if (cmp > 0) {
+        node = node.right;
+      } else {
+        return node.key; // Found
+      }
+    }
+    return null; // Not found
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public boolean contains(K key) {
+    return search(key) != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public void delete(K key) {
+    Version<K> version = current;
+    Update update = new Update();
+    Node<K> root = delete(version.root(), key, update);
+    if (root != version.root()) {
+      current = new Version<>(root, update.sizeChanged ? version.size() - 1 : version.size());
+    }
+  }
+
+  /**
+   * Internal recursive method that returns a new version of the subtree without the key.
+   * If the key is not in the subtree, the very same subtree is returned.
+   */
+  private Node<K> delete(Node<K> node, K key, Update update) {
+    if (node == null) {
+      return null; // Key not found. Nothing to delete.
+    }
+    int cmp = comparator.compare(key, node.key);
+    if (cmp < 0) {
+      return Node.rebuilt(node, delete(node.left, key, update), node.right);
+    } else if (cmp > 0) {
+      return Node.rebuilt(node, node.left, delete(node.right, key, update));
+    } else {
+      update.sizeChanged = true;
+      if (node.left == null) {
+        return node.right;
+      } else if (node.right == null) {
+        return node.left;
+      } else {
+        // Node has two children: replace with inorder successor.
+        return Node.balanced(node.left, minimum(node.right), deleteMinimum(node.right));
+      }
+    }
+  }
+
+  /**
+   * A utility method to check if the tree rooted at this instance is a valid AVL tree.
+   * Primarily for testing and debugging.
+   */
+  public boolean isAVL() {
+    return isAVL(current.root());
+  }
+
+  private boolean isAVL(Node<K> node) {
+    if (node == null) {
+      return true;
+    }
+    return Math.abs(Node.balance(node)) <= 1
+        && node.height == 1 + Math.max(Node.height(node.left), Node.height(node.right))
+        && (node.left == null || comparator.compare(maximum(node.left), node.key) < 0)
+        && (node.right == null || comparator.compare(minimum(node.right), node.key) > 0)
+        && isAVL(node.left) && isAVL(node.right);
+  }
+
+  private static <K> K minimum(Node<K> node) {
+    while (node.left != null) {
+      node = node.left;
+    }
+    return node.key;
+  }
+
+  private static <K> K maximum(Node<K> node) {
+    while (node.right != null) {
+      node = node.right;
+    }
+    return node.key;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public K minimum() {
+    Node<K> node = current.root();
+    if (node == null) {
+      throw new EmptySearchTreeException("minimum on empty tree");
+    }
+    return minimum(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public K maximum() {
+    Node<K> node = current.root();
+    if (node == null) {
+      throw new EmptySearchTreeException("maximum on empty tree");
+    }
+    return maximum(node);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public void deleteMinimum() {
+    Version<K> version = current;
+    if (version.root() == null) {
+      throw new EmptySearchTreeException("deleteMinimum on empty tree");
+    }
+    current = new Version<>(deleteMinimum(version.root()), version.size() - 1);
+  }
+
+  private static <K> Node<K> deleteMinimum(Node<K> node) {
+    if (node.left == null) {
+      return node.right;
+    }
+    return Node.balanced(deleteMinimum(node.left), node.key, node.right);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public void deleteMaximum() {
+    Version<K> version = current;
+    if (version.root() == null) {
+      throw new EmptySearchTreeException("deleteMaximum on empty tree");
+    }
+    current = new Version<>(deleteMaximum(version.root()), version.size() - 1);
+  }
+
+  private static <K> Node<K> deleteMaximum(Node<K> node) {
+    if (node.right == null) {
+      return node.left;
+    }
+    return Node.balanced(node.left, node.key, deleteMaximum(node.right));
+  }
+
+  // Almost an iterator on keys in tree. As nodes are immutable, each iterator
+  // traverses the version of the tree that was current when it was created.
+  private abstract class Traversal implements Iterator<K> {
+    Stack<Either<Node<K>, Node<K>>> stack = JDKStack.empty();
+
+    public Traversal() {
+      Node<K> node = current.root();
+      if (node != null) {
+        pushTree(node);
+      }
+    }
+
+    abstract void pushTree(Node<K> node);
+
+    public boolean hasNext() {
+      return !stack.isEmpty();
+    }
+
+    public K next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      Either<Node<K>, Node<K>> either = stack.top();
+      stack.pop();
+
+      while (either.isRight()) {
+        Node<K> node = either.right();
+        pushTree(node);
+        either = stack.top();
+        stack.pop();
+      }
+      return either.left().key;
+    }
+  }
+
+  private final class InOrderIterator extends Traversal {
+    void pushTree(Node<K> node) {
+      // in reverse order, cause stack is LIFO
+      if (node.right != null) {
+        stack.push(Either.right(node.right));
+      }
+      stack.push(Either.left(node));
+      if (node.left != null) {
+        stack.push(Either.right(node.left));
+      }
+    }
+  }
+
+  private final class PreOrderIterator extends Traversal {
+    void pushTree(Node<K> node) {
+      // in reverse order, cause stack is LIFO
+      if (node.right != null) {
+        stack.push(Either.right(node.right));
+      }
+      if (node.left != null) {
+        stack.push(Either.right(node.left));
+      }
+      stack.push(Either.left(node));
+    }
+  }
+
+  private final class PostOrderIterator extends Traversal {
+    void pushTree(Node<K> node) {
+      // in reverse order, cause stack is LIFO
+      stack.push(Either.left(node));
+      if (node.right != null) {
+        stack.push(Either.right(node.right));
+      }
+      if (node.left != null) {
+        stack.push(Either.right(node.left));
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterable<K> inOrder() {
+    return InOrderIterator::new;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterable<K> preOrder() {
+    return PreOrderIterator::new;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterable<K> postOrder() {
+    return PostOrderIterator::new;
+  }
+
+  /**
+   * Returns representation of this search tree as a String.
+   */
+  @Override
+  public String toString() {
+    String className = getClass().getSimpleName();
+    StringBuilder sb = new StringBuilder(className).append("(");
+    toString(sb, current.root());
+    sb.append(")");
+
+    return sb.toString();
+  }
+
+  private static void toString(StringBuilder sb, Node<?> node) {
+    if (node == null) {
+      sb.append("null");
+    } else {
+      String className = node.getClass().getSimpleName();
+      sb.append(className).append("(");
+      toString(sb, node.left);
+      sb.append(", ");
+      sb.append(node.key);
+      sb.append(", ");
+      toString(sb, node.right);
+      sb.append(")");
+    }
+  }
+}
@@ -1,6 +1,9 @@
 package org.uma.ed.datastructures.searchtree;
 
 import java.util.Comparator;
+import org.uma.ed.datastructures.utils.iterator.SeekableIterator;
+import org.uma.ed.datastructures.utils.iterator.SortedIterators;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -127,6 +130,33 @@ public interface SearchTree<K> {
    */
   Iterable<K> inOrder();
 
+  /**
+   * Returns an iterator over the keys of the tree in in-order sequence (ascending order) that can
+   * skip forward to a given key.
+   * <p>
+   * The default implementation skips keys one at a time. Implementations may override it to skip
+   * keys in logarithmic time.
+   *
+   * @return a {@code SeekableIterator} for the keys in in-order sequence.
+   */
+  default SeekableIterator<K> inOrderIterator() {
+    return SortedIterators.seekable(inOrder().iterator(), comparator());
+  }
+
+  /**
+   * Performs the given action on each key of this tree, in in-order sequence (ascending order).
+   * <p>
+   * This is an internal iteration alternative to {@link #inOrder()} that implementations may
+   * override to avoid creating an iterator.
+   *
+   * @param action the action to be performed on each key.
+   */
+  default void forEachInOrder(Consumer<? super K> action) {
+    for (K key : inOrder()) {
+      action.accept(key);
+    }
+  }
+
   /**
    * Provides an {@code Iterable} to traverse the keys of the tree in post-order.
    *
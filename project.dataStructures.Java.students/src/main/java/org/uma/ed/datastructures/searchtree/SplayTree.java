@@ -0,0 +1,631 @@
+package org.uma.ed.datastructures.searchtree;
+
+import org.uma.ed.datastructures.either.Either;
+import org.uma.ed.datastructures.queue.JDKQueue;
+import org.uma.ed.datastructures.queue.Queue;
+import org.uma.ed.datastructures.stack.JDKStack;
+import org.uma.ed.datastructures.stack.Stack;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An implementation of the {@link SearchTree} interface using a self-adjusting splay tree.
+ * <p>
+ * Every access (search, insertion or deletion) moves the accessed key to the root of the tree by
+ * means of rotations, using the top-down splaying algorithm by Sleator and Tarjan. As a result,
+ * recently accessed keys are found close to the root, which makes this tree well suited for skewed
+ * access patterns where a few keys are accessed much more often than the rest.
+ * <p>
+ * Individual operations may take O(n) time, but any sequence of m operations on a tree with at most
+ * n keys takes O(m log n) time, so operations run in O(log n) amortized time. Note that, unlike in other
+ * search trees, {@code search}, {@code contains}, {@code minimum} and {@code maximum} modify the shape
+ * of the tree. Traversals do not.
+ * <p>
+ * Iterators are fail-fast: if keys are inserted or deleted after an iterator is created, the next call
+ * to {@code next()} on it throws a {@link ConcurrentModificationException}. Lookups splay the tree but
+ * keep its keys, so in-order iterators resume after them, at the cost of a search from the root. Thus,
+ * a splay tree can be searched while it is iterated in order, as sets and dictionaries do. As pre-order
+ * and post-order depend on the shape of the tree, those iterators also fail if it is splayed.
+ *
+ * @param <K> The type of keys maintained by this search tree.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class SplayTree<K> implements SearchTree<K> {
+
+  /**
+   * Internal class representing a node in the splay tree.
+   */
+  private static final class Node<K> {
+    K key;
+    Node<K> left, right;
+
+    Node(K key) {
+      this.key = key;
+      this.left = null;
+      this.right = null;
+    }
+  }
+
+  /*
+   * INVARIANT:
+   *  - The `root` points to the root of the tree, or is null if the tree is empty.
+   *  - For any given node `n`, all keys in its left subtree are smaller than `n.key`.
+   *  - For any given node `n`, all keys in its right subtree are greater than `n.key`.
+   *  - There are no duplicate keys in the tree.
+   *  - `size` is the total number of nodes in the tree.
+   *  - `header` is only used while splaying, and its links are null otherwise.
+   *  - `modificationCount` changes whenever keys are inserted or deleted.
+   *  - `restructureCount` changes whenever the tree is splayed.
+   */
+
+  private final Comparator<K> comparator;
+  private Node<K> root;
+  private int size;
+  private int modificationCount;                   // used by iterators to detect insertions and deletions
+  private int restructureCount;                    // used by iterators to detect splaying
+  private final Node<K> header = new Node<>(null); // reused by splay to assemble left and right trees
+
+  /**
+   * Private constructor for internal use.
+   */
+  private SplayTree(Comparator<K> comparator, Node<K> root, int size) {
+    this.comparator = comparator;
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Constructs an empty {@code SplayTree} with a specified comparator.
+   * <p> Time complexity: O(1)
+   */
+  public SplayTree(Comparator<K> comparator) {
+    this(comparator, null, 0);
+  }
+
+  /**
+   * Creates an empty {@code SplayTree} with natural ordering.
+   * <p> Time complexity: O(1)
+   */
+  public static <K extends Comparable<? super K>> SplayTree<K> empty() {
+    return new SplayTree<K>(Comparator.naturalOrder());
+  }
+
+  /**
+   * Creates an empty {@code SplayTree} with a specified comparator.
+   * <p> Time complexity: O(1)
+   */
+  public static <K> SplayTree<K> empty(Comparator<K> comparator) {
+    return new SplayTree<>(comparator);
+  }
+
+  /**
+   * Creates a new {@code SplayTree} from a generic {@code SearchTree}.
+   * <p> Time complexity: O(n log n) amortized, due to repeated insertions.
+   */
+  public static <K> SplayTree<K> copyOf(SearchTree<K> that) {
+    if (that instanceof SplayTree<K> splayTree) {
+      return copyOf(splayTree);
+    }
+    SplayTree<K> copy = new SplayTree<>(that.comparator());
+    for (K key : that.preOrder()) {
+      copy.insert(key);
+    }
+    return copy;
+  }
+
+  /**
+   * Creates a new {@code SplayTree} that is an exact structural copy of the given {@code SplayTree}.
+   * Nodes are copied iteratively, as splay trees may temporarily degenerate into long paths.
+   * <p> Time complexity: O(n)
+   */
+  public static <K> SplayTree<K> copyOf(SplayTree<K> that) {
+    if (that.root == null) {
+      return new SplayTree<>(that.comparator);
+    }
+    Node<K> rootCopy = new Node<>(that.root.key);
+    Stack<Node<K>> originals = JDKStack.empty();
+    Stack<Node<K>> copies = JDKStack.empty();
+    originals.push(that.root);
+    copies.push(rootCopy);
+    while (!originals.isEmpty()) {
+      Node<K> original = originals.top();
+      originals.pop();
+      Node<K> copy = copies.top();
+      copies.pop();
+      if (original.left != null) {
+        copy.left = new Node<>(original.left.key);
+        originals.push(original.left);
+        copies.push(copy.left);
+      }
+      if (original.right != null) {
+        copy.right = new Node<>(original.right.key);
+        originals.push(original.right);
+        copies.push(copy.right);
+      }
+    }
+    return new SplayTree<>(that.comparator, rootCopy, that.size);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public Comparator<K> comparator() {
+    return comparator;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean isEmpty() {
+    return root == null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Computed level by level, as splay trees may temporarily degenerate into long paths.
+   * <p> Time complexity: O(n)
+   */
+  @Override
+  public int height() {
+    int height = 0;
+    Queue<Node<K>> level = JDKQueue.empty();
+    if (root != null) {
+      level.enqueue(root);
+    }
+    while (!level.isEmpty()) {
+      height++;
+      for (int i = level.size(); i > 0; i--) {
+        Node<K> node = level.first();
+        level.dequeue();
+        if (node.left != null) {
+          level.enqueue(node.left);
+        }
+        if (node.right != null) {
+          level.enqueue(node.right);
+        }
+      }
+    }
+    return height;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public void clear() {
+    root = null;
+    size = 0;
+    modificationCount++;
+  }
+
+  /**
+   * Top-down splay of a non-empty tree: moves the node with given key to the root or, if the key is
+   * not in the tree, the last node found while searching for it. Nodes smaller than the new root are
+   * collected in a left tree and greater ones in a right tree, which become its subtrees at the end.
+   */
+  private void splay(K key) {
+    restructureCount++;
+    Node<K> leftTreeMax = header, rightTreeMin = header;
+    Node<K> node = root;
+    while (true) {
+      int cmp = comparator.compare(key, node.key);
+      if (cmp < 0) {
+        if (node.left == null) {
+          break;
+        }
+        if (comparator.compare(key, node.left.key) < 0) {
+          // zig-zig: rotate right
+          Node<K> left = node.left;
+          node.left = left.right;
+          left.right = node;
+          node = left;
+          if (node.left == null) {
+            break;
+          }
+        }
+        // link node into right tree
+        rightTreeMin.left = node;
+        rightTreeMin = node;
+        node = node.left;
+      } else if (cmp > 0) {
+        if (node.right == null) {
+          break;
+        }
+        if (comparator.compare(key, node.right.key) > 0) {
+          // zag-zag: rotate left
+          Node<K> right = node.right;
+          node.right = right.left;
+          right.left = node;
+          node = right;
+          if (node.right == null) {
+            break;
+          }
+        }
+        // link node into left tree
+        leftTreeMax.right = node;
+        leftTreeMax = node;
+        node = node.right;
+      } else {
+        break;
+      }
+    }
+    // assemble left tree, node and right tree
+    leftTreeMax.right = node.left;
+    rightTreeMin.left = node.right;
+    node.left = header.right;
+    node.right = header.left;
+    header.left = header.right = null;
+    root = node;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) amortized.
+   */
+  @Override
+  public void insert(K key) {
+    if (root == null) {
+      root = new Node<>(key);
+      size++;
+      modificationCount++;
+      return;
+    }
+    splay(key);
+    int cmp = comparator.compare(key, root.key);
+    if (cmp == 0) {
+      root.key = key; // Replace existing key
+      return;
+    }
+    Node<K> node = new Node<>(key);
+    if (cmp < 0) {
+      node.left = root.left;
+      node.right = root;
+      root.left = null;
+    } else {
+      node.right = root.right;
+      node.left = root;
+      root.right = null;
+    }
+    root = node;
+    size++;
+    modificationCount++;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Moves the searched key, or a key close to it if it is not found, to the root of the tree.
+   * <p> Time complexity: O(log n) amortized.
+   */
+  @Override
+  public K search(K key) {
+    if (root == null) {
+      return null;
+    }
+    splay(key);
+    return comparator.compare(key, root.key) == 0 ? root.key : null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Moves the searched key, or a key close to it if it is not found, to the root of the tree.
+   * <p> Time complexity: O(log n) amortized.
+   */
+  @Override
+  public boolean contains(K key) {
+    return search(key) != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) amortized.
+   */
+  @Override
+  public void delete(K key) {
+    if (root == null) {
+      return;
+    }
+    splay(key);
+    if (comparator.compare(key, root.key) != 0) {
+      return; // Key not found
+    }
+    removeRoot();
+  }
+
+  /**
+   * Removes the root node. If it has a left subtree, its maximum key is splayed to its root, so that
+   * it has no right child and the right subtree of the removed root can be attached there.
+   */
+  private void removeRoot() {
+    if (root.left == null) {
+      root = root.right;
+    } else {
+      Node<K> right = root.right;
+      K key = root.key;
+      root = root.left;
+      splay(key); // key is greater than any key in left subtree
+      root.right = right;
+    }
+    size--;
+    modificationCount++;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Moves the minimum key to the root of the tree.
+   * <p> Time complexity: O(log n) amortized.
+   */
+  @Override
+  public K minimum() {
+    if (root == null) {
+      throw new EmptySearchTreeException("minimum on empty tree");
+    }
+    splayMinimum();
+    return root.key;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Moves the maximum key to the root of the tree.
+   * <p> Time complexity: O(log n) amortized.
+   */
+  @Override
+  public K maximum() {
+    if (root == null) {
+      throw new EmptySearchTreeException("maximum on empty tree");
+    }
+    splayMaximum();
+    return root.key;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) amortized.
+   */
+  @Override
+  public void deleteMinimum() {
+    if (root == null) {
+      throw new EmptySearchTreeException("deleteMinimum on empty tree");
+    }
+    splayMinimum();
+    root = root.right;
+    size--;
+    modificationCount++;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) amortized.
+   */
+  @Override
+  public void deleteMaximum() {
+    if (root == null) {
+      throw new EmptySearchTreeException("deleteMaximum on empty tree");
+    }
+    splayMaximum();
+    root = root.left;
+    size--;
+    modificationCount++;
+  }
+
+  private void splayMinimum() {
+    Node<K> node = root;
+    while (node.left != null) {
+      node = node.left;
+    }
+    splay(node.key);
+  }
+
+  private void splayMaximum() {
+    Node<K> node = root;
+    while (node.right != null) {
+      node = node.right;
+    }
+    splay(node.key);
+  }
+
+  // An abstract base for pre-order and post-order iterators, whose order depends on the shape of the
+  // tree. Traversals do not splay the tree, but fail if it is splayed or modified while in progress.
+  private abstract class Traversal implements Iterator<K> {
+    final Stack<Either<Node<K>, Node<K>>> stack = JDKStack.empty();
+    private final int expectedModificationCount = modificationCount;
+    private final int expectedRestructureCount = restructureCount;
+
+    public Traversal() {
+      if (root != null) {
+        pushTree(root);
+      }
+    }
+
+    abstract void pushTree(Node<K> node);
+
+    @Override
+    public boolean hasNext() {
+      return !stack.isEmpty();
+    }
+
+    @Override
+    public K next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (modificationCount != expectedModificationCount || restructureCount != expectedRestructureCount) {
+        throw new ConcurrentModificationException();
+      }
+      Either<Node<K>, Node<K>> either = stack.top();
+      stack.pop();
+      while (either.isRight()) {
+        Node<K> node = either.right();
+        pushTree(node);
+        either = stack.top();
+        stack.pop();
+      }
+      return either.left().key;
+    }
+  }
+
+  // In-order iterator that keeps a stack with the next node on top and, below it, those of its
+  // ancestors where the path from the root turns left. Lookups that splay the tree do not change the
+  // keys in the tree, so if one restructures the tree while the iterator is in progress, the
+  // iterator rebuilds its stack along a search for the last key it returned and goes on. It fails
+  // if keys are inserted or deleted.
+  private final class InOrderIterator implements Iterator<K> {
+    private final Stack<Node<K>> stack = JDKStack.empty();
+    private final int expectedModificationCount = modificationCount;
+    private int expectedRestructureCount = restructureCount;
+    private boolean started = false;  // Whether some key has been returned.
+    private K lastKey;                // Last key returned.
+
+    InOrderIterator() {
+      pushLeftSpine(root);
+    }
+
+    private void pushLeftSpine(Node<K> node) {
+      while (node != null) {
+        stack.push(node);
+        node = node.left;
+      }
+    }
+
+    /**
+     * Rebuilds the stack for the restructured tree: pending nodes are those where a search for the last
+     * returned key turns left.
+     */
+    private void resume() {
+      stack.clear();
+      if (!started) {
+        pushLeftSpine(root);
+      } else {
+        Node<K> node = root;
+        while (node != null) {
+          if (comparator.compare(lastKey, node.key) < 0) {
+            stack.push(node);
+            node = node.left;
+          } else {
+            node = node.right;
+          }
+        }
+      }
+      expectedRestructureCount = restructureCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+      // the number of pending keys does not depend on the shape of the tree
+      return !stack.isEmpty();
+    }
+
+    @Override
+    public K next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (modificationCount != expectedModificationCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (restructureCount != expectedRestructureCount) {
+        resume();
+      }
+      Node<K> node = stack.top();
+      stack.pop();
+      pushLeftSpine(node.right);
+      started = true;
+      lastKey = node.key;
+      return node.key;
+    }
+  }
+
+  private final class PreOrderIterator extends Traversal {
+    void pushTree(Node<K> node) {
+      if (node.right != null) stack.push(Either.right(node.right));
+      if (node.left != null) stack.push(Either.right(node.left));
+      stack.push(Either.left(node));
+    }
+  }
+
+  private final class PostOrderIterator extends Traversal {
+    void pushTree(Node<K> node) {
+      stack.push(Either.left(node));
+      if (node.right != null) stack.push(Either.right(node.right));
+      if (node.left != null) stack.push(Either.right(node.left));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterable<K> inOrder() {
+    return InOrderIterator::new;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterable<K> preOrder() {
+    return PreOrderIterator::new;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterable<K> postOrder() {
+    return PostOrderIterator::new;
+  }
+
+  /**
+   * Returns representation of this search tree as a String.
+   */
+  @Override
+  public String toString() {
+    String className = getClass().getSimpleName();
+    StringBuilder sb = new StringBuilder(className).append("(");
+    toString(sb, root);
+    sb.append(")");
+    return sb.toString();
+  }
+
+  /*
+   * Appends the representation of the tree rooted at node. The tree may be as high as its size, so it
+   * is traversed with an explicit stack of pending subtrees and pending text, pushed in reverse order.
+   */
+  private static void toString(StringBuilder sb, Node<?> node) {
+    Stack<Either<Node<?>, String>> stack = JDKStack.empty();
+    stack.push(Either.left(node));
+    while (!stack.isEmpty()) {
+      Either<Node<?>, String> either = stack.top();
+      stack.pop();
+      if (either.isRight()) {
+        sb.append(either.right());
+      } else if (either.left() == null) {
+        sb.append("null");
+      } else {
+        Node<?> current = either.left();
+        sb.append("Node(");
+        stack.push(Either.right(")"));
+        stack.push(Either.left(current.right));
+        stack.push(Either.right(", " + current.key + ", "));
+        stack.push(Either.left(current.left));
+      }
+    }
+  }
+}
@@ -0,0 +1,645 @@
+package org.uma.ed.datastructures.searchtree;
+
+import org.uma.ed.datastructures.either.Either;
+import org.uma.ed.datastructures.stack.JDKStack;
+import org.uma.ed.datastructures.stack.Stack;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An implementation of the {@link SearchTree} interface using a treap (a randomized search tree).
+ * <p>
+ * Each node stores, besides its key, a random priority. Nodes are arranged as a binary search tree
+ * with respect to keys and as a max-heap with respect to priorities, so the shape of the tree is the
+ * one that would be obtained by inserting keys in random order, and its expected height is O(log n)
+ * regardless of the order in which keys are actually inserted.
+ * <p>
+ * Following Seidel and Aragon, every successful search draws a new random priority for the found
+ * key and keeps it if it is higher than the current one, rotating the node upwards as needed. The
+ * priority of a key accessed k times is thus the maximum of k random numbers, so frequently accessed
+ * keys tend to move towards the root and are found faster under skewed access patterns. Note that
+ * {@code search} and {@code contains} may therefore modify the shape of the tree.
+ * <p>
+ * Iterators are fail-fast: if keys are inserted or deleted after an iterator is created, the next call
+ * to {@code next()} on it throws a {@link ConcurrentModificationException}. Lookups may promote a key
+ * but keep the keys in the tree, so in-order iterators resume after them, at the cost of a search from
+ * the root. Thus, a treap can be searched while it is iterated in order, as sets and dictionaries do. As
+ * pre-order and post-order depend on the shape of the tree, those iterators also fail after a promotion.
+ *
+ * @param <K> The type of keys maintained by this search tree.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class Treap<K> implements SearchTree<K> {
+
+  /**
+   * Internal class representing a node in the treap.
+   */
+  private static final class Node<K> {
+    K key;
+    int priority;
+    Node<K> left, right;
+
+    Node(K key, int priority) {
+      this.key = key;
+      this.priority = priority;
+      this.left = null;
+      this.right = null;
+    }
+
+    /**
+     * Performs a right rotation on this node.
+     * @return The new root of the rotated subtree.
+     */
+    Node<K> rightRotated() {
+      Node<K> newRoot = this.left;
+      this.left = newRoot.right;
+      newRoot.right = this;
+      return newRoot;
+    }
+
+    /**
+     * Performs a left rotation on this node.
+     * @return The new root of the rotated subtree.
+     */
+    Node<K> leftRotated() {
+      Node<K> newRoot = this.right;
+      this.right = newRoot.left;
+      newRoot.left = this;
+      return newRoot;
+    }
+  }
+
+  /*
+   * INVARIANT:
+   *  - The `root` points to the root of the tree, or is null if the tree is empty.
+   *  - For any given node `n`, all keys in its left subtree are smaller than `n.key`.
+   *  - For any given node `n`, all keys in its right subtree are greater than `n.key`.
+   *  - For any given node `n`, the priorities of its children are not greater than `n.priority`.
+   *  - There are no duplicate keys in the tree.
+   *  - `size` is the total number of nodes in the tree.
+   *  - `modificationCount` changes whenever keys are inserted or deleted.
+   *  - `restructureCount` changes whenever a key is promoted.
+   */
+
+  private final Comparator<K> comparator;
+  private Node<K> root;
+  private int size;
+  private int modificationCount;   // used by iterators to detect insertions and deletions
+  private int restructureCount;    // used by iterators to detect promotions
+
+  /**
+   * Private constructor for internal use.
+   */
+  private Treap(Comparator<K> comparator, Node<K> root, int size) {
+    this.comparator = comparator;
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Constructs an empty {@code Treap} with a specified comparator.
+   * <p> Time complexity: O(1)
+   */
+  public Treap(Comparator<K> comparator) {
+    this(comparator, null, 0);
+  }
+
+  /**
+   * Creates an empty {@code Treap} with natural ordering.
+   * <p> Time complexity: O(1)
+   */
+  public static <K extends Comparable<? super K>> Treap<K> empty() {
+    return new Treap<K>(Comparator.naturalOrder());
+  }
+
+  /**
+   * Creates an empty {@code Treap} with a specified comparator.
+   * <p> Time complexity: O(1)
+   */
+  public static <K> Treap<K> empty(Comparator<K> comparator) {
+    return new Treap<>(comparator);
+  }
+
+  /**
+   * Creates a new {@code Treap} from a generic {@code SearchTree}.
+   * <p> Time complexity: O(n log n) expected, due to repeated insertions.
+   */
+  public static <K> Treap<K> copyOf(SearchTree<K> that) {
+    if (that instanceof Treap<K> treap) {
+      return copyOf(treap);
+    }
+    Treap<K> copy = new Treap<>(that.comparator());
+    for (K key : that.preOrder()) {
+      copy.insert(key);
+    }
+    return copy;
+  }
+
+  /**
+   * Creates a new {@code Treap} that is an exact structural copy of the given {@code Treap},
+   * including the priorities of its nodes.
+   * <p> Time complexity: O(n)
+   */
+  public static <K> Treap<K> copyOf(Treap<K> that) {
+    return new Treap<>(that.comparator, copyOf(that.root), that.size);
+  }
+
+  private static <K> Node<K> copyOf(Node<K> node) {
+    if (node == null) {
+      return null;
+    }
+    Node<K> copy = new Node<>(node.key, node.priority);
+    copy.left = copyOf(node.left);
+    copy.right = copyOf(node.right);
+    return copy;
+  }
+
+  private static int randomPriority() {
+    return ThreadLocalRandom.current().nextInt();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public Comparator<K> comparator() {
+    return comparator;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean isEmpty() {
+    return root == null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(n)
+   */
+  @Override
+  public int height() {
+    return height(root);
+  }
+
+  private static int height(Node<?> node) {
+    return node == null ? 0 : 1 + Math.max(height(node.left), height(node.right));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public void clear() {
+    root = null;
+    size = 0;
+    modificationCount++;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public void insert(K key) {
+    int oldSize = size;
+    root = insert(root, key);
+    if (size != oldSize) {
+      modificationCount++;
+    }
+  }
+
+  /**
+   * Internal recursive method to insert a key and restore heap order on the way up.
+   */
+  private Node<K> insert(Node<K> node, K key) {
+    if (node == null) {
+      size++;
+      return new Node<>(key, randomPriority());
+    }
+    int cmp = comparator.compare(key, node.key);
+    if (cmp < 0) {
+      node.left = insert(node.left, key);
+      if (node.left.priority > node.priority) {
+        node = node.rightRotated();
+      }
+    } else if (cmp > 0) {
+      node.right = insert(node.right, key);
+      if (node.right.priority > node.priority) {
+        node = node.leftRotated();
+      }
+    } else {
+      node.key = key; // Replace existing key
+    }
+    return node;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> If the key is found, it may be moved towards the root of the tree.
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public K search(K key) {
+    Node<K> node = root;
+    while (node != null) {
+      int cmp = comparator.compare(key, node.key);
+      if (cmp < 0) {
+        node = node.left;
+      } else if (cmp > 0) {
+        node = node.right;
+      } else {
+        int priority = randomPriority();
+        if (priority > node.priority) {
+          root = promote(root, key, priority);
+          restructureCount++;
+        }
+        return node.key;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Internal recursive method that raises the priority of the node with given key, which must be in
+   * the tree, and rotates it upwards while its priority is higher than its parent's one.
+   */
+  private Node<K> promote(Node<K> node, K key, int priority) {
+    int cmp = comparator.compare(key, node.key);
+    if (cmp < 0) {
+      node.left = promote(node.left, key, priority);
+      if (node.left.priority > node.priority) {
+        node = node.rightRotated();
+      }
+    } else if (cmp > 0) {
+      node.right = promote(node.right, key, priority);
+      if (node.right.priority > node.priority) {
+        node = node.leftRotated();
+      }
+    } else {
+      node.priority = priority;
+    }
+    return node;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> If the key is found, it may be moved towards the root of the tree.
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public boolean contains(K key) {
+    return search(key) != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public void delete(K key) {
+    int oldSize = size;
+    root = delete(root, key);
+    if (size != oldSize) {
+      modificationCount++;
+    }
+  }
+
+  /**
+   * Internal recursive method to delete a key.
+   */
+  private Node<K> delete(Node<K> node, K key) {
+    if (node == null) {
+      return null; // Key not found. Nothing to delete.
+    }
+    int cmp = comparator.compare(key, node.key);
+    if (cmp < 0) {
+      node.left = delete(node.left, key);
+    } else if (cmp > 0) {
+      node.right = delete(node.right, key);
+    } else {
+      node = join(node.left, node.right);
+      size--;
+    }
+    return node;
+  }
+
+  /**
+   * Joins two treaps where all keys in {@code left} are smaller than all keys in {@code right},
+   * keeping the root with highest priority at the top.
+   */
+  private static <K> Node<K> join(Node<K> left, Node<K> right) {
+    if (left == null) {
+      return right;
+    } else if (right == null) {
+      return left;
+    } else if (left.priority > right.priority) {
+      left.right = join(left.right, right);
+      return left;
+    } else {
+      right.left = join(left, right.left);
+      return right;
+    }
+  }
+
+  /**
+   * A utility method to check if the tree rooted at this instance is a valid treap.
+   * Primarily for testing and debugging.
+   */
+  public boolean isTreap() {
+    return isTreap(root, null, null);
+  }
+
+  private boolean isTreap(Node<K> node, K min, K max) {
+    if (node == null) {
+      return true;
+    }
+    if (min != null && comparator.compare(node.key, min) <= 0) {
+      return false;
+    }
+    if (max != null && comparator.compare(node.key, max) >= 0) {
+      return false;
+    }
+    if ((node.left != null && node.left.priority > node.priority)
+        || (node.right != null && node.right.priority > node.priority)) {
+      return false;
+    }
+    return isTreap(node.left, min, node.key) && isTreap(node.right, node.key, max);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public K minimum() {
+    if (root == null) {
+      throw new EmptySearchTreeException("minimum on empty tree");
+    }
+    Node<K> node = root;
+    while (node.left != null) {
+      node = node.left;
+    }
+    return node.key;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public K maximum() {
+    if (root == null) {
+      throw new EmptySearchTreeException("maximum on empty tree");
+    }
+    Node<K> node = root;
+    while (node.right != null) {
+      node = node.right;
+    }
+    return node.key;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public void deleteMinimum() {
+    if (root == null) {
+      throw new EmptySearchTreeException("deleteMinimum on empty tree");
+    }
+    Node<K> parent = null;
+    Node<K> node = root;
+    while (node.left != null) {
+      parent = node;
+      node = node.left;
+    }
+    // removing a node with no left child keeps heap order, as its right child replaces it
+    if (parent == null) {
+      root = node.right;
+    } else {
+      parent.left = node.right;
+    }
+    size--;
+    modificationCount++;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public void deleteMaximum() {
+    if (root == null) {
+      throw new EmptySearchTreeException("deleteMaximum on empty tree");
+    }
+    Node<K> parent = null;
+    Node<K> node = root;
+    while (node.right != null) {
+      parent = node;
+      node = node.right;
+    }
+    if (parent == null) {
+      root = node.left;
+    } else {
+      parent.right = node.left;
+    }
+    size--;
+    modificationCount++;
+  }
+
+  // An abstract base for pre-order and post-order iterators, whose order depends on the shape of the
+  // treap. They fail if keys are inserted, deleted or promoted while in progress.
+  private abstract class Traversal implements Iterator<K> {
+    final Stack<Either<Node<K>, Node<K>>> stack = JDKStack.empty();
+    private final int expectedModificationCount = modificationCount;
+    private final int expectedRestructureCount = restructureCount;
+
+    public Traversal() {
+      if (root != null) {
+        pushTree(root);
+      }
+    }
+
+    abstract void pushTree(Node<K> node);
+
+    @Override
+    public boolean hasNext() {
+      return !stack.isEmpty();
+    }
+
+    @Override
+    public K next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (modificationCount != expectedModificationCount || restructureCount != expectedRestructureCount) {
+        throw new ConcurrentModificationException();
+      }
+      Either<Node<K>, Node<K>> either = stack.top();
+      stack.pop();
+      while (either.isRight()) {
+        Node<K> node = either.right();
+        pushTree(node);
+        either = stack.top();
+        stack.pop();
+      }
+      return either.left().key;
+    }
+  }
+
+  // In-order iterator that keeps a stack with the next node on top and, below it, those of its
+  // ancestors where the path from the root turns left. Lookups that promote a key do not change the
+  // keys in the tree, so if one restructures the tree while the iterator is in progress, the
+  // iterator rebuilds its stack along a search for the last key it returned and goes on. It fails
+  // if keys are inserted or deleted.
+  private final class InOrderIterator implements Iterator<K> {
+    private final Stack<Node<K>> stack = JDKStack.empty();
+    private final int expectedModificationCount = modificationCount;
+    private int expectedRestructureCount = restructureCount;
+    private boolean started = false;  // Whether some key has been returned.
+    private K lastKey;                // Last key returned.
+
+    InOrderIterator() {
+      pushLeftSpine(root);
+    }
+
+    private void pushLeftSpine(Node<K> node) {
+      while (node != null) {
+        stack.push(node);
+        node = node.left;
+      }
+    }
+
+    /**
+     * Rebuilds the stack for the restructured tree: pending nodes are those where a search for the last
+     * returned key turns left.
+     */
+    private void resume() {
+      stack.clear();
+      if (!started) {
+        pushLeftSpine(root);
+      } else {
+        Node<K> node = root;
+        while (node != null) {
+          if (comparator.compare(lastKey, node.key) < 0) {
+            stack.push(node);
+            node = node.left;
+          } else {
+            node = node.right;
+          }
+        }
+      }
+      expectedRestructureCount = restructureCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+      // the number of pending keys does not depend on the shape of the tree
+      return !stack.isEmpty();
+    }
+
+    @Override
+    public K next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (modificationCount != expectedModificationCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (restructureCount != expectedRestructureCount) {
+        resume();
+      }
+      Node<K> node = stack.top();
+      stack.pop();
+      pushLeftSpine(node.right);
+      started = true;
+      lastKey = node.key;
+      return node.key;
+    }
+  }
+
+  private final class PreOrderIterator extends Traversal {
+    void pushTree(Node<K> node) {
+      if (node.right != null) stack.push(Either.right(node.right));
+      if (node.left != null) stack.push(Either.right(node.left));
+      stack.push(Either.left(node));
+    }
+  }
+
+  private final class PostOrderIterator extends Traversal {
+    void pushTree(Node<K> node) {
+      stack.push(Either.left(node));
+      if (node.right != null) stack.push(Either.right(node.right));
+      if (node.left != null) stack.push(Either.right(node.left));
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterable<K> inOrder() {
+    return InOrderIterator::new;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterable<K> preOrder() {
+    return PreOrderIterator::new;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Iterable<K> postOrder() {
+    return PostOrderIterator::new;
+  }
+
+  /**
+   * Returns representation of this search tree as a String.
+   */
+  @Override
+  public String toString() {
+    String className = getClass().getSimpleName();
+    StringBuilder sb = new StringBuilder(className).append("(");
+    toString(sb, root);
+    sb.append(")");
+    return sb.toString();
+  }
+
+  private static void toString(StringBuilder sb, Node<?> node) {
+    if (node == null) {
+      sb.append("null");
+    } else {
+      sb.append("Node(");
+      toString(sb, node.left);
+      sb.append(", ");
+      sb.append(node.key);
+      sb.append(", ");
+      toString(sb, node.right);
+      sb.append(")");
+    }
+  }
+}
@@ -1,11 +1,15 @@
 package org.uma.ed.datastructures.set;
 
 import org.uma.ed.datastructures.searchtree.AVL;
+import org.uma.ed.datastructures.searchtree.PersistentAVL;
 import org.uma.ed.datastructures.searchtree.SearchTree;
+import org.uma.ed.datastructures.searchtree.SplayTree;
+import org.uma.ed.datastructures.searchtree.Treap;
+import org.uma.ed.datastructures.utils.iterator.SeekableIterator;
 
 import java.util.Comparator;
-import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 
 /**
  * An implementation of the {@link SortedSet} interface using a balanced {@link AVL} tree.
@@ -14,6 +18,11 @@ import java.util.NoSuchElementException;
  * {@code AVL} tree instance. This design leverages the AVL tree's self-balancing
  * property to guarantee logarithmic time complexity O(log n) for core operations like
  * {@code insert}, {@code delete}, and {@code contains}.
+ * <p>
+ * Sets created with {@link #persistent(Comparator)} are backed by a {@link PersistentAVL} tree
+ * instead, so that copying them is an O(1) operation.
+ * Sets created with {@link #splay(Comparator)} or {@link #treap(Comparator)} are backed by a
+ * {@link SplayTree} or a {@link Treap}, which favor recently or frequently accessed elements.
  *
  * @param <T> The type of elements held in this sorted set.
  *
@@ -27,9 +36,9 @@ public class AVLSet<T> extends AbstractSortedSet<T> implements SortedSet<T> {
   private final SearchTree<T> avlTree;
 
   /**
-   * Private constructor to wrap an existing {@code AVL} tree.
+   * Private constructor to wrap an existing search tree.
    */
-  private AVLSet(AVL<T> avlTree) {
+  private AVLSet(SearchTree<T> avlTree) {
     this.avlTree = avlTree;
   }
 
@@ -57,6 +66,63 @@ public class AVLSet<T> extends AbstractSortedSet<T> implements SortedSet<T> {
     return AVLSet.<T>empty(Comparator.naturalOrder());
   }
 
+  /**
+   * Creates an empty {@code AVLSet} backed by a {@link PersistentAVL} tree, with a specified comparator.
+   * Copies of this set taken with {@link #copyOf(AVLSet)} share all nodes with it.
+   * <p> Time complexity: O(1)
+   */
+  public static <T> AVLSet<T> persistent(Comparator<T> comparator) {
+    return new AVLSet<>(PersistentAVL.empty(comparator));
+  }
+
+  /**
+   * Creates an empty {@code AVLSet} backed by a {@link PersistentAVL} tree, with natural ordering.
+   * <p> Time complexity: O(1)
+   */
+  public static <T extends Comparable<? super T>> AVLSet<T> persistent() {
+    return AVLSet.<T>persistent(Comparator.naturalOrder());
+  }
+
+  /**
+   * Creates an empty {@code AVLSet} backed by a {@link SplayTree}, with a specified comparator.
+   * Recently accessed elements are found faster, but operations run in O(log n) amortized time.
+   * <p> Lookups splay the underlying tree, but may be done while iterating the set. Inserting or
+   * deleting elements while iterating makes the iterator throw a
+   * {@link java.util.ConcurrentModificationException}, as with other sets.
+   * <p> Time complexity: O(1)
+   */
+  public static <T> AVLSet<T> splay(Comparator<T> comparator) {
+    return new AVLSet<>(SplayTree.empty(comparator));
+  }
+
+  /**
+   * Creates an empty {@code AVLSet} backed by a {@link SplayTree}, with natural ordering.
+   * <p> Time complexity: O(1)
+   */
+  public static <T extends Comparable<? super T>> AVLSet<T> splay() {
+    return AVLSet.<T>splay(Comparator.naturalOrder());
+  }
+
+  /**
+   * Creates an empty {@code AVLSet} backed by a {@link Treap}, with a specified comparator.
+   * Frequently accessed elements are found faster, and operations run in O(log n) expected time.
+   * <p> Lookups may restructure the underlying tree, but may be done while iterating the set.
+   * Inserting or deleting elements while iterating makes the iterator throw a
+   * {@link java.util.ConcurrentModificationException}, as with other sets.
+   * <p> Time complexity: O(1)
+   */
+  public static <T> AVLSet<T> treap(Comparator<T> comparator) {
+    return new AVLSet<>(Treap.empty(comparator));
+  }
+
+  /**
+   * Creates an empty {@code AVLSet} backed by a {@link Treap}, with natural ordering.
+   * <p> Time complexity: O(1)
+   */
+  public static <T extends Comparable<? super T>> AVLSet<T> treap() {
+    return AVLSet.<T>treap(Comparator.naturalOrder());
+  }
+
   /**
    * Creates a new {@code AVLSet} from the given elements, ordered by the specified comparator.
    * <p> Time complexity: O(m log n), where m is the number of elements to insert and n is the final size.
@@ -100,9 +166,18 @@ public class AVLSet<T> extends AbstractSortedSet<T> implements SortedSet<T> {
   /**
    * Creates a new {@code AVLSet} that is a copy of the given one.
    * <p> This is an efficient O(n) operation as it copies the tree structure directly.
-   * <p> Time complexity: O(n)
+   * If the given set is backed by a {@code PersistentAVL} tree, the copy shares all nodes
+   * with it and no node is copied at all.
+   * <p> Time complexity: O(n), or O(1) for persistent sets.
    */
   public static <T> AVLSet<T> copyOf(AVLSet<T> that) {
+    if (that.avlTree instanceof PersistentAVL<T> persistentAVL) {
+      return new AVLSet<>(persistentAVL.snapshot());
+    } else if (that.avlTree instanceof SplayTree<T> splayTree) {
+      return new AVLSet<>(SplayTree.copyOf(splayTree));
+    } else if (that.avlTree instanceof Treap<T> treap) {
+      return new AVLSet<>(Treap.copyOf(treap));
+    }
     return new AVLSet<>(AVL.copyOf(that.avlTree));
   }
 
@@ -207,10 +282,20 @@ public class AVLSet<T> extends AbstractSortedSet<T> implements SortedSet<T> {
 
   /**
    * {@inheritDoc}
-   * The iterator returns elements in ascending sorted order.
+   * The iterator returns elements in ascending sorted order, and can skip forward to a given
+   * element in O(log n) time for sets backed by an {@code AVL} tree.
+   */
+  @Override
+  public SeekableIterator<T> iterator() {
+    return avlTree.inOrderIterator();
+  }
+
+  /**
+   * {@inheritDoc}
+   * Elements are visited in ascending sorted order without creating an iterator.
    */
   @Override
-  public Iterator<T> iterator() {
-    return avlTree.inOrder().iterator();
+  public void forEach(Consumer<? super T> action) {
+    avlTree.forEachInOrder(action);
   }
 }
\ No newline at end of file
@@ -0,0 +1,152 @@
+package org.uma.ed.datastructures.set;
+
+import org.uma.ed.datastructures.utils.hashCode.HashCode;
+
+import java.util.Arrays;
+
+/**
+ * A {@link MembershipFilter} implemented as a Bloom filter: an array of m bits and k hash functions.
+ * <p>
+ * Inserting an element sets the k bits selected by its hash functions, and an element may be in
+ * the filter only if all of its k bits are set. Bits are probed in order and the test stops at the
+ * first one that is not set, so a lookup for an absent element usually reads just one or two bits.
+ * The k hash functions are derived from a single 64-bit hash, as {@code h1 + i * h2}.
+ * <p>
+ * For a capacity of n elements and a false positive rate p, the filter uses
+ * {@code m = -n ln p / (ln 2)²} bits, about 9.6 bits per element for p = 1%, and
+ * {@code k = (m/n) ln 2} hash functions. Bits cannot be reset for a single element, so deletion is
+ * not supported.
+ * <p>
+ * {@code insert} and {@code mightContain} run in O(k) time.
+ *
+ * @param <T> The type of elements summarized by this filter.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class BloomFilter<T> implements MembershipFilter<T> {
+
+  private final long[] bits;        // Bit array, 64 bits per word.
+  private final long numBits;       // Number of bits m.
+  private final int numHashes;      // Number of hash functions k.
+  private final int capacity;       // Expected number of elements n.
+
+  /**
+   * Constructs an empty {@code BloomFilter} with a given number of bits and hash functions.
+   * <p> Time complexity: O(numBits)
+   *
+   * @param numBits   number of bits in the filter.
+   * @param numHashes number of hash functions.
+   * @param capacity  expected number of elements.
+   * @throws IllegalArgumentException if any argument is not positive.
+   */
+  public BloomFilter(long numBits, int numHashes, int capacity) {
+    if (numBits <= 0 || numHashes <= 0 || capacity <= 0) {
+      throw new IllegalArgumentException("Number of bits, hashes and capacity must be greater than 0");
+    }
+    this.bits = new long[Math.toIntExact((numBits + 63) / 64)];
+    this.numBits = numBits;
+    this.numHashes = numHashes;
+    this.capacity = capacity;
+  }
+
+  /**
+   * Creates an empty {@code BloomFilter} sized to hold a given number of elements with a given
+   * false positive rate.
+   * <p> Time complexity: O(-n ln p)
+   *
+   * @param capacity          expected number of elements.
+   * @param falsePositiveRate desired false positive rate when the filter holds {@code capacity} elements.
+   * @return an empty {@code BloomFilter}.
+   * @throws IllegalArgumentException if the capacity is not positive or the rate is not in (0, 1).
+   */
+  public static <T> BloomFilter<T> withCapacity(int capacity, double falsePositiveRate) {
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("False positive rate must be in (0, 1)");
+    }
+    double ln2 = Math.log(2);
+    long numBits = Math.max(64, (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (ln2 * ln2)));
+    int numHashes = Math.max(1, (int) Math.round((double) numBits / capacity * ln2));
+    return new BloomFilter<>(numBits, numHashes, capacity);
+  }
+
+  /**
+   * Returns the index of the i-th bit for an element, given the 64-bit hash of the element.
+   */
+  private long bitIndex(long hash, int i) {
+    int h1 = (int) hash;
+    int h2 = (int) (hash >>> 32);
+    return ((h1 + (long) i * h2) & Long.MAX_VALUE) % numBits;
+  }
+
+  /**
+   * {@inheritDoc}
+   * A Bloom filter never gets full, although its false positive rate grows beyond its capacity.
+   * <p> Time complexity: O(k)
+   */
+  @Override
+  public boolean insert(T element) {
+    long hash = HashCode.mix64(element);
+    for (int i = 0; i < numHashes; i++) {
+      long index = bitIndex(hash, i);
+      bits[(int) (index >>> 6)] |= 1L << index;
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(k), usually O(1) for absent elements.
+   */
+  @Override
+  public boolean mightContain(T element) {
+    long hash = HashCode.mix64(element);
+    for (int i = 0; i < numHashes; i++) {
+      long index = bitIndex(hash, i);
+      if ((bits[(int) (index >>> 6)] & (1L << index)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   * Bloom filters do not support deletion.
+   */
+  @Override
+  public boolean supportsDeletion() {
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(m)
+   */
+  @Override
+  public void clear() {
+    Arrays.fill(bits, 0L);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int capacity() {
+    return capacity;
+  }
+
+  /**
+   * Returns the number of hash functions used by this filter.
+   *
+   * @return the number of hash functions.
+   */
+  public int numHashes() {
+    return numHashes;
+  }
+
+  @Override
+  public String toString() {
+    return "BloomFilter(bits=" + numBits + ", hashes=" + numHashes + ", capacity=" + capacity + ")";
+  }
+}
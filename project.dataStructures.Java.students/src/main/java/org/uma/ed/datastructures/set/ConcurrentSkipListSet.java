@@ -0,0 +1,193 @@
+package org.uma.ed.datastructures.set;
+
+import org.uma.ed.datastructures.skiplist.LockFreeSkipList;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+/**
+ * A thread-safe implementation of the {@link SortedSet} interface using a {@link LockFreeSkipList}.
+ * <p>
+ * This class serves as an adapter, delegating all set operations to an underlying lock-free
+ * skip list. Core operations like {@code insert}, {@code delete}, and {@code contains} run in
+ * O(log n) expected time and can be invoked concurrently from many threads without any
+ * external synchronization; none of them ever blocks other threads.
+ * <p>
+ * Iteration is weakly consistent: iterators traverse the elements in ascending order, never fail
+ * because of concurrent updates, and may or may not reflect updates performed after they were
+ * created. For the same reason, {@code size()} is only an estimate while updates are in progress.
+ *
+ * @param <T> The type of elements held in this sorted set.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class ConcurrentSkipListSet<T> extends AbstractSortedSet<T> implements SortedSet<T> {
+
+  /**
+   * The underlying skip list that stores the set's elements.
+   */
+  private final LockFreeSkipList<T> skipList;
+
+  /**
+   * Constructs an empty {@code ConcurrentSkipListSet} with a specified comparator.
+   * <p> Time complexity: O(1)
+   */
+  public ConcurrentSkipListSet(Comparator<T> comparator) {
+    this.skipList = LockFreeSkipList.empty(comparator);
+  }
+
+  /**
+   * Creates an empty {@code ConcurrentSkipListSet} with a specified comparator.
+   * <p> Time complexity: O(1)
+   */
+  public static <T> ConcurrentSkipListSet<T> empty(Comparator<T> comparator) {
+    return new ConcurrentSkipListSet<>(comparator);
+  }
+
+  /**
+   * Creates an empty {@code ConcurrentSkipListSet} with natural ordering.
+   * <p> Time complexity: O(1)
+   */
+  public static <T extends Comparable<? super T>> ConcurrentSkipListSet<T> empty() {
+    return ConcurrentSkipListSet.<T>empty(Comparator.naturalOrder());
+  }
+
+  /**
+   * Creates a new {@code ConcurrentSkipListSet} from the given elements, ordered by the specified comparator.
+   * <p> Time complexity: O(m log n) expected, where m is the number of elements to insert and n is the final size.
+   */
+  @SafeVarargs
+  public static <T> ConcurrentSkipListSet<T> of(Comparator<T> comparator, T... elements) {
+    ConcurrentSkipListSet<T> set = new ConcurrentSkipListSet<>(comparator);
+    set.insert(elements);
+    return set;
+  }
+
+  /**
+   * Creates a new {@code ConcurrentSkipListSet} from the given elements with natural ordering.
+   * <p> Time complexity: O(m log n) expected.
+   */
+  @SafeVarargs
+  public static <T extends Comparable<? super T>> ConcurrentSkipListSet<T> of(T... elements) {
+    return of(Comparator.naturalOrder(), elements);
+  }
+
+  /**
+   * Creates a new {@code ConcurrentSkipListSet} from an iterable, ordered by the specified comparator.
+   * <p> Time complexity: O(m log n) expected.
+   */
+  public static <T> ConcurrentSkipListSet<T> from(Comparator<T> comparator, Iterable<T> iterable) {
+    ConcurrentSkipListSet<T> set = new ConcurrentSkipListSet<>(comparator);
+    for (T element : iterable) {
+      set.insert(element);
+    }
+    return set;
+  }
+
+  /**
+   * Creates a new {@code ConcurrentSkipListSet} from an iterable with natural ordering.
+   * <p> Time complexity: O(m log n) expected.
+   */
+  public static <T extends Comparable<? super T>> ConcurrentSkipListSet<T> from(Iterable<T> iterable) {
+    return from(Comparator.naturalOrder(), iterable);
+  }
+
+  /**
+   * Creates a new {@code ConcurrentSkipListSet} from any {@code SortedSet}.
+   * <p> Time complexity: O(n log n) expected.
+   */
+  public static <T> ConcurrentSkipListSet<T> copyOf(SortedSet<T> that) {
+    return from(that.comparator(), that);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public Comparator<T> comparator() {
+    return skipList.comparator();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean isEmpty() {
+    return skipList.isEmpty();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int size() {
+    return skipList.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public void insert(T element) {
+    skipList.insert(element);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public boolean contains(T element) {
+    return skipList.contains(element);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public void delete(T element) {
+    skipList.delete(element);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> This operation is not atomic: elements inserted concurrently may survive it.
+   * <p> Time complexity: O(n) expected.
+   */
+  @Override
+  public void clear() {
+    skipList.clear();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1) expected.
+   */
+  @Override
+  public T minimum() {
+    return skipList.minimum();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n) expected.
+   */
+  @Override
+  public T maximum() {
+    return skipList.maximum();
+  }
+
+  /**
+   * {@inheritDoc}
+   * The iterator returns elements in ascending sorted order and is weakly consistent.
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return skipList.iterator();
+  }
+}
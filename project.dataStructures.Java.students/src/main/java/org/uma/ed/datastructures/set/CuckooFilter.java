@@ -0,0 +1,243 @@
+package org.uma.ed.datastructures.set;
+
+import org.uma.ed.datastructures.utils.hashCode.HashCode;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * A {@link MembershipFilter} implemented as a cuckoo filter, which stores a short fingerprint of each
+ * element in a hash table with two candidate buckets per element, and supports deletion.
+ * <p>
+ * The table has a power of two number of buckets, each with room for 4 non-zero 16-bit fingerprints.
+ * An element with fingerprint f can be stored in bucket i1, given by its hash, or in bucket
+ * {@code i2 = i1 xor hash(f)}. As i1 can also be computed from i2 and f, a fingerprint can be moved
+ * to its alternate bucket without knowing the element. When both buckets of an element are full, a
+ * random fingerprint in one of them is evicted to its alternate bucket, which may in turn evict
+ * another one, and so on. If no free slot is found after a bounded number of evictions, the last
+ * evicted fingerprint is kept aside and the filter reports that it is full.
+ * <p>
+ * A lookup reads at most two buckets, and an absent element is reported as present only if one of
+ * the 8 fingerprints in them matches its own, which happens with probability about
+ * {@code 8/2^16 ≈ 0.012%}. Tables can be filled up to about 95% of their slots.
+ * <p>
+ * {@code insert} runs in O(1) amortized time, and {@code mightContain} and {@code delete} in O(1).
+ *
+ * @param <T> The type of elements summarized by this filter.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class CuckooFilter<T> implements MembershipFilter<T> {
+
+  private static final int BUCKET_SIZE = 4;
+  private static final double MAX_LOAD_FACTOR = 0.95;
+  private static final int MAX_EVICTIONS = 500;
+  private static final short EMPTY = 0;
+
+  private final short[] table;      // Fingerprints, BUCKET_SIZE consecutive slots per bucket.
+  private final int bucketMask;     // Number of buckets minus one.
+  private short victim;             // Fingerprint that could not be placed, or EMPTY.
+  private int victimBucket;         // One of the buckets of the victim.
+  private final SplittableRandom random;
+
+  /*
+   * INVARIANT:
+   *  - The number of buckets, table.length / BUCKET_SIZE, is a power of two.
+   *  - Every fingerprint of an element inserted and not deleted is either in one of its two buckets,
+   *    or is the victim, in which case victimBucket is one of its buckets.
+   */
+
+  /**
+   * Constructs an empty {@code CuckooFilter} with a given number of buckets.
+   * <p> Time complexity: O(numBuckets)
+   *
+   * @param numBuckets number of buckets, which must be a power of two.
+   * @throws IllegalArgumentException if the number of buckets is not a positive power of two.
+   */
+  public CuckooFilter(int numBuckets) {
+    if (numBuckets <= 0 || Integer.bitCount(numBuckets) != 1) {
+      throw new IllegalArgumentException("Number of buckets must be a positive power of two");
+    }
+    this.table = new short[numBuckets * BUCKET_SIZE];
+    this.bucketMask = numBuckets - 1;
+    this.victim = EMPTY;
+    this.random = new SplittableRandom(0);
+  }
+
+  /**
+   * Creates an empty {@code CuckooFilter} with enough buckets to hold a given number of elements.
+   * <p> Time complexity: O(capacity)
+   *
+   * @param capacity expected number of elements.
+   * @return an empty {@code CuckooFilter}.
+   * @throws IllegalArgumentException if the capacity is not positive.
+   */
+  public static <T> CuckooFilter<T> withCapacity(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Capacity must be greater than 0");
+    }
+    int minBuckets = (int) Math.ceil(capacity / (BUCKET_SIZE * MAX_LOAD_FACTOR));
+    int numBuckets = Integer.highestOneBit(minBuckets);
+    if (numBuckets < minBuckets) {
+      numBuckets *= 2;
+    }
+    return new CuckooFilter<>(numBuckets);
+  }
+
+  /**
+   * Returns the non-zero fingerprint of an element, given its 64-bit hash.
+   */
+  private static short fingerprint(long hash) {
+    short fingerprint = (short) (hash >>> 48);
+    return fingerprint == EMPTY ? 1 : fingerprint;
+  }
+
+  /**
+   * Returns the alternate bucket for a fingerprint stored in a bucket.
+   */
+  private int alternate(int bucket, short fingerprint) {
+    return (bucket ^ (fingerprint * 0x5bd1e995)) & bucketMask;
+  }
+
+  /**
+   * Stores a fingerprint in a free slot of a bucket, if there is one.
+   */
+  private boolean place(int bucket, short fingerprint) {
+    int base = bucket * BUCKET_SIZE;
+    for (int slot = base; slot < base + BUCKET_SIZE; slot++) {
+      if (table[slot] == EMPTY) {
+        table[slot] = fingerprint;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks whether a bucket stores a fingerprint.
+   */
+  private boolean bucketContains(int bucket, short fingerprint) {
+    int base = bucket * BUCKET_SIZE;
+    for (int slot = base; slot < base + BUCKET_SIZE; slot++) {
+      if (table[slot] == fingerprint) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Removes one copy of a fingerprint from a bucket, if there is one.
+   */
+  private boolean remove(int bucket, short fingerprint) {
+    int base = bucket * BUCKET_SIZE;
+    for (int slot = base; slot < base + BUCKET_SIZE; slot++) {
+      if (table[slot] == fingerprint) {
+        table[slot] = EMPTY;
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1) amortized.
+   */
+  @Override
+  public boolean insert(T element) {
+    if (victim != EMPTY) {
+      return false;
+    }
+    long hash = HashCode.mix64(element);
+    short fingerprint = fingerprint(hash);
+    int bucket1 = (int) hash & bucketMask;
+    int bucket2 = alternate(bucket1, fingerprint);
+    if (place(bucket1, fingerprint) || place(bucket2, fingerprint)) {
+      return true;
+    }
+    // evict fingerprints to their alternate buckets until one finds a free slot
+    int bucket = random.nextBoolean() ? bucket1 : bucket2;
+    for (int eviction = 0; eviction < MAX_EVICTIONS; eviction++) {
+      int slot = bucket * BUCKET_SIZE + random.nextInt(BUCKET_SIZE);
+      short evicted = table[slot];
+      table[slot] = fingerprint;
+      fingerprint = evicted;
+      bucket = alternate(bucket, fingerprint);
+      if (place(bucket, fingerprint)) {
+        return true;
+      }
+    }
+    // keep last evicted fingerprint aside, so that there are no false negatives
+    victim = fingerprint;
+    victimBucket = bucket;
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean mightContain(T element) {
+    long hash = HashCode.mix64(element);
+    short fingerprint = fingerprint(hash);
+    int bucket1 = (int) hash & bucketMask;
+    int bucket2 = alternate(bucket1, fingerprint);
+    return bucketContains(bucket1, fingerprint) || bucketContains(bucket2, fingerprint)
+        || (victim == fingerprint && (victimBucket == bucket1 || victimBucket == bucket2));
+  }
+
+  /**
+   * {@inheritDoc}
+   * Cuckoo filters support deletion.
+   */
+  @Override
+  public boolean supportsDeletion() {
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public void delete(T element) {
+    long hash = HashCode.mix64(element);
+    short fingerprint = fingerprint(hash);
+    int bucket1 = (int) hash & bucketMask;
+    int bucket2 = alternate(bucket1, fingerprint);
+    if (victim == fingerprint && (victimBucket == bucket1 || victimBucket == bucket2)) {
+      victim = EMPTY;
+    } else if (remove(bucket1, fingerprint) || remove(bucket2, fingerprint)) {
+      // a slot was freed, so victim may fit now
+      if (victim != EMPTY && (place(victimBucket, victim) || place(alternate(victimBucket, victim), victim))) {
+        victim = EMPTY;
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(number of buckets)
+   */
+  @Override
+  public void clear() {
+    Arrays.fill(table, EMPTY);
+    victim = EMPTY;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int capacity() {
+    return (int) (table.length * MAX_LOAD_FACTOR);
+  }
+
+  @Override
+  public String toString() {
+    return "CuckooFilter(buckets=" + (bucketMask + 1) + ", capacity=" + capacity() + ")";
+  }
+}
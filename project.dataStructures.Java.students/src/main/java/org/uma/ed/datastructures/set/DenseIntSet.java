@@ -0,0 +1,391 @@
+package org.uma.ed.datastructures.set;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import org.uma.ed.datastructures.range.Range;
+
+/**
+ * A bitset implementation of the {@link Set} interface for integers drawn from a bounded universe,
+ * given by a {@link Range}.
+ * <p>
+ * Each integer in the universe is represented by one bit, at its position in the range, in an array
+ * of 64-bit words. This makes the set take {@code universe.size() / 8} bytes regardless of how many
+ * elements it has, which is much less than a {@link HashSet} or an {@link AVLSet} when the universe is
+ * small or most of it is in the set (ports, shard identifiers, ordinals of enumerations, and so on).
+ * Insertions, deletions and lookups take O(1) time and never box elements.
+ * <p>
+ * {@link #union}, {@link #intersection} and {@link #difference} combine two sets over the same
+ * universe with one bitwise operation per word. The size of a set is maintained on single updates and
+ * recomputed with {@link Long#bitCount} after bulk operations. Iteration jumps directly to the next
+ * set bit with {@link Long#numberOfTrailingZeros}, and returns elements in the order of the universe
+ * range.
+ * <p>
+ * Inserting an integer that is not in the universe throws an {@link IllegalArgumentException}.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class DenseIntSet extends AbstractSet<Integer> implements Set<Integer> {
+
+  private final Range universe;     // Integers that may be stored in this set.
+  private final long[] words;       // Bit i is set iff universe.get(i) is in this set.
+  private int size;                 // Number of elements in this set.
+
+  /*
+   * INVARIANT:
+   *  - words.length == ceil(universe.size() / 64).
+   *  - Bits at positions universe.size() and above are clear.
+   *  - size is the number of set bits in words.
+   */
+
+  /**
+   * Constructs an empty {@code DenseIntSet} over a given universe.
+   * <p> Time complexity: O(u), where u is the size of the universe.
+   *
+   * @param universe the range of integers that may be stored in the set.
+   */
+  public DenseIntSet(Range universe) {
+    this.universe = universe;
+    this.words = new long[(universe.size() + 63) >>> 6];
+    this.size = 0;
+  }
+
+  /**
+   * Creates an empty {@code DenseIntSet} over a given universe.
+   * <p> Time complexity: O(u), where u is the size of the universe.
+   *
+   * @param universe the range of integers that may be stored in the set.
+   * @return an empty {@code DenseIntSet}.
+   */
+  public static DenseIntSet empty(Range universe) {
+    return new DenseIntSet(universe);
+  }
+
+  /**
+   * Creates a {@code DenseIntSet} with all integers in a given universe.
+   * <p> Time complexity: O(u), where u is the size of the universe.
+   *
+   * @param universe the range of integers that may be stored in the set.
+   * @return a {@code DenseIntSet} with all integers in {@code universe}.
+   */
+  public static DenseIntSet full(Range universe) {
+    DenseIntSet set = new DenseIntSet(universe);
+    Arrays.fill(set.words, -1L);
+    set.clearUnusedBits();
+    set.size = universe.size();
+    return set;
+  }
+
+  /**
+   * Creates a new {@code DenseIntSet} over a given universe with the given elements.
+   * <p> Time complexity: O(u + m), where u is the size of the universe and m the number of elements.
+   *
+   * @param universe the range of integers that may be stored in the set.
+   * @param elements the elements to include in the new set.
+   * @return a new {@code DenseIntSet} with the given elements.
+   * @throws IllegalArgumentException if any element is not in {@code universe}.
+   */
+  public static DenseIntSet of(Range universe, int... elements) {
+    DenseIntSet set = new DenseIntSet(universe);
+    for (int element : elements) {
+      set.insert(element);
+    }
+    return set;
+  }
+
+  /**
+   * Creates a new {@code DenseIntSet} over a given universe with the elements of an iterable.
+   * <p> Time complexity: O(u + m), where u is the size of the universe and m the number of elements.
+   *
+   * @param universe the range of integers that may be stored in the set.
+   * @param iterable the iterable providing elements for the new set.
+   * @return a new {@code DenseIntSet} with elements from the iterable.
+   * @throws IllegalArgumentException if any element is not in {@code universe}.
+   */
+  public static DenseIntSet from(Range universe, Iterable<Integer> iterable) {
+    DenseIntSet set = new DenseIntSet(universe);
+    for (int element : iterable) {
+      set.insert(element);
+    }
+    return set;
+  }
+
+  /**
+   * Returns a new {@code DenseIntSet} with the same universe and elements as the given one.
+   * <p> Time complexity: O(u), where u is the size of the universe.
+   *
+   * @param that the set to be copied.
+   * @return a new {@code DenseIntSet} with the same elements as {@code that}.
+   */
+  public static DenseIntSet copyOf(DenseIntSet that) {
+    DenseIntSet copy = new DenseIntSet(that.universe);
+    System.arraycopy(that.words, 0, copy.words, 0, that.words.length);
+    copy.size = that.size;
+    return copy;
+  }
+
+  /**
+   * Clears bits in last word that do not correspond to integers in the universe.
+   */
+  private void clearUnusedBits() {
+    int usedBits = universe.size() & 63;
+    if (usedBits != 0) {
+      words[words.length - 1] &= -1L >>> (64 - usedBits);
+    }
+  }
+
+  /**
+   * Recomputes size from words.
+   */
+  private void recomputeSize() {
+    int size = 0;
+    for (long word : words) {
+      size += Long.bitCount(word);
+    }
+    this.size = size;
+  }
+
+  /**
+   * Returns the universe of this set.
+   * <p> Time complexity: O(1)
+   *
+   * @return the range of integers that may be stored in this set.
+   */
+  public Range universe() {
+    return universe;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Inserts an {@code int} element in this set.
+   * <p> Time complexity: O(1)
+   *
+   * @param element the element to insert.
+   * @throws IllegalArgumentException if {@code element} is not in the universe of this set.
+   */
+  public void insert(int element) {
+    int index = universe.indexOf(element);
+    if (index < 0) {
+      throw new IllegalArgumentException("insert: element " + element + " is not in universe " + universe);
+    }
+    long word = words[index >>> 6];
+    long newWord = word | (1L << index);
+    if (newWord != word) {
+      words[index >>> 6] = newWord;
+      size++;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   *
+   * @throws IllegalArgumentException if {@code element} is not in the universe of this set.
+   */
+  @Override
+  public void insert(Integer element) {
+    insert(element.intValue());
+  }
+
+  /**
+   * Checks whether an {@code int} element is in this set.
+   * <p> Time complexity: O(1)
+   *
+   * @param element the element to search for.
+   * @return {@code true} if {@code element} is in this set, {@code false} otherwise.
+   */
+  public boolean contains(int element) {
+    int index = universe.indexOf(element);
+    return index >= 0 && (words[index >>> 6] & (1L << index)) != 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean contains(Integer element) {
+    return contains(element.intValue());
+  }
+
+  /**
+   * Deletes an {@code int} element from this set. If the element is not in this set, the set is not
+   * modified.
+   * <p> Time complexity: O(1)
+   *
+   * @param element the element to delete.
+   */
+  public void delete(int element) {
+    int index = universe.indexOf(element);
+    if (index < 0) {
+      return;
+    }
+    long word = words[index >>> 6];
+    long newWord = word & ~(1L << index);
+    if (newWord != word) {
+      words[index >>> 6] = newWord;
+      size--;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public void delete(Integer element) {
+    delete(element.intValue());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(u), where u is the size of the universe.
+   */
+  @Override
+  public void clear() {
+    Arrays.fill(words, 0L);
+    size = 0;
+  }
+
+  private static void checkSameUniverse(DenseIntSet set1, DenseIntSet set2, String operation) {
+    if (!set1.universe.equals(set2.universe)) {
+      throw new IllegalArgumentException(operation + ": both sets must have the same universe");
+    }
+  }
+
+  /**
+   * Returns a new {@code DenseIntSet} with the union of two sets over the same universe.
+   * <p> Time complexity: O(u), where u is the size of the universe.
+   *
+   * @param set1 the first set.
+   * @param set2 the second set.
+   * @return a new {@code DenseIntSet} with the elements in any of both sets.
+   * @throws IllegalArgumentException if the sets have different universes.
+   */
+  public static DenseIntSet union(DenseIntSet set1, DenseIntSet set2) {
+    checkSameUniverse(set1, set2, "union");
+    DenseIntSet result = new DenseIntSet(set1.universe);
+    for (int i = 0; i < result.words.length; i++) {
+      result.words[i] = set1.words[i] | set2.words[i];
+    }
+    result.recomputeSize();
+    return result;
+  }
+
+  /**
+   * Returns a new {@code DenseIntSet} with the intersection of two sets over the same universe.
+   * <p> Time complexity: O(u), where u is the size of the universe.
+   *
+   * @param set1 the first set.
+   * @param set2 the second set.
+   * @return a new {@code DenseIntSet} with the elements in both sets.
+   * @throws IllegalArgumentException if the sets have different universes.
+   */
+  public static DenseIntSet intersection(DenseIntSet set1, DenseIntSet set2) {
+    checkSameUniverse(set1, set2, "intersection");
+    DenseIntSet result = new DenseIntSet(set1.universe);
+    for (int i = 0; i < result.words.length; i++) {
+      result.words[i] = set1.words[i] & set2.words[i];
+    }
+    result.recomputeSize();
+    return result;
+  }
+
+  /**
+   * Returns a new {@code DenseIntSet} with the difference of two sets over the same universe.
+   * <p> Time complexity: O(u), where u is the size of the universe.
+   *
+   * @param set1 the first set.
+   * @param set2 the second set.
+   * @return a new {@code DenseIntSet} with the elements in {@code set1} that are not in {@code set2}.
+   * @throws IllegalArgumentException if the sets have different universes.
+   */
+  public static DenseIntSet difference(DenseIntSet set1, DenseIntSet set2) {
+    checkSameUniverse(set1, set2, "difference");
+    DenseIntSet result = new DenseIntSet(set1.universe);
+    for (int i = 0; i < result.words.length; i++) {
+      result.words[i] = set1.words[i] & ~set2.words[i];
+    }
+    result.recomputeSize();
+    return result;
+  }
+
+  /**
+   * Returns a new {@code DenseIntSet} with the integers in the universe of a set that are not in it.
+   * <p> Time complexity: O(u), where u is the size of the universe.
+   *
+   * @param set the set to complement.
+   * @return a new {@code DenseIntSet} with the integers in the universe that are not in {@code set}.
+   */
+  public static DenseIntSet complement(DenseIntSet set) {
+    DenseIntSet result = new DenseIntSet(set.universe);
+    for (int i = 0; i < result.words.length; i++) {
+      result.words[i] = ~set.words[i];
+    }
+    result.clearUnusedBits();
+    result.size = set.universe.size() - set.size;
+    return result;
+  }
+
+  /**
+   * {@inheritDoc}
+   * The iterator returns elements in the order of the universe range.
+   */
+  @Override
+  public PrimitiveIterator.OfInt iterator() {
+    return new DenseIntSetIterator();
+  }
+
+  private final class DenseIntSetIterator implements PrimitiveIterator.OfInt {
+    private int index;      // Index of current word.
+    private long word;      // Bits in current word not returned yet.
+
+    DenseIntSetIterator() {
+      index = -1;
+      word = 0;
+      advance();
+    }
+
+    /**
+     * Moves to next non-empty word, if current one has no bits left.
+     */
+    private void advance() {
+      while (word == 0 && index < words.length - 1) {
+        word = words[++index];
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return word != 0;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int position = 64 * index + Long.numberOfTrailingZeros(word);
+      word &= word - 1;
+      advance();
+      return universe.get(position);
+    }
+  }
+}
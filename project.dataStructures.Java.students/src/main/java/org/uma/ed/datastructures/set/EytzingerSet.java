@@ -0,0 +1,297 @@
+package org.uma.ed.datastructures.set;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable, read-optimized implementation of the {@link SortedSet} interface that stores its
+ * elements in an array using the Eytzinger (breadth-first) layout.
+ * <p>
+ * The array is laid out as an implicit complete binary search tree: the root is at index 1 and the
+ * children of the element at index {@code k} are at indices {@code 2k} and {@code 2k+1}. Compared to
+ * a binary search over a sorted array, the first levels of the search are packed together at the
+ * beginning of the array, so they stay in cache across lookups, and the probe sequence moves forward
+ * through memory. The search loop computes the next index arithmetically from the result of each
+ * comparison, with no unpredictable branch, and only checks for equality once at the end.
+ * <p>
+ * Sets of this class are meant for build-once, query-many workloads. They are created from a
+ * {@link SortedSet} in O(n) time, for instance with {@link SortedArraySet#frozen()}, and any attempt
+ * to modify them throws an {@link UnsupportedOperationException}. Iteration still returns elements
+ * in ascending order.
+ *
+ * @param <T> The type of elements held in this sorted set.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class EytzingerSet<T> extends AbstractSortedSet<T> implements SortedSet<T> {
+
+  /**
+   * Comparator defining the order of elements in this set.
+   */
+  private final Comparator<T> comparator;
+
+  /**
+   * The elements in Eytzinger order. Index 0 is unused.
+   */
+  private final T[] layout;
+
+  /**
+   * The number of elements in this set.
+   */
+  private final int size;
+
+  /*
+   * INVARIANT:
+   *  - Elements are stored in layout[1...size], and layout.length == size + 1.
+   *  - For every index k in 1...size, elements in the subtree rooted at 2k are smaller than
+   *    layout[k] and elements in the subtree rooted at 2k+1 are greater than layout[k].
+   *  - There are no duplicate elements as per the comparator.
+   */
+
+  /**
+   * Private constructor that lays out {@code size} elements, provided in strictly ascending order.
+   */
+  @SuppressWarnings("unchecked")
+  private EytzingerSet(Comparator<T> comparator, Iterator<T> sortedElements, int size) {
+    this.comparator = comparator;
+    this.layout = (T[]) new Object[size + 1];
+    this.size = size;
+    // visiting indices in in-order sequence assigns elements in ascending order
+    for (int k = first(); k != 0; k = successor(k)) {
+      layout[k] = sortedElements.next();
+    }
+  }
+
+  /**
+   * Creates a new {@code EytzingerSet} containing the same elements as the given sorted set.
+   * <p> Time complexity: O(n)
+   *
+   * @param <T>  the type of elements.
+   * @param that the sorted set to be copied.
+   * @return a new {@code EytzingerSet} with the same elements.
+   */
+  public static <T> EytzingerSet<T> copyOf(SortedSet<T> that) {
+    return new EytzingerSet<>(that.comparator(), that.iterator(), that.size());
+  }
+
+  /**
+   * Creates a new {@code EytzingerSet} containing elements in {@code sortedElements[0...size-1]}.
+   * <p>
+   * PRECONDITION: elements in {@code sortedElements[0...size-1]} are in strictly ascending order
+   * as per the comparator.
+   * <p> Time complexity: O(n)
+   *
+   * @param <T>            the type of elements.
+   * @param comparator     the comparator defining the order of elements.
+   * @param sortedElements array containing the elements in ascending order.
+   * @param size           number of elements to take from the array.
+   * @return a new {@code EytzingerSet} with those elements.
+   */
+  public static <T> EytzingerSet<T> fromSortedArray(Comparator<T> comparator, T[] sortedElements, int size) {
+    Iterator<T> iterator = new Iterator<>() {
+      int index = 0;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      public T next() {
+        assert index == 0 || comparator.compare(sortedElements[index - 1], sortedElements[index]) < 0;
+        return sortedElements[index++];
+      }
+    };
+    return new EytzingerSet<>(comparator, iterator, size);
+  }
+
+  /**
+   * Returns the index of the first element in in-order sequence, or 0 if the set is empty.
+   */
+  private int first() {
+    int k = 1;
+    while (2 * k <= size) {
+      k = 2 * k;
+    }
+    return k <= size ? k : 0;
+  }
+
+  /**
+   * Returns the index of the last element in in-order sequence, or 0 if the set is empty.
+   */
+  private int last() {
+    int k = 1;
+    while (2 * k + 1 <= size) {
+      k = 2 * k + 1;
+    }
+    return k <= size ? k : 0;
+  }
+
+  /**
+   * Returns the index of the element following the one at index {@code k} in in-order sequence, or 0
+   * if there is none.
+   */
+  private int successor(int k) {
+    if (2 * k + 1 <= size) {
+      // leftmost node in right subtree
+      k = 2 * k + 1;
+      while (2 * k <= size) {
+        k = 2 * k;
+      }
+      return k;
+    } else {
+      // go up while k is a right child, and then once more
+      return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+    }
+  }
+
+  /**
+   * Returns the index of the smallest element that is not smaller than {@code element}, or 0 if there
+   * is none.
+   */
+  private int lowerBound(T element) {
+    int k = 1;
+    while (k <= size) {
+      // descend to the right child if layout[k] < element, to the left child otherwise
+      k = 2 * k + (comparator.compare(layout[k], element) < 0 ? 1 : 0);
+    }
+    // undo the trailing right turns and the last left turn, which led to the lower bound
+    return k >>> (Integer.numberOfTrailingZeros(~k) + 1);
+  }
+
+  /**
+   * Returns the element in this set equal to the given one as per the comparator, or {@code null} if
+   * there is none.
+   * <p> Time complexity: O(log n)
+   *
+   * @param element the element to search for.
+   * @return the element in this set equal to {@code element}, or {@code null}.
+   */
+  public T search(T element) {
+    int k = lowerBound(element);
+    return (k != 0 && comparator.compare(layout[k], element) == 0) ? layout[k] : null;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public Comparator<T> comparator() {
+    return comparator;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Unsupported, as {@code EytzingerSet}s are immutable.
+   *
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void insert(T element) {
+    throw new UnsupportedOperationException("insert on immutable EytzingerSet");
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public boolean contains(T element) {
+    int k = lowerBound(element);
+    return k != 0 && comparator.compare(layout[k], element) == 0;
+  }
+
+  /**
+   * Unsupported, as {@code EytzingerSet}s are immutable.
+   *
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void delete(T element) {
+    throw new UnsupportedOperationException("delete on immutable EytzingerSet");
+  }
+
+  /**
+   * Unsupported, as {@code EytzingerSet}s are immutable.
+   *
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException("clear on immutable EytzingerSet");
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public T minimum() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("minimum on empty set");
+    }
+    return layout[first()];
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public T maximum() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("maximum on empty set");
+    }
+    return layout[last()];
+  }
+
+  /**
+   * {@inheritDoc}
+   * The iterator returns elements in ascending sorted order.
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new EytzingerSetIterator();
+  }
+
+  /**
+   * An in-order iterator for this {@code EytzingerSet}.
+   */
+  private final class EytzingerSetIterator implements Iterator<T> {
+    private int current = first();
+
+    @Override
+    public boolean hasNext() {
+      return current != 0;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      T element = layout[current];
+      current = successor(current);
+      return element;
+    }
+  }
+}
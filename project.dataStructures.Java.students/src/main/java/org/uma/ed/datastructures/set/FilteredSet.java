@@ -0,0 +1,194 @@
+package org.uma.ed.datastructures.set;
+
+import java.util.Iterator;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link Set} that keeps a {@link MembershipFilter} in front of another set, so that lookups for
+ * absent elements are usually rejected by the filter without touching the underlying set.
+ * <p>
+ * This is useful when the underlying set, such as a large {@link HashSet}, does not fit in cache and
+ * most lookups are misses: the filter is much smaller, and rejects a definite miss after reading a
+ * couple of bits ({@link BloomFilter}) or two buckets ({@link CuckooFilter}). Hits, and the small
+ * fraction of misses that are false positives of the filter, are answered by the underlying set.
+ * <p>
+ * The filter is maintained automatically. Elements inserted in this set are also inserted in the
+ * filter, and elements deleted are also deleted from the filter if it supports deletion. When the
+ * set outgrows the capacity of the filter, the filter reports it is full, or too many deletions
+ * could not be applied to it, a new filter with twice the current size as capacity is built from
+ * the elements in the set, which takes O(n) time, amortized over the operations that triggered it.
+ * <p>
+ * The underlying set must not be modified other than through this set.
+ *
+ * @param <T> The type of elements held in this set.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class FilteredSet<T> extends AbstractSet<T> implements Set<T> {
+
+  private static final int MINIMUM_FILTER_CAPACITY = 64;
+  private static final double DEFAULT_FALSE_POSITIVE_RATE = 0.01;
+
+  private final Set<T> set;                                       // The underlying set.
+  private final IntFunction<MembershipFilter<T>> filterFactory;   // Builds a filter with a given capacity.
+  private MembershipFilter<T> filter;                             // Summary of elements in set.
+  private int staleDeletions;                                     // Deletions not applied to filter.
+
+  /*
+   * INVARIANT:
+   *  - Every element in set has been inserted in filter (so filter has no false negatives).
+   *  - staleDeletions is the number of elements deleted from set but not from filter since it was built.
+   */
+
+  /**
+   * Constructs a {@code FilteredSet} in front of a given set, building filters with a given factory.
+   * <p> Time complexity: O(n), where n is the size of the underlying set.
+   *
+   * @param set           the underlying set.
+   * @param filterFactory a function returning an empty filter for a given capacity.
+   */
+  public FilteredSet(Set<T> set, IntFunction<MembershipFilter<T>> filterFactory) {
+    this.set = set;
+    this.filterFactory = filterFactory;
+    rebuildFilter();
+  }
+
+  /**
+   * Creates a {@code FilteredSet} in front of a given set, using Bloom filters with a given false
+   * positive rate.
+   * <p> Time complexity: O(n), where n is the size of the underlying set.
+   */
+  public static <T> FilteredSet<T> withBloomFilter(Set<T> set, double falsePositiveRate) {
+    return new FilteredSet<>(set, capacity -> BloomFilter.withCapacity(capacity, falsePositiveRate));
+  }
+
+  /**
+   * Creates a {@code FilteredSet} in front of a given set, using Bloom filters with a 1% false
+   * positive rate.
+   * <p> Time complexity: O(n), where n is the size of the underlying set.
+   */
+  public static <T> FilteredSet<T> withBloomFilter(Set<T> set) {
+    return withBloomFilter(set, DEFAULT_FALSE_POSITIVE_RATE);
+  }
+
+  /**
+   * Creates a {@code FilteredSet} in front of a given set, using cuckoo filters.
+   * <p> Time complexity: O(n), where n is the size of the underlying set.
+   */
+  public static <T> FilteredSet<T> withCuckooFilter(Set<T> set) {
+    return new FilteredSet<>(set, CuckooFilter::withCapacity);
+  }
+
+  /**
+   * Replaces the filter with a new one built from the elements in the underlying set.
+   */
+  private void rebuildFilter() {
+    int capacity = Math.max(MINIMUM_FILTER_CAPACITY, 2 * set.size());
+    while (!fillFilter(capacity)) {
+      capacity *= 2;
+    }
+    staleDeletions = 0;
+  }
+
+  /**
+   * Sets filter to a new one with given capacity, holding all elements in the underlying set.
+   * Returns {@code false} if the new filter got full before all of them were inserted.
+   */
+  private boolean fillFilter(int capacity) {
+    filter = filterFactory.apply(capacity);
+    for (T element : set) {
+      if (!filter.insert(element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns the filter currently in front of the underlying set.
+   *
+   * @return the current filter.
+   */
+  public MembershipFilter<T> filter() {
+    return filter;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: same as for the underlying set.
+   */
+  @Override
+  public boolean isEmpty() {
+    return set.isEmpty();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: same as for the underlying set.
+   */
+  @Override
+  public int size() {
+    return set.size();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1) for the filter, plus a lookup and an insertion in the underlying set.
+   * Can be O(n) if the filter is rebuilt.
+   */
+  @Override
+  public void insert(T element) {
+    if (filter.mightContain(element) && set.contains(element)) {
+      set.insert(element); // replace existing element; filter is unchanged
+      return;
+    }
+    set.insert(element);
+    if (!filter.insert(element) || set.size() > filter.capacity()) {
+      rebuildFilter();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1) for elements rejected by the filter. Otherwise, the time of a lookup in
+   * the underlying set is added.
+   */
+  @Override
+  public boolean contains(T element) {
+    return filter.mightContain(element) && set.contains(element);
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1) for elements rejected by the filter. Otherwise, the time of a lookup and
+   * a deletion in the underlying set is added. Can be O(n) if the filter is rebuilt.
+   */
+  @Override
+  public void delete(T element) {
+    if (!filter.mightContain(element) || !set.contains(element)) {
+      return;
+    }
+    set.delete(element);
+    if (filter.supportsDeletion()) {
+      filter.delete(element);
+    } else if (++staleDeletions > filter.capacity() / 2) {
+      rebuildFilter();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: same as for the underlying set, plus the size of the filter.
+   */
+  @Override
+  public void clear() {
+    set.clear();
+    filter.clear();
+    staleDeletions = 0;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return set.iterator();
+  }
+}
@@ -0,0 +1,309 @@
+package org.uma.ed.datastructures.set;
+
+import org.uma.ed.datastructures.utils.hashCode.HashCode;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.function.ToLongFunction;
+
+/**
+ * An approximate implementation of the {@link Set} interface using HyperLogLog, which estimates the
+ * number of distinct elements inserted using a fixed amount of memory.
+ * <p>
+ * The set keeps {@code m = 2^p} small registers, where p is the precision. Each element is hashed
+ * to 64 bits: the first p bits select a register, and the register keeps the maximum, over all
+ * elements selecting it, of the position of the first 1 bit in the remaining bits. As a long run
+ * of leading zeros is unlikely, large maxima reveal many distinct elements, and the size is
+ * estimated from the harmonic mean of {@code 2^register} over all registers. The relative standard
+ * error of the estimate is about {@code 1.04/√m}, and inserting the same element again has no
+ * effect. Small sizes are estimated by linear counting over empty registers instead.
+ * <p>
+ * Elements themselves are not stored, so membership cannot be tested, elements cannot be deleted
+ * and the set cannot be iterated over; those operations throw an
+ * {@link UnsupportedOperationException}. Two sets with the same precision can be merged, yielding
+ * the same registers as if all elements had been inserted into a single set, provided both use the
+ * same hash function.
+ * <p>
+ * By default, hashes are derived from the elements' 32-bit {@code hashCode()} with
+ * {@link HashCode#mix64(Object)}, so elements with equal hash codes are counted as one, and estimates
+ * become biased as the number of distinct elements approaches 2^32 (collisions are already noticeable
+ * at a few hundred millions). To count more distinct elements, or elements with poor hash codes,
+ * supply a function computing a well-spread 64-bit hash of each element.
+ * <p>
+ * {@code insert} runs in O(1) time, and {@code size} in O(m) time.
+ *
+ * @param <T> The type of elements inserted in the set.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class HyperLogLogSet<T> implements Set<T> {
+
+  private static final int MINIMUM_PRECISION = 4;
+  private static final int MAXIMUM_PRECISION = 18;
+  private static final int DEFAULT_PRECISION = 14;
+
+  private final int precision;      // Number of hash bits selecting a register.
+  private final ToLongFunction<? super T> hash;   // 64-bit hash of each element.
+  private final byte[] registers;   // Maximum rank seen by each register.
+  private int emptyRegisters;       // Number of registers that are still 0.
+
+  /*
+   * INVARIANT:
+   *  - registers.length == 2^precision.
+   *  - registers[j] is the maximum rank of all inserted elements whose hash selects register j,
+   *    or 0 if there are none, and emptyRegisters is the number of registers that are 0.
+   */
+
+  /**
+   * Constructs an empty {@code HyperLogLogSet} with a given precision, hashing elements with
+   * {@link HashCode#mix64(Object)}.
+   * <p> Time complexity: O(2^precision)
+   *
+   * @param precision number of hash bits used to select a register, between 4 and 18.
+   * @throws IllegalArgumentException if the precision is out of range.
+   */
+  public HyperLogLogSet(int precision) {
+    this(precision, HashCode::mix64);
+  }
+
+  /**
+   * Constructs an empty {@code HyperLogLogSet} with a given precision and 64-bit hash function.
+   * <p> Time complexity: O(2^precision)
+   *
+   * @param precision number of hash bits used to select a register, between 4 and 18.
+   * @param hash      function computing a 64-bit hash of each element, whose bits should be evenly spread.
+   * @throws IllegalArgumentException if the precision is out of range.
+   */
+  public HyperLogLogSet(int precision, ToLongFunction<? super T> hash) {
+    if (precision < MINIMUM_PRECISION || precision > MAXIMUM_PRECISION) {
+      throw new IllegalArgumentException("Precision must be between " + MINIMUM_PRECISION + " and " + MAXIMUM_PRECISION);
+    }
+    this.precision = precision;
+    this.hash = hash;
+    this.registers = new byte[1 << precision];
+    this.emptyRegisters = registers.length;
+  }
+
+  /**
+   * Creates an empty {@code HyperLogLogSet} with precision 14, that is, 16384 registers and a
+   * relative standard error of about 0.8%.
+   * <p> Time complexity: O(1)
+   */
+  public static <T> HyperLogLogSet<T> empty() {
+    return new HyperLogLogSet<>(DEFAULT_PRECISION);
+  }
+
+  /**
+   * Creates an empty {@code HyperLogLogSet} with precision 14 and a given 64-bit hash function.
+   * <p> Time complexity: O(1)
+   *
+   * @param hash function computing a 64-bit hash of each element, whose bits should be evenly spread.
+   * @return an empty {@code HyperLogLogSet}.
+   */
+  public static <T> HyperLogLogSet<T> empty(ToLongFunction<? super T> hash) {
+    return new HyperLogLogSet<>(DEFAULT_PRECISION, hash);
+  }
+
+  /**
+   * Creates an empty {@code HyperLogLogSet} with the smallest precision whose relative standard error
+   * is at most the given one.
+   * <p> Time complexity: O(1/relativeError²)
+   *
+   * @param relativeError desired relative standard error of the estimated size.
+   * @return an empty {@code HyperLogLogSet}.
+   * @throws IllegalArgumentException if the error is not positive, or is too small to be achieved.
+   */
+  public static <T> HyperLogLogSet<T> withErrorBound(double relativeError) {
+    return withErrorBound(relativeError, HashCode::mix64);
+  }
+
+  /**
+   * Creates an empty {@code HyperLogLogSet} with a given 64-bit hash function and the smallest
+   * precision whose relative standard error is at most the given one.
+   * <p> Time complexity: O(1/relativeError²)
+   *
+   * @param relativeError desired relative standard error of the estimated size.
+   * @param hash          function computing a 64-bit hash of each element, whose bits should be evenly spread.
+   * @return an empty {@code HyperLogLogSet}.
+   * @throws IllegalArgumentException if the error is not positive, or is too small to be achieved.
+   */
+  public static <T> HyperLogLogSet<T> withErrorBound(double relativeError, ToLongFunction<? super T> hash) {
+    if (relativeError <= 0) {
+      throw new IllegalArgumentException("Relative error must be greater than 0");
+    }
+    double registers = Math.pow(1.04 / relativeError, 2);
+    int precision = Math.max(MINIMUM_PRECISION, (int) Math.ceil(Math.log(registers) / Math.log(2)));
+    return new HyperLogLogSet<>(precision, hash);
+  }
+
+  /**
+   * Creates a new {@code HyperLogLogSet} with the same precision, hash function and registers as the
+   * given one.
+   * <p> Time complexity: O(m)
+   */
+  public static <T> HyperLogLogSet<T> copyOf(HyperLogLogSet<T> that) {
+    HyperLogLogSet<T> copy = new HyperLogLogSet<>(that.precision, that.hash);
+    System.arraycopy(that.registers, 0, copy.registers, 0, that.registers.length);
+    copy.emptyRegisters = that.emptyRegisters;
+    return copy;
+  }
+
+  /**
+   * Returns a new {@code HyperLogLogSet} estimating the union of two sets with the same precision.
+   * <p> Time complexity: O(m)
+   *
+   * @throws IllegalArgumentException if both sets have different precisions.
+   */
+  public static <T> HyperLogLogSet<T> union(HyperLogLogSet<T> set1, HyperLogLogSet<T> set2) {
+    HyperLogLogSet<T> union = copyOf(set1);
+    union.merge(set2);
+    return union;
+  }
+
+  /**
+   * Adds to this set all elements inserted in another set with the same precision. Both sets must
+   * hash elements in the same way, which cannot be checked, or the result is meaningless.
+   * <p> Time complexity: O(m)
+   *
+   * @param that the set to merge into this one.
+   * @throws IllegalArgumentException if both sets have different precisions.
+   */
+  public void merge(HyperLogLogSet<T> that) {
+    if (this.precision != that.precision) {
+      throw new IllegalArgumentException("merge: both sets must have the same precision");
+    }
+    for (int j = 0; j < registers.length; j++) {
+      if (that.registers[j] > registers[j]) {
+        if (registers[j] == 0) {
+          emptyRegisters--;
+        }
+        registers[j] = that.registers[j];
+      }
+    }
+  }
+
+  /**
+   * Returns the precision of this set, i.e. log2 of its number of registers.
+   *
+   * @return the precision of this set.
+   */
+  public int precision() {
+    return precision;
+  }
+
+  /**
+   * {@inheritDoc}
+   * The result is exact: a set is empty if and only if no element has been inserted.
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean isEmpty() {
+    return emptyRegisters == registers.length;
+  }
+
+  /**
+   * {@inheritDoc}
+   * The result is an estimate, which saturates at {@code Integer.MAX_VALUE}; use {@link #estimate()}
+   * for larger sizes.
+   * <p> Time complexity: O(m)
+   */
+  @Override
+  public int size() {
+    return (int) Math.min(estimate(), Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns an estimate of the number of distinct elements inserted in this set.
+   * <p> Time complexity: O(m)
+   *
+   * @return estimated number of distinct elements.
+   */
+  public long estimate() {
+    int m = registers.length;
+    double sum = 0;
+    for (byte register : registers) {
+      sum += 1.0 / (1L << register);
+    }
+    double estimate = alpha(m) * m * m / sum;
+    if (estimate <= 2.5 * m && emptyRegisters > 0) {
+      // small range correction: linear counting
+      estimate = m * Math.log((double) m / emptyRegisters);
+    }
+    return Math.round(estimate);
+  }
+
+  /**
+   * Bias correction constant for m registers.
+   */
+  private static double alpha(int m) {
+    return switch (m) {
+      case 16 -> 0.673;
+      case 32 -> 0.697;
+      case 64 -> 0.709;
+      default -> 0.7213 / (1 + 1.079 / m);
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public void insert(T element) {
+    long hash = this.hash.applyAsLong(element);
+    int j = (int) (hash >>> (64 - precision));
+    // position of first 1 bit in the remaining 64 - precision bits
+    int rank = Math.min(Long.numberOfLeadingZeros(hash << precision) + 1, 64 - precision + 1);
+    if (rank > registers[j]) {
+      if (registers[j] == 0) {
+        emptyRegisters--;
+      }
+      registers[j] = (byte) rank;
+    }
+  }
+
+  /**
+   * Unsupported, as elements are not stored in a {@code HyperLogLogSet}.
+   *
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public boolean contains(T element) {
+    throw new UnsupportedOperationException("contains on HyperLogLogSet: elements are not stored");
+  }
+
+  /**
+   * Unsupported, as elements are not stored in a {@code HyperLogLogSet}.
+   *
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void delete(T element) {
+    throw new UnsupportedOperationException("delete on HyperLogLogSet: elements are not stored");
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(m)
+   */
+  @Override
+  public void clear() {
+    Arrays.fill(registers, (byte) 0);
+    emptyRegisters = registers.length;
+  }
+
+  /**
+   * Unsupported, as elements are not stored in a {@code HyperLogLogSet}.
+   *
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public Iterator<T> iterator() {
+    throw new UnsupportedOperationException("iterator on HyperLogLogSet: elements are not stored");
+  }
+
+  @Override
+  public String toString() {
+    return "HyperLogLogSet(precision=" + precision + ", size≈" + estimate() + ")";
+  }
+}
@@ -0,0 +1,1198 @@
+package org.uma.ed.datastructures.set;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A compressed bitmap implementation of the {@link SortedSet} interface for {@code int} values, in the
+ * style of Roaring bitmaps.
+ * <p>
+ * The 32-bit range of integers is split into chunks of 2^16 consecutive values that share their 16
+ * high bits. Only non-empty chunks are stored, in a sorted array of keys, and the 16 low bits of the
+ * elements in each chunk are kept in a container whose representation depends on its contents:
+ * <ul>
+ *   <li>An array container stores up to 4096 sorted low values, using 2 bytes per element.</li>
+ *   <li>A bitmap container stores more than 4096 low values as 2^16 bits (8 KB).</li>
+ *   <li>A run container stores low values as sorted runs of consecutive values, using 4 bytes per
+ *   run. Run containers are created by {@link #insertRange} and {@link #runOptimize}.</li>
+ * </ul>
+ * Containers switch representation automatically when they grow or shrink, so that a set takes at
+ * most about 2 bytes per element for sparse data and 1 bit per value for dense data, and elements
+ * are never boxed. Lookups, insertions and deletions need a binary search over the keys and an
+ * operation on a single container.
+ * <p>
+ * {@link #union}, {@link #intersection} and {@link #difference} combine matching containers: two
+ * bitmaps are combined with one bitwise operation per 64-bit word in loops simple enough for the JIT
+ * compiler to vectorize, arrays are merged, and arrays are combined with bitmaps by probing bits.
+ * <p>
+ * Besides the {@code Set<Integer>} methods, the class offers {@code int} overloads of {@code insert},
+ * {@code contains} and {@code delete}, and a {@link PrimitiveIterator.OfInt} iterator. Elements are
+ * kept in ascending natural order of {@code int}.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class IntSet extends AbstractSortedSet<Integer> implements SortedSet<Integer> {
+
+  private static final int DEFAULT_INITIAL_CAPACITY = 4;
+
+  private char[] keys;               // Sorted keys of non-empty chunks.
+  private Container[] containers;    // containers[i] holds low bits of elements in chunk keys[i].
+  private int numContainers;         // Number of non-empty chunks.
+  private int size;                  // Number of elements in set.
+
+  /*
+   * INVARIANT:
+   *  - keys[0...numContainers-1] are in strictly ascending order.
+   *  - containers[0...numContainers-1] are non-empty.
+   *  - size is the sum of cardinalities of containers.
+   *  - Array containers hold at most ArrayContainer.MAX_CARDINALITY elements and bitmap containers
+   *    hold more than that.
+   *  - Run containers have at most RunContainer.MAX_RUNS runs, which are sorted, disjoint and
+   *    non-adjacent.
+   */
+
+  /**
+   * Constructs an empty {@code IntSet}.
+   * <p> Time complexity: O(1)
+   */
+  public IntSet() {
+    this.keys = new char[DEFAULT_INITIAL_CAPACITY];
+    this.containers = new Container[DEFAULT_INITIAL_CAPACITY];
+    this.numContainers = 0;
+    this.size = 0;
+  }
+
+  /**
+   * Creates an empty {@code IntSet}.
+   * <p> Time complexity: O(1)
+   *
+   * @return an empty {@code IntSet}.
+   */
+  public static IntSet empty() {
+    return new IntSet();
+  }
+
+  /**
+   * Creates a new {@code IntSet} with the given elements.
+   * <p> Time complexity: O(m log m), where m is the number of elements.
+   *
+   * @param elements the elements to include in the new set.
+   * @return a new {@code IntSet} with the given elements.
+   */
+  public static IntSet of(int... elements) {
+    IntSet set = new IntSet();
+    for (int element : elements) {
+      set.insert(element);
+    }
+    return set;
+  }
+
+  /**
+   * Creates a new {@code IntSet} with the elements of an iterable.
+   * <p> Time complexity: O(m log m), where m is the number of elements.
+   *
+   * @param iterable the iterable providing elements for the new set.
+   * @return a new {@code IntSet} with elements from the iterable.
+   */
+  public static IntSet from(Iterable<Integer> iterable) {
+    IntSet set = new IntSet();
+    for (int element : iterable) {
+      set.insert(element);
+    }
+    return set;
+  }
+
+  /**
+   * Creates a new {@code IntSet} with all integers in the closed interval {@code [from, to]}.
+   * <p> Time complexity: O(number of chunks in interval)
+   *
+   * @param from the smallest element.
+   * @param to   the largest element.
+   * @return a new {@code IntSet} with the elements in the interval, which is empty if
+   * {@code from > to}.
+   */
+  public static IntSet inclusive(int from, int to) {
+    IntSet set = new IntSet();
+    set.insertRange(from, to);
+    return set;
+  }
+
+  /**
+   * Returns a new {@code IntSet} with the same elements as the given one.
+   * <p> Time complexity: O(n)
+   *
+   * @param that the set to be copied.
+   * @return a new {@code IntSet} with the same elements as {@code that}.
+   */
+  public static IntSet copyOf(IntSet that) {
+    IntSet copy = new IntSet();
+    copy.keys = Arrays.copyOf(that.keys, Math.max(DEFAULT_INITIAL_CAPACITY, that.numContainers));
+    copy.containers = new Container[copy.keys.length];
+    for (int i = 0; i < that.numContainers; i++) {
+      copy.containers[i] = that.containers[i].copy();
+    }
+    copy.numContainers = that.numContainers;
+    copy.size = that.size;
+    return copy;
+  }
+
+  /**
+   * Returns a new {@code IntSet} with the same elements as the given sorted set.
+   * <p> Time complexity: O(n log n)
+   *
+   * @param that the sorted set to be copied.
+   * @return a new {@code IntSet} with the same elements as {@code that}.
+   */
+  public static IntSet copyOf(SortedSet<Integer> that) {
+    return that instanceof IntSet intSet ? copyOf(intSet) : from(that);
+  }
+
+  // Chunks are ordered by signed value of their high bits, so the sign bit is flipped in keys
+
+  private static char highBits(int element) {
+    return (char) ((element >>> 16) ^ 0x8000);
+  }
+
+  private static int lowBits(int element) {
+    return element & 0xFFFF;
+  }
+
+  private static int element(char key, int low) {
+    return ((key ^ 0x8000) << 16) | low;
+  }
+
+  /**
+   * Returns index of key in keys, or {@code -(insertion point) - 1} if it is not there.
+   */
+  private int indexOf(char key) {
+    return Arrays.binarySearch(keys, 0, numContainers, key);
+  }
+
+  private void insertContainer(int index, char key, Container container) {
+    if (numContainers == keys.length) {
+      keys = Arrays.copyOf(keys, 2 * keys.length);
+      containers = Arrays.copyOf(containers, 2 * containers.length);
+    }
+    System.arraycopy(keys, index, keys, index + 1, numContainers - index);
+    System.arraycopy(containers, index, containers, index + 1, numContainers - index);
+    keys[index] = key;
+    containers[index] = container;
+    numContainers++;
+  }
+
+  private void deleteContainer(int index) {
+    System.arraycopy(keys, index + 1, keys, index, numContainers - index - 1);
+    System.arraycopy(containers, index + 1, containers, index, numContainers - index - 1);
+    numContainers--;
+    containers[numContainers] = null;
+  }
+
+  /**
+   * Appends a container whose key is larger than all keys in this set. Empty containers are ignored.
+   */
+  private void appendContainer(char key, Container container) {
+    if (container != null && container.cardinality() > 0) {
+      insertContainer(numContainers, key, container);
+      size += container.cardinality();
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public Comparator<Integer> comparator() {
+    return Comparator.naturalOrder();
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Inserts an {@code int} element in this set.
+   * <p> Time complexity: O(log c + 4096) in the worst case, where c is the number of chunks, and O(log
+   * c) for elements in bitmap containers.
+   *
+   * @param element the element to insert.
+   */
+  public void insert(int element) {
+    char key = highBits(element);
+    int index = indexOf(key);
+    if (index >= 0) {
+      Container container = containers[index];
+      int cardinality = container.cardinality();
+      container = container.add(lowBits(element));
+      containers[index] = container;
+      size += container.cardinality() - cardinality;
+    } else {
+      ArrayContainer container = new ArrayContainer(DEFAULT_INITIAL_CAPACITY);
+      container.add(lowBits(element));
+      insertContainer(-index - 1, key, container);
+      size++;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: same as for {@link #insert(int)}.
+   */
+  @Override
+  public void insert(Integer element) {
+    insert(element.intValue());
+  }
+
+  /**
+   * Inserts all integers in the closed interval {@code [from, to]} in this set. Chunks not already in
+   * this set that are covered by the interval are stored as single runs.
+   * <p> Time complexity: O(number of chunks in interval) for chunks not in this set, plus
+   * O(2^16) for each chunk already in this set.
+   *
+   * @param from the smallest element to insert.
+   * @param to   the largest element to insert.
+   */
+  public void insertRange(int from, int to) {
+    if (from > to) {
+      return;
+    }
+    char firstKey = highBits(from);
+    char lastKey = highBits(to);
+    for (int key = firstKey; key <= lastKey; key++) {
+      int lowFrom = key == firstKey ? lowBits(from) : 0;
+      int lowTo = key == lastKey ? lowBits(to) : 0xFFFF;
+      RunContainer run = new RunContainer(lowFrom, lowTo);
+      int index = indexOf((char) key);
+      if (index < 0) {
+        insertContainer(-index - 1, (char) key, run);
+        size += run.cardinality();
+      } else {
+        Container container = containers[index];
+        size -= container.cardinality();
+        container = run.cardinality() == 0x10000 ? run : or(container, run);
+        containers[index] = container;
+        size += container.cardinality();
+      }
+    }
+  }
+
+  /**
+   * Checks whether an {@code int} element is in this set.
+   * <p> Time complexity: O(log c + log 4096), where c is the number of chunks.
+   *
+   * @param element the element to search for.
+   * @return {@code true} if {@code element} is in this set, {@code false} otherwise.
+   */
+  public boolean contains(int element) {
+    int index = indexOf(highBits(element));
+    return index >= 0 && containers[index].contains(lowBits(element));
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: same as for {@link #contains(int)}.
+   */
+  @Override
+  public boolean contains(Integer element) {
+    return contains(element.intValue());
+  }
+
+  /**
+   * Deletes an {@code int} element from this set. If the element is not in this set, the set is not
+   * modified.
+   * <p> Time complexity: O(log c + 4096) in the worst case, where c is the number of chunks, and O(log
+   * c) for elements in bitmap containers that keep more than 4096 elements.
+   *
+   * @param element the element to delete.
+   */
+  public void delete(int element) {
+    int index = indexOf(highBits(element));
+    if (index < 0) {
+      return;
+    }
+    Container container = containers[index];
+    int cardinality = container.cardinality();
+    container = container.remove(lowBits(element));
+    size += container.cardinality() - cardinality;
+    if (container.cardinality() == 0) {
+      deleteContainer(index);
+    } else {
+      containers[index] = container;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: same as for {@link #delete(int)}.
+   */
+  @Override
+  public void delete(Integer element) {
+    delete(element.intValue());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(c), where c is the number of chunks.
+   */
+  @Override
+  public void clear() {
+    Arrays.fill(containers, 0, numContainers, null);
+    numContainers = 0;
+    size = 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1) for array and run containers, O(1024) for bitmap containers.
+   */
+  @Override
+  public Integer minimum() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("minimum on empty set");
+    }
+    return element(keys[0], containers[0].first());
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1) for array and run containers, O(1024) for bitmap containers.
+   */
+  @Override
+  public Integer maximum() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("maximum on empty set");
+    }
+    return element(keys[numContainers - 1], containers[numContainers - 1].last());
+  }
+
+  /**
+   * Converts each container to a run container if that takes less memory than its array or bitmap
+   * representation, or the other way round. Useful after building a set with long runs of consecutive
+   * integers one element at a time.
+   * <p> Time complexity: O(n)
+   */
+  public void runOptimize() {
+    for (int i = 0; i < numContainers; i++) {
+      Container container = containers[i];
+      int cardinality = container.cardinality();
+      int runBytes = 4 * container.numRuns();
+      int otherBytes = cardinality <= ArrayContainer.MAX_CARDINALITY ? 2 * cardinality : 8192;
+      if (container instanceof RunContainer) {
+        if (runBytes > otherBytes) {
+          containers[i] = container.toArrayOrBitmap();
+        }
+      } else if (runBytes < otherBytes) {
+        containers[i] = RunContainer.from(container);
+      }
+    }
+  }
+
+  /**
+   * Returns a new {@code IntSet} with the union of two sets.
+   * <p> Time complexity: O(c1 + c2) container operations, where c1 and c2 are the numbers of chunks.
+   * Each one takes O(1024) for two bitmaps and O(k1 + k2) for two arrays with k1 and k2 elements.
+   *
+   * @param set1 the first set.
+   * @param set2 the second set.
+   * @return a new {@code IntSet} with the elements in any of both sets.
+   */
+  public static IntSet union(IntSet set1, IntSet set2) {
+    IntSet result = new IntSet();
+    int i1 = 0, i2 = 0;
+    while (i1 < set1.numContainers && i2 < set2.numContainers) {
+      char key1 = set1.keys[i1];
+      char key2 = set2.keys[i2];
+      if (key1 < key2) {
+        result.appendContainer(key1, set1.containers[i1++].copy());
+      } else if (key2 < key1) {
+        result.appendContainer(key2, set2.containers[i2++].copy());
+      } else {
+        result.appendContainer(key1, or(set1.containers[i1++], set2.containers[i2++]));
+      }
+    }
+    for (; i1 < set1.numContainers; i1++) {
+      result.appendContainer(set1.keys[i1], set1.containers[i1].copy());
+    }
+    for (; i2 < set2.numContainers; i2++) {
+      result.appendContainer(set2.keys[i2], set2.containers[i2].copy());
+    }
+    return result;
+  }
+
+  /**
+   * Returns a new {@code IntSet} with the intersection of two sets.
+   * <p> Time complexity: O(c1 + c2) container operations, where c1 and c2 are the numbers of chunks.
+   * Each one takes O(1024) for two bitmaps, O(k) for an array with k elements and a bitmap, and
+   * O(k1 + k2) for two arrays with k1 and k2 elements.
+   *
+   * @param set1 the first set.
+   * @param set2 the second set.
+   * @return a new {@code IntSet} with the elements in both sets.
+   */
+  public static IntSet intersection(IntSet set1, IntSet set2) {
+    IntSet result = new IntSet();
+    int i1 = 0, i2 = 0;
+    while (i1 < set1.numContainers && i2 < set2.numContainers) {
+      char key1 = set1.keys[i1];
+      char key2 = set2.keys[i2];
+      if (key1 < key2) {
+        i1++;
+      } else if (key2 < key1) {
+        i2++;
+      } else {
+        result.appendContainer(key1, and(set1.containers[i1++], set2.containers[i2++]));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns a new {@code IntSet} with the difference of two sets.
+   * <p> Time complexity: O(c1 + c2) container operations, where c1 and c2 are the numbers of chunks.
+   * Each one takes O(1024) for two bitmaps, O(k) for an array with k elements and a bitmap, and
+   * O(k1 + k2) for two arrays with k1 and k2 elements.
+   *
+   * @param set1 the first set.
+   * @param set2 the second set.
+   * @return a new {@code IntSet} with the elements in {@code set1} that are not in {@code set2}.
+   */
+  public static IntSet difference(IntSet set1, IntSet set2) {
+    IntSet result = new IntSet();
+    int i1 = 0, i2 = 0;
+    while (i1 < set1.numContainers) {
+      char key1 = set1.keys[i1];
+      while (i2 < set2.numContainers && set2.keys[i2] < key1) {
+        i2++;
+      }
+      if (i2 < set2.numContainers && set2.keys[i2] == key1) {
+        result.appendContainer(key1, andNot(set1.containers[i1++], set2.containers[i2++]));
+      } else {
+        result.appendContainer(key1, set1.containers[i1++].copy());
+      }
+    }
+    return result;
+  }
+
+  // Binary operations on containers. Run containers are first converted to arrays or bitmaps.
+
+  private static Container or(Container container1, Container container2) {
+    container1 = container1.toArrayOrBitmap();
+    container2 = container2.toArrayOrBitmap();
+    if (container1 instanceof BitmapContainer bitmap1) {
+      return container2 instanceof BitmapContainer bitmap2 ? bitmap1.or(bitmap2) : bitmap1.or((ArrayContainer) container2);
+    } else {
+      ArrayContainer array1 = (ArrayContainer) container1;
+      return container2 instanceof BitmapContainer bitmap2 ? bitmap2.or(array1) : array1.or((ArrayContainer) container2);
+    }
+  }
+
+  private static Container and(Container container1, Container container2) {
+    container1 = container1.toArrayOrBitmap();
+    container2 = container2.toArrayOrBitmap();
+    if (container1 instanceof BitmapContainer bitmap1) {
+      return container2 instanceof BitmapContainer bitmap2 ? bitmap1.and(bitmap2) : ((ArrayContainer) container2).and(bitmap1);
+    } else {
+      ArrayContainer array1 = (ArrayContainer) container1;
+      return container2 instanceof BitmapContainer bitmap2 ? array1.and(bitmap2) : array1.and((ArrayContainer) container2);
+    }
+  }
+
+  private static Container andNot(Container container1, Container container2) {
+    container1 = container1.toArrayOrBitmap();
+    container2 = container2.toArrayOrBitmap();
+    if (container1 instanceof BitmapContainer bitmap1) {
+      return container2 instanceof BitmapContainer bitmap2 ? bitmap1.andNot(bitmap2) : bitmap1.andNot((ArrayContainer) container2);
+    } else {
+      ArrayContainer array1 = (ArrayContainer) container1;
+      return container2 instanceof BitmapContainer bitmap2 ? array1.andNot(bitmap2) : array1.andNot((ArrayContainer) container2);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * The iterator returns elements in ascending order.
+   */
+  @Override
+  public PrimitiveIterator.OfInt iterator() {
+    return new IntSetIterator();
+  }
+
+  private final class IntSetIterator implements PrimitiveIterator.OfInt {
+    private int index;                                    // Index of current container.
+    private PrimitiveIterator.OfInt lowIterator;          // Iterator over current container.
+
+    IntSetIterator() {
+      index = 0;
+      lowIterator = numContainers > 0 ? containers[0].iterator() : null;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return index < numContainers;
+    }
+
+    @Override
+    public int nextInt() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      int element = element(keys[index], lowIterator.nextInt());
+      if (!lowIterator.hasNext()) {
+        index++;
+        lowIterator = index < numContainers ? containers[index].iterator() : null;
+      }
+      return element;
+    }
+  }
+
+  // Containers for low 16 bits of elements in a chunk. Low values are ints in 0...0xFFFF.
+
+  private static abstract sealed class Container permits ArrayContainer, BitmapContainer, RunContainer {
+    abstract int cardinality();
+
+    abstract boolean contains(int low);
+
+    /**
+     * Adds low value and returns resulting container, which may be this one or a new one.
+     */
+    abstract Container add(int low);
+
+    /**
+     * Removes low value and returns resulting container, which may be this one or a new one.
+     */
+    abstract Container remove(int low);
+
+    abstract int first();
+
+    abstract int last();
+
+    abstract int numRuns();
+
+    abstract Container copy();
+
+    abstract Container toArrayOrBitmap();
+
+    abstract PrimitiveIterator.OfInt iterator();
+  }
+
+  private static final class ArrayContainer extends Container {
+    static final int MAX_CARDINALITY = 4096;
+
+    private char[] content;        // Sorted low values.
+    private int cardinality;
+
+    ArrayContainer(int capacity) {
+      this.content = new char[capacity];
+      this.cardinality = 0;
+    }
+
+    ArrayContainer(char[] content, int cardinality) {
+      this.content = content;
+      this.cardinality = cardinality;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(int low) {
+      return Arrays.binarySearch(content, 0, cardinality, (char) low) >= 0;
+    }
+
+    @Override
+    Container add(int low) {
+      int index = Arrays.binarySearch(content, 0, cardinality, (char) low);
+      if (index >= 0) {
+        return this;
+      }
+      if (cardinality == MAX_CARDINALITY) {
+        return toBitmap().add(low);
+      }
+      index = -index - 1;
+      if (cardinality == content.length) {
+        content = Arrays.copyOf(content, Math.min(MAX_CARDINALITY, Math.max(DEFAULT_INITIAL_CAPACITY, 2 * cardinality)));
+      }
+      System.arraycopy(content, index, content, index + 1, cardinality - index);
+      content[index] = (char) low;
+      cardinality++;
+      return this;
+    }
+
+    @Override
+    Container remove(int low) {
+      int index = Arrays.binarySearch(content, 0, cardinality, (char) low);
+      if (index >= 0) {
+        System.arraycopy(content, index + 1, content, index, cardinality - index - 1);
+        cardinality--;
+      }
+      return this;
+    }
+
+    @Override
+    int first() {
+      return content[0];
+    }
+
+    @Override
+    int last() {
+      return content[cardinality - 1];
+    }
+
+    @Override
+    int numRuns() {
+      int runs = cardinality == 0 ? 0 : 1;
+      for (int i = 1; i < cardinality; i++) {
+        if (content[i] != content[i - 1] + 1) {
+          runs++;
+        }
+      }
+      return runs;
+    }
+
+    @Override
+    Container copy() {
+      return new ArrayContainer(Arrays.copyOf(content, cardinality), cardinality);
+    }
+
+    @Override
+    Container toArrayOrBitmap() {
+      return this;
+    }
+
+    BitmapContainer toBitmap() {
+      BitmapContainer bitmap = new BitmapContainer();
+      for (int i = 0; i < cardinality; i++) {
+        bitmap.words[content[i] >>> 6] |= 1L << content[i];
+      }
+      bitmap.cardinality = cardinality;
+      return bitmap;
+    }
+
+    Container or(ArrayContainer that) {
+      if (this.cardinality + that.cardinality > MAX_CARDINALITY) {
+        return toBitmap().or(that).normalized();
+      }
+      char[] result = new char[this.cardinality + that.cardinality];
+      int i = 0, j = 0, k = 0;
+      while (i < this.cardinality && j < that.cardinality) {
+        char low1 = this.content[i];
+        char low2 = that.content[j];
+        if (low1 < low2) {
+          result[k++] = low1;
+          i++;
+        } else if (low2 < low1) {
+          result[k++] = low2;
+          j++;
+        } else {
+          result[k++] = low1;
+          i++;
+          j++;
+        }
+      }
+      while (i < this.cardinality) {
+        result[k++] = this.content[i++];
+      }
+      while (j < that.cardinality) {
+        result[k++] = that.content[j++];
+      }
+      return new ArrayContainer(result, k);
+    }
+
+    Container and(ArrayContainer that) {
+      char[] result = new char[Math.min(this.cardinality, that.cardinality)];
+      int i = 0, j = 0, k = 0;
+      while (i < this.cardinality && j < that.cardinality) {
+        char low1 = this.content[i];
+        char low2 = that.content[j];
+        if (low1 < low2) {
+          i++;
+        } else if (low2 < low1) {
+          j++;
+        } else {
+          result[k++] = low1;
+          i++;
+          j++;
+        }
+      }
+      return new ArrayContainer(result, k);
+    }
+
+    Container and(BitmapContainer bitmap) {
+      char[] result = new char[cardinality];
+      int k = 0;
+      for (int i = 0; i < cardinality; i++) {
+        char low = content[i];
+        result[k] = low;
+        // branch-free: keep low only if its bit is set
+        k += (int) (bitmap.words[low >>> 6] >>> low) & 1;
+      }
+      return new ArrayContainer(result, k);
+    }
+
+    Container andNot(ArrayContainer that) {
+      char[] result = new char[cardinality];
+      int i = 0, j = 0, k = 0;
+      while (i < this.cardinality) {
+        char low1 = this.content[i];
+        while (j < that.cardinality && that.content[j] < low1) {
+          j++;
+        }
+        if (j == that.cardinality || that.content[j] != low1) {
+          result[k++] = low1;
+        }
+        i++;
+      }
+      return new ArrayContainer(result, k);
+    }
+
+    Container andNot(BitmapContainer bitmap) {
+      char[] result = new char[cardinality];
+      int k = 0;
+      for (int i = 0; i < cardinality; i++) {
+        char low = content[i];
+        result[k] = low;
+        k += (int) (~bitmap.words[low >>> 6] >>> low) & 1;
+      }
+      return new ArrayContainer(result, k);
+    }
+
+    @Override
+    PrimitiveIterator.OfInt iterator() {
+      return new PrimitiveIterator.OfInt() {
+        int index = 0;
+
+        @Override
+        public boolean hasNext() {
+          return index < cardinality;
+        }
+
+        @Override
+        public int nextInt() {
+          return content[index++];
+        }
+      };
+    }
+  }
+
+  private static final class BitmapContainer extends Container {
+    private static final int NUM_WORDS = 1024;
+
+    private final long[] words;    // Bit i is set iff low value i is in container.
+    private int cardinality;
+
+    BitmapContainer() {
+      this.words = new long[NUM_WORDS];
+      this.cardinality = 0;
+    }
+
+    private BitmapContainer(long[] words) {
+      this.words = words;
+      int cardinality = 0;
+      for (long word : words) {
+        cardinality += Long.bitCount(word);
+      }
+      this.cardinality = cardinality;
+    }
+
+    /**
+     * Returns this bitmap, or an equivalent array container if it has few enough elements.
+     */
+    private Container normalized() {
+      return cardinality <= ArrayContainer.MAX_CARDINALITY ? toArray() : this;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(int low) {
+      return (words[low >>> 6] & (1L << low)) != 0;
+    }
+
+    @Override
+    Container add(int low) {
+      long word = words[low >>> 6];
+      long newWord = word | (1L << low);
+      if (newWord != word) {
+        words[low >>> 6] = newWord;
+        cardinality++;
+      }
+      return this;
+    }
+
+    @Override
+    Container remove(int low) {
+      long word = words[low >>> 6];
+      long newWord = word & ~(1L << low);
+      if (newWord != word) {
+        words[low >>> 6] = newWord;
+        cardinality--;
+      }
+      return normalized();
+    }
+
+    @Override
+    int first() {
+      int i = 0;
+      while (words[i] == 0) {
+        i++;
+      }
+      return 64 * i + Long.numberOfTrailingZeros(words[i]);
+    }
+
+    @Override
+    int last() {
+      int i = NUM_WORDS - 1;
+      while (words[i] == 0) {
+        i--;
+      }
+      return 64 * i + 63 - Long.numberOfLeadingZeros(words[i]);
+    }
+
+    @Override
+    int numRuns() {
+      int runs = 0;
+      long previous = 0;
+      for (long word : words) {
+        // a run starts at each set bit whose preceding bit is clear
+        runs += Long.bitCount(word & ~((word << 1) | (previous >>> 63)));
+        previous = word;
+      }
+      return runs;
+    }
+
+    @Override
+    Container copy() {
+      return new BitmapContainer(words.clone());
+    }
+
+    @Override
+    Container toArrayOrBitmap() {
+      return this;
+    }
+
+    ArrayContainer toArray() {
+      char[] content = new char[cardinality];
+      int k = 0;
+      for (int i = 0; i < NUM_WORDS; i++) {
+        for (long word = words[i]; word != 0; word &= word - 1) {
+          content[k++] = (char) (64 * i + Long.numberOfTrailingZeros(word));
+        }
+      }
+      return new ArrayContainer(content, k);
+    }
+
+    BitmapContainer or(BitmapContainer that) {
+      long[] result = new long[NUM_WORDS];
+      for (int i = 0; i < NUM_WORDS; i++) {
+        result[i] = this.words[i] | that.words[i];
+      }
+      return new BitmapContainer(result);
+    }
+
+    BitmapContainer or(ArrayContainer array) {
+      long[] result = words.clone();
+      for (int i = 0; i < array.cardinality; i++) {
+        char low = array.content[i];
+        result[low >>> 6] |= 1L << low;
+      }
+      return new BitmapContainer(result);
+    }
+
+    Container and(BitmapContainer that) {
+      long[] result = new long[NUM_WORDS];
+      for (int i = 0; i < NUM_WORDS; i++) {
+        result[i] = this.words[i] & that.words[i];
+      }
+      return new BitmapContainer(result).normalized();
+    }
+
+    Container andNot(BitmapContainer that) {
+      long[] result = new long[NUM_WORDS];
+      for (int i = 0; i < NUM_WORDS; i++) {
+        result[i] = this.words[i] & ~that.words[i];
+      }
+      return new BitmapContainer(result).normalized();
+    }
+
+    Container andNot(ArrayContainer array) {
+      long[] result = words.clone();
+      for (int i = 0; i < array.cardinality; i++) {
+        char low = array.content[i];
+        result[low >>> 6] &= ~(1L << low);
+      }
+      return new BitmapContainer(result).normalized();
+    }
+
+    @Override
+    PrimitiveIterator.OfInt iterator() {
+      return new PrimitiveIterator.OfInt() {
+        int index = -1;      // index of current word
+        long word = 0;       // bits of current word not returned yet
+
+        {
+          advance();
+        }
+
+        private void advance() {
+          while (word == 0 && index < NUM_WORDS - 1) {
+            word = words[++index];
+          }
+        }
+
+        @Override
+        public boolean hasNext() {
+          return word != 0;
+        }
+
+        @Override
+        public int nextInt() {
+          int low = 64 * index + Long.numberOfTrailingZeros(word);
+          word &= word - 1;
+          advance();
+          return low;
+        }
+      };
+    }
+  }
+
+  private static final class RunContainer extends Container {
+    // a bitmap takes 8192 bytes and a run 4 bytes
+    static final int MAX_RUNS = 2047;
+
+    private char[] runs;           // runs[2i] and runs[2i+1] are first and last low values of run i.
+    private int numRuns;
+    private int cardinality;
+
+    RunContainer(int first, int last) {
+      this.runs = new char[]{(char) first, (char) last};
+      this.numRuns = 1;
+      this.cardinality = last - first + 1;
+    }
+
+    private RunContainer(char[] runs, int numRuns, int cardinality) {
+      this.runs = runs;
+      this.numRuns = numRuns;
+      this.cardinality = cardinality;
+    }
+
+    static RunContainer from(Container container) {
+      RunContainer run = new RunContainer(new char[2 * Math.max(1, container.numRuns())], 0, 0);
+      PrimitiveIterator.OfInt iterator = container.iterator();
+      while (iterator.hasNext()) {
+        int low = iterator.nextInt();
+        if (run.numRuns > 0 && run.runs[2 * run.numRuns - 1] + 1 == low) {
+          run.runs[2 * run.numRuns - 1] = (char) low;
+        } else {
+          run.runs[2 * run.numRuns] = (char) low;
+          run.runs[2 * run.numRuns + 1] = (char) low;
+          run.numRuns++;
+        }
+        run.cardinality++;
+      }
+      return run;
+    }
+
+    private int start(int run) {
+      return runs[2 * run];
+    }
+
+    private int end(int run) {
+      return runs[2 * run + 1];
+    }
+
+    /**
+     * Returns index of last run starting at or before low, or -1 if there is none.
+     */
+    private int runIndex(int low) {
+      int lo = 0, hi = numRuns - 1, index = -1;
+      while (lo <= hi) {
+        int mid = (lo + hi) >>> 1;
+        if (start(mid) <= low) {
+          index = mid;
+          lo = mid + 1;
+        } else {
+          hi = mid - 1;
+        }
+      }
+      return index;
+    }
+
+    private void insertRun(int run, int first, int last) {
+      if (2 * numRuns == runs.length) {
+        runs = Arrays.copyOf(runs, 2 * runs.length);
+      }
+      System.arraycopy(runs, 2 * run, runs, 2 * run + 2, 2 * (numRuns - run));
+      runs[2 * run] = (char) first;
+      runs[2 * run + 1] = (char) last;
+      numRuns++;
+    }
+
+    private void deleteRun(int run) {
+      System.arraycopy(runs, 2 * run + 2, runs, 2 * run, 2 * (numRuns - run - 1));
+      numRuns--;
+    }
+
+    @Override
+    int cardinality() {
+      return cardinality;
+    }
+
+    @Override
+    boolean contains(int low) {
+      int run = runIndex(low);
+      return run >= 0 && low <= end(run);
+    }
+
+    @Override
+    Container add(int low) {
+      int run = runIndex(low);
+      if (run >= 0 && low <= end(run)) {
+        return this;
+      }
+      cardinality++;
+      boolean extendsPrevious = run >= 0 && end(run) + 1 == low;
+      boolean extendsNext = run + 1 < numRuns && start(run + 1) == low + 1;
+      if (extendsPrevious && extendsNext) {
+        runs[2 * run + 1] = runs[2 * run + 3];
+        deleteRun(run + 1);
+      } else if (extendsPrevious) {
+        runs[2 * run + 1] = (char) low;
+      } else if (extendsNext) {
+        runs[2 * run + 2] = (char) low;
+      } else {
+        insertRun(run + 1, low, low);
+      }
+      return numRuns > MAX_RUNS ? toArrayOrBitmap() : this;
+    }
+
+    @Override
+    Container remove(int low) {
+      int run = runIndex(low);
+      if (run < 0 || low > end(run)) {
+        return this;
+      }
+      cardinality--;
+      int first = start(run);
+      int last = end(run);
+      if (first == last) {
+        deleteRun(run);
+      } else if (low == first) {
+        runs[2 * run] = (char) (low + 1);
+      } else if (low == last) {
+        runs[2 * run + 1] = (char) (low - 1);
+      } else {
+        runs[2 * run + 1] = (char) (low - 1);
+        insertRun(run + 1, low + 1, last);
+      }
+      return numRuns > MAX_RUNS ? toArrayOrBitmap() : this;
+    }
+
+    @Override
+    int first() {
+      return start(0);
+    }
+
+    @Override
+    int last() {
+      return end(numRuns - 1);
+    }
+
+    @Override
+    int numRuns() {
+      return numRuns;
+    }
+
+    @Override
+    Container copy() {
+      return new RunContainer(Arrays.copyOf(runs, 2 * Math.max(1, numRuns)), numRuns, cardinality);
+    }
+
+    @Override
+    Container toArrayOrBitmap() {
+      if (cardinality <= ArrayContainer.MAX_CARDINALITY) {
+        char[] content = new char[cardinality];
+        int k = 0;
+        for (int run = 0; run < numRuns; run++) {
+          for (int low = start(run); low <= end(run); low++) {
+            content[k++] = (char) low;
+          }
+        }
+        return new ArrayContainer(content, k);
+      } else {
+        BitmapContainer bitmap = new BitmapContainer();
+        for (int run = 0; run < numRuns; run++) {
+          setRange(bitmap.words, start(run), end(run));
+        }
+        bitmap.cardinality = cardinality;
+        return bitmap;
+      }
+    }
+
+    /**
+     * Sets bits from first to last, both inclusive.
+     */
+    private static void setRange(long[] words, int first, int last) {
+      int firstWord = first >>> 6;
+      int lastWord = last >>> 6;
+      long firstMask = -1L << first;
+      long lastMask = -1L >>> (63 - (last & 63));
+      if (firstWord == lastWord) {
+        words[firstWord] |= firstMask & lastMask;
+      } else {
+        words[firstWord] |= firstMask;
+        for (int i = firstWord + 1; i < lastWord; i++) {
+          words[i] = -1L;
+        }
+        words[lastWord] |= lastMask;
+      }
+    }
+
+    @Override
+    PrimitiveIterator.OfInt iterator() {
+      return new PrimitiveIterator.OfInt() {
+        int run = 0;
+        int low = numRuns > 0 ? start(0) : 0;
+
+        @Override
+        public boolean hasNext() {
+          return run < numRuns;
+        }
+
+        @Override
+        public int nextInt() {
+          int result = low;
+          if (low == end(run)) {
+            run++;
+            if (run < numRuns) {
+              low = start(run);
+            }
+          } else {
+            low++;
+          }
+          return result;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,72 @@
+package org.uma.ed.datastructures.set;
+
+/**
+ * Represents a probabilistic membership filter, a compact summary of a set of elements that answers
+ * whether an element may belong to the set.
+ * <p>
+ * A filter never yields false negatives: if an element has been inserted (and not deleted),
+ * {@link #mightContain} returns {@code true}. It may however yield false positives, returning
+ * {@code true} for elements that were never inserted, with a small probability that depends on
+ * the implementation and on how full the filter is. Filters are typically placed in front of a
+ * larger structure, so that most lookups for absent elements are answered without touching it.
+ * <p>
+ * A filter is designed for a given capacity, the number of elements it can hold while keeping its
+ * false positive rate. Elements themselves are not stored.
+ *
+ * @param <T> The type of elements summarized by this filter.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public interface MembershipFilter<T> {
+
+  /**
+   * Adds an element to this filter.
+   *
+   * @param element the element to be added.
+   * @return {@code true} if the element was added, or {@code false} if the filter is too full to
+   * hold it, in which case it should be rebuilt with a larger capacity.
+   */
+  boolean insert(T element);
+
+  /**
+   * Returns {@code false} if the element has definitely not been inserted in this filter, or
+   * {@code true} if it may have been.
+   *
+   * @param element the element to test.
+   * @return {@code false} if the element is definitely not in the filter.
+   */
+  boolean mightContain(T element);
+
+  /**
+   * Checks whether this filter supports {@link #delete}.
+   *
+   * @return {@code true} if elements can be deleted from this filter.
+   */
+  boolean supportsDeletion();
+
+  /**
+   * Removes an element from this filter.
+   * <p>
+   * PRECONDITION: the element has been inserted in the filter and not deleted since. Otherwise,
+   * another element may be removed instead, leading to false negatives.
+   *
+   * @param element the element to be removed.
+   * @throws UnsupportedOperationException if this filter does not support deletion.
+   */
+  default void delete(T element) {
+    throw new UnsupportedOperationException("delete on " + getClass().getSimpleName());
+  }
+
+  /**
+   * Removes all elements from this filter.
+   */
+  void clear();
+
+  /**
+   * Returns the number of elements this filter is designed to hold while keeping its false
+   * positive rate.
+   *
+   * @return the capacity of this filter.
+   */
+  int capacity();
+}
@@ -0,0 +1,533 @@
+package org.uma.ed.datastructures.set;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An implementation of the {@link SortedSet} interface using a packed memory array: a sorted array
+ * with evenly distributed gaps, so that insertions and deletions only move a few nearby elements.
+ * <p>
+ * The array is divided into segments of O(log n) slots, whose elements are packed at the beginning
+ * of each segment, and segments are grouped into an implicit complete binary tree of windows. An
+ * insertion into a segment with free slots just shifts elements within that segment. When the segment
+ * is full, the smallest enclosing window whose density stays below an upper threshold is rebalanced,
+ * spreading its elements evenly over its segments; thresholds are looser for smaller windows. If no
+ * window qualifies, the array doubles its capacity. Deletions are handled symmetrically with lower
+ * thresholds, and the array halves its capacity when it becomes too sparse. This keeps insertions
+ * and deletions in O(log² n) amortized time, while elements remain in ascending order in one
+ * contiguous array that is scanned efficiently by iterators.
+ * <p>
+ * Searching first locates the segment by a binary search over the first element of each segment, and
+ * then the element by a binary search within that segment, taking O(log n) time.
+ *
+ * @param <T> The type of elements held in this sorted set.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class PackedMemoryArraySet<T> extends AbstractSortedSet<T> implements SortedSet<T> {
+
+  /**
+   * Minimum capacity of the array, and minimum number of slots in each segment.
+   */
+  private static final int MINIMUM_CAPACITY = 8;
+
+  /*
+   * Density thresholds for windows. Upper ones go from UPPER_LEAF for single segments down to
+   * UPPER_ROOT for the whole array, and lower ones from LOWER_LEAF up to LOWER_ROOT. As
+   * LOWER_ROOT < UPPER_ROOT / 2, the array is within thresholds after doubling or halving it.
+   */
+  private static final double UPPER_LEAF = 1.0;
+  private static final double UPPER_ROOT = 0.75;
+  private static final double LOWER_LEAF = 0.125;
+  private static final double LOWER_ROOT = 0.30;
+
+  /**
+   * Comparator defining the order of elements in this set.
+   */
+  private final Comparator<T> comparator;
+
+  /**
+   * The array of slots where elements are stored. Free slots are null.
+   */
+  private T[] slots;
+
+  /**
+   * Number of elements stored in each segment.
+   */
+  private int[] counts;
+
+  /**
+   * Number of slots in each segment, a power of two.
+   */
+  private int segmentCapacity;
+
+  /**
+   * log2 of the number of segments, which is the height of the tree of windows.
+   */
+  private int height;
+
+  /**
+   * The number of elements in this set.
+   */
+  private int size;
+
+  /*
+   * INVARIANT:
+   *  - slots.length is a power of two, equal to counts.length * segmentCapacity and
+   *    counts.length == 2^height.
+   *  - Elements in segment s are stored in slots[s*segmentCapacity ... s*segmentCapacity+counts[s]-1]
+   *    and remaining slots in that segment are null.
+   *  - Elements, visited segment by segment, are sorted according to the comparator, with no duplicates.
+   *  - If size > 0, every segment stores at least one element.
+   *  - size is the sum of all counts.
+   */
+
+  /**
+   * Constructs an empty {@code PackedMemoryArraySet} with a specified comparator.
+   * <p> Time complexity: O(1)
+   *
+   * @param comparator the comparator that will be used to order the set.
+   */
+  public PackedMemoryArraySet(Comparator<T> comparator) {
+    this.comparator = comparator;
+    allocate(MINIMUM_CAPACITY);
+    this.size = 0;
+  }
+
+  /**
+   * Creates an empty {@code PackedMemoryArraySet} with a specified comparator.
+   * <p> Time complexity: O(1)
+   *
+   * @param <T>        the type of elements.
+   * @param comparator the comparator to use for ordering.
+   * @return an empty {@code PackedMemoryArraySet}.
+   */
+  public static <T> PackedMemoryArraySet<T> empty(Comparator<T> comparator) {
+    return new PackedMemoryArraySet<>(comparator);
+  }
+
+  /**
+   * Creates an empty {@code PackedMemoryArraySet} with natural ordering.
+   * <p> Time complexity: O(1)
+   *
+   * @param <T> the type of elements.
+   * @return an empty {@code PackedMemoryArraySet}.
+   */
+  public static <T extends Comparable<? super T>> PackedMemoryArraySet<T> empty() {
+    return new PackedMemoryArraySet<T>(Comparator.naturalOrder());
+  }
+
+  /**
+   * Creates a new {@code PackedMemoryArraySet} from the given elements, ordered by the specified comparator.
+   * <p> Time complexity: O(m log² n) amortized, where m is the number of elements and n the final size.
+   *
+   * @param <T>        the type of elements.
+   * @param comparator the comparator to use for ordering.
+   * @param elements   the elements to include in the set.
+   * @return a new {@code PackedMemoryArraySet} containing the elements.
+   */
+  @SafeVarargs
+  public static <T> PackedMemoryArraySet<T> of(Comparator<T> comparator, T... elements) {
+    PackedMemoryArraySet<T> set = new PackedMemoryArraySet<>(comparator);
+    set.insert(elements);
+    return set;
+  }
+
+  /**
+   * Creates a new {@code PackedMemoryArraySet} from the given elements, ordered by their natural ordering.
+   * <p> Time complexity: O(m log² n) amortized.
+   *
+   * @param <T>      the type of elements.
+   * @param elements the elements to include in the set.
+   * @return a new {@code PackedMemoryArraySet} containing the elements.
+   */
+  @SafeVarargs
+  public static <T extends Comparable<? super T>> PackedMemoryArraySet<T> of(T... elements) {
+    return of(Comparator.naturalOrder(), elements);
+  }
+
+  /**
+   * Creates a new {@code PackedMemoryArraySet} from an iterable, ordered by the specified comparator.
+   * <p> Time complexity: O(m log² n) amortized.
+   *
+   * @param <T>        the type of elements.
+   * @param comparator the comparator to use for ordering.
+   * @param iterable   an iterable containing the elements for the set.
+   * @return a new {@code PackedMemoryArraySet} containing the elements.
+   */
+  public static <T> PackedMemoryArraySet<T> from(Comparator<T> comparator, Iterable<T> iterable) {
+    PackedMemoryArraySet<T> set = new PackedMemoryArraySet<>(comparator);
+    for (T element : iterable) {
+      set.insert(element);
+    }
+    return set;
+  }
+
+  /**
+   * Creates a new {@code PackedMemoryArraySet} from an iterable, ordered by their natural ordering.
+   * <p> Time complexity: O(m log² n) amortized.
+   *
+   * @param <T>      the type of elements.
+   * @param iterable an iterable containing the elements for the set.
+   * @return a new {@code PackedMemoryArraySet} containing the elements.
+   */
+  public static <T extends Comparable<? super T>> PackedMemoryArraySet<T> from(Iterable<T> iterable) {
+    return from(Comparator.naturalOrder(), iterable);
+  }
+
+  /**
+   * Creates a new {@code PackedMemoryArraySet} containing the same elements as the given sorted set.
+   * <p> Time complexity: O(n)
+   *
+   * @param <T>  the type of elements.
+   * @param that the sorted set to be copied.
+   * @return a new {@code PackedMemoryArraySet} with the same elements.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> PackedMemoryArraySet<T> copyOf(SortedSet<T> that) {
+    PackedMemoryArraySet<T> copy = new PackedMemoryArraySet<>(that.comparator());
+    Object[] elements = new Object[that.size()];
+    int n = 0;
+    for (T element : that) {
+      elements[n++] = element;
+    }
+    copy.rebuild((T[]) elements, n);
+    return copy;
+  }
+
+  /**
+   * Allocates an empty array of slots with given capacity, a power of two.
+   */
+  @SuppressWarnings("unchecked")
+  private void allocate(int capacity) {
+    segmentCapacity = MINIMUM_CAPACITY;
+    int log2Capacity = Integer.numberOfTrailingZeros(capacity);
+    while (segmentCapacity < log2Capacity) {
+      segmentCapacity *= 2;
+    }
+    int segments = Math.max(1, capacity / segmentCapacity);
+    height = Integer.numberOfTrailingZeros(segments);
+    slots = (T[]) new Object[segments * segmentCapacity];
+    counts = new int[segments];
+  }
+
+  /**
+   * Stores {@code elements[0...n-1]}, which must be sorted, in a new array with enough capacity to
+   * keep its density between root thresholds.
+   */
+  private void rebuild(T[] elements, int n) {
+    int capacity = MINIMUM_CAPACITY;
+    while (n > UPPER_ROOT * capacity) {
+      capacity *= 2;
+    }
+    allocate(capacity);
+    spread(elements, n, 0, counts.length);
+    size = n;
+  }
+
+  /**
+   * Stores {@code elements[0...n-1]}, which must be sorted, evenly across segments in
+   * {@code [firstSegment, firstSegment + segments)}.
+   */
+  private void spread(T[] elements, int n, int firstSegment, int segments) {
+    int quotient = n / segments;
+    int remainder = n % segments;
+    int next = 0;
+    for (int s = 0; s < segments; s++) {
+      int segment = firstSegment + s;
+      int count = quotient + (s < remainder ? 1 : 0);
+      int base = segment * segmentCapacity;
+      for (int i = 0; i < segmentCapacity; i++) {
+        slots[base + i] = (i < count) ? elements[next++] : null;
+      }
+      counts[segment] = count;
+    }
+  }
+
+  /**
+   * Returns the elements stored in segments {@code [firstSegment, firstSegment + segments)}, in
+   * order, with room for an extra one.
+   */
+  @SuppressWarnings("unchecked")
+  private T[] gather(int firstSegment, int segments, int n) {
+    T[] elements = (T[]) new Object[n + 1];
+    int next = 0;
+    for (int segment = firstSegment; segment < firstSegment + segments; segment++) {
+      System.arraycopy(slots, segment * segmentCapacity, elements, next, counts[segment]);
+      next += counts[segment];
+    }
+    return elements;
+  }
+
+  /**
+   * Upper density threshold for windows spanning 2^level segments.
+   */
+  private double upperThreshold(int level) {
+    return height == 0 ? UPPER_LEAF : UPPER_LEAF - (UPPER_LEAF - UPPER_ROOT) * level / height;
+  }
+
+  /**
+   * Lower density threshold for windows spanning 2^level segments.
+   */
+  private double lowerThreshold(int level) {
+    return height == 0 ? 0 : LOWER_LEAF + (LOWER_ROOT - LOWER_LEAF) * level / height;
+  }
+
+  /**
+   * A helper class that uses binary search to find an element's position.
+   * <p>
+   * {@code segment} is the segment where the element is or should be. If the element is found,
+   * {@code found} is true and {@code index} is its position within the segment. If not found,
+   * {@code found} is false and {@code index} is the position within the segment where it should be
+   * inserted to maintain order.
+   */
+  private final class Finder {
+    boolean found;
+    int segment;
+    int index;
+
+    Finder(T element) {
+      // last segment whose first element is not greater than element, or first segment
+      int low = 0;
+      int high = counts.length - 1;
+      while (low < high) {
+        int mid = (low + high + 1) >>> 1;
+        if (comparator.compare(slots[mid * segmentCapacity], element) <= 0) {
+          low = mid;
+        } else {
+          high = mid - 1;
+        }
+      }
+      this.segment = low;
+
+      // binary search within segment
+      int base = segment * segmentCapacity;
+      int left = 0;
+      int right = counts[segment] - 1;
+      while (left <= right) {
+        int mid = (left + right) >>> 1;
+        int cmp = comparator.compare(element, slots[base + mid]);
+        if (cmp == 0) {
+          this.found = true;
+          this.index = mid;
+          return;
+        } else if (cmp > 0) {
+          left = mid + 1;
+        } else {
+          right = mid - 1;
+        }
+      }
+      this.found = false;
+      this.index = left;
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log² n) amortized. The search itself is O(log n).
+   */
+  @Override
+  public void insert(T element) {
+    if (size == 0) {
+      slots[0] = element;
+      counts[0] = 1;
+      size = 1;
+      return;
+    }
+    Finder finder = new Finder(element);
+    int segment = finder.segment;
+    int base = segment * segmentCapacity;
+    if (finder.found) {
+      slots[base + finder.index] = element;
+      return;
+    }
+    if (counts[segment] < segmentCapacity) {
+      // room in segment: shift elements to the right within segment
+      System.arraycopy(slots, base + finder.index, slots, base + finder.index + 1, counts[segment] - finder.index);
+      slots[base + finder.index] = element;
+      counts[segment]++;
+      size++;
+      return;
+    }
+    // find smallest enclosing window that can take one more element
+    for (int level = 1; level <= height; level++) {
+      int segments = 1 << level;
+      int firstSegment = segment & ~(segments - 1);
+      int n = 0;
+      int position = finder.index; // position of element within window
+      for (int s = firstSegment; s < firstSegment + segments; s++) {
+        n += counts[s];
+        if (s < segment) {
+          position += counts[s];
+        }
+      }
+      if (n + 1 <= upperThreshold(level) * segments * segmentCapacity) {
+        spread(insertAt(gather(firstSegment, segments, n), n, position, element), n + 1, firstSegment, segments);
+        size++;
+        return;
+      }
+    }
+    // whole array is too dense: double its capacity
+    int globalPosition = finder.index;
+    for (int s = 0; s < segment; s++) {
+      globalPosition += counts[s];
+    }
+    rebuild(insertAt(gather(0, counts.length, size), size, globalPosition, element), size + 1);
+  }
+
+  /**
+   * Inserts {@code element} at {@code position} in {@code elements[0...n-1]}, which has room for it.
+   */
+  private static <T> T[] insertAt(T[] elements, int n, int position, T element) {
+    System.arraycopy(elements, position, elements, position + 1, n - position);
+    elements[position] = element;
+    return elements;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log n)
+   */
+  @Override
+  public boolean contains(T element) {
+    return size > 0 && new Finder(element).found;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(log² n) amortized. The search itself is O(log n).
+   */
+  @Override
+  public void delete(T element) {
+    if (size == 0) {
+      return;
+    }
+    Finder finder = new Finder(element);
+    if (!finder.found) {
+      return;
+    }
+    int segment = finder.segment;
+    int base = segment * segmentCapacity;
+    // shift elements to the left within segment
+    System.arraycopy(slots, base + finder.index + 1, slots, base + finder.index, counts[segment] - finder.index - 1);
+    counts[segment]--;
+    slots[base + counts[segment]] = null;
+    size--;
+
+    if (counts.length > 1 && size < lowerThreshold(height) * slots.length) {
+      // whole array is too sparse: halve its capacity
+      rebuild(gather(0, counts.length, size), size);
+    } else if (counts[segment] < lowerThreshold(0) * segmentCapacity) {
+      // find smallest enclosing window that is dense enough
+      for (int level = 1; level <= height; level++) {
+        int segments = 1 << level;
+        int firstSegment = segment & ~(segments - 1);
+        int n = 0;
+        for (int s = firstSegment; s < firstSegment + segments; s++) {
+          n += counts[s];
+        }
+        if (n >= lowerThreshold(level) * segments * segmentCapacity) {
+          spread(gather(firstSegment, segments, n), n, firstSegment, segments);
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(n)
+   */
+  @Override
+  public void clear() {
+    allocate(MINIMUM_CAPACITY);
+    size = 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public Comparator<T> comparator() {
+    return comparator;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public T minimum() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("minimum on empty set");
+    }
+    return slots[0];
+  }
+
+  /**
+   * {@inheritDoc}
+   * <p> Time complexity: O(1)
+   */
+  @Override
+  public T maximum() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("maximum on empty set");
+    }
+    int lastSegment = counts.length - 1;
+    return slots[lastSegment * segmentCapacity + counts[lastSegment] - 1];
+  }
+
+  /**
+   * {@inheritDoc}
+   * The iterator returns elements in ascending sorted order.
+   */
+  @Override
+  public Iterator<T> iterator() {
+    return new PackedMemoryArraySetIterator();
+  }
+
+  /**
+   * An iterator for this {@code PackedMemoryArraySet}, scanning slots in order and skipping free ones.
+   */
+  private final class PackedMemoryArraySetIterator implements Iterator<T> {
+    private int segment = 0;
+    private int index = 0;
+
+    @Override
+    public boolean hasNext() {
+      while (segment < counts.length && index >= counts[segment]) {
+        segment++;
+        index = 0;
+      }
+      return segment < counts.length;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return slots[segment * segmentCapacity + index++];
+    }
+  }
+}
@@ -4,6 +4,9 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import org.uma.ed.datastructures.utils.batch.Batches;
+import org.uma.ed.datastructures.utils.iterator.SeekableIterator;
+import org.uma.ed.datastructures.utils.iterator.SortedIterators;
 
 /**
  * An implementation of the {@link SortedSet} interface using a sorted dynamic array.
@@ -126,7 +129,7 @@ public class SortedArraySet<T> extends AbstractSortedSet<T> implements SortedSet
 
   /**
    * Creates a new {@code SortedArraySet} from the given elements, ordered by the specified comparator.
-   * <p> Time complexity: O(n^2) in the worst case, due to repeated insertions.
+   * <p> Time complexity: O(n log n), as elements are inserted with {@link #insertAll}.
    *
    * @param <T>        the type of elements.
    * @param comparator the comparator to use for ordering.
@@ -136,15 +139,13 @@ public class SortedArraySet<T> extends AbstractSortedSet<T> implements SortedSet
   @SafeVarargs
   public static <T> SortedArraySet<T> of(Comparator<T> comparator, T... elements) {
     SortedArraySet<T> set = new SortedArraySet<>(comparator, elements.length > 0 ? elements.length : DEFAULT_INITIAL_CAPACITY);
-    for (T element : elements) {
-      set.insert(element);
-    }
+    set.insertAll(Arrays.asList(elements));
     return set;
   }
 
   /**
    * Creates a new {@code SortedArraySet} from the given elements, ordered by their natural ordering.
-   * <p> Time complexity: O(n^2) in the worst case, due to repeated insertions.
+   * <p> Time complexity: O(n log n), as elements are inserted with {@link #insertAll}.
    *
    * @param <T>      the type of elements.
    * @param elements the elements to include in the set.
@@ -157,7 +158,7 @@ public class SortedArraySet<T> extends AbstractSortedSet<T> implements SortedSet
 
   /**
    * Creates a new {@code SortedArraySet} from an iterable, ordered by the specified comparator.
-   * <p> Time complexity: O(n^2) in the worst case, due to repeated insertions.
+   * <p> Time complexity: O(n log n), as elements are inserted with {@link #insertAll}.
    *
    * @param <T>        the type of elements.
    * @param comparator the comparator to use for ordering.
@@ -166,15 +167,13 @@ public class SortedArraySet<T> extends AbstractSortedSet<T> implements SortedSet
    */
   public static <T> SortedArraySet<T> from(Comparator<T> comparator, Iterable<T> iterable) {
     SortedArraySet<T> set = new SortedArraySet<>(comparator);
-    for (T element : iterable) {
-      set.insert(element);
-    }
+    set.insertAll(iterable);
     return set;
   }
 
   /**
    * Creates a new {@code SortedArraySet} from an iterable, ordered by their natural ordering.
-   * <p> Time complexity: O(n^2) in the worst case, due to repeated insertions.
+   * <p> Time complexity: O(n log n), as elements are inserted with {@link #insertAll}.
    *
    * @param <T>      the type of elements.
    * @param iterable an iterable containing the elements for the set.
@@ -237,6 +236,17 @@ public class SortedArraySet<T> extends AbstractSortedSet<T> implements SortedSet
   @Override
   public int size() { return size; }
 
+  /**
+   * Returns an immutable copy of this set in a read-optimized layout, suitable for sets that are
+   * built once and then queried many times. Later changes to this set are not reflected in the copy.
+   * <p> Time complexity: O(n)
+   *
+   * @return an {@code EytzingerSet} with the same elements as this set.
+   */
+  public EytzingerSet<T> frozen() {
+    return EytzingerSet.fromSortedArray(comparator, elements, size);
+  }
+
   /**
    * Ensures the array has enough capacity for at least one more element.
    */
@@ -304,6 +314,56 @@ public class SortedArraySet<T> extends AbstractSortedSet<T> implements SortedSet
     }
   }
 
+  /**
+   * Inserts all elements in an iterable into this set. The result is the same as inserting them
+   * one by one, in iteration order.
+   * <p>
+   * The batch is sorted and duplicates are removed. Then, elements of the batch already in the set
+   * are located by galloping forward through the array, which gives the final size, and the batch
+   * is merged into the array from right to left, so that every element in the set moves at most
+   * once, straight to its final position.
+   * <p> Time complexity: O(n + k log k), where k is the number of elements in the batch.
+   *
+   * @param iterable the batch of elements to insert.
+   */
+  public void insertAll(Iterable<T> iterable) {
+    T[] batch = Batches.sorted(iterable, comparator);
+    int k = Batches.distinct(batch, comparator);
+
+    // count elements in batch that are already in this set
+    int common = 0;
+    int from = 0;
+    for (int j = 0; j < k; j++) {
+      from = SortedIterators.gallop(elements, from, size, batch[j], comparator);
+      if (from < size && comparator.compare(elements[from], batch[j]) == 0) {
+        common++;
+      }
+    }
+
+    int newSize = size + k - common;
+    if (newSize > elements.length) {
+      elements = Arrays.copyOf(elements, Math.max(newSize, 2 * elements.length));
+    }
+
+    // merge backwards; elements[0...i] are already in place once batch is exhausted
+    int i = size - 1;
+    int j = k - 1;
+    int last = newSize - 1;
+    while (j >= 0) {
+      int cmp = i < 0 ? -1 : comparator.compare(elements[i], batch[j]);
+      if (cmp > 0) {
+        elements[last--] = elements[i--];
+      } else {
+        // batch element replaces an equal one in set
+        elements[last--] = batch[j--];
+        if (cmp == 0) {
+          i--;
+        }
+      }
+    }
+    size = newSize;
+  }
+
   /**
    * {@inheritDoc}
    * <p> Time complexity: O(log n)
@@ -357,16 +417,18 @@ public class SortedArraySet<T> extends AbstractSortedSet<T> implements SortedSet
 
   /**
    * {@inheritDoc}
+   * The returned iterator can skip forward to a given element in O(log d) time, where d is the
+   * number of skipped elements.
    */
   @Override
-  public Iterator<T> iterator() {
+  public SeekableIterator<T> iterator() {
     return new SortedArraySetIterator();
   }
 
   /**
    * An iterator for this {@code SortedArraySet}.
    */
-  private final class SortedArraySetIterator implements Iterator<T> {
+  private final class SortedArraySetIterator implements SeekableIterator<T> {
     private int currentIndex = 0;
 
     @Override
@@ -380,6 +442,11 @@ public class SortedArraySet<T> extends AbstractSortedSet<T> implements SortedSet
       T element = elements[currentIndex];
       currentIndex++;
       return element;}
+
+    @Override
+    public void seek(T element) {
+      currentIndex = SortedIterators.gallop(elements, currentIndex, size, element, comparator);
+    }
   }
 
   /**
@@ -416,45 +483,37 @@ public class SortedArraySet<T> extends AbstractSortedSet<T> implements SortedSet
 
   /**
    * {@inheritDoc}
-   * <p> Time complexity: O(n + m)
+   * <p> Elements of {@code set2} that cannot be in {@code set1} are skipped by seeking its iterator,
+   * which gallops if {@code set2} is a {@code SortedArraySet} or an {@code AVLSet}.
+   * <p> Time complexity: O(n + m) in the worst case. If {@code set2} is a {@code SortedArraySet},
+   * O(n log(m/n)), where n and m are the sizes of {@code set1} and {@code set2}.
    */
   public static <T> SortedArraySet<T> difference(SortedSet<T> set1, SortedSet<T> set2) {
     checkSameComparator(set1, set2, "difference");
-    throw new UnsupportedOperationException("Not implemented yet");
+    int capacity = set1.size() == 0 ? DEFAULT_INITIAL_CAPACITY : set1.size();
+    SortedArraySet<T> d = new SortedArraySet<>(set1.comparator(), capacity);
+    SortedIterators.difference(set1.iterator(), SortedIterators.seekable(set2.iterator(), set2.comparator()),
+        d.comparator, d::append);
+    return d;
   }
 
   /**
    * {@inheritDoc}
-   * <p> Time complexity: O(n + m)
+   * <p> Iterators of both sets are alternately sought to the last element of the other one, so that
+   * runs of elements that cannot be in the intersection are skipped. Iterators of
+   * {@code SortedArraySet}s and {@code AVLSet}s skip such runs without visiting all their elements.
+   * <p> Time complexity: O(n + m) in the worst case. If both are {@code SortedArraySet}s, O(k log(N/k)),
+   * where k and N are the sizes of the smaller and larger set.
    */
   public static <T> SortedArraySet<T> intersection(SortedSet<T> set1, SortedSet<T> set2) {
     checkSameComparator(set1, set2, "intersection");
-    Iterator<T> it1 = set1.iterator();
-    Iterator<T> it2 = set2.iterator();
-
-    T element1 = nextOrNull(it1);
-    T element2 = nextOrNull(it2);
-
-    int capacity = Math.min(set1.size(),set2.size());
-    if(capacity == 0){
+    int capacity = Math.min(set1.size(), set2.size());
+    if (capacity == 0) {
       capacity = DEFAULT_INITIAL_CAPACITY;
     }
-    SortedArraySet<T> i= new SortedArraySet<>(set1.comparator(),capacity);
-
-    while(element1 != null || element2 != null){ // while we have at least one element to add
-      int cmp = i.comparator.compare(element1,element2);
-      if(cmp<0){
-        element1 = nextOrNull(it1);
-      } else if(cmp > 0){
-        element2 = nextOrNull(it2);
-      } else{
-        i.append(element1);
-        element1 = nextOrNull(it1);
-        element2 = nextOrNull(it2);
-
-      }
-    }
-
+    SortedArraySet<T> i = new SortedArraySet<>(set1.comparator(), capacity);
+    SortedIterators.intersection(SortedIterators.seekable(set1.iterator(), set1.comparator()),
+        SortedIterators.seekable(set2.iterator(), set2.comparator()), i.comparator, i::append);
     return i;
   }
 
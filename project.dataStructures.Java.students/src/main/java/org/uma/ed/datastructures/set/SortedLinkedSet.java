@@ -3,6 +3,7 @@ package org.uma.ed.datastructures.set;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import org.uma.ed.datastructures.utils.iterator.SortedIterators;
 
 /**
  * An implementation of the {@link SortedSet} interface using a sorted, singly-linked list.
@@ -453,56 +454,30 @@ public class SortedLinkedSet<T> extends AbstractSortedSet<T> implements SortedSe
 
   /**
    * {@inheritDoc}
+   * <p> Iterators of both sets are alternately sought to the last element of the other one, so that
+   * runs of elements that cannot be in the intersection are skipped without visiting them if the
+   * other set is a {@code SortedArraySet} or an {@code AVLSet}.
    * <p> Time complexity: O(n + m)
    */
   public static <T> SortedLinkedSet<T> intersection(SortedSet<T> set1, SortedSet<T> set2) {
     checkSameComparator(set1, set2, "intersection");
     SortedLinkedSetBuilder<T> builder = new SortedLinkedSetBuilder<>(set1.comparator());
-
-    Iterator<T> it1 = set1.iterator();
-    Iterator<T> it2 = set2.iterator();
-    T elem1 = nextOrNull(it1);
-    T elem2 = nextOrNull(it2);
-
-    while (elem1 != null && elem2 != null) {
-      int cmp = set1.comparator().compare(elem1, elem2);
-      if (cmp < 0) {
-        elem1 = nextOrNull(it1);
-      } else if (cmp > 0) {
-        elem2 = nextOrNull(it2);
-      } else { // they are equal
-        builder.append(elem1);
-        elem1 = nextOrNull(it1);
-        elem2 = nextOrNull(it2);
-      }
-    }
+    SortedIterators.intersection(SortedIterators.seekable(set1.iterator(), set1.comparator()),
+        SortedIterators.seekable(set2.iterator(), set2.comparator()), set1.comparator(), builder::append);
     return builder.toSortedLinkedSet();
   }
 
   /**
    * {@inheritDoc}
+   * <p> Elements of {@code set2} that cannot be in {@code set1} are skipped by seeking its iterator,
+   * which gallops if {@code set2} is a {@code SortedArraySet} or an {@code AVLSet}.
    * <p> Time complexity: O(n + m)
    */
   public static <T> SortedLinkedSet<T> difference(SortedSet<T> set1, SortedSet<T> set2) {
     checkSameComparator(set1, set2, "difference");
     SortedLinkedSetBuilder<T> builder = new SortedLinkedSetBuilder<>(set1.comparator());
-
-    Iterator<T> it1 = set1.iterator();
-    Iterator<T> it2 = set2.iterator();
-    T elem1 = nextOrNull(it1);
-    T elem2 = nextOrNull(it2);
-
-    while (elem1 != null) {
-      if (elem2 == null || set1.comparator().compare(elem1, elem2) < 0) {
-        builder.append(elem1);
-        elem1 = nextOrNull(it1);
-      } else if (set1.comparator().compare(elem1, elem2) > 0) {
-        elem2 = nextOrNull(it2);
-      } else { // elem1 is equal to elem2
-        elem1 = nextOrNull(it1);
-        elem2 = nextOrNull(it2);
-      }
-    }
+    SortedIterators.difference(set1.iterator(), SortedIterators.seekable(set2.iterator(), set2.comparator()),
+        set1.comparator(), builder::append);
     return builder.toSortedLinkedSet();
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,430 @@
+package org.uma.ed.datastructures.skiplist;
+
+import org.uma.ed.datastructures.utils.toString.ToString;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicMarkableReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free, thread-safe skip list that stores a sorted collection of unique keys.
+ * <p>
+ * A skip list is a hierarchy of sorted linked lists. Level 0 links all keys in ascending order,
+ * and each higher level links a random subset (about half) of the keys in the level below, so that
+ * searches can skip over large parts of the list. All operations take O(log n) expected time.
+ * <p>
+ * This implementation follows the lock-free skip list by Herlihy and Shavit. Every reference to a
+ * successor carries a mark bit that is set when the node holding it is being deleted. Deletion
+ * first marks a node (logical deletion) and then unlinks it (physical deletion). Insertion and
+ * deletion rely on compare-and-set operations, and searches never modify the list, so no
+ * operation ever blocks other threads.
+ * <p>
+ * Iterators are <em>weakly consistent</em>: they never throw
+ * {@link java.util.ConcurrentModificationException}, they yield each key at most once and in
+ * ascending order, and they reflect some, but not necessarily all, updates performed after they
+ * were created. {@link #size()} is also a weakly consistent estimate while updates are in
+ * progress.
+ * <p>
+ * Uniqueness of keys is enforced based on the ordering criterion: two keys {@code k1} and
+ * {@code k2} are considered equal if {@code comparator.compare(k1, k2) == 0}.
+ *
+ * @param <K> The type of keys stored in the skip list.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class LockFreeSkipList<K> implements Iterable<K> {
+
+  /**
+   * Maximum number of levels in the skip list.
+   */
+  private static final int MAX_LEVEL = 32;
+
+  /**
+   * Internal class representing a node in the skip list.
+   * A node has one successor reference for each level it belongs to.
+   */
+  private static final class Node<K> {
+    volatile K key;
+    final AtomicMarkableReference<Node<K>>[] next;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    Node(K key, int height) {
+      this.key = key;
+      this.next = (AtomicMarkableReference<Node<K>>[]) new AtomicMarkableReference[height];
+      for (int level = 0; level < height; level++) {
+        next[level] = new AtomicMarkableReference<>(null, false);
+      }
+    }
+
+    int height() {
+      return next.length;
+    }
+  }
+
+  /*
+   * INVARIANT:
+   *  - `head` is a sentinel node (with no key) that belongs to all levels.
+   *  - At every level, unmarked nodes are linked in strictly ascending order of keys.
+   *  - The set of nodes at level i + 1 is a subset of the set of nodes at level i.
+   *  - A node is in the skip list iff it is reachable at level 0 and its reference
+   *    to its successor at level 0 is unmarked.
+   *  - A null successor reference marks the end of a level.
+   */
+
+  private final Comparator<K> comparator;
+  private final Node<K> head;
+  private final LongAdder size;
+
+  /**
+   * Constructs an empty {@code LockFreeSkipList} with a specified comparator.
+   * <p> Time complexity: O(1)
+   */
+  public LockFreeSkipList(Comparator<K> comparator) {
+    this.comparator = comparator;
+    this.head = new Node<>(null, MAX_LEVEL);
+    this.size = new LongAdder();
+  }
+
+  /**
+   * Creates an empty {@code LockFreeSkipList} with natural ordering.
+   * <p> Time complexity: O(1)
+   */
+  public static <K extends Comparable<? super K>> LockFreeSkipList<K> empty() {
+    return new LockFreeSkipList<K>(Comparator.naturalOrder());
+  }
+
+  /**
+   * Creates an empty {@code LockFreeSkipList} with a specified comparator.
+   * <p> Time complexity: O(1)
+   */
+  public static <K> LockFreeSkipList<K> empty(Comparator<K> comparator) {
+    return new LockFreeSkipList<>(comparator);
+  }
+
+  /**
+   * Returns the comparator used to order the keys in this skip list.
+   * <p> Time complexity: O(1)
+   */
+  public Comparator<K> comparator() {
+    return comparator;
+  }
+
+  /**
+   * Checks if this skip list is empty.
+   * <p> Time complexity: O(1)
+   */
+  public boolean isEmpty() {
+    return firstNode() == null;
+  }
+
+  /**
+   * Returns the number of keys in this skip list. If updates are being performed concurrently,
+   * the result is an estimate.
+   * <p> Time complexity: O(number of threads)
+   */
+  public int size() {
+    return (int) size.sum();
+  }
+
+  /**
+   * Returns a random height for a new node: height h is chosen with probability 1/2^h.
+   */
+  private static int randomHeight() {
+    int bits = ThreadLocalRandom.current().nextInt() | (1 << (MAX_LEVEL - 1));
+    return Integer.numberOfTrailingZeros(bits) + 1;
+  }
+
+  /**
+   * Locates the position of a key in all levels. On return, {@code preds[i]} is the last node in level
+   * {@code i} with a key smaller than {@code key}, and {@code succs[i]} is its successor (or null).
+   * Marked nodes found along the way are physically unlinked.
+   *
+   * @return {@code true} if a node with the key is in the skip list (it is {@code succs[0]}).
+   */
+  private boolean find(K key, Node<K>[] preds, Node<K>[] succs) {
+    boolean[] marked = {false};
+    retry:
+    while (true) {
+      Node<K> pred = head;
+      for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+        Node<K> curr = pred.next[level].getReference();
+        while (curr != null) {
+          Node<K> succ = curr.next[level].get(marked);
+          if (marked[0]) {
+            // curr is being deleted: unlink it at this level
+            if (!pred.next[level].compareAndSet(curr, succ, false, false)) {
+              continue retry; // pred changed or was itself deleted
+            }
+            curr = succ;
+          } else if (comparator.compare(curr.key, key) < 0) {
+            pred = curr;
+            curr = succ;
+          } else {
+            break;
+          }
+        }
+        preds[level] = pred;
+        succs[level] = curr;
+      }
+      return succs[0] != null && comparator.compare(succs[0].key, key) == 0;
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static <K> Node<K>[] newNodeArray() {
+    return (Node<K>[]) new Node[MAX_LEVEL];
+  }
+
+  /**
+   * Inserts the specified key into the skip list.
+   * <p>
+   * If the skip list already contains a key that is considered equal (according to the comparator),
+   * the existing key is replaced by the new one.
+   * <p> Time complexity: O(log n) expected.
+   *
+   * @param key the key to be inserted.
+   */
+  public void insert(K key) {
+    Node<K>[] preds = newNodeArray();
+    Node<K>[] succs = newNodeArray();
+    int height = randomHeight();
+    while (true) {
+      if (find(key, preds, succs)) {
+        succs[0].key = key; // Replace existing key
+        return;
+      }
+      Node<K> node = new Node<>(key, height);
+      for (int level = 0; level < height; level++) {
+        node.next[level].set(succs[level], false);
+      }
+      // Linking the node at level 0 is what makes it part of the skip list
+      if (!preds[0].next[0].compareAndSet(succs[0], node, false, false)) {
+        continue; // list changed around the insertion point: try again
+      }
+      size.increment();
+      // Link the node at upper levels, which are just shortcuts
+      for (int level = 1; level < height; level++) {
+        while (true) {
+          Node<K> pred = preds[level];
+          Node<K> succ = succs[level];
+          boolean[] marked = {false};
+          Node<K> next = node.next[level].get(marked);
+          if (marked[0]) {
+            return; // node is already being deleted: stop linking it
+          }
+          if (next != succ && !node.next[level].compareAndSet(next, succ, false, false)) {
+            return; // node was marked in the meantime
+          }
+          if (pred.next[level].compareAndSet(succ, node, false, false)) {
+            break;
+          }
+          find(key, preds, succs);
+        }
+      }
+      return;
+    }
+  }
+
+  /**
+   * Searches for a given key in the skip list. This operation never modifies the skip list.
+   * <p> Time complexity: O(log n) expected.
+   *
+   * @param key the key to search for.
+   * @return the key found in the skip list that is equal to the search key, or {@code null} if
+   *         no such key is found.
+   */
+  public K search(K key) {
+    boolean[] marked = {false};
+    Node<K> pred = head;
+    Node<K> curr = null;
+    for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+      curr = pred.next[level].getReference();
+      while (curr != null) {
+        Node<K> succ = curr.next[level].get(marked);
+        if (marked[0]) {
+          curr = succ; // skip deleted node
+        } else if (comparator.compare(curr.key, key) < 0) {
+          pred = curr;
+          curr = succ;
+        } else {
+          break;
+        }
+      }
+    }
+    return (curr != null && comparator.compare(curr.key, key) == 0) ? curr.key : null;
+  }
+
+  /**
+   * Returns {@code true} if this skip list contains the specified key.
+   * <p> Time complexity: O(log n) expected.
+   *
+   * @param key the key whose presence in this skip list is to be tested.
+   * @return {@code true} if this skip list contains the specified key.
+   */
+  public boolean contains(K key) {
+    return search(key) != null;
+  }
+
+  /**
+   * Removes the specified key from this skip list if it is present.
+   * <p> Time complexity: O(log n) expected.
+   *
+   * @param key the key to be removed.
+   */
+  public void delete(K key) {
+    Node<K>[] preds = newNodeArray();
+    Node<K>[] succs = newNodeArray();
+    boolean[] marked = {false};
+    while (true) {
+      if (!find(key, preds, succs)) {
+        return; // Key not found. Nothing to delete.
+      }
+      Node<K> victim = succs[0];
+      // Mark upper levels first, so that the node stops being a shortcut
+      for (int level = victim.height() - 1; level >= 1; level--) {
+        Node<K> succ = victim.next[level].get(marked);
+        while (!marked[0]) {
+          victim.next[level].compareAndSet(succ, succ, false, true);
+          succ = victim.next[level].get(marked);
+        }
+      }
+      // Marking level 0 is what removes the node from the skip list
+      Node<K> succ = victim.next[0].get(marked);
+      while (true) {
+        boolean markedByThisThread = victim.next[0].compareAndSet(succ, succ, false, true);
+        succ = victim.next[0].get(marked);
+        if (markedByThisThread) {
+          size.decrement();
+          find(key, preds, succs); // physically unlink the node
+          return;
+        } else if (marked[0]) {
+          break; // another thread deleted it: look for a newer node with the same key
+        }
+      }
+    }
+  }
+
+  /**
+   * Removes all keys from this skip list, leaving it empty. This operation is not atomic: keys
+   * inserted concurrently by other threads may survive it.
+   * <p> Time complexity: O(n) expected.
+   */
+  public void clear() {
+    Node<K> node;
+    while ((node = firstNode()) != null) {
+      delete(node.key);
+    }
+  }
+
+  /**
+   * Returns the first node at level 0 which is not being deleted, or null if there is none.
+   */
+  private Node<K> firstNode() {
+    boolean[] marked = {false};
+    Node<K> curr = head.next[0].getReference();
+    while (curr != null) {
+      Node<K> succ = curr.next[0].get(marked);
+      if (!marked[0]) {
+        return curr;
+      }
+      curr = succ;
+    }
+    return null;
+  }
+
+  /**
+   * Returns the smallest key in this skip list.
+   * <p> Time complexity: O(1) expected.
+   *
+   * @return the smallest key.
+   * @throws NoSuchElementException if the skip list is empty.
+   */
+  public K minimum() {
+    Node<K> node = firstNode();
+    if (node == null) {
+      throw new NoSuchElementException("minimum on empty skip list");
+    }
+    return node.key;
+  }
+
+  /**
+   * Returns the largest key in this skip list.
+   * <p> Time complexity: O(log n) expected.
+   *
+   * @return the largest key.
+   * @throws NoSuchElementException if the skip list is empty.
+   */
+  public K maximum() {
+    boolean[] marked = {false};
+    Node<K> last = head;
+    for (int level = MAX_LEVEL - 1; level >= 0; level--) {
+      Node<K> curr = last.next[level].getReference();
+      while (curr != null) {
+        Node<K> succ = curr.next[level].get(marked);
+        if (!marked[0]) {
+          last = curr;
+        }
+        curr = succ;
+      }
+    }
+    if (last == head) {
+      throw new NoSuchElementException("maximum on empty skip list");
+    }
+    return last.key;
+  }
+
+  /**
+   * Returns a weakly consistent iterator over the keys in this skip list, in ascending order.
+   */
+  @Override
+  public Iterator<K> iterator() {
+    return new LockFreeSkipListIterator();
+  }
+
+  /**
+   * An iterator that traverses level 0 of the skip list, skipping nodes that are being deleted.
+   * It uses a lookahead node so that {@code next()} returns a key that was present when it was reached.
+   */
+  private final class LockFreeSkipListIterator implements Iterator<K> {
+    private Node<K> nextNode;
+
+    LockFreeSkipListIterator() {
+      nextNode = firstNode();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return nextNode != null;
+    }
+
+    @Override
+    public K next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      K key = nextNode.key;
+      boolean[] marked = {false};
+      Node<K> curr = nextNode.next[0].getReference();
+      while (curr != null) {
+        Node<K> succ = curr.next[0].get(marked);
+        if (!marked[0]) {
+          break;
+        }
+        curr = succ;
+      }
+      nextNode = curr;
+      return key;
+    }
+  }
+
+  /**
+   * Returns a string representation of this skip list.
+   */
+  @Override
+  public String toString() {
+    return ToString.toString(this);
+  }
+}
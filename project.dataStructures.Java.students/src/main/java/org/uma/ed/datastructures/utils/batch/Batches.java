@@ -0,0 +1,100 @@
+package org.uma.ed.datastructures.utils.batch;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.function.IntFunction;
+
+/**
+ * Provides utility methods to prepare a batch of elements before merging it into a sorted
+ * structure, as done by the {@code insertAll} methods of sorted array based collections.
+ * <p>
+ * A batch is first copied into an array and sorted, so that it can then be merged with the
+ * elements already in the structure in a single linear pass, instead of inserting its elements
+ * one by one.
+ * <p>
+ * This is a utility class and is not meant to be instantiated.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public final class Batches {
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private Batches() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  /**
+   * Returns a new array with all elements in an iterable, sorted according to a comparator.
+   * <p>
+   * Sorting is stable, so elements that are equal as per the comparator keep their relative order
+   * in the iterable. Large batches are sorted in parallel by {@link Arrays#parallelSort}, which
+   * falls back to a sequential sort for small ones.
+   * <p> Time complexity: O(k log k), where k is the number of elements in the batch.
+   *
+   * @param <T>        the type of elements.
+   * @param iterable   the batch of elements.
+   * @param comparator the comparator defining the order of elements.
+   * @return a new sorted array with the elements of the batch.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> T[] sorted(Iterable<T> iterable, Comparator<? super T> comparator) {
+    return sorted(iterable, comparator, length -> (T[]) new Object[length]);
+  }
+
+  /**
+   * Returns a new array with all elements in an iterable, sorted according to a comparator, where
+   * the array is allocated by the given generator. This is needed when the caller stores the result
+   * in a variable whose type is an array of a concrete class.
+   * <p> Time complexity: O(k log k), where k is the number of elements in the batch.
+   *
+   * @param <T>        the type of elements.
+   * @param iterable   the batch of elements.
+   * @param comparator the comparator defining the order of elements.
+   * @param generator  a function allocating an array with the requested length.
+   * @return a new sorted array with the elements of the batch.
+   */
+  public static <T> T[] sorted(Iterable<T> iterable, Comparator<? super T> comparator, IntFunction<T[]> generator) {
+    T[] batch = generator.apply(iterable instanceof Collection<?> collection ? collection.size() : 16);
+    int k = 0;
+    for (T element : iterable) {
+      if (k == batch.length) {
+        batch = Arrays.copyOf(batch, Math.max(16, 2 * k));
+      }
+      batch[k++] = element;
+    }
+    if (k < batch.length) {
+      batch = Arrays.copyOf(batch, k);
+    }
+    Arrays.parallelSort(batch, comparator);
+    return batch;
+  }
+
+  /**
+   * Removes duplicates from a sorted array, keeping only the last of each run of elements that are
+   * equal as per the comparator. Remaining elements are moved to the front of the array, in order.
+   * <p>
+   * Keeping the last one mimics inserting the elements of the batch one by one in its original
+   * order, where each insertion replaces an equal element, when the array was sorted by
+   * {@link #sorted}.
+   * <p> Time complexity: O(k), where k is the length of the array.
+   *
+   * @param <T>        the type of elements.
+   * @param batch      the sorted array.
+   * @param comparator the comparator defining the order of elements.
+   * @return the number of distinct elements, now stored in {@code batch[0...result-1]}.
+   */
+  public static <T> int distinct(T[] batch, Comparator<? super T> comparator) {
+    int k = 0;
+    for (int i = 0; i < batch.length; i++) {
+      if (k > 0 && comparator.compare(batch[k - 1], batch[i]) == 0) {
+        batch[k - 1] = batch[i];
+      } else {
+        batch[k++] = batch[i];
+      }
+    }
+    return k;
+  }
+}
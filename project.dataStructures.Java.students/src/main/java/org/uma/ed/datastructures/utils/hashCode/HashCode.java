@@ -74,4 +74,43 @@ public final class HashCode {
     }
     return hashCode;
   }
-}
\ No newline at end of file
+
+  /**
+   * Computes a 64-bit hash code for an object, whose bits are evenly spread.
+   * <p>
+   * The object's {@code hashCode()} is extended to 64 bits, combined with a constant and scrambled
+   * with the finalizer of MurmurHash3, so that every bit of the result depends on every bit of the hash code. This is
+   * needed by probabilistic data structures, such as sketches and filters, which derive several
+   * indices from a single hash or inspect its leading bits, and would otherwise suffer from
+   * poorly distributed hash codes such as those of small integers.
+   * <p>
+   * The result is only as distinct as the 32-bit hash code it derives from: objects with equal hash
+   * codes get equal results, and there are at most 2^32 different results. Structures that must tell
+   * apart more distinct objects than a few hundred millions, such as cardinality estimators, should be
+   * given a hash computing 64 bits from the object itself, for instance by applying
+   * {@link #mixLong(long)} to a 64-bit key.
+   *
+   * @param object the object to hash.
+   * @return a 64-bit hash code for the object.
+   */
+  public static long mix64(Object object) {
+    return mixLong((Objects.hashCode(object) & 0xFFFFFFFFL) ^ 0x9E3779B97F4A7C15L); // never maps to 0
+  }
+
+  /**
+   * Scrambles a 64-bit value with the finalizer of MurmurHash3, so that every bit of the result
+   * depends on every bit of the value. Different values always yield different results.
+   *
+   * @param value the value to scramble.
+   * @return a 64-bit hash code for the value.
+   */
+  public static long mixLong(long value) {
+    long hash = value;
+    hash ^= hash >>> 33;
+    hash *= 0xFF51AFD7ED558CCDL;
+    hash ^= hash >>> 33;
+    hash *= 0xC4CEB9FE1A85EC53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -0,0 +1,26 @@
+package org.uma.ed.datastructures.utils.iterator;
+
+import java.util.Iterator;
+
+/**
+ * An {@link Iterator} over elements in ascending order that can skip forward to a given element.
+ * <p>
+ * Implementations backed by arrays or search trees can skip many elements at once, so that
+ * algorithms like {@link SortedIterators#intersection} only pay for the elements they actually
+ * look at.
+ *
+ * @param <T> The type of elements returned by this iterator.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public interface SeekableIterator<T> extends Iterator<T> {
+
+  /**
+   * Skips all remaining elements that are smaller than {@code element}, so that the next call to
+   * {@link #next()}, if any, returns the smallest remaining element that is greater than or equal
+   * to {@code element}. Does nothing if there is no remaining element smaller than {@code element}.
+   *
+   * @param element the element to skip forward to.
+   */
+  void seek(T element);
+}
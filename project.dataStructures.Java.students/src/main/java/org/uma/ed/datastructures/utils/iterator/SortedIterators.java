@@ -0,0 +1,206 @@
+package org.uma.ed.datastructures.utils.iterator;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * Provides adaptive algorithms over iterators that return elements in strictly ascending order.
+ * <p>
+ * Set operations are computed by alternately seeking each iterator to the last element returned
+ * by the other one, instead of advancing them one element at a time. When iterators skip ahead
+ * efficiently, as those of sorted arrays do by galloping (exponential search followed by binary
+ * search), the cost adapts to the sizes of both operands: intersecting sets of sizes m and n,
+ * with m much smaller than n, takes O(m log(n/m)) comparisons instead of O(n + m).
+ * <p>
+ * This is a utility class and is not meant to be instantiated.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public final class SortedIterators {
+
+  /**
+   * Private constructor to prevent instantiation of this utility class.
+   */
+  private SortedIterators() {
+    throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+  }
+
+  /**
+   * Returns a seekable view of given iterator. If it is already a {@code SeekableIterator} it is
+   * returned as is. Otherwise, seeking is performed by advancing the iterator one element at a time.
+   *
+   * @param <T>        the type of elements.
+   * @param iterator   an iterator returning elements in ascending order.
+   * @param comparator the comparator defining the order of elements.
+   * @return a {@code SeekableIterator} returning the same elements.
+   */
+  public static <T> SeekableIterator<T> seekable(Iterator<T> iterator, Comparator<? super T> comparator) {
+    if (iterator instanceof SeekableIterator<T> seekableIterator) {
+      return seekableIterator;
+    }
+    return new LinearSeekableIterator<>(iterator, comparator);
+  }
+
+  private static final class LinearSeekableIterator<T> implements SeekableIterator<T> {
+    private final Iterator<T> iterator;
+    private final Comparator<? super T> comparator;
+    private T peeked;
+    private boolean hasPeeked;
+
+    LinearSeekableIterator(Iterator<T> iterator, Comparator<? super T> comparator) {
+      this.iterator = iterator;
+      this.comparator = comparator;
+      this.hasPeeked = false;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return hasPeeked || iterator.hasNext();
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      if (hasPeeked) {
+        hasPeeked = false;
+        T element = peeked;
+        peeked = null;
+        return element;
+      }
+      return iterator.next();
+    }
+
+    @Override
+    public void seek(T element) {
+      while (hasNext()) {
+        T next = next();
+        if (comparator.compare(next, element) >= 0) {
+          peeked = next;
+          hasPeeked = true;
+          return;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the smallest index {@code i} in {@code [from, to]} such that {@code array[i]} is greater than
+   * or equal to {@code element}, or {@code to} if there is none, assuming {@code array[from...to-1]} is
+   * sorted. Probes positions {@code from}, {@code from+1}, {@code from+3}, {@code from+7}... until one
+   * is not smaller than {@code element}, and then binary searches within the last gap.
+   * <p> Time complexity: O(log d), where d is the distance from {@code from} to the returned index.
+   *
+   * @param <T>        the type of elements.
+   * @param array      the array to search.
+   * @param from       the first index to consider.
+   * @param to         one past the last index to consider.
+   * @param element    the element to search for.
+   * @param comparator the comparator defining the order of elements.
+   * @return the index of the first element not smaller than {@code element} in the range.
+   */
+  public static <T> int gallop(T[] array, int from, int to, T element, Comparator<? super T> comparator) {
+    if (from >= to || comparator.compare(array[from], element) >= 0) {
+      return from;
+    }
+    // invariant: array[low] < element and (high == to or array[high] >= element) once found
+    int low = from;
+    int step = 1;
+    int high;
+    while (true) {
+      high = (step >= to - low) ? to : low + step;
+      if (high == to || comparator.compare(array[high], element) >= 0) {
+        break;
+      }
+      low = high;
+      step <<= 1;
+    }
+    // binary search in (low, high]
+    low++;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (comparator.compare(array[mid], element) < 0) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Performs {@code action} on every element returned by both iterators, in ascending order.
+   *
+   * @param <T>        the type of elements.
+   * @param iterator1  first iterator.
+   * @param iterator2  second iterator.
+   * @param comparator the comparator defining the order of elements.
+   * @param action     the action to perform on each common element.
+   */
+  public static <T> void intersection(SeekableIterator<T> iterator1, SeekableIterator<T> iterator2,
+                                      Comparator<? super T> comparator, Consumer<? super T> action) {
+    if (!iterator1.hasNext() || !iterator2.hasNext()) {
+      return;
+    }
+    T element1 = iterator1.next();
+    T element2 = iterator2.next();
+    while (true) {
+      int cmp = comparator.compare(element1, element2);
+      if (cmp == 0) {
+        action.accept(element1);
+        if (!iterator1.hasNext() || !iterator2.hasNext()) {
+          return;
+        }
+        element1 = iterator1.next();
+        element2 = iterator2.next();
+      } else if (cmp < 0) {
+        // skip elements in first iterator that cannot be in second one
+        iterator1.seek(element2);
+        if (!iterator1.hasNext()) {
+          return;
+        }
+        element1 = iterator1.next();
+      } else {
+        // skip elements in second iterator that cannot be in first one
+        iterator2.seek(element1);
+        if (!iterator2.hasNext()) {
+          return;
+        }
+        element2 = iterator2.next();
+      }
+    }
+  }
+
+  /**
+   * Performs {@code action} on every element returned by first iterator but not by second one,
+   * in ascending order.
+   *
+   * @param <T>        the type of elements.
+   * @param iterator1  first iterator.
+   * @param iterator2  second iterator.
+   * @param comparator the comparator defining the order of elements.
+   * @param action     the action to perform on each element only in first iterator.
+   */
+  public static <T> void difference(Iterator<T> iterator1, SeekableIterator<T> iterator2,
+                                    Comparator<? super T> comparator, Consumer<? super T> action) {
+    T element2 = null;
+    boolean exhausted2 = false;
+    while (iterator1.hasNext()) {
+      T element1 = iterator1.next();
+      if (!exhausted2 && (element2 == null || comparator.compare(element2, element1) < 0)) {
+        iterator2.seek(element1);
+        if (iterator2.hasNext()) {
+          element2 = iterator2.next();
+        } else {
+          exhausted2 = true;
+        }
+      }
+      if (exhausted2 || comparator.compare(element1, element2) != 0) {
+        action.accept(element1);
+      }
+    }
+  }
+}
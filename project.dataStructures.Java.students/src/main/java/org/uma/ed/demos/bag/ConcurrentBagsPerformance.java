@@ -0,0 +1,90 @@
+package org.uma.ed.demos.bag;
+
+import org.uma.ed.datastructures.bag.Bag;
+import org.uma.ed.datastructures.bag.ConcurrentHashBag;
+import org.uma.ed.datastructures.bag.CountingHashBag;
+
+/**
+ * Compares counting throughput of a {@link ConcurrentHashBag} against a {@link CountingHashBag}
+ * protected by a lock, when many threads count occurrences of a few distinct elements.
+ * <p>
+ * With a lock, threads take turns to update the bag, so adding threads does not increase
+ * throughput. {@code ConcurrentHashBag} spreads increments of each element over striped counters,
+ * so throughput grows with the number of threads, up to the number of available cores.
+ * <p>
+ * The number of insertions per thread defaults to 2 million and can be given as the first command
+ * line argument.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class ConcurrentBagsPerformance {
+
+  public enum Implementation {
+    LockedCountingHashBag,
+    ConcurrentHashBag
+  }
+
+  public static void main(String[] args) throws InterruptedException {
+    final int insertionsPerThread = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+    final int maxThreads = Runtime.getRuntime().availableProcessors();
+
+    System.out.println("Running concurrent counting benchmark for Bag implementations...");
+    System.out.printf("Number of insertions per thread: %,d%n", insertionsPerThread);
+    System.out.println("-----------------------------------------------------");
+
+    for (Implementation implementation : Implementation.values()) {
+      for (int threads = 1; threads <= maxThreads; threads *= 2) {
+        double seconds = test(implementation, threads, insertionsPerThread);
+        System.out.printf("%-22s threads: %2d  time: %.4f s  throughput: %,.0f insertions/s%n",
+            implementation, threads, seconds, threads * insertionsPerThread / seconds);
+      }
+    }
+  }
+
+  /**
+   * Runs a single performance test for a given bag implementation.
+   *
+   * @param implementation      the bag implementation to test.
+   * @param numberOfThreads     the number of threads inserting concurrently.
+   * @param insertionsPerThread the number of insertions performed by each thread.
+   * @return the execution time in seconds.
+   */
+  public static double test(Implementation implementation, int numberOfThreads, int insertionsPerThread)
+      throws InterruptedException {
+    Bag<Integer> bag = switch (implementation) {
+      case LockedCountingHashBag -> CountingHashBag.empty();
+      case ConcurrentHashBag     -> ConcurrentHashBag.empty();
+    };
+    boolean locked = implementation == Implementation.LockedCountingHashBag;
+
+    Thread[] threads = new Thread[numberOfThreads];
+    for (int t = 0; t < numberOfThreads; t++) {
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < insertionsPerThread; i++) {
+          Integer eventType = i & 7;
+          if (locked) {
+            synchronized (bag) {
+              bag.insert(eventType);
+            }
+          } else {
+            bag.insert(eventType);
+          }
+        }
+      });
+    }
+
+    long startTime = System.currentTimeMillis();
+    for (Thread thread : threads) {
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    long endTime = System.currentTimeMillis();
+
+    if (bag.size() != numberOfThreads * insertionsPerThread) {
+      throw new IllegalStateException("some insertions were lost");
+    }
+    return Math.max(endTime - startTime, 1) / 1000.0;
+  }
+}
@@ -0,0 +1,161 @@
+package org.uma.ed.demos.graph;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.uma.ed.datastructures.graph.CSRGraph;
+import org.uma.ed.datastructures.graph.DeltaStepping;
+import org.uma.ed.datastructures.graph.Dijkstra;
+
+/**
+ * Compares running times of sequential {@link Dijkstra} against parallel {@link DeltaStepping} on
+ * synthetic graphs with random weights in {@code 1...100}. Both read the arcs of a {@link CSRGraph}
+ * directly and return an array of costs indexed by vertex identifier (see
+ * {@link Dijkstra#costs(CSRGraph, Object)} and {@link DeltaStepping#costs}), so times only differ in
+ * the algorithm:
+ * <ul>
+ *     <li>A square grid, where each vertex is joined to its four neighbors. Grids have large diameter,
+ *     so buckets are many and small, and there is little parallelism per bucket.</li>
+ *     <li>A power-law graph generated with the R-MAT model, where a few vertices have very large degree
+ *     and most have small degree. These graphs have small diameter, so buckets are few and large.</li>
+ * </ul>
+ * Delta-stepping is run with pools of 1, 2, 4, ... threads, up to the number of available cores, to
+ * show how it scales. All runs are checked to compute the same costs as Dijkstra's algorithm.
+ * <p>
+ * The side of the grid and the scale of the power-law graph (log2 of its number of vertices) default to
+ * 700 and 19, and can be given as first and second command line arguments.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class ShortestPathsPerformance {
+  private static final int MAX_WEIGHT = 100;
+  private static final int EDGES_PER_VERTEX = 8;
+  private static final int DELTA = 32;          // Bucket width for delta-stepping, about a third of MAX_WEIGHT.
+
+  public static void main(String[] args) {
+    int side = args.length > 0 ? Integer.parseInt(args[0]) : 700;
+    int scale = args.length > 1 ? Integer.parseInt(args[1]) : 19;
+
+    System.out.println("Running shortest paths benchmark for Dijkstra and DeltaStepping...");
+    System.out.println("-----------------------------------------------------");
+    test("grid", gridGraph(side, 0));
+    test("power-law", powerLawGraph(scale, 0));
+  }
+
+  /**
+   * Runs Dijkstra's algorithm and delta-stepping with increasing numbers of threads on a graph from
+   * vertex 0, printing their times.
+   *
+   * @param name  the name of the graph.
+   * @param graph the graph.
+   */
+  public static void test(String name, CSRGraph<Integer> graph) {
+    System.out.printf("%s graph: %,d vertices, %,d edges%n", name, graph.numberOfVertices(), graph.numberOfEdges());
+
+    long startTime = System.currentTimeMillis();
+    long[] expected = Dijkstra.costs(graph, 0);
+    double seconds = (System.currentTimeMillis() - startTime) / 1e3;
+    System.out.printf("  %-14s threads: %2d  time: %.4f s%n", "Dijkstra", 1, seconds);
+
+    int maxThreads = Runtime.getRuntime().availableProcessors();
+    for (int threads = 1; threads <= maxThreads; threads *= 2) {
+      ForkJoinPool pool = new ForkJoinPool(threads);
+      startTime = System.currentTimeMillis();
+      int[] costs = DeltaStepping.costs(graph, 0, DELTA, pool);
+      seconds = (System.currentTimeMillis() - startTime) / 1e3;
+      pool.shutdown();
+      System.out.printf("  %-14s threads: %2d  time: %.4f s%n", "DeltaStepping", threads, seconds);
+      check(expected, costs);
+    }
+    System.out.println();
+  }
+
+  private static void check(long[] expected, int[] costs) {
+    for (int v = 0; v < expected.length; v++) {
+      if (expected[v] != costs[v]) {
+        throw new AssertionError("Different cost for vertex " + v);
+      }
+    }
+  }
+
+  /**
+   * Builds a grid of side x side vertices with random weights.
+   *
+   * @param side the number of vertices in each row and column.
+   * @param seed the seed for random weights.
+   * @return an undirected grid graph.
+   */
+  public static CSRGraph<Integer> gridGraph(int side, long seed) {
+    Random random = new Random(seed);
+    int numberOfEdges = 2 * side * (side - 1);
+    int[] sources = new int[numberOfEdges];
+    int[] targets = new int[numberOfEdges];
+    int[] weights = new int[numberOfEdges];
+    int edge = 0;
+    for (int row = 0; row < side; row++) {
+      for (int column = 0; column < side; column++) {
+        int v = row * side + column;
+        if (column + 1 < side) {
+          sources[edge] = v;
+          targets[edge] = v + 1;
+          weights[edge++] = 1 + random.nextInt(MAX_WEIGHT);
+        }
+        if (row + 1 < side) {
+          sources[edge] = v;
+          targets[edge] = v + side;
+          weights[edge++] = 1 + random.nextInt(MAX_WEIGHT);
+        }
+      }
+    }
+    return CSRGraph.fromArcs(side * side, sources, targets, weights, false);
+  }
+
+  /**
+   * Builds a power-law graph with the R-MAT model: each edge is placed by recursively choosing one of the
+   * four quadrants of the adjacency matrix with probabilities 0.57, 0.19, 0.19 and 0.05. Loops and repeated
+   * edges are discarded.
+   *
+   * @param scale log2 of the number of vertices.
+   * @param seed  the seed for random edges and weights.
+   * @return an undirected power-law graph.
+   */
+  public static CSRGraph<Integer> powerLawGraph(int scale, long seed) {
+    Random random = new Random(seed);
+    int numberOfVertices = 1 << scale;
+    long[] edges = new long[EDGES_PER_VERTEX * numberOfVertices];
+    for (int i = 0; i < edges.length; i++) {
+      int u = 0, v = 0;
+      for (int bit = 0; bit < scale; bit++) {
+        double p = random.nextDouble();
+        if (p >= 0.57) {
+          if (p < 0.76) {
+            v |= 1 << bit;
+          } else if (p < 0.95) {
+            u |= 1 << bit;
+          } else {
+            u |= 1 << bit;
+            v |= 1 << bit;
+          }
+        }
+      }
+      edges[i] = ((long) Math.min(u, v) << 32) | Math.max(u, v);
+    }
+    // remove loops and repeated edges
+    Arrays.sort(edges);
+    int numberOfEdges = 0;
+    for (int i = 0; i < edges.length; i++) {
+      if ((edges[i] >>> 32) != (int) edges[i] && (i == 0 || edges[i] != edges[i - 1])) {
+        edges[numberOfEdges++] = edges[i];
+      }
+    }
+    int[] sources = new int[numberOfEdges];
+    int[] targets = new int[numberOfEdges];
+    int[] weights = new int[numberOfEdges];
+    for (int i = 0; i < numberOfEdges; i++) {
+      sources[i] = (int) (edges[i] >>> 32);
+      targets[i] = (int) edges[i];
+      weights[i] = 1 + random.nextInt(MAX_WEIGHT);
+    }
+    return CSRGraph.fromArcs(numberOfVertices, sources, targets, weights, false);
+  }
+}
@@ -0,0 +1,165 @@
+package org.uma.ed.demos.searchTree;
+
+import java.util.Comparator;
+
+/**
+ * The recursive insertion, search and deletion algorithms that {@link org.uma.ed.datastructures.searchtree.AVL}
+ * used before they were made iterative, kept as a baseline for {@link SearchTreesPerformance}.
+ * <p>
+ * Each recursive call descends one level and rebalances the node on return, so updates take a stack
+ * frame per level and always rebalance the whole path up to the root.
+ *
+ * @param <K> Type of keys.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+final class RecursiveAVL<K> implements SearchTreesPerformance.Tree<K> {
+  private static final class Node<K> {
+    K key;
+    int height;
+    Node<K> left, right;
+
+    Node(K key) {
+      this.key = key;
+      this.height = 1;
+    }
+
+    static int height(Node<?> node) {
+      return node == null ? 0 : node.height;
+    }
+
+    static int balance(Node<?> node) {
+      return node == null ? 0 : height(node.left) - height(node.right);
+    }
+
+    void setHeight() {
+      height = 1 + Math.max(height(left), height(right));
+    }
+
+    Node<K> rightRotated() {
+      Node<K> left = this.left;
+      this.left = left.right;
+      this.setHeight();
+      left.right = this;
+      left.setHeight();
+      return left;
+    }
+
+    Node<K> leftRotated() {
+      Node<K> right = this.right;
+      this.right = right.left;
+      this.setHeight();
+      right.left = this;
+      right.setHeight();
+      return right;
+    }
+
+    Node<K> balanced() {
+      int balance = balance(this);
+      Node<K> balanced;
+      if (balance > 1) {
+        if (balance(left) < 0) {
+          left = left.leftRotated();
+        }
+        balanced = rightRotated();
+      } else if (balance < -1) {
+        if (balance(right) > 0) {
+          right = right.rightRotated();
+        }
+        balanced = leftRotated();
+      } else {
+        balanced = this;
+        balanced.setHeight();
+      }
+      return balanced;
+    }
+  }
+
+  private final Comparator<K> comparator;
+  private Node<K> root;
+  private int size;
+
+  RecursiveAVL(Comparator<K> comparator) {
+    this.comparator = comparator;
+    this.root = null;
+    this.size = 0;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public void insert(K key) {
+    root = insert(root, key);
+  }
+
+  private Node<K> insert(Node<K> node, K key) {
+    if (node == null) {
+      size++;
+      return new Node<>(key);
+    }
+    int cmp = comparator.compare(key, node.key);
+    if (cmp < 0) {
+      node.left = insert(node.left, key);
+    } else if (cmp > 0) {
+      node.right = insert(node.right, key);
+    } else {
+      node.key = key;
+    }
+    return node.balanced();
+  }
+
+  @Override
+  public boolean contains(K key) {
+    Node<K> node = root;
+    while (node != null) {
+      int cmp = comparator.compare(key, node.key);
+      if (cmp == 0) {
+        return true;
+      }
+      node = cmp < 0 ? node.left : node.right;
+    }
+    return false;
+  }
+
+  @Override
+  public void delete(K key) {
+    root = delete(root, key);
+  }
+
+  private Node<K> delete(Node<K> node, K key) {
+    if (node == null) {
+      return null;
+    }
+    int cmp = comparator.compare(key, node.key);
+    if (cmp < 0) {
+      node.left = delete(node.left, key);
+    } else if (cmp > 0) {
+      node.right = delete(node.right, key);
+    } else {
+      size--;
+      if (node.left == null) {
+        node = node.right;
+      } else if (node.right == null) {
+        node = node.left;
+      } else {
+        node.right = split(node.right, node);
+      }
+    }
+    return node == null ? null : node.balanced();
+  }
+
+  /**
+   * Removes minimum key from non-empty tree rooted at node, copying it into temp. Returns modified tree.
+   */
+  private static <K> Node<K> split(Node<K> node, Node<K> temp) {
+    if (node.left == null) {
+      temp.key = node.key;
+      return node.right;
+    }
+    node.left = split(node.left, temp);
+    return node.balanced();
+  }
+}
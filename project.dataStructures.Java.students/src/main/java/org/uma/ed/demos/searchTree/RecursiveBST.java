@@ -0,0 +1,113 @@
+package org.uma.ed.demos.searchTree;
+
+import java.util.Comparator;
+
+/**
+ * The recursive insertion, search and deletion algorithms that {@link org.uma.ed.datastructures.searchtree.BST}
+ * used before they were made iterative, kept as a baseline for {@link SearchTreesPerformance}.
+ * <p>
+ * Each recursive call descends one level and reassigns the child link on return, so updates take a
+ * stack frame per level of the tree.
+ *
+ * @param <K> Type of keys.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+final class RecursiveBST<K> implements SearchTreesPerformance.Tree<K> {
+  private static final class Node<K> {
+    K key;
+    Node<K> left, right;
+
+    Node(K key) {
+      this.key = key;
+    }
+  }
+
+  private final Comparator<K> comparator;
+  private Node<K> root;
+  private int size;
+
+  RecursiveBST(Comparator<K> comparator) {
+    this.comparator = comparator;
+    this.root = null;
+    this.size = 0;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public void insert(K key) {
+    root = insert(root, key);
+  }
+
+  private Node<K> insert(Node<K> node, K key) {
+    if (node == null) {
+      size++;
+      return new Node<>(key);
+    }
+    int cmp = comparator.compare(key, node.key);
+    if (cmp == 0) {
+      node.key = key;
+    } else if (cmp < 0) {
+      node.left = insert(node.left, key);
+    } else {
+      node.right = insert(node.right, key);
+    }
+    return node;
+  }
+
+  @Override
+  public boolean contains(K key) {
+    Node<K> node = root;
+    while (node != null) {
+      int cmp = comparator.compare(key, node.key);
+      if (cmp == 0) {
+        return true;
+      }
+      node = cmp < 0 ? node.left : node.right;
+    }
+    return false;
+  }
+
+  @Override
+  public void delete(K key) {
+    root = delete(root, key);
+  }
+
+  private Node<K> delete(Node<K> node, K key) {
+    if (node == null) {
+      return null;
+    }
+    int cmp = comparator.compare(key, node.key);
+    if (cmp < 0) {
+      node.left = delete(node.left, key);
+    } else if (cmp > 0) {
+      node.right = delete(node.right, key);
+    } else {
+      if (node.left == null) {
+        node = node.right;
+      } else if (node.right == null) {
+        node = node.left;
+      } else {
+        node.right = split(node.right, node);
+      }
+      size--;
+    }
+    return node;
+  }
+
+  /**
+   * Removes minimum key from non-empty tree rooted at node, copying it into temp. Returns modified tree.
+   */
+  private static <K> Node<K> split(Node<K> node, Node<K> temp) {
+    if (node.left == null) {
+      temp.key = node.key;
+      return node.right;
+    }
+    node.left = split(node.left, temp);
+    return node;
+  }
+}
@@ -0,0 +1,171 @@
+package org.uma.ed.demos.searchTree;
+
+import java.util.Random;
+import org.uma.ed.datastructures.searchtree.AVL;
+import org.uma.ed.datastructures.searchtree.BST;
+import org.uma.ed.datastructures.searchtree.PersistentAVL;
+import org.uma.ed.datastructures.searchtree.SearchTree;
+
+/**
+ * Compares the performance of different {@link SearchTree} implementations.
+ * <p>
+ * This program inserts a large number of random keys into each tree, then searches for all of
+ * them and finally deletes all of them, timing each phase separately. {@link BST} and {@link AVL}
+ * update the tree in place using iterative descents, whereas {@link PersistentAVL} copies the whole
+ * path from the root on every update, so it shows the cost of allocating a new node per level.
+ * {@link RecursiveBST} and {@link RecursiveAVL} keep the recursive insertion and deletion algorithms
+ * that {@link BST} and {@link AVL} used before, so that iterative and recursive updates can be timed
+ * against each other on the same keys.
+ * <p>
+ * The number of keys defaults to 10 million and can be given as the first command line argument.
+ * Use a large enough heap (e.g. {@code -Xmx4g}) for the default size.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class SearchTreesPerformance {
+
+  public enum Implementation {
+    BST,
+    RecursiveBST,
+    AVL,
+    RecursiveAVL,
+    PersistentAVL
+  }
+
+  /**
+   * Operations timed by this benchmark, so that search trees and recursive baselines can be driven by
+   * the same code.
+   */
+  interface Tree<K> {
+    void insert(K key);
+
+    boolean contains(K key);
+
+    void delete(K key);
+
+    boolean isEmpty();
+  }
+
+  private static <K> Tree<K> adapt(SearchTree<K> searchTree) {
+    return new Tree<>() {
+      @Override
+      public void insert(K key) {
+        searchTree.insert(key);
+      }
+
+      @Override
+      public boolean contains(K key) {
+        return searchTree.contains(key);
+      }
+
+      @Override
+      public void delete(K key) {
+        searchTree.delete(key);
+      }
+
+      @Override
+      public boolean isEmpty() {
+        return searchTree.isEmpty();
+      }
+    };
+  }
+
+  public static void main(String[] args) {
+    final int numberOfTests = 3;
+    final int numberOfKeys = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+
+    System.out.println("Running performance benchmark for SearchTree implementations...");
+    System.out.printf("Number of tests per implementation: %d%n", numberOfTests);
+    System.out.printf("Number of keys per test: %,d%n", numberOfKeys);
+    System.out.println("Workload: insert all keys, search all keys, delete all keys.");
+    System.out.println("-----------------------------------------------------");
+
+    for (Implementation implementation : Implementation.values()) {
+      double[] avgTimes = avgTimes(implementation, numberOfTests, numberOfKeys);
+      System.out.printf("%-14s insert: %.4f s  search: %.4f s  delete: %.4f s%n",
+          implementation, avgTimes[0], avgTimes[1], avgTimes[2]);
+    }
+  }
+
+  /**
+   * Runs a single performance test for a given search tree implementation.
+   *
+   * @param implementation the search tree implementation to test.
+   * @param seed           the random seed used to generate keys.
+   * @param numberOfKeys   the number of keys to insert, search and delete.
+   * @return the execution times in seconds for the insert, search and delete phases.
+   */
+  public static double[] test(Implementation implementation, int seed, int numberOfKeys) {
+    Integer[] keys = new Integer[numberOfKeys];
+    Random random = new Random(seed);
+    for (int i = 0; i < numberOfKeys; i++) {
+      keys[i] = random.nextInt();
+    }
+
+    Tree<Integer> tree = switch (implementation) {
+      case BST           -> adapt(BST.<Integer>empty());
+      case RecursiveBST  -> new RecursiveBST<>(Integer::compare);
+      case AVL           -> adapt(AVL.<Integer>empty());
+      case RecursiveAVL  -> new RecursiveAVL<>(Integer::compare);
+      case PersistentAVL -> adapt(PersistentAVL.<Integer>empty());
+    };
+
+    double[] times = new double[3];
+
+    long startTime = System.currentTimeMillis();
+    for (Integer key : keys) {
+      tree.insert(key);
+    }
+    long endTime = System.currentTimeMillis();
+    times[0] = (endTime - startTime) / 1000.0;
+
+    startTime = System.currentTimeMillis();
+    int found = 0;
+    for (Integer key : keys) {
+      if (tree.contains(key)) {
+        found++;
+      }
+    }
+    endTime = System.currentTimeMillis();
+    times[1] = (endTime - startTime) / 1000.0;
+    if (found != numberOfKeys) {
+      throw new IllegalStateException("some keys were not found");
+    }
+
+    startTime = System.currentTimeMillis();
+    for (Integer key : keys) {
+      tree.delete(key);
+    }
+    endTime = System.currentTimeMillis();
+    times[2] = (endTime - startTime) / 1000.0;
+    if (!tree.isEmpty()) {
+      throw new IllegalStateException("tree should be empty after deleting all keys");
+    }
+
+    return times;
+  }
+
+  /**
+   * Calculates the average execution times over multiple test runs for a given implementation.
+   *
+   * @param implementation the search tree implementation to test.
+   * @param numberOfTests  the number of times to run the test.
+   * @param numberOfKeys   the number of keys per test.
+   * @return the average execution times in seconds for the insert, search and delete phases.
+   */
+  static double[] avgTimes(Implementation implementation, int numberOfTests, int numberOfKeys) {
+    double[] totalTimes = new double[3];
+
+    for (int i = 0; i < numberOfTests; i++) {
+      double[] times = test(implementation, i, numberOfKeys);
+      for (int j = 0; j < totalTimes.length; j++) {
+        totalTimes[j] += times[j];
+      }
+    }
+
+    for (int j = 0; j < totalTimes.length; j++) {
+      totalTimes[j] /= numberOfTests;
+    }
+    return totalTimes;
+  }
+}
@@ -2,6 +2,7 @@ package org.uma.ed.demos.set;
 
 import org.uma.ed.datastructures.range.Range;
 import org.uma.ed.datastructures.set.AVLSet;
+import org.uma.ed.datastructures.set.IntSet;
 import org.uma.ed.datastructures.set.SortedSet;
 
 /**
@@ -16,7 +17,10 @@ import org.uma.ed.datastructures.set.SortedSet;
  *     <li>Repeat the process with the new smallest candidate, until the candidate set is empty.</li>
  * </ol>
  * This implementation uses a {@code SortedSet} to efficiently store and retrieve the
- * smallest candidate at each step.
+ * smallest candidate at each step. {@link #primesUpTo} uses an {@link AVLSet}, with one node per boxed
+ * candidate, and {@link #primesUpToIntSet} uses a compressed {@link IntSet}, whose candidates start as
+ * a few runs of consecutive integers and are deleted without boxing. The {@code main} method compares
+ * both.
  *
  * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
  */
@@ -53,18 +57,47 @@ public class EratosthenesSieve {
     return primes;
   }
 
+  /**
+   * Computes all prime numbers up to a given limit using the Sieve of Eratosthenes over {@link IntSet}s.
+   *
+   * @param n the upper bound (inclusive) for finding prime numbers. Must be >= 2.
+   * @return an {@code IntSet} containing all prime numbers from 2 to {@code n}.
+   */
+  public static IntSet primesUpToIntSet(int n) {
+    // 1. Initialize the set of candidates with all integers from 2 to n, stored as runs.
+    IntSet candidates = IntSet.inclusive(2, n);
+    IntSet primes = IntSet.empty();
+
+    while (!candidates.isEmpty()) {
+      // 2. The smallest number remaining in the candidates set is the next prime.
+      int prime = candidates.minimum();
+      primes.insert(prime);
+
+      // 3. Remove this prime and all of its multiples from the candidates.
+      for (int multiple = prime; multiple <= n && multiple > 0; multiple += prime) {
+        candidates.delete(multiple);
+      }
+    }
+    return primes;
+  }
+
   public static void main(String[] args) {
-    final int LIMIT = 100_000;
+    final int LIMIT = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
     System.out.println("Calculating prime numbers up to " + LIMIT + " using the Sieve of Eratosthenes...");
 
     long startTime = System.currentTimeMillis();
     SortedSet<Integer> primes = primesUpTo(LIMIT);
     long endTime = System.currentTimeMillis();
+    System.out.printf("AVLSet: found %d prime numbers in %d milliseconds.%n", primes.size(), endTime - startTime);
 
-    System.out.println("Found " + primes.size() + " prime numbers up to " + LIMIT + ".");
-    System.out.println("Primes: " + primes); // Uncomment to see the full list
+    startTime = System.currentTimeMillis();
+    IntSet intPrimes = primesUpToIntSet(LIMIT);
+    endTime = System.currentTimeMillis();
+    System.out.printf("IntSet: found %d prime numbers in %d milliseconds.%n", intPrimes.size(), endTime - startTime);
 
-    long duration = endTime - startTime;
-    System.out.printf("Calculation took %d milliseconds.%n", duration);
+    if (!primes.equals(intPrimes)) {
+      System.out.println("Error: both sieves found different primes");
+    }
+    // System.out.println("Primes: " + primes); // Uncomment to see the full list
   }
-}
\ No newline at end of file
+}
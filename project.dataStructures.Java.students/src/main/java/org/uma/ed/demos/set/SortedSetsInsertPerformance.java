@@ -0,0 +1,117 @@
+package org.uma.ed.demos.set;
+
+import java.util.Random;
+import org.uma.ed.datastructures.set.AVLSet;
+import org.uma.ed.datastructures.set.PackedMemoryArraySet;
+import org.uma.ed.datastructures.set.SortedArraySet;
+import org.uma.ed.datastructures.set.SortedSet;
+
+/**
+ * Compares the performance of {@link SortedSet} implementations on random insertions followed by a
+ * full in-order scan.
+ * <p>
+ * {@link SortedArraySet} shifts all following elements on every insertion, so its cost grows
+ * quadratically with the number of elements. {@link PackedMemoryArraySet} leaves gaps in its array so
+ * that each insertion moves only O(log² n) elements in amortized time, while still scanning a
+ * contiguous array. {@link AVLSet} is included as a pointer-based reference.
+ * <p>
+ * The number of elements defaults to 200 thousand and can be given as the first command line
+ * argument. {@code SortedArraySet} is skipped for sizes above one million.
+ *
+ * @author Pepe Gallardo, Data Structures, Grado en Informática. UMA.
+ */
+public class SortedSetsInsertPerformance {
+
+  public enum Implementation {
+    SortedArraySet,
+    PackedMemoryArraySet,
+    AVLSet
+  }
+
+  public static void main(String[] args) {
+    final int numberOfTests = 3;
+    final int numberOfElements = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+
+    System.out.println("Running insertion benchmark for SortedSet implementations...");
+    System.out.printf("Number of tests per implementation: %d%n", numberOfTests);
+    System.out.printf("Number of elements per test: %,d%n", numberOfElements);
+    System.out.println("Workload: insert all elements in random order, then iterate over the set.");
+    System.out.println("-----------------------------------------------------");
+
+    for (Implementation implementation : Implementation.values()) {
+      if (implementation == Implementation.SortedArraySet && numberOfElements > 1_000_000) {
+        continue;
+      }
+      double[] avgTimes = avgTimes(implementation, numberOfTests, numberOfElements);
+      System.out.printf("%-21s insert: %.4f s  scan: %.4f s%n", implementation, avgTimes[0], avgTimes[1]);
+    }
+  }
+
+  /**
+   * Runs a single performance test for a given sorted set implementation.
+   *
+   * @param implementation   the sorted set implementation to test.
+   * @param seed             the random seed used to generate elements.
+   * @param numberOfElements the number of elements to insert.
+   * @return the execution times in seconds for the insert and scan phases.
+   */
+  public static double[] test(Implementation implementation, int seed, int numberOfElements) {
+    Integer[] elements = new Integer[numberOfElements];
+    Random random = new Random(seed);
+    for (int i = 0; i < numberOfElements; i++) {
+      elements[i] = random.nextInt();
+    }
+
+    SortedSet<Integer> set = switch (implementation) {
+      case SortedArraySet       -> SortedArraySet.empty();
+      case PackedMemoryArraySet -> PackedMemoryArraySet.empty();
+      case AVLSet               -> AVLSet.empty();
+    };
+
+    double[] times = new double[2];
+
+    long startTime = System.currentTimeMillis();
+    for (Integer element : elements) {
+      set.insert(element);
+    }
+    long endTime = System.currentTimeMillis();
+    times[0] = (endTime - startTime) / 1000.0;
+
+    startTime = System.currentTimeMillis();
+    long sum = 0;
+    for (Integer element : set) {
+      sum += element;
+    }
+    endTime = System.currentTimeMillis();
+    times[1] = (endTime - startTime) / 1000.0;
+    if (sum == 42) {
+      System.out.print(""); // prevents scan from being optimized away
+    }
+
+    return times;
+  }
+
+  /**
+   * Calculates the average execution times over multiple test runs for a given implementation.
+   *
+   * @param implementation   the sorted set implementation to test.
+   * @param numberOfTests    the number of times to run the test.
+   * @param numberOfElements the number of elements per test.
+   * @return the average execution times in seconds for the insert and scan phases.
+   */
+  static double[] avgTimes(Implementation implementation, int numberOfTests, int numberOfElements) {
+    double[] totalTimes = new double[2];
+
+    for (int i = 0; i < numberOfTests; i++) {
+      double[] times = test(implementation, i, numberOfElements);
+      for (int j = 0; j < totalTimes.length; j++) {
+        totalTimes[j] += times[j];
+      }
+    }
+
+    for (int j = 0; j < totalTimes.length; j++) {
+      totalTimes[j] /= numberOfTests;
+    }
+    return totalTimes;
+  }
+}
@@ -0,0 +1,179 @@
+package org.uma.ed.datastructures.bag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Test cases for class ConcurrentHashBag")
+class ConcurrentHashBagTest {
+
+  @Nested
+  @DisplayName("Sequential use")
+  class SequentialTests {
+    @Test
+    @DisplayName("an empty bag has no elements")
+    void testEmpty() {
+      ConcurrentHashBag<String> bag = ConcurrentHashBag.empty();
+      assertTrue(bag.isEmpty());
+      assertEquals(0, bag.size());
+      assertEquals(0, bag.occurrences("a"));
+      assertFalse(bag.iterator().hasNext());
+    }
+
+    @Test
+    @DisplayName("insert() and delete() update occurrences, which never become negative")
+    void testInsertAndDelete() {
+      ConcurrentHashBag<String> bag = ConcurrentHashBag.of("a", "b", "a");
+      assertEquals(3, bag.size());
+      assertEquals(2, bag.occurrences("a"));
+      bag.delete("a");
+      bag.delete("a");
+      bag.delete("a");
+      bag.delete("z");
+      assertEquals(0, bag.occurrences("a"));
+      assertFalse(bag.contains("a"));
+      assertEquals(1, bag.size());
+      assertEquals(SortedArrayBag.of("b"), SortedArrayBag.from(bag));
+    }
+
+    @Test
+    @DisplayName("an iterator is not affected by updates after its creation")
+    void testSnapshotIterator() {
+      ConcurrentHashBag<String> bag = ConcurrentHashBag.of("x", "x", "y");
+      Iterator<String> iterator = bag.iterator();
+      bag.insert("x");
+      bag.insert("z");
+      bag.delete("y");
+      SortedArrayBag<String> seen = SortedArrayBag.empty();
+      iterator.forEachRemaining(seen::insert);
+      assertEquals(SortedArrayBag.of("x", "x", "y"), seen);
+    }
+
+    @Test
+    @DisplayName("clear() removes all elements")
+    void testClear() {
+      ConcurrentHashBag<Integer> bag = ConcurrentHashBag.of(1, 1, 2);
+      bag.clear();
+      assertTrue(bag.isEmpty());
+      assertEquals(0, bag.occurrences(1));
+      bag.insert(1);
+      assertEquals(1, bag.size());
+    }
+
+    @Test
+    @DisplayName("is equal to other bags with the same elements")
+    void testEquals() {
+      assertEquals(SortedArrayBag.of(1, 2, 2), ConcurrentHashBag.of(2, 1, 2));
+    }
+  }
+
+  @Nested
+  @DisplayName("Concurrent use")
+  class ConcurrentTests {
+    @Test
+    @DisplayName("no insertion is lost when many threads count the same elements")
+    void testConcurrentInserts() throws InterruptedException {
+      final int numberOfThreads = 8;
+      final int insertionsPerThread = 20_000;
+      final int distinctElements = 4;
+      ConcurrentHashBag<Integer> bag = ConcurrentHashBag.empty();
+
+      CountDownLatch start = new CountDownLatch(1);
+      Thread[] threads = new Thread[numberOfThreads];
+      for (int t = 0; t < numberOfThreads; t++) {
+        threads[t] = new Thread(() -> {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          for (int i = 0; i < insertionsPerThread; i++) {
+            bag.insert(i % distinctElements);
+          }
+        });
+        threads[t].start();
+      }
+      start.countDown();
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      assertEquals(numberOfThreads * insertionsPerThread, bag.size());
+      for (int element = 0; element < distinctElements; element++) {
+        assertEquals(numberOfThreads * insertionsPerThread / distinctElements, bag.occurrences(element));
+      }
+    }
+
+    @Test
+    @DisplayName("concurrent deletions never take counts below zero")
+    void testConcurrentDeletes() throws InterruptedException {
+      final int numberOfThreads = 8;
+      final int deletionsPerThread = 10_000;
+      final int initialOccurrences = 30_000;
+      ConcurrentHashBag<String> bag = ConcurrentHashBag.empty();
+      for (int i = 0; i < initialOccurrences; i++) {
+        bag.insert("event");
+      }
+
+      CountDownLatch start = new CountDownLatch(1);
+      Thread[] threads = new Thread[numberOfThreads];
+      for (int t = 0; t < numberOfThreads; t++) {
+        threads[t] = new Thread(() -> {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          for (int i = 0; i < deletionsPerThread; i++) {
+            bag.delete("event");
+          }
+        });
+        threads[t].start();
+      }
+      start.countDown();
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      assertEquals(0, bag.occurrences("event"));
+      assertEquals(0, bag.size());
+      assertTrue(bag.isEmpty());
+    }
+
+    @Test
+    @DisplayName("iterators see the bag as it is at a single point in time")
+    void testSnapshotIteratorsWhileUpdating() throws InterruptedException {
+      final int rounds = 200_000;
+      ConcurrentHashBag<Integer> bag = ConcurrentHashBag.empty();
+
+      // the writer always inserts 0 before 1, so any snapshot has at most one more 0 than 1s
+      Thread writer = new Thread(() -> {
+        for (int i = 0; i < rounds; i++) {
+          bag.insert(0);
+          bag.insert(1);
+        }
+      });
+      writer.start();
+      while (writer.isAlive()) {
+        long zeros = 0, ones = 0;
+        for (int element : bag) {
+          if (element == 0) {
+            zeros++;
+          } else {
+            ones++;
+          }
+        }
+        assertTrue(zeros == ones || zeros == ones + 1, zeros + " zeros and " + ones + " ones");
+      }
+      writer.join();
+
+      assertEquals(2 * rounds, bag.size());
+      assertEquals(rounds, bag.occurrences(1));
+    }
+  }
+}
@@ -0,0 +1,123 @@
+package org.uma.ed.datastructures.bag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.dictionary.Dictionary;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Test cases for class CountMinSketchBag")
+class CountMinSketchBagTest {
+
+  @Nested
+  @DisplayName("A CountMinSketchBag is created")
+  class CreationTests {
+    @Test
+    @DisplayName("empty, with dimensions derived from its error bounds")
+    void testEmpty() {
+      CountMinSketchBag<String> bag = CountMinSketchBag.withErrorBounds(0.01, 0.05, 0.1);
+      assertTrue(bag.isEmpty());
+      assertEquals(0, bag.size());
+      assertEquals(0, bag.occurrences("a"));
+      assertEquals("CountMinSketchBag(width=272, depth=3, size=0)", bag.toString());
+    }
+
+    @Test
+    @DisplayName("with invalid arguments, which raise an exception")
+    void testInvalidArguments() {
+      assertThrows(IllegalArgumentException.class, () -> CountMinSketchBag.withErrorBounds(0, 0.1, 0.1));
+      assertThrows(IllegalArgumentException.class, () -> CountMinSketchBag.withErrorBounds(0.1, 1, 0.1));
+      assertThrows(IllegalArgumentException.class, () -> new CountMinSketchBag<>(0, 3, 0.1));
+      assertThrows(IllegalArgumentException.class, () -> new CountMinSketchBag<>(10, 3, 0));
+    }
+  }
+
+  @Nested
+  @DisplayName("Estimates")
+  class EstimateTests {
+    @Test
+    @DisplayName("are exact when elements do not collide")
+    void testExactForFewElements() {
+      CountMinSketchBag<String> bag = CountMinSketchBag.empty();
+      bag.insert("a", "b", "a", "c", "a");
+      assertEquals(5, bag.size());
+      assertEquals(3, bag.occurrences("a"));
+      assertEquals(1, bag.occurrences("b"));
+      bag.delete("a");
+      assertEquals(2, bag.occurrences("a"));
+      assertEquals(4, bag.size());
+    }
+
+    @Test
+    @DisplayName("never underestimate, and stay within the error bound")
+    void testErrorBound() {
+      double epsilon = 0.01;
+      CountMinSketchBag<Integer> bag = CountMinSketchBag.withErrorBounds(epsilon, 0.001, 0.05);
+      int[] actual = new int[5000];
+      Random random = new Random(0);
+      int n = 100_000;
+      for (int i = 0; i < n; i++) {
+        int element = (int) Math.min(actual.length - 1, Math.abs(random.nextGaussian()) * 800);
+        actual[element]++;
+        bag.insert(element);
+      }
+      assertEquals(n, bag.count());
+      int exceeding = 0;
+      for (int element = 0; element < actual.length; element++) {
+        long estimate = bag.estimate(element);
+        assertTrue(estimate >= actual[element], "element " + element);
+        if (estimate > actual[element] + epsilon * n) {
+          exceeding++;
+        }
+      }
+      assertTrue(exceeding <= actual.length * 0.01, "too many estimates exceed the error bound: " + exceeding);
+    }
+
+    @Test
+    @DisplayName("iteration is not supported")
+    void testIterator() {
+      CountMinSketchBag<String> bag = CountMinSketchBag.empty();
+      assertThrows(UnsupportedOperationException.class, bag::iterator);
+    }
+
+    @Test
+    @DisplayName("clear() resets all counters")
+    void testClear() {
+      CountMinSketchBag<String> bag = CountMinSketchBag.empty();
+      bag.insert("a", "a");
+      bag.clear();
+      assertTrue(bag.isEmpty());
+      assertEquals(0, bag.occurrences("a"));
+      assertEquals(0, bag.heavyHitters().size());
+    }
+  }
+
+  @Nested
+  @DisplayName("Heavy hitters")
+  class HeavyHitterTests {
+    @Test
+    @DisplayName("include every element reaching the fraction, and no rare element")
+    void testHeavyHitters() {
+      CountMinSketchBag<String> bag = CountMinSketchBag.withErrorBounds(0.001, 0.01, 0.1);
+      Random random = new Random(1);
+      for (int i = 0; i < 50_000; i++) {
+        int r = random.nextInt(100);
+        if (r < 30) {
+          bag.insert("login");
+        } else if (r < 45) {
+          bag.insert("click");
+        } else {
+          bag.insert("rare-" + random.nextInt(10_000));
+        }
+      }
+      Dictionary<String, Long> heavyHitters = bag.heavyHitters();
+      assertEquals(2, heavyHitters.size());
+      assertTrue(heavyHitters.isDefinedAt("login"));
+      assertTrue(heavyHitters.isDefinedAt("click"));
+      assertEquals(bag.estimate("login"), heavyHitters.valueOf("login"));
+    }
+  }
+}
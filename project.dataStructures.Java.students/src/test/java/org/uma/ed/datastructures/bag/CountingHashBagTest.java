@@ -0,0 +1,174 @@
+package org.uma.ed.datastructures.bag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Test cases for counting hash bags CountingHashBag, IntHashBag and LongHashBag")
+class CountingHashBagTest {
+
+  @Nested
+  @DisplayName("A CountingHashBag")
+  class CountingHashBagTests {
+    @Test
+    @DisplayName("is empty when created")
+    void testEmpty() {
+      CountingHashBag<String> bag = CountingHashBag.empty();
+      assertTrue(bag.isEmpty());
+      assertEquals(0, bag.size());
+      assertEquals(0, bag.occurrences("a"));
+      assertFalse(bag.iterator().hasNext());
+    }
+
+    @Test
+    @DisplayName("counts occurrences of inserted elements")
+    void testInsertAndOccurrences() {
+      CountingHashBag<String> bag = CountingHashBag.of("a", "b", "a", "c", "a");
+      assertEquals(5, bag.size());
+      assertEquals(3, bag.occurrences("a"));
+      assertEquals(1, bag.occurrences("b"));
+      assertEquals(0, bag.occurrences("d"));
+      assertEquals(SortedArrayBag.of("a", "a", "a", "b", "c"), SortedArrayBag.from(bag));
+    }
+
+    @Test
+    @DisplayName("removes one occurrence at a time and forgets elements with no occurrences")
+    void testDelete() {
+      CountingHashBag<String> bag = CountingHashBag.of("a", "b", "a");
+      bag.delete("a");
+      assertEquals(1, bag.occurrences("a"));
+      bag.delete("a");
+      assertFalse(bag.contains("a"));
+      bag.delete("z");
+      assertEquals(1, bag.size());
+      assertEquals(1, bag.occurrences("b"));
+    }
+
+    @Test
+    @DisplayName("copyOf() creates an independent bag with the same occurrences")
+    void testCopyOf() {
+      CountingHashBag<String> bag = CountingHashBag.of("x", "y", "x");
+      CountingHashBag<String> copy = CountingHashBag.copyOf(bag);
+      bag.insert("x");
+      assertEquals(2, copy.occurrences("x"));
+      assertEquals(3, bag.occurrences("x"));
+      assertEquals(SortedArrayBag.of("x", "x", "y"), SortedArrayBag.from(copy));
+    }
+
+    @Test
+    @DisplayName("behaves as a map of counters under random inserts and deletes")
+    void testRandomOperations() {
+      Random random = new Random(0);
+      CountingHashBag<Integer> bag = CountingHashBag.empty();
+      Map<Integer, Integer> expected = new HashMap<>();
+      int expectedSize = 0;
+      for (int i = 0; i < 20_000; i++) {
+        int element = random.nextInt(500);
+        if (random.nextInt(3) == 0) {
+          bag.delete(element);
+          if (expected.containsKey(element)) {
+            expectedSize--;
+            expected.merge(element, -1, (a, b) -> a + b == 0 ? null : a + b);
+          }
+        } else {
+          bag.insert(element);
+          expectedSize++;
+          expected.merge(element, 1, Integer::sum);
+        }
+      }
+      assertEquals(expectedSize, bag.size());
+      for (int element = 0; element < 500; element++) {
+        assertEquals(expected.getOrDefault(element, 0), bag.occurrences(element), "element " + element);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("An IntHashBag")
+  class IntHashBagTests {
+    @Test
+    @DisplayName("counts occurrences of inserted elements, including zero and negative ones")
+    void testInsertAndOccurrences() {
+      IntHashBag bag = IntHashBag.of(0, -3, 0, 7, -3, 0);
+      assertEquals(6, bag.size());
+      assertEquals(3, bag.occurrences(0));
+      assertEquals(2, bag.occurrences(-3));
+      assertEquals(1, bag.occurrences(7));
+      assertFalse(bag.contains(1));
+      assertEquals(SortedArrayBag.of(-3, -3, 0, 0, 0, 7), SortedArrayBag.from(bag));
+    }
+
+    @Test
+    @DisplayName("iterates without boxing, yielding every occurrence")
+    void testPrimitiveIterator() {
+      IntHashBag bag = IntHashBag.of(5, 5, 2);
+      PrimitiveIterator.OfInt iterator = bag.iterator();
+      int sum = 0;
+      int count = 0;
+      while (iterator.hasNext()) {
+        sum += iterator.nextInt();
+        count++;
+      }
+      assertEquals(3, count);
+      assertEquals(12, sum);
+    }
+
+    @Test
+    @DisplayName("is equal to other bags with the same elements")
+    void testEquals() {
+      assertEquals(SortedArrayBag.of(1, 2, 2), IntHashBag.of(2, 1, 2));
+      assertEquals(IntHashBag.of(1, 2, 2), IntHashBag.copyOf(SortedArrayBag.of(2, 2, 1)));
+    }
+
+    @Test
+    @DisplayName("behaves as a map of counters under random inserts and deletes")
+    void testRandomOperations() {
+      Random random = new Random(1);
+      IntHashBag bag = IntHashBag.empty();
+      Map<Integer, Integer> expected = new HashMap<>();
+      for (int i = 0; i < 20_000; i++) {
+        int element = random.nextInt(1000) - 500;
+        if (random.nextInt(3) == 0) {
+          bag.delete(element);
+          expected.computeIfPresent(element, (key, count) -> count == 1 ? null : count - 1);
+        } else {
+          bag.insert(element);
+          expected.merge(element, 1, Integer::sum);
+        }
+      }
+      assertEquals(expected.values().stream().mapToInt(Integer::intValue).sum(), bag.size());
+      for (int element = -500; element < 500; element++) {
+        assertEquals(expected.getOrDefault(element, 0), bag.occurrences(element), "element " + element);
+      }
+      bag.clear();
+      assertTrue(bag.isEmpty());
+      assertFalse(bag.contains(0));
+    }
+  }
+
+  @Nested
+  @DisplayName("A LongHashBag")
+  class LongHashBagTests {
+    @Test
+    @DisplayName("counts occurrences of elements beyond the int range")
+    void testInsertAndOccurrences() {
+      long big = 1L << 40;
+      LongHashBag bag = LongHashBag.of(big, 0L, big, -big);
+      assertEquals(4, bag.size());
+      assertEquals(2, bag.occurrences(big));
+      assertEquals(1, bag.occurrences(-big));
+      assertEquals(0, bag.occurrences(big + 1));
+      bag.delete(big);
+      bag.delete(big);
+      assertFalse(bag.contains(big));
+      assertEquals(SortedArrayBag.of(-big, 0L), SortedArrayBag.from(bag));
+    }
+  }
+}
@@ -235,4 +235,51 @@ class SortedArrayBagTest {
       assertNotEquals(bag1, bag2);
     }
   }
-}
\ No newline at end of file
+
+  @Nested
+  @DisplayName("The insertAll() method")
+  class InsertAllTests {
+    @Test
+    @DisplayName("adds occurrences of elements already in the bag and inserts new ones in order")
+    void testInsertAllMergesOccurrences() {
+      SortedArrayBag<Integer> bag = SortedArrayBag.of(2, 4, 4, 6);
+      bag.insertAll(JDKArrayList.of(4, 1, 7, 1, 6, 4));
+
+      assertEquals(10, bag.size());
+      assertEquals(2, bag.occurrences(1));
+      assertEquals(4, bag.occurrences(4));
+      assertEquals(2, bag.occurrences(6));
+      assertEquals(JDKArrayList.of(1, 1, 2, 4, 4, 4, 4, 6, 6, 7), JDKArrayList.from(bag));
+    }
+
+    @Test
+    @DisplayName("on an empty bag, it contains all elements in the batch")
+    void testInsertAllIntoEmptyBag() {
+      SortedArrayBag<Integer> bag = SortedArrayBag.empty();
+      bag.insertAll(JDKArrayList.of(3, 3, 3, 1));
+
+      assertEquals(4, bag.size());
+      assertEquals(JDKArrayList.of(1, 3, 3, 3), JDKArrayList.from(bag));
+    }
+
+    @Test
+    @DisplayName("the result is the same as inserting elements one by one")
+    void testInsertAllSameAsRepeatedInsert() {
+      java.util.Random random = new java.util.Random(0);
+      SortedArrayBag<Integer> bag = SortedArrayBag.empty();
+      SortedArrayBag<Integer> expected = SortedArrayBag.empty();
+      for (int round = 0; round < 20; round++) {
+        List<Integer> batch = JDKArrayList.empty();
+        for (int i = 0; i < 100; i++) {
+          batch.append(random.nextInt(300));
+        }
+        bag.insertAll(batch);
+        for (int element : batch) {
+          expected.insert(element);
+        }
+        assertEquals(expected.size(), bag.size());
+        assertEquals(JDKArrayList.from(expected), JDKArrayList.from(bag));
+      }
+    }
+  }
+}
@@ -0,0 +1,85 @@
+package org.uma.ed.datastructures.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.dictionary.Dictionary.Entry;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+
+@DisplayName("Test cases for class ConcurrentSkipListDictionary")
+class ConcurrentSkipListDictionaryTest {
+
+  @Nested
+  @DisplayName("Core operations: insert(), valueOf(), isDefinedAt(), delete()")
+  class TestCasesForCoreOperations {
+
+    @Test
+    @DisplayName("insert() adds new mappings and replaces values of existing keys")
+    void insertAddsAndReplaces() {
+      SortedDictionary<String, Integer> dict = ConcurrentSkipListDictionary.empty();
+      dict.insert("one", 1);
+      dict.insert("two", 2);
+      dict.insert("one", 10);
+
+      assertEquals(2, dict.size());
+      assertEquals(10, dict.valueOf("one"));
+      assertEquals(2, dict.valueOf("two"));
+      assertNull(dict.valueOf("three"));
+    }
+
+    @Test
+    @DisplayName("delete() removes existing mappings and ignores missing keys")
+    void deleteRemovesMappings() {
+      SortedDictionary<Integer, String> dict = ConcurrentSkipListDictionary.of(
+          Entry.of(1, "one"), Entry.of(2, "two"), Entry.of(3, "three"));
+      dict.delete(2);
+      dict.delete(99);
+
+      assertFalse(dict.isDefinedAt(2));
+      assertTrue(dict.isDefinedAt(3));
+      assertEquals(2, dict.size());
+    }
+  }
+
+  @Nested
+  @DisplayName("Ordered views and extremal operations")
+  class TestCasesForOrderedViews {
+
+    @Test
+    @DisplayName("keys(), values() and entries() follow ascending key order")
+    void viewsAreSorted() {
+      SortedDictionary<Integer, String> dict = ConcurrentSkipListDictionary.of(
+          Entry.of(3, "three"), Entry.of(1, "one"), Entry.of(2, "two"));
+
+      List<Integer> keys = JDKArrayList.from(dict.keys());
+      List<String> values = JDKArrayList.from(dict.values());
+
+      assertEquals(JDKArrayList.of(1, 2, 3).toString(), keys.toString());
+      assertEquals(JDKArrayList.of("one", "two", "three").toString(), values.toString());
+      assertEquals(Entry.of(1, "one"), dict.minimum());
+      assertEquals(Entry.of(3, "three"), dict.maximum());
+    }
+
+    @Test
+    @DisplayName("minimum() and maximum() throw exception on an empty dictionary")
+    void extremalOnEmpty() {
+      SortedDictionary<Integer, String> dict = ConcurrentSkipListDictionary.empty();
+      assertThrows(NoSuchElementException.class, dict::minimum);
+      assertThrows(NoSuchElementException.class, dict::maximum);
+    }
+
+    @Test
+    @DisplayName("equals() returns true for an AVLDictionary with the same mappings")
+    void equalsOtherSortedDictionary() {
+      SortedDictionary<Integer, String> dict = ConcurrentSkipListDictionary.of(Entry.of(1, "one"), Entry.of(2, "two"));
+      SortedDictionary<Integer, String> avl = AVLDictionary.of(Entry.of(2, "two"), Entry.of(1, "one"));
+
+      assertEquals(avl, dict);
+      assertEquals(avl.hashCode(), dict.hashCode());
+    }
+  }
+}
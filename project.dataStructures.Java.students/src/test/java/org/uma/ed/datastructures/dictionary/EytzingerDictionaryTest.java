@@ -0,0 +1,79 @@
+package org.uma.ed.datastructures.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.dictionary.Dictionary.Entry;
+import org.uma.ed.datastructures.list.JDKArrayList;
+
+@DisplayName("Test cases for class EytzingerDictionary")
+class EytzingerDictionaryTest {
+
+  @Nested
+  @DisplayName("An EytzingerDictionary is created")
+  class TestCasesForCreation {
+
+    @Test
+    @DisplayName("by freezing a SortedArrayDictionary")
+    void frozenSortedArrayDictionary() {
+      EytzingerDictionary<Integer, String> dict = SortedArrayDictionary.of(
+          Entry.of(3, "three"), Entry.of(1, "one"), Entry.of(2, "two")).frozen();
+      assertEquals(3, dict.size());
+      assertEquals(JDKArrayList.of(1, 2, 3), JDKArrayList.from(dict.keys()));
+      assertEquals(JDKArrayList.of("one", "two", "three"), JDKArrayList.from(dict.values()));
+    }
+
+    @Test
+    @DisplayName("by copying another sorted dictionary")
+    void copyOfSortedDictionary() {
+      AVLDictionary<String, Integer> avlDictionary = AVLDictionary.empty();
+      avlDictionary.insert("b", 2);
+      avlDictionary.insert("a", 1);
+      EytzingerDictionary<String, Integer> dict = EytzingerDictionary.copyOf(avlDictionary);
+      assertEquals(avlDictionary, dict);
+      assertEquals(Entry.of("a", 1), dict.minimum());
+      assertEquals(Entry.of("b", 2), dict.maximum());
+    }
+
+    @Test
+    @DisplayName("from an empty dictionary")
+    void empty() {
+      EytzingerDictionary<String, Integer> dict = EytzingerDictionary.copyOf(AVLDictionary.<String, Integer>empty());
+      assertTrue(dict.isEmpty());
+      assertNull(dict.valueOf("a"));
+      assertThrows(NoSuchElementException.class, dict::minimum);
+    }
+  }
+
+  @Nested
+  @DisplayName("Queries: valueOf(), isDefinedAt()")
+  class TestCasesForQueries {
+
+    @Test
+    @DisplayName("every key is found with its value and no other key is")
+    void lookups() {
+      AVLDictionary<Integer, Integer> squares = AVLDictionary.empty();
+      for (int i = 0; i < 100; i++) {
+        squares.insert(2 * i, i * i);
+      }
+      EytzingerDictionary<Integer, Integer> dict = EytzingerDictionary.copyOf(squares);
+      for (int i = 0; i < 100; i++) {
+        assertTrue(dict.isDefinedAt(2 * i));
+        assertEquals(i * i, dict.valueOf(2 * i));
+        assertFalse(dict.isDefinedAt(2 * i + 1));
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("modifying operations throw UnsupportedOperationException")
+  void immutability() {
+    EytzingerDictionary<Integer, String> dict = SortedArrayDictionary.of(Entry.of(1, "one")).frozen();
+    assertThrows(UnsupportedOperationException.class, () -> dict.insert(2, "two"));
+    assertThrows(UnsupportedOperationException.class, () -> dict.delete(1));
+    assertThrows(UnsupportedOperationException.class, dict::clear);
+  }
+}
@@ -0,0 +1,75 @@
+package org.uma.ed.datastructures.dictionary;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.dictionary.Dictionary.Entry;
+
+@DisplayName("Test cases for class FilteredDictionary")
+class FilteredDictionaryTest {
+
+  private static void assertBehavesAsDictionary(FilteredDictionary<Integer, String> dict) {
+    JDKHashDictionary<Integer, String> expected = JDKHashDictionary.empty();
+    for (int n = 0; n < 5_000; n++) {
+      dict.insert(n, "v" + n);
+      expected.insert(n, "v" + n);
+    }
+    for (int n = 0; n < 5_000; n += 3) {
+      dict.delete(n);
+      expected.delete(n);
+    }
+    dict.insert(1, "one");
+    expected.insert(1, "one");
+    assertEquals(expected.size(), dict.size());
+    assertEquals(expected, dict);
+    for (int n = -1_000; n < 6_000; n++) {
+      assertEquals(expected.isDefinedAt(n), dict.isDefinedAt(n));
+      assertEquals(expected.valueOf(n), dict.valueOf(n));
+    }
+  }
+
+  @Nested
+  @DisplayName("A FilteredDictionary is created")
+  class TestCasesForCreation {
+
+    @Test
+    @DisplayName("in front of a non-empty dictionary, with a filter summarizing its keys")
+    void nonEmpty() {
+      FilteredDictionary<String, Integer> dict = FilteredDictionary.withBloomFilter(
+          JDKHashDictionary.of(Entry.of("a", 1), Entry.of("b", 2)));
+      assertEquals(2, dict.size());
+      assertTrue(dict.filter().mightContain("a"));
+      assertEquals(2, dict.valueOf("b"));
+      assertNull(dict.valueOf("c"));
+    }
+  }
+
+  @Nested
+  @DisplayName("A FilteredDictionary behaves as its underlying dictionary")
+  class TestCasesForOperations {
+
+    @Test
+    @DisplayName("with a Bloom filter")
+    void bloomFilter() {
+      assertBehavesAsDictionary(FilteredDictionary.withBloomFilter(JDKHashDictionary.empty()));
+    }
+
+    @Test
+    @DisplayName("with a cuckoo filter")
+    void cuckooFilter() {
+      assertBehavesAsDictionary(FilteredDictionary.withCuckooFilter(JDKHashDictionary.empty()));
+    }
+
+    @Test
+    @DisplayName("and clear empties both the dictionary and the filter")
+    void clear() {
+      FilteredDictionary<Integer, String> dict = FilteredDictionary.withCuckooFilter(
+          JDKHashDictionary.of(Entry.of(1, "one")));
+      dict.clear();
+      assertTrue(dict.isEmpty());
+      assertFalse(dict.filter().mightContain(1));
+    }
+  }
+}
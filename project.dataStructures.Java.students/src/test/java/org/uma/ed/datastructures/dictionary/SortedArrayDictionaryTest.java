@@ -246,4 +246,29 @@ class SortedArrayDictionaryTest {
       assertEquals(dict1.hashCode(), dict2.hashCode());
     }
   }
-}
\ No newline at end of file
+
+  @Nested
+  @DisplayName("The insertAll() method")
+  class InsertAllTests {
+    @Test
+    @DisplayName("merges new keys in order and replaces values of existing ones")
+    void testInsertAllMergesEntries() {
+      SortedArrayDictionary<Integer, String> dict = SortedArrayDictionary.of(
+          Entry.of(2, "two"), Entry.of(4, "four"));
+      dict.insertAll(JDKArrayList.of(Entry.of(4, "FOUR"), Entry.of(1, "one"), Entry.of(5, "five")));
+
+      assertEquals(JDKArrayList.of(1, 2, 4, 5), JDKArrayList.from(dict.keys()));
+      assertEquals(JDKArrayList.of("one", "two", "FOUR", "five"), JDKArrayList.from(dict.values()));
+    }
+
+    @Test
+    @DisplayName("the last entry in the batch for a key wins")
+    void testInsertAllLastEntryWins() {
+      SortedArrayDictionary<Integer, String> dict = SortedArrayDictionary.empty();
+      dict.insertAll(JDKArrayList.of(Entry.of(3, "a"), Entry.of(1, "b"), Entry.of(3, "c"), Entry.of(3, "d")));
+
+      assertEquals(JDKArrayList.of(1, 3), JDKArrayList.from(dict.keys()));
+      assertEquals(JDKArrayList.of("b", "d"), JDKArrayList.from(dict.values()));
+    }
+  }
+}
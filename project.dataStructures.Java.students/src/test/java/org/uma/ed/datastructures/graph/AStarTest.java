@@ -0,0 +1,110 @@
+package org.uma.ed.datastructures.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+import org.uma.ed.datastructures.tuple.Tuple2;
+
+@DisplayName("Test cases for class AStar")
+class AStarTest {
+
+  private static final int SIDE = 30;
+
+  /**
+   * Grid of SIDE x SIDE vertices, where vertex r * SIDE + c is at row r and column c, and edges join
+   * horizontally and vertically adjacent vertices with weights at least 1.
+   */
+  private static WeightedGraph<Integer, Integer> grid(long seed) {
+    Random random = new Random(seed);
+    WeightedGraph<Integer, Integer> graph = DictionaryWeightedGraph.empty();
+    for (int v = 0; v < SIDE * SIDE; v++) {
+      graph.addVertex(v);
+    }
+    for (int r = 0; r < SIDE; r++) {
+      for (int c = 0; c < SIDE; c++) {
+        if (c + 1 < SIDE) {
+          graph.addEdge(r * SIDE + c, r * SIDE + c + 1, 1 + random.nextInt(9));
+        }
+        if (r + 1 < SIDE) {
+          graph.addEdge(r * SIDE + c, (r + 1) * SIDE + c, 1 + random.nextInt(9));
+        }
+      }
+    }
+    return graph;
+  }
+
+  private static int manhattan(int u, int v) {
+    return Math.abs(u / SIDE - v / SIDE) + Math.abs(u % SIDE - v % SIDE);
+  }
+
+  @Nested
+  @DisplayName("On a small graph")
+  class TestCasesForSmallGraph {
+
+    private static WeightedGraph<String, Integer> weightedGraph() {
+      Set<String> vertices = JDKHashSet.of("a", "b", "c", "d", "e");
+      Set<WeightedEdge<String, Integer>> edges = JDKHashSet.of(
+          WeightedEdge.of("a", "b", 4), WeightedEdge.of("a", "c", 1), WeightedEdge.of("c", "b", 2),
+          WeightedEdge.of("b", "d", 5));
+      return DictionaryWeightedGraph.of(vertices, edges);
+    }
+
+    @Test
+    @DisplayName("finds a shortest path with a zero heuristic")
+    void zeroHeuristic() {
+      Tuple2<Integer, List<String>> result = AStar.aStar(weightedGraph(), "a", "d", vertex -> 0);
+      assertEquals(8, result.first());
+      assertEquals(JDKArrayList.of("a", "c", "b", "d"), JDKArrayList.from(result.second()));
+    }
+
+    @Test
+    @DisplayName("returns a path with only the source when source and target are the same")
+    void sameVertex() {
+      Tuple2<Integer, List<String>> result = AStar.aStar(weightedGraph(), "c", "c", vertex -> 0);
+      assertEquals(0, result.first());
+      assertEquals(JDKArrayList.of("c"), JDKArrayList.from(result.second()));
+    }
+
+    @Test
+    @DisplayName("returns null if target is not reachable")
+    void unreachable() {
+      assertNull(AStar.aStar(weightedGraph(), "a", "e", vertex -> 0));
+    }
+
+    @Test
+    @DisplayName("throws an exception if source or target are not in the graph")
+    void missingVertex() {
+      assertThrows(GraphException.class, () -> AStar.aStar(weightedGraph(), "a", "z", vertex -> 0));
+      assertThrows(GraphException.class, () -> AStar.aStar(weightedGraph(), "z", "a", vertex -> 0));
+    }
+  }
+
+  @Nested
+  @DisplayName("On grid graphs")
+  class TestCasesForGrids {
+
+    @Test
+    @DisplayName("finds paths with minimum cost using a Manhattan distance heuristic")
+    void manhattanHeuristic() {
+      Random random = new Random(1);
+      for (long seed = 0; seed < 3; seed++) {
+        WeightedGraph<Integer, Integer> graph = grid(seed);
+        for (int i = 0; i < 10; i++) {
+          int source = random.nextInt(SIDE * SIDE);
+          int target = random.nextInt(SIDE * SIDE);
+          Tuple2<Integer, List<Integer>> result = AStar.aStar(graph, source, target, v -> manhattan(v, target));
+          assertEquals(BidirectionalDijkstraTest.referenceCost(graph, source, target), result.first());
+          BidirectionalDijkstraTest.assertPath(graph, source, target, result);
+          assertEquals(result.first(), AStar.aStar(graph, source, target, v -> 0).first());
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,150 @@
+package org.uma.ed.datastructures.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+import org.uma.ed.datastructures.tuple.Tuple2;
+
+@DisplayName("Test cases for class BidirectionalDijkstra")
+class BidirectionalDijkstraTest {
+
+  private static WeightedGraph<String, Integer> weightedGraph() {
+    Set<String> vertices = JDKHashSet.of("a", "b", "c", "d", "e", "f");
+    Set<WeightedEdge<String, Integer>> edges = JDKHashSet.of(
+        WeightedEdge.of("a", "b", 4), WeightedEdge.of("a", "c", 1), WeightedEdge.of("c", "b", 2),
+        WeightedEdge.of("b", "d", 5), WeightedEdge.of("c", "d", 8));
+    return DictionaryWeightedGraph.of(vertices, edges);
+  }
+
+  /**
+   * Random connected graph with vertices 0...n-1.
+   */
+  static WeightedGraph<Integer, Integer> randomGraph(int n, int extraEdges, long seed) {
+    Random random = new Random(seed);
+    WeightedGraph<Integer, Integer> graph = DictionaryWeightedGraph.empty();
+    for (int v = 0; v < n; v++) {
+      graph.addVertex(v);
+    }
+    for (int v = 1; v < n; v++) {
+      graph.addEdge(v, random.nextInt(v), 1 + random.nextInt(20));
+    }
+    for (int i = 0; i < extraEdges; i++) {
+      int u = random.nextInt(n);
+      int v = random.nextInt(n);
+      if (u != v) {
+        graph.addEdge(u, v, 1 + random.nextInt(20));
+      }
+    }
+    return graph;
+  }
+
+  /**
+   * Cost of a shortest path computed with Bellman-Ford relaxations.
+   */
+  static int referenceCost(WeightedGraph<Integer, Integer> graph, int source, int target) {
+    int n = graph.numberOfVertices();
+    long[] costs = new long[n];
+    Arrays.fill(costs, Long.MAX_VALUE);
+    costs[source] = 0;
+    boolean changed = true;
+    while (changed) {
+      changed = false;
+      for (WeightedEdge<Integer, Integer> edge : graph.edges()) {
+        int u = edge.vertex1(), v = edge.vertex2(), w = edge.weight();
+        if (costs[u] != Long.MAX_VALUE && costs[u] + w < costs[v]) {
+          costs[v] = costs[u] + w;
+          changed = true;
+        }
+        if (costs[v] != Long.MAX_VALUE && costs[v] + w < costs[u]) {
+          costs[u] = costs[v] + w;
+          changed = true;
+        }
+      }
+    }
+    return (int) costs[target];
+  }
+
+  /**
+   * Checks that a path goes from source to target along edges of the graph with a given total cost.
+   */
+  static <V> void assertPath(WeightedGraph<V, Integer> graph, V source, V target, Tuple2<Integer, List<V>> result) {
+    List<V> path = result.second();
+    assertEquals(source, path.get(0));
+    assertEquals(target, path.get(path.size() - 1));
+    int cost = 0;
+    for (int i = 1; i < path.size(); i++) {
+      Integer weight = null;
+      for (WeightedGraph.Successor<V, Integer> successor : graph.successors(path.get(i - 1))) {
+        if (successor.vertex().equals(path.get(i))) {
+          weight = successor.weight();
+        }
+      }
+      assertNotNull(weight, "no edge between consecutive vertices of path");
+      cost += weight;
+    }
+    assertEquals(result.first(), cost);
+  }
+
+  @Nested
+  @DisplayName("On a small graph")
+  class TestCasesForSmallGraph {
+
+    @Test
+    @DisplayName("finds a shortest path")
+    void shortestPath() {
+      Tuple2<Integer, List<String>> result = BidirectionalDijkstra.bidirectionalDijkstra(weightedGraph(), "a", "d");
+      assertEquals(8, result.first());
+      assertEquals(JDKArrayList.of("a", "c", "b", "d"), JDKArrayList.from(result.second()));
+    }
+
+    @Test
+    @DisplayName("returns a path with only the source when source and target are the same")
+    void sameVertex() {
+      Tuple2<Integer, List<String>> result = BidirectionalDijkstra.bidirectionalDijkstra(weightedGraph(), "b", "b");
+      assertEquals(0, result.first());
+      assertEquals(JDKArrayList.of("b"), JDKArrayList.from(result.second()));
+    }
+
+    @Test
+    @DisplayName("returns null if target is not reachable")
+    void unreachable() {
+      assertNull(BidirectionalDijkstra.bidirectionalDijkstra(weightedGraph(), "a", "f"));
+    }
+
+    @Test
+    @DisplayName("throws an exception if source or target are not in the graph")
+    void missingVertex() {
+      assertThrows(GraphException.class, () -> BidirectionalDijkstra.bidirectionalDijkstra(weightedGraph(), "a", "z"));
+      assertThrows(GraphException.class, () -> BidirectionalDijkstra.bidirectionalDijkstra(weightedGraph(), "z", "a"));
+    }
+  }
+
+  @Nested
+  @DisplayName("On random graphs")
+  class TestCasesForRandomGraphs {
+
+    @Test
+    @DisplayName("finds paths with minimum cost")
+    void randomGraphs() {
+      Random random = new Random(0);
+      for (long seed = 0; seed < 5; seed++) {
+        WeightedGraph<Integer, Integer> graph = randomGraph(300, 600, seed);
+        for (int i = 0; i < 10; i++) {
+          int source = random.nextInt(300);
+          int target = random.nextInt(300);
+          Tuple2<Integer, List<Integer>> result = BidirectionalDijkstra.bidirectionalDijkstra(graph, source, target);
+          assertEquals(referenceCost(graph, source, target), result.first());
+          assertPath(graph, source, target, result);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,231 @@
+package org.uma.ed.datastructures.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+
+@DisplayName("Test cases for class CSRGraph")
+class CSRGraphTest {
+
+  private static WeightedGraph<String, Integer> weightedGraph() {
+    Set<String> vertices = JDKHashSet.of("a", "b", "c", "d", "e");
+    Set<WeightedEdge<String, Integer>> edges = JDKHashSet.of(
+        WeightedEdge.of("a", "b", 4), WeightedEdge.of("a", "c", 1), WeightedEdge.of("c", "b", 2),
+        WeightedEdge.of("b", "d", 5));
+    return DictionaryWeightedGraph.of(vertices, edges);
+  }
+
+  /**
+   * Random graph with vertices 0...n-1 and at most m edges, without loops or repeated edges. Edges have
+   * random weights in 1...maxWeight, or no weights if maxWeight is 0.
+   */
+  static CSRGraph<Integer> randomGraph(int n, int m, boolean directed, int maxWeight, long seed) {
+    Random random = new Random(seed);
+    Set<Long> seen = JDKHashSet.withCapacity(m);
+    int[] sources = new int[m];
+    int[] targets = new int[m];
+    int[] weights = new int[m];
+    int numEdges = 0;
+    for (int i = 0; i < m; i++) {
+      int u = random.nextInt(n);
+      int v = random.nextInt(n);
+      long key = directed ? (long) u * n + v : (long) Math.min(u, v) * n + Math.max(u, v);
+      if (u != v && !seen.contains(key)) {
+        seen.insert(key);
+        sources[numEdges] = u;
+        targets[numEdges] = v;
+        if (maxWeight > 0) {
+          weights[numEdges] = 1 + random.nextInt(maxWeight);
+        }
+        numEdges++;
+      }
+    }
+    return CSRGraph.fromArcs(n, Arrays.copyOf(sources, numEdges), Arrays.copyOf(targets, numEdges),
+        maxWeight > 0 ? Arrays.copyOf(weights, numEdges) : null, directed);
+  }
+
+  /**
+   * Random unweighted graph with vertices 0...n-1 and at most m edges, without loops or repeated edges.
+   */
+  static CSRGraph<Integer> randomGraph(int n, int m, boolean directed, long seed) {
+    return randomGraph(n, m, directed, 0, seed);
+  }
+
+  @Nested
+  @DisplayName("A CSRGraph built from a WeightedGraph")
+  class TestCasesForWeightedGraph {
+
+    @Test
+    @DisplayName("has the same vertices, edges and weights")
+    void sameStructure() {
+      WeightedGraph<String, Integer> graph = weightedGraph();
+      CSRGraph<String> csr = CSRGraph.of(graph);
+      assertFalse(csr.isDirected());
+      assertTrue(csr.hasIntWeights());
+      assertEquals(5, csr.numberOfVertices());
+      assertEquals(4, csr.numberOfEdges());
+      assertEquals(8, csr.numberOfArcs());
+      assertEquals(graph.vertices(), csr.vertices());
+
+      int b = csr.idOf("b");
+      assertEquals(3, csr.outDegree(b));
+      int arc = csr.arc(b, csr.idOf("d"));
+      assertEquals(5, csr.arcWeight(arc));
+      assertEquals(5.0, csr.arcDoubleWeight(arc));
+      assertEquals(-1, csr.arc(csr.idOf("a"), csr.idOf("d")));
+      assertEquals(0, csr.outDegree(csr.idOf("e")));
+    }
+
+    @Test
+    @DisplayName("stores successors of each vertex sorted by identifier")
+    void sortedArcs() {
+      CSRGraph<String> csr = CSRGraph.of(weightedGraph());
+      for (int u = 0; u < csr.numberOfVertices(); u++) {
+        for (int arc = csr.arcStart(u) + 1; arc < csr.arcEnd(u); arc++) {
+          assertTrue(csr.arcTarget(arc - 1) < csr.arcTarget(arc));
+        }
+        assertEquals(csr.vertex(u), csr.vertex(csr.idOf(csr.vertex(u))));
+      }
+    }
+
+    @Test
+    @DisplayName("can be seen as an unmodifiable WeightedGraph")
+    void asWeightedGraph() {
+      WeightedGraph<String, Integer> graph = weightedGraph();
+      WeightedGraph<String, Integer> view = CSRGraph.of(graph).asWeightedGraph();
+      assertEquals(graph.edges(), view.edges());
+      assertEquals(graph.successors("b"), view.successors("b"));
+      assertEquals(graph.numberOfEdges(), view.numberOfEdges());
+      assertThrows(UnsupportedOperationException.class, () -> view.addVertex("f"));
+      assertThrows(UnsupportedOperationException.class, () -> view.deleteEdge("a", "b"));
+    }
+
+    @Test
+    @DisplayName("can have double weights")
+    void doubleWeights() {
+      CSRGraph<String> csr = CSRGraph.withDoubleWeights(weightedGraph(), weight -> weight / 2.0);
+      assertTrue(csr.hasDoubleWeights());
+      assertFalse(csr.hasIntWeights());
+      assertEquals(2.5, csr.arcDoubleWeight(csr.arc(csr.idOf("d"), csr.idOf("b"))));
+      assertThrows(GraphException.class, () -> csr.arcWeight(0));
+      assertThrows(GraphException.class, csr::asWeightedGraph);
+    }
+  }
+
+  @Nested
+  @DisplayName("A CSRGraph built from arrays of arcs")
+  class TestCasesForFromArcs {
+
+    @Test
+    @DisplayName("has integer vertices that are their own identifiers")
+    void identityVertices() {
+      CSRGraph<Integer> csr = CSRGraph.fromArcs(4, new int[]{2, 0, 0}, new int[]{1, 2, 1}, new int[]{7, 8, 9}, true);
+      assertTrue(csr.isDirected());
+      assertEquals(4, csr.numberOfVertices());
+      assertEquals(3, csr.numberOfArcs());
+      assertEquals(2, csr.idOf(2));
+      assertEquals(3, csr.vertex(3));
+      assertEquals(JDKHashSet.of(0, 1, 2, 3), csr.vertices());
+      assertEquals(JDKHashSet.of(1, 2), csr.successors(0));
+      assertEquals(9, csr.arcWeight(csr.arc(0, 1)));
+      assertEquals(7, csr.arcWeight(csr.arc(2, 1)));
+      assertThrows(GraphException.class, () -> csr.idOf(4));
+      assertThrows(GraphException.class, () -> csr.successors(-1));
+    }
+
+    @Test
+    @DisplayName("creates arcs in both directions for undirected graphs")
+    void undirected() {
+      CSRGraph<Integer> csr = CSRGraph.fromArcs(3, new int[]{0, 1}, new int[]{1, 2}, null, false);
+      assertFalse(csr.hasIntWeights());
+      assertEquals(2, csr.numberOfEdges());
+      assertEquals(4, csr.numberOfArcs());
+      assertEquals(JDKHashSet.of(0, 2), csr.successors(1));
+      assertEquals(JDKArrayList.of(0, 1, 2), JDKArrayList.from(BreadthFirstTraversal.of(csr, 0).vertices()));
+    }
+
+    @Test
+    @DisplayName("rejects endpoints out of range")
+    void outOfRange() {
+      assertThrows(GraphException.class, () -> CSRGraph.fromArcs(2, new int[]{0}, new int[]{2}, null, true));
+    }
+
+    @Test
+    @DisplayName("has a transpose with all arcs reversed")
+    void transpose() {
+      CSRGraph<Integer> csr = CSRGraph.fromArcs(4, new int[]{2, 0, 0, 3}, new int[]{1, 2, 1, 1},
+          new int[]{7, 8, 9, 6}, true);
+      CSRGraph<Integer> transpose = csr.transpose();
+      assertEquals(csr.numberOfArcs(), transpose.numberOfArcs());
+      assertEquals(JDKHashSet.of(0, 2, 3), transpose.successors(1));
+      assertEquals(JDKHashSet.of(), transpose.successors(0));
+      assertEquals(7, transpose.arcWeight(transpose.arc(1, 2)));
+      assertEquals(9, transpose.arcWeight(transpose.arc(1, 0)));
+      for (int u = 0; u < transpose.numberOfVertices(); u++) {
+        for (int arc = transpose.arcStart(u) + 1; arc < transpose.arcEnd(u); arc++) {
+          assertTrue(transpose.arcTarget(arc - 1) < transpose.arcTarget(arc));
+        }
+      }
+      CSRGraph<String> undirected = CSRGraph.of(weightedGraph());
+      assertSame(undirected, undirected.transpose());
+    }
+  }
+
+  @Nested
+  @DisplayName("A CSRGraph built from the vertices reachable in a Traversable")
+  class TestCasesForReachableFrom {
+
+    @Test
+    @DisplayName("numbers vertices in breadth-first order and keeps their successors")
+    void reachable() {
+      CSRGraph<String> graph = CSRGraph.of(weightedGraph());
+      CSRGraph<String> csr = CSRGraph.reachableFrom(graph::successors, "d");
+      assertTrue(csr.isDirected());
+      assertFalse(csr.hasIntWeights());
+      assertEquals(4, csr.numberOfVertices());
+      assertEquals(0, csr.idOf("d"));
+      assertEquals("b", csr.vertex(1));
+      assertThrows(GraphException.class, () -> csr.idOf("e"));
+      for (String vertex : csr.vertices()) {
+        assertEquals(graph.successors(vertex), csr.successors(vertex));
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("A CSRGraph is Traversable")
+  class TestCasesForTraversals {
+
+    @Test
+    @DisplayName("and successor sets are unmodifiable views")
+    void successors() {
+      CSRGraph<String> csr = CSRGraph.of(weightedGraph());
+      Set<String> successors = csr.successors("b");
+      assertEquals(JDKHashSet.of("a", "c", "d"), successors);
+      assertTrue(successors.contains("d"));
+      assertFalse(successors.contains("e"));
+      assertFalse(successors.contains("z"));
+      assertThrows(UnsupportedOperationException.class, () -> successors.insert("e"));
+      assertThrows(GraphException.class, () -> csr.successors("z"));
+    }
+
+    @Test
+    @DisplayName("by breadth-first and depth-first traversals")
+    void traversals() {
+      CSRGraph<String> csr = CSRGraph.of(weightedGraph());
+      JDKArrayList<String> bfs = JDKArrayList.from(BreadthFirstTraversal.of(csr, "d").vertices());
+      assertEquals(4, bfs.size());
+      assertEquals("d", bfs.get(0));
+      assertEquals("b", bfs.get(1));
+      assertEquals(JDKHashSet.of("a", "b", "c", "d"),
+          JDKHashSet.from(DepthFirstTraversal.of(csr, "a").vertices()));
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package org.uma.ed.datastructures.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+
+@DisplayName("Test cases for class Components")
+class ComponentsTest {
+
+  @Nested
+  @DisplayName("Connected components")
+  class TestCasesForConnectedComponents {
+
+    @Test
+    @DisplayName("of an undirected graph are found")
+    void components() {
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(7, new int[]{0, 1, 3, 5}, new int[]{1, 2, 4, 3}, null, false);
+
+      List<Set<Integer>> components = Components.connectedComponents(graph);
+
+      assertEquals(JDKArrayList.of(JDKHashSet.of(0, 1, 2), JDKHashSet.of(3, 4, 5), JDKHashSet.of(6)), components);
+    }
+
+    @Test
+    @DisplayName("of an empty graph is an empty list")
+    void empty() {
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(0, new int[]{}, new int[]{}, null, false);
+
+      assertTrue(Components.connectedComponents(graph).isEmpty());
+    }
+
+    @Test
+    @DisplayName("throws an exception on a directed graph")
+    void directed() {
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(2, new int[]{0}, new int[]{1}, null, true);
+
+      assertThrows(GraphException.class, () -> Components.connectedComponents(graph));
+    }
+  }
+
+  @Nested
+  @DisplayName("Strongly connected components")
+  class TestCasesForStronglyConnectedComponents {
+
+    @Test
+    @DisplayName("of a directed graph are found in reverse topological order")
+    void components() {
+      // 0 -> 1 -> 2 -> 0 -> 3 -> 4 -> 3, 5 -> 4
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(6,
+          new int[]{0, 1, 2, 0, 3, 4, 5}, new int[]{1, 2, 0, 3, 4, 3, 4}, null, true);
+
+      List<Set<Integer>> components = Components.stronglyConnectedComponents(graph);
+
+      assertEquals(JDKArrayList.of(JDKHashSet.of(3, 4), JDKHashSet.of(0, 1, 2), JDKHashSet.of(5)), components);
+    }
+
+    @Test
+    @DisplayName("of an acyclic graph are single vertices")
+    void acyclic() {
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(4, new int[]{0, 0, 1, 2}, new int[]{1, 2, 3, 3}, null, true);
+
+      List<Set<Integer>> components = Components.stronglyConnectedComponents(graph);
+
+      assertEquals(4, components.size());
+      assertEquals(JDKHashSet.of(3), components.get(0));
+      assertEquals(JDKHashSet.of(0), components.get(3));
+    }
+
+    @Test
+    @DisplayName("are found on long paths without overflowing the stack")
+    void longCycle() {
+      int n = 200_000;
+      int[] sources = new int[n];
+      int[] targets = new int[n];
+      for (int v = 0; v < n; v++) {
+        sources[v] = v;
+        targets[v] = (v + 1) % n;
+      }
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(n, sources, targets, null, true);
+
+      List<Set<Integer>> components = Components.stronglyConnectedComponents(graph);
+
+      assertEquals(1, components.size());
+      assertEquals(n, components.get(0).size());
+    }
+  }
+}
@@ -0,0 +1,170 @@
+package org.uma.ed.datastructures.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.dictionary.Dictionary;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+
+@DisplayName("Test cases for class ContractionHierarchy")
+class ContractionHierarchyTest {
+
+  private static WeightedGraph<String, Integer> weightedGraph() {
+    Set<String> vertices = JDKHashSet.of("a", "b", "c", "d", "e", "f");
+    Set<WeightedEdge<String, Integer>> edges = JDKHashSet.of(
+        WeightedEdge.of("a", "b", 4), WeightedEdge.of("a", "c", 1), WeightedEdge.of("c", "b", 2),
+        WeightedEdge.of("b", "d", 5), WeightedEdge.of("c", "d", 8), WeightedEdge.of("e", "f", 3));
+    return DictionaryWeightedGraph.of(vertices, edges);
+  }
+
+  /**
+   * Grid graph of rows x columns vertices, numbered row by row, with weights depending on position.
+   */
+  private static WeightedGraph<Integer, Integer> gridGraph(int rows, int columns) {
+    WeightedGraph<Integer, Integer> graph = DictionaryWeightedGraph.empty();
+    for (int v = 0; v < rows * columns; v++) {
+      graph.addVertex(v);
+    }
+    for (int row = 0; row < rows; row++) {
+      for (int column = 0; column < columns; column++) {
+        int v = row * columns + column;
+        if (column + 1 < columns) {
+          graph.addEdge(v, v + 1, 1 + (row * 7 + column * 3) % 5);
+        }
+        if (row + 1 < rows) {
+          graph.addEdge(v, v + columns, 1 + (row * 5 + column * 11) % 7);
+        }
+      }
+    }
+    return graph;
+  }
+
+  private static void assertSameAsDijkstra(WeightedGraph<Integer, Integer> graph, ContractionHierarchy<Integer> hierarchy,
+                                           int source) {
+    Dictionary<Integer, Integer> expected = Dijkstra.dijkstra(graph, source);
+    for (int v = 0; v < graph.numberOfVertices(); v++) {
+      assertEquals(expected.valueOf(v), hierarchy.distance(source, v));
+      BidirectionalDijkstraTest.assertPath(graph, source, v, hierarchy.shortestPath(source, v));
+    }
+  }
+
+  @Nested
+  @DisplayName("On a small graph")
+  class TestCasesForSmallGraph {
+
+    @Test
+    @DisplayName("computes costs of shortest paths")
+    void distances() {
+      ContractionHierarchy<String> hierarchy = ContractionHierarchy.of(weightedGraph());
+
+      assertEquals(6, hierarchy.numberOfVertices());
+      assertEquals(3, hierarchy.distance("a", "b"));
+      assertEquals(3, hierarchy.distance("b", "a"));
+      assertEquals(8, hierarchy.distance("a", "d"));
+      assertEquals(3, hierarchy.distance("f", "e"));
+    }
+
+    @Test
+    @DisplayName("computes shortest paths")
+    void paths() {
+      WeightedGraph<String, Integer> graph = weightedGraph();
+      ContractionHierarchy<String> hierarchy = ContractionHierarchy.of(graph);
+
+      assertEquals(JDKArrayList.of("a", "c", "b", "d"), hierarchy.shortestPath("a", "d").second());
+      BidirectionalDijkstraTest.assertPath(graph, "d", "a", hierarchy.shortestPath("d", "a"));
+    }
+
+    @Test
+    @DisplayName("finds an empty path from a vertex to itself")
+    void sameVertex() {
+      ContractionHierarchy<String> hierarchy = ContractionHierarchy.of(weightedGraph());
+
+      assertEquals(0, hierarchy.distance("c", "c"));
+      assertEquals(JDKArrayList.of("c"), hierarchy.shortestPath("c", "c").second());
+    }
+
+    @Test
+    @DisplayName("returns null for unreachable vertices")
+    void unreachable() {
+      ContractionHierarchy<String> hierarchy = ContractionHierarchy.of(weightedGraph());
+
+      assertNull(hierarchy.distance("a", "e"));
+      assertNull(hierarchy.shortestPath("f", "d"));
+    }
+
+    @Test
+    @DisplayName("throws an exception if a vertex is not in the graph")
+    void missingVertex() {
+      ContractionHierarchy<String> hierarchy = ContractionHierarchy.of(weightedGraph());
+
+      assertThrows(GraphException.class, () -> hierarchy.distance("z", "a"));
+      assertThrows(GraphException.class, () -> hierarchy.shortestPath("a", "z"));
+    }
+  }
+
+  @Nested
+  @DisplayName("On larger graphs")
+  class TestCasesForLargerGraphs {
+
+    @Test
+    @DisplayName("agrees with Dijkstra on random graphs")
+    void randomGraphs() {
+      for (long seed = 0; seed < 3; seed++) {
+        WeightedGraph<Integer, Integer> graph = BidirectionalDijkstraTest.randomGraph(300, 600, seed);
+        ContractionHierarchy<Integer> hierarchy = ContractionHierarchy.of(graph);
+        assertSameAsDijkstra(graph, hierarchy, 0);
+        assertSameAsDijkstra(graph, hierarchy, 123);
+      }
+    }
+
+    @Test
+    @DisplayName("agrees with Dijkstra on a grid")
+    void grid() {
+      WeightedGraph<Integer, Integer> graph = gridGraph(20, 25);
+      ContractionHierarchy<Integer> hierarchy = ContractionHierarchy.of(graph);
+      assertTrue(hierarchy.numberOfShortcuts() > 0);
+      assertSameAsDijkstra(graph, hierarchy, 0);
+      assertSameAsDijkstra(graph, hierarchy, 262);
+    }
+  }
+
+  @Nested
+  @DisplayName("Serialization")
+  class TestCasesForSerialization {
+
+    @Test
+    @DisplayName("reads back an index with the same answers")
+    void roundTrip() throws IOException {
+      WeightedGraph<Integer, Integer> graph = gridGraph(10, 12);
+      ContractionHierarchy<Integer> hierarchy = ContractionHierarchy.of(graph);
+
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      hierarchy.writeTo(new DataOutputStream(bytes), (output, vertex) -> output.writeInt(vertex));
+      ContractionHierarchy<Integer> copy = ContractionHierarchy.readFrom(
+          new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), DataInput::readInt);
+
+      assertEquals(hierarchy.numberOfVertices(), copy.numberOfVertices());
+      assertEquals(hierarchy.numberOfArcs(), copy.numberOfArcs());
+      assertEquals(hierarchy.numberOfShortcuts(), copy.numberOfShortcuts());
+      assertSameAsDijkstra(graph, copy, 5);
+    }
+
+    @Test
+    @DisplayName("rejects input that is not an index")
+    void badInput() {
+      byte[] bytes = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11};
+      assertThrows(IOException.class, () -> ContractionHierarchy.readFrom(
+          new DataInputStream(new ByteArrayInputStream(bytes)), DataInput::readInt));
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package org.uma.ed.datastructures.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.dictionary.Dictionary;
+
+@DisplayName("Test cases for class DeltaStepping")
+class DeltaSteppingTest {
+
+  private static ForkJoinPool pool;
+
+  @BeforeAll
+  static void createPool() {
+    pool = new ForkJoinPool(4);
+  }
+
+  @AfterAll
+  static void shutdownPool() {
+    pool.shutdown();
+  }
+
+  private static void assertSameAsDijkstra(CSRGraph<Integer> graph, int source, Dictionary<Integer, Integer> costs) {
+    Dictionary<Integer, Integer> expected = Dijkstra.dijkstra(graph.asWeightedGraph(), source);
+    assertEquals(expected.size(), costs.size());
+    for (int v = 0; v < graph.numberOfVertices(); v++) {
+      assertEquals(expected.valueOf(v), costs.valueOf(v));
+    }
+  }
+
+  @Nested
+  @DisplayName("On a small graph")
+  class TestCasesForSmallGraph {
+
+    @Test
+    @DisplayName("computes costs of shortest paths to reachable vertices")
+    void costs() {
+      // 0 -4- 1, 0 -1- 2, 2 -2- 1, 1 -5- 3, 2 -8- 3, 4 -3- 5
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(6, new int[]{0, 0, 2, 1, 2, 4}, new int[]{1, 2, 1, 3, 3, 5},
+          new int[]{4, 1, 2, 5, 8, 3}, false);
+
+      Dictionary<Integer, Integer> costs = DeltaStepping.deltaStepping(graph, 0, 2, pool);
+
+      assertEquals(4, costs.size());
+      assertEquals(0, costs.valueOf(0));
+      assertEquals(3, costs.valueOf(1));
+      assertEquals(1, costs.valueOf(2));
+      assertEquals(8, costs.valueOf(3));
+      assertNull(costs.valueOf(4));
+      assertArrayEquals(new int[]{0, 3, 1, 8, -1, -1}, DeltaStepping.costs(graph, 0, 2, pool));
+    }
+
+    @Test
+    @DisplayName("follows arc directions in a directed graph")
+    void directed() {
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(3, new int[]{0, 1, 2}, new int[]{1, 2, 0},
+          new int[]{5, 5, 1}, true);
+
+      assertArrayEquals(new int[]{0, 5, 10}, DeltaStepping.costs(graph, 0, 3, pool));
+      assertArrayEquals(new int[]{1, 6, 0}, DeltaStepping.costs(graph, 2, 3, pool));
+    }
+
+    @Test
+    @DisplayName("throws an exception on invalid arguments")
+    void invalid() {
+      CSRGraph<Integer> unweighted = CSRGraph.fromArcs(2, new int[]{0}, new int[]{1}, null, false);
+      CSRGraph<Integer> negative = CSRGraph.fromArcs(2, new int[]{0}, new int[]{1}, new int[]{-1}, false);
+      CSRGraph<Integer> weighted = CSRGraph.fromArcs(2, new int[]{0}, new int[]{1}, new int[]{1}, false);
+      CSRGraph<Integer> heavy = CSRGraph.fromArcs(2, new int[]{0}, new int[]{1}, new int[]{1 << 30}, true);
+
+      assertThrows(GraphException.class, () -> DeltaStepping.deltaStepping(unweighted, 0));
+      assertThrows(GraphException.class, () -> DeltaStepping.deltaStepping(negative, 0));
+      assertThrows(GraphException.class, () -> DeltaStepping.deltaStepping(weighted, 7));
+      assertThrows(IllegalArgumentException.class, () -> DeltaStepping.deltaStepping(weighted, 0, 0, pool));
+      assertThrows(IllegalArgumentException.class, () -> DeltaStepping.deltaStepping(heavy, 0, 1, pool));
+      assertArrayEquals(new int[]{0, 1 << 30}, DeltaStepping.costs(heavy, 0, 1 << 11, pool));
+    }
+  }
+
+  @Nested
+  @DisplayName("On graphs with very large weights")
+  class TestCasesForLargeWeights {
+
+    @Test
+    @DisplayName("ignores paths whose cost does not fit in an int if cheaper paths exist")
+    void cheaperPath() {
+      int big = Integer.MAX_VALUE - 10;
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(3, new int[]{0, 1, 0}, new int[]{1, 2, 2},
+          new int[]{big, 100, 5}, true);
+      assertArrayEquals(new int[]{0, big, 5}, DeltaStepping.costs(graph, 0, 1 << 12, pool));
+    }
+
+    @Test
+    @DisplayName("throws an exception if the cost of some shortest path does not fit in an int")
+    void overflow() {
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(3, new int[]{0, 1}, new int[]{1, 2},
+          new int[]{1 << 30, 1 << 30}, true);
+      assertThrows(GraphException.class, () -> DeltaStepping.costs(graph, 0, 1 << 11, pool));
+    }
+  }
+
+  @Nested
+  @DisplayName("On random graphs")
+  class TestCasesForRandomGraphs {
+
+    @Test
+    @DisplayName("agrees with Dijkstra for several values of delta")
+    void sameAsDijkstra() {
+      CSRGraph<Integer> graph = CSRGraphTest.randomGraph(20_000, 80_000, false, 100, 1);
+      assertSameAsDijkstra(graph, 0, DeltaStepping.deltaStepping(graph, 0, 1, pool));
+      assertSameAsDijkstra(graph, 17, DeltaStepping.deltaStepping(graph, 17, 30, pool));
+      assertSameAsDijkstra(graph, 42, DeltaStepping.deltaStepping(graph, 42, 1_000_000, pool));
+      assertSameAsDijkstra(graph, 99, DeltaStepping.deltaStepping(graph, 99));
+    }
+  }
+}
@@ -0,0 +1,238 @@
+package org.uma.ed.datastructures.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.dictionary.Dictionary;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+import org.uma.ed.datastructures.tuple.Tuple2;
+
+@DisplayName("Test cases for class Dijkstra")
+class DijkstraTest {
+
+  private static WeightedGraph<String, Integer> weightedGraph() {
+    Set<String> vertices = JDKHashSet.of("a", "b", "c", "d", "e");
+    Set<WeightedEdge<String, Integer>> edges = JDKHashSet.of(
+        WeightedEdge.of("a", "b", 4), WeightedEdge.of("a", "c", 1), WeightedEdge.of("c", "b", 2),
+        WeightedEdge.of("b", "d", 5));
+    return DictionaryWeightedGraph.of(vertices, edges);
+  }
+
+  @Nested
+  @DisplayName("With Integer weights")
+  class TestCasesForIntegerWeights {
+
+    @Test
+    @DisplayName("computes costs of shortest paths to reachable vertices")
+    void costs() {
+      Dictionary<String, Integer> costs = Dijkstra.dijkstra(weightedGraph(), "a");
+      assertEquals(4, costs.size());
+      assertEquals(0, costs.valueOf("a"));
+      assertEquals(3, costs.valueOf("b"));
+      assertEquals(1, costs.valueOf("c"));
+      assertEquals(8, costs.valueOf("d"));
+      assertFalse(costs.isDefinedAt("e"));
+    }
+
+    @Test
+    @DisplayName("computes a shortest path tree")
+    void shortestPathTree() {
+      ShortestPathTree<String> tree = Dijkstra.shortestPathTree(weightedGraph(), "a");
+      assertEquals("a", tree.source());
+      assertEquals(8, tree.distanceTo("d"));
+      assertNull(tree.distanceTo("e"));
+      assertTrue(tree.isReachable("b"));
+      assertFalse(tree.isReachable("e"));
+      assertEquals(JDKHashSet.of("a", "b", "c", "d"), JDKHashSet.from(tree.reachableVertices()));
+      assertEquals(JDKArrayList.of("a", "c", "b", "d"), JDKArrayList.from(tree.pathTo("d")));
+      assertEquals(JDKArrayList.of("a"), JDKArrayList.from(tree.pathTo("a")));
+      assertTrue(tree.pathTo("e").isEmpty());
+    }
+
+    @Test
+    @DisplayName("computes shortest paths to reachable vertices")
+    void paths() {
+      Dictionary<String, Tuple2<Integer, List<String>>> paths = Dijkstra.dijkstraPaths(weightedGraph(), "d");
+      assertEquals(4, paths.size());
+      assertEquals(7, paths.valueOf("c").first());
+      assertEquals(JDKArrayList.of("d", "b", "c"), JDKArrayList.from(paths.valueOf("c").second()));
+      assertEquals(JDKArrayList.of("d", "b", "c", "a"), JDKArrayList.from(paths.valueOf("a").second()));
+      assertFalse(paths.isDefinedAt("e"));
+    }
+
+    @Test
+    @DisplayName("agrees with a reference on random graphs")
+    void randomGraphs() {
+      for (long seed = 0; seed < 3; seed++) {
+        WeightedGraph<Integer, Integer> graph = BidirectionalDijkstraTest.randomGraph(200, 400, seed);
+        ShortestPathTree<Integer> tree = Dijkstra.shortestPathTree(graph, 0);
+        for (int v = 0; v < 200; v++) {
+          BidirectionalDijkstraTest.assertPath(graph, 0, v, Tuple2.of(tree.distanceTo(v), tree.pathTo(v)));
+          assertEquals(BidirectionalDijkstraTest.referenceCost(graph, 0, v), tree.distanceTo(v));
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("throws an exception if source is not in the graph")
+    void missingSource() {
+      assertThrows(GraphException.class, () -> Dijkstra.shortestPathTree(weightedGraph(), "z"));
+    }
+  }
+
+  @Nested
+  @DisplayName("With long costs")
+  class TestCasesForLongCosts {
+
+    @Test
+    @DisplayName("computes costs of shortest paths to reachable vertices")
+    void costs() {
+      Dictionary<String, Long> costs = Dijkstra.dijkstraLong(weightedGraph(), "a", weight -> weight);
+      assertEquals(4, costs.size());
+      assertEquals(0L, costs.valueOf("a"));
+      assertEquals(3L, costs.valueOf("b"));
+      assertEquals(1L, costs.valueOf("c"));
+      assertEquals(8L, costs.valueOf("d"));
+      assertFalse(costs.isDefinedAt("e"));
+    }
+
+    @Test
+    @DisplayName("does not overflow with large weights")
+    void largeWeights() {
+      Dictionary<String, Long> costs = Dijkstra.dijkstraLong(weightedGraph(), "a", weight -> weight * 1_000_000_000_000L);
+      assertEquals(8_000_000_000_000L, costs.valueOf("d"));
+    }
+
+    @Test
+    @DisplayName("agrees with a reference on random graphs")
+    void randomGraphs() {
+      for (long seed = 0; seed < 3; seed++) {
+        WeightedGraph<Integer, Integer> graph = BidirectionalDijkstraTest.randomGraph(200, 400, seed);
+        Dictionary<Integer, Long> costs = Dijkstra.dijkstraLong(graph, 0, weight -> weight);
+        for (int v = 0; v < 200; v++) {
+          assertEquals(BidirectionalDijkstraTest.referenceCost(graph, 0, v), costs.valueOf(v));
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("throws an exception on missing source or negative costs")
+    void errors() {
+      assertThrows(GraphException.class, () -> Dijkstra.dijkstraLong(weightedGraph(), "z", weight -> weight));
+      assertThrows(GraphException.class, () -> Dijkstra.dijkstraLong(weightedGraph(), "a", weight -> -weight));
+    }
+  }
+
+  @Nested
+  @DisplayName("With double costs")
+  class TestCasesForDoubleCosts {
+
+    @Test
+    @DisplayName("computes costs of shortest paths to reachable vertices")
+    void costs() {
+      Dictionary<String, Double> costs = Dijkstra.dijkstraDouble(weightedGraph(), "d", weight -> weight / 4.0);
+      assertEquals(4, costs.size());
+      assertEquals(0.0, costs.valueOf("d"));
+      assertEquals(1.25, costs.valueOf("b"));
+      assertEquals(1.75, costs.valueOf("c"));
+      assertEquals(2.0, costs.valueOf("a"));
+      assertFalse(costs.isDefinedAt("e"));
+    }
+
+    @Test
+    @DisplayName("throws an exception on missing source or invalid costs")
+    void errors() {
+      assertThrows(GraphException.class, () -> Dijkstra.dijkstraDouble(weightedGraph(), "z", weight -> weight));
+      assertThrows(GraphException.class, () -> Dijkstra.dijkstraDouble(weightedGraph(), "a", weight -> -1.0));
+      assertThrows(GraphException.class, () -> Dijkstra.dijkstraDouble(weightedGraph(), "a", weight -> Double.NaN));
+    }
+  }
+
+  @Nested
+  @DisplayName("Over a CSRGraph")
+  class TestCasesForCSRGraph {
+
+    @Test
+    @DisplayName("computes costs of shortest paths indexed by identifier")
+    void costs() {
+      CSRGraph<String> graph = CSRGraph.of(weightedGraph());
+      long[] costs = Dijkstra.costs(graph, "a");
+      assertEquals(0L, costs[graph.idOf("a")]);
+      assertEquals(3L, costs[graph.idOf("b")]);
+      assertEquals(1L, costs[graph.idOf("c")]);
+      assertEquals(8L, costs[graph.idOf("d")]);
+      assertEquals(-1L, costs[graph.idOf("e")]);
+
+      Dictionary<String, Long> dictionary = Dijkstra.dijkstraLong(graph, "a");
+      assertEquals(4, dictionary.size());
+      assertEquals(8L, dictionary.valueOf("d"));
+      assertFalse(dictionary.isDefinedAt("e"));
+    }
+
+    @Test
+    @DisplayName("computes shortest path trees")
+    void shortestPathTree() {
+      ShortestPathTree<String> tree = Dijkstra.shortestPathTree(CSRGraph.of(weightedGraph()), "d");
+      assertEquals(8, tree.distanceTo("a"));
+      assertEquals(JDKArrayList.of("d", "b", "c", "a"), JDKArrayList.from(tree.pathTo("a")));
+      assertEquals(JDKArrayList.of("d"), JDKArrayList.from(tree.pathTo("d")));
+      assertEquals(4, tree.costs().size());
+
+      for (long seed = 0; seed < 3; seed++) {
+        WeightedGraph<Integer, Integer> weightedGraph = BidirectionalDijkstraTest.randomGraph(300, 600, seed);
+        Dictionary<Integer, Integer> expected = Dijkstra.dijkstra(weightedGraph, 7);
+        ShortestPathTree<Integer> randomTree = Dijkstra.shortestPathTree(CSRGraph.of(weightedGraph), 7);
+        for (int v = 0; v < 300; v++) {
+          assertEquals(expected.valueOf(v), randomTree.distanceTo(v));
+          BidirectionalDijkstraTest.assertPath(weightedGraph, 7, v,
+              Tuple2.of(randomTree.distanceTo(v), randomTree.pathTo(v)));
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("computes costs with double weights")
+    void doubleWeights() {
+      CSRGraph<String> graph = CSRGraph.withDoubleWeights(weightedGraph(), weight -> weight / 4.0);
+      Dictionary<String, Double> costs = Dijkstra.dijkstraDouble(graph, "d");
+      assertEquals(4, costs.size());
+      assertEquals(0.0, costs.valueOf("d"));
+      assertEquals(1.25, costs.valueOf("b"));
+      assertEquals(1.75, costs.valueOf("c"));
+      assertEquals(2.0, costs.valueOf("a"));
+      assertFalse(costs.isDefinedAt("e"));
+    }
+
+    @Test
+    @DisplayName("agrees with a reference on random graphs")
+    void randomGraphs() {
+      for (long seed = 0; seed < 3; seed++) {
+        WeightedGraph<Integer, Integer> weightedGraph = BidirectionalDijkstraTest.randomGraph(200, 400, seed);
+        CSRGraph<Integer> graph = CSRGraph.of(weightedGraph);
+        Dictionary<Integer, Long> costs = Dijkstra.dijkstraLong(graph, 0);
+        Dictionary<Integer, Double> doubleCosts = Dijkstra.dijkstraDouble(graph, 0);
+        for (int v = 0; v < 200; v++) {
+          long expected = BidirectionalDijkstraTest.referenceCost(weightedGraph, 0, v);
+          assertEquals(expected, costs.valueOf(v));
+          assertEquals((double) expected, doubleCosts.valueOf(v));
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("throws an exception on missing source, missing weights or negative weights")
+    void errors() {
+      assertThrows(GraphException.class, () -> Dijkstra.costs(CSRGraph.of(weightedGraph()), "z"));
+      CSRGraph<Integer> negative = CSRGraph.fromArcs(2, new int[] {0}, new int[] {1}, new int[] {-1}, true);
+      assertThrows(GraphException.class, () -> Dijkstra.dijkstraLong(negative, 0));
+      assertThrows(GraphException.class, () -> Dijkstra.dijkstraDouble(negative, 0));
+      assertThrows(GraphException.class, () -> Dijkstra.shortestPathTree(negative, 0));
+      assertThrows(GraphException.class, () -> Dijkstra.shortestPathTree(CSRGraph.of(weightedGraph()), "z"));
+    }
+  }
+}
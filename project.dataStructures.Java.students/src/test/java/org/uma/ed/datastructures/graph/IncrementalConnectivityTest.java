@@ -0,0 +1,103 @@
+package org.uma.ed.datastructures.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.set.Set;
+
+@DisplayName("Test cases for class IncrementalConnectivity")
+class IncrementalConnectivityTest {
+
+  @Nested
+  @DisplayName("When created")
+  class TestCasesForCreation {
+
+    @Test
+    @DisplayName("empty has no vertices")
+    void empty() {
+      IncrementalConnectivity<String> connectivity = IncrementalConnectivity.empty();
+
+      assertEquals(0, connectivity.numberOfVertices());
+      assertEquals(0, connectivity.numberOfComponents());
+    }
+
+    @Test
+    @DisplayName("from vertices has a component per vertex")
+    void fromVertices() {
+      IncrementalConnectivity<String> connectivity = IncrementalConnectivity.from(JDKArrayList.of("a", "b", "c", "a"));
+
+      assertEquals(3, connectivity.numberOfVertices());
+      assertEquals(3, connectivity.numberOfComponents());
+      assertFalse(connectivity.areConnected("a", "b"));
+      assertTrue(connectivity.areConnected("c", "c"));
+    }
+  }
+
+  @Nested
+  @DisplayName("When adding edges")
+  class TestCasesForAddEdge {
+
+    @Test
+    @DisplayName("components are joined")
+    void join() {
+      IncrementalConnectivity<String> connectivity = IncrementalConnectivity.from(JDKArrayList.of("a", "b", "c", "d", "e"));
+
+      assertTrue(connectivity.addEdge("a", "b"));
+      assertTrue(connectivity.addEdge("c", "d"));
+      assertFalse(connectivity.addEdge("b", "a"));
+      assertEquals(3, connectivity.numberOfComponents());
+      assertTrue(connectivity.areConnected("b", "a"));
+      assertFalse(connectivity.areConnected("a", "c"));
+
+      assertTrue(connectivity.addEdge("d", "a"));
+      assertEquals(2, connectivity.numberOfComponents());
+      assertTrue(connectivity.areConnected("b", "c"));
+      assertEquals(4, connectivity.componentSize("c"));
+      assertEquals(1, connectivity.componentSize("e"));
+      assertEquals(connectivity.representative("a"), connectivity.representative("c"));
+    }
+
+    @Test
+    @DisplayName("agrees with connected components of the same graph")
+    void sameAsComponents() {
+      Random random = new Random(0);
+      int n = 500;
+      int[] sources = new int[300];
+      int[] targets = new int[300];
+      IncrementalConnectivity<Integer> connectivity = IncrementalConnectivity.empty();
+      for (int v = 0; v < n; v++) {
+        connectivity.addVertex(v);
+      }
+      for (int e = 0; e < sources.length; e++) {
+        sources[e] = random.nextInt(n);
+        targets[e] = (sources[e] + 1 + random.nextInt(n - 1)) % n;
+        connectivity.addEdge(sources[e], targets[e]);
+      }
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(n, sources, targets, null, false);
+
+      List<Set<Integer>> components = Components.connectedComponents(graph);
+      assertEquals(components.size(), connectivity.numberOfComponents());
+      for (Set<Integer> component : components) {
+        Integer first = component.iterator().next();
+        for (Integer v : component) {
+          assertTrue(connectivity.areConnected(first, v));
+        }
+        assertEquals(component.size(), connectivity.componentSize(first));
+      }
+    }
+
+    @Test
+    @DisplayName("throws an exception if a vertex has not been added")
+    void missingVertex() {
+      IncrementalConnectivity<String> connectivity = IncrementalConnectivity.from(JDKArrayList.of("a"));
+
+      assertThrows(GraphException.class, () -> connectivity.addEdge("a", "z"));
+      assertThrows(GraphException.class, () -> connectivity.areConnected("z", "a"));
+    }
+  }
+}
@@ -0,0 +1,101 @@
+package org.uma.ed.datastructures.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+
+@DisplayName("Test cases for class IndexedTraversal")
+class IndexedTraversalTest {
+
+  private static CSRGraph<String> smallGraph() {
+    Set<String> vertices = JDKHashSet.of("a", "b", "c", "d", "e");
+    Set<WeightedEdge<String, Integer>> edges = JDKHashSet.of(
+        WeightedEdge.of("a", "b", 4), WeightedEdge.of("a", "c", 1), WeightedEdge.of("c", "b", 2),
+        WeightedEdge.of("b", "d", 5));
+    return CSRGraph.of(DictionaryWeightedGraph.of(vertices, edges));
+  }
+
+  private static <V> JDKArrayList<List<V>> paths(Iterable<List<V>> paths) {
+    JDKArrayList<List<V>> list = JDKArrayList.empty();
+    for (List<V> path : paths) {
+      list.append(JDKArrayList.from(path));
+    }
+    return list;
+  }
+
+  @Nested
+  @DisplayName("An IndexedBreadthFirstTraversal")
+  class TestCasesForBreadthFirst {
+
+    @Test
+    @DisplayName("visits vertices and paths as a BreadthFirstTraversal")
+    void sameAsBreadthFirstTraversal() {
+      CSRGraph<String> graph = smallGraph();
+      IndexedBreadthFirstTraversal<String> traversal = IndexedBreadthFirstTraversal.of(graph, "d");
+      assertEquals(JDKArrayList.from(BreadthFirstTraversal.of(graph, "d").vertices()),
+          JDKArrayList.from(traversal.vertices()));
+      assertEquals(paths(BreadthFirstTraversal.of(graph, "d").paths()), paths(traversal.paths()));
+      // iterating again gives the same result
+      assertEquals(JDKArrayList.from(BreadthFirstTraversal.of(graph, "d").vertices()),
+          JDKArrayList.from(traversal.vertices()));
+    }
+
+    @Test
+    @DisplayName("visits vertices as a BreadthFirstTraversal on random graphs")
+    void randomGraphs() {
+      for (long seed = 0; seed < 4; seed++) {
+        CSRGraph<Integer> graph = CSRGraphTest.randomGraph(2_000, 4_000, seed % 2 == 0, seed);
+        assertEquals(JDKArrayList.from(BreadthFirstTraversal.of(graph, 0).vertices()),
+            JDKArrayList.from(IndexedBreadthFirstTraversal.of(graph, 0).vertices()));
+        assertEquals(paths(BreadthFirstTraversal.of(graph, 1).paths()),
+            paths(IndexedBreadthFirstTraversal.of(graph, 1).paths()));
+      }
+    }
+
+    @Test
+    @DisplayName("only visits the source in a graph without edges")
+    void isolatedSource() {
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(3, new int[0], new int[0], null, false);
+      assertEquals(JDKArrayList.of(1), JDKArrayList.from(IndexedBreadthFirstTraversal.of(graph, 1).vertices()));
+    }
+  }
+
+  @Nested
+  @DisplayName("An IndexedDepthFirstTraversal")
+  class TestCasesForDepthFirst {
+
+    @Test
+    @DisplayName("visits vertices and paths as a DepthFirstTraversal")
+    void sameAsDepthFirstTraversal() {
+      CSRGraph<String> graph = smallGraph();
+      assertEquals(JDKArrayList.from(DepthFirstTraversal.of(graph, "a").vertices()),
+          JDKArrayList.from(IndexedDepthFirstTraversal.of(graph, "a").vertices()));
+      assertEquals(paths(DepthFirstTraversal.of(graph, "a").paths()),
+          paths(IndexedDepthFirstTraversal.of(graph, "a").paths()));
+    }
+
+    @Test
+    @DisplayName("visits vertices as a DepthFirstTraversal on random graphs")
+    void randomGraphs() {
+      for (long seed = 0; seed < 4; seed++) {
+        CSRGraph<Integer> graph = CSRGraphTest.randomGraph(2_000, 4_000, seed % 2 == 0, seed);
+        assertEquals(JDKArrayList.from(DepthFirstTraversal.of(graph, 0).vertices()),
+            JDKArrayList.from(IndexedDepthFirstTraversal.of(graph, 0).vertices()));
+        assertEquals(paths(DepthFirstTraversal.of(graph, 1).paths()),
+            paths(IndexedDepthFirstTraversal.of(graph, 1).paths()));
+      }
+    }
+
+    @Test
+    @DisplayName("throws an exception if source is not in the graph")
+    void missingSource() {
+      assertThrows(GraphException.class, () -> IndexedDepthFirstTraversal.of(smallGraph(), "z").vertices().iterator());
+    }
+  }
+}
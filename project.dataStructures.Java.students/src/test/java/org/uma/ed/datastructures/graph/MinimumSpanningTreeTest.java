@@ -0,0 +1,109 @@
+package org.uma.ed.datastructures.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+
+@DisplayName("Test cases for class MinimumSpanningTree")
+class MinimumSpanningTreeTest {
+
+  private static WeightedGraph<String, Integer> weightedGraph() {
+    Set<String> vertices = JDKHashSet.of("a", "b", "c", "d", "e", "f", "g");
+    Set<WeightedEdge<String, Integer>> edges = JDKHashSet.of(
+        WeightedEdge.of("a", "b", 7), WeightedEdge.of("a", "d", 5), WeightedEdge.of("b", "c", 8),
+        WeightedEdge.of("b", "d", 9), WeightedEdge.of("b", "e", 7), WeightedEdge.of("c", "e", 5),
+        WeightedEdge.of("d", "e", 15), WeightedEdge.of("d", "f", 6), WeightedEdge.of("e", "f", 8),
+        WeightedEdge.of("e", "g", 9), WeightedEdge.of("f", "g", 11));
+    return DictionaryWeightedGraph.of(vertices, edges);
+  }
+
+  private static Set<WeightedEdge<String, Integer>> expectedTree() {
+    return JDKHashSet.of(
+        WeightedEdge.of("a", "b", 7), WeightedEdge.of("a", "d", 5), WeightedEdge.of("b", "e", 7),
+        WeightedEdge.of("c", "e", 5), WeightedEdge.of("d", "f", 6), WeightedEdge.of("e", "g", 9));
+  }
+
+  private static <V> int totalWeight(Set<WeightedEdge<V, Integer>> edges) {
+    int total = 0;
+    for (WeightedEdge<V, Integer> edge : edges) {
+      total += edge.weight();
+    }
+    return total;
+  }
+
+  @Nested
+  @DisplayName("Kruskal's algorithm")
+  class TestCasesForKruskal {
+
+    @Test
+    @DisplayName("computes a minimum spanning tree")
+    void tree() {
+      assertEquals(expectedTree(), MinimumSpanningTree.kruskal(weightedGraph()));
+    }
+
+    @Test
+    @DisplayName("computes a maximum spanning tree with a reversed comparator")
+    void reversed() {
+      Set<WeightedEdge<String, Integer>> tree = MinimumSpanningTree.kruskal(weightedGraph(), Comparator.reverseOrder());
+      assertEquals(6, tree.size());
+      assertEquals(59, totalWeight(tree));
+    }
+
+    @Test
+    @DisplayName("computes a spanning forest of a disconnected graph")
+    void forest() {
+      WeightedGraph<String, Integer> graph = weightedGraph();
+      graph.addVertex("x");
+      graph.addVertex("y");
+      graph.addEdge("x", "y", 3);
+
+      Set<WeightedEdge<String, Integer>> forest = MinimumSpanningTree.kruskal(graph);
+      Set<WeightedEdge<String, Integer>> expected = expectedTree();
+      expected.insert(WeightedEdge.of("x", "y", 3));
+      assertEquals(expected, forest);
+    }
+  }
+
+  @Nested
+  @DisplayName("Prim's algorithm")
+  class TestCasesForPrim {
+
+    @Test
+    @DisplayName("computes a minimum spanning tree")
+    void tree() {
+      assertEquals(expectedTree(), MinimumSpanningTree.prim(weightedGraph()));
+    }
+
+    @Test
+    @DisplayName("computes a spanning forest of a disconnected graph")
+    void forest() {
+      WeightedGraph<String, Integer> graph = weightedGraph();
+      graph.addVertex("x");
+      graph.addVertex("y");
+      graph.addVertex("z");
+      graph.addEdge("x", "y", 3);
+
+      Set<WeightedEdge<String, Integer>> forest = MinimumSpanningTree.prim(graph);
+      assertEquals(7, forest.size());
+      assertTrue(forest.contains(WeightedEdge.of("y", "x", 3)));
+    }
+
+    @Test
+    @DisplayName("agrees with Kruskal's algorithm on random graphs")
+    void sameAsKruskal() {
+      for (long seed = 0; seed < 3; seed++) {
+        WeightedGraph<Integer, Integer> graph = BidirectionalDijkstraTest.randomGraph(400, 1500, seed);
+        Set<WeightedEdge<Integer, Integer>> kruskal = MinimumSpanningTree.kruskal(graph);
+        Set<WeightedEdge<Integer, Integer>> prim = MinimumSpanningTree.prim(graph);
+        assertEquals(399, kruskal.size());
+        assertEquals(399, prim.size());
+        assertEquals(totalWeight(kruskal), totalWeight(prim));
+      }
+    }
+  }
+}
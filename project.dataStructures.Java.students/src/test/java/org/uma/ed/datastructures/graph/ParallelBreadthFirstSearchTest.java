@@ -0,0 +1,156 @@
+package org.uma.ed.datastructures.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.set.JDKHashSet;
+import org.uma.ed.datastructures.set.Set;
+
+@DisplayName("Test cases for class ParallelBreadthFirstSearch")
+class ParallelBreadthFirstSearchTest {
+
+  private static ForkJoinPool pool;
+
+  @BeforeAll
+  static void createPool() {
+    pool = new ForkJoinPool(4);
+  }
+
+  @AfterAll
+  static void shutdownPool() {
+    pool.shutdown();
+  }
+
+  private static int[] sequentialDistances(CSRGraph<?> graph, int source) {
+    int[] distances = new int[graph.numberOfVertices()];
+    Arrays.fill(distances, -1);
+    int[] queue = new int[graph.numberOfVertices()];
+    int head = 0, tail = 0;
+    distances[source] = 0;
+    queue[tail++] = source;
+    while (head < tail) {
+      int u = queue[head++];
+      for (int arc = graph.arcStart(u); arc < graph.arcEnd(u); arc++) {
+        int v = graph.arcTarget(arc);
+        if (distances[v] < 0) {
+          distances[v] = distances[u] + 1;
+          queue[tail++] = v;
+        }
+      }
+    }
+    return distances;
+  }
+
+  private static void assertValidTree(CSRGraph<Integer> graph, int source) {
+    ParallelBreadthFirstSearch.Result<Integer> result = ParallelBreadthFirstSearch.search(graph, source, pool);
+    int[] distances = result.distances();
+    int[] parents = result.parents();
+    assertArrayEquals(sequentialDistances(graph, source), distances);
+    for (int v = 0; v < graph.numberOfVertices(); v++) {
+      if (v == source) {
+        assertEquals(source, parents[v]);
+      } else if (distances[v] < 0) {
+        assertEquals(-1, parents[v]);
+      } else {
+        assertEquals(distances[parents[v]] + 1, distances[v]);
+        assertTrue(graph.arc(parents[v], v) >= 0);
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("On small graphs")
+  class TestCasesForSmallGraphs {
+
+    @Test
+    @DisplayName("computes distances, parents and paths")
+    void smallGraph() {
+      Set<String> vertices = JDKHashSet.of("a", "b", "c", "d", "e");
+      Set<WeightedEdge<String, Integer>> edges = JDKHashSet.of(
+          WeightedEdge.of("a", "b", 4), WeightedEdge.of("a", "c", 1), WeightedEdge.of("c", "b", 2),
+          WeightedEdge.of("b", "d", 5));
+      CSRGraph<String> csr = CSRGraph.of(DictionaryWeightedGraph.of(vertices, edges));
+      ParallelBreadthFirstSearch.Result<String> result = ParallelBreadthFirstSearch.search(csr, "d");
+      assertEquals("d", result.source());
+      assertEquals(0, result.distanceTo("d"));
+      assertEquals(1, result.distanceTo("b"));
+      assertEquals(2, result.distanceTo("a"));
+      assertEquals(2, result.distanceTo("c"));
+      assertFalse(result.isReachable("e"));
+      assertEquals(-1, result.distanceTo("e"));
+
+      List<String> path = result.pathTo("a");
+      assertEquals(JDKArrayList.of("d", "b", "a"), JDKArrayList.from(path));
+      assertTrue(result.pathTo("e").isEmpty());
+      assertEquals(JDKArrayList.of("d"), JDKArrayList.from(result.pathTo("d")));
+    }
+
+    @Test
+    @DisplayName("throws an exception if source is not in the graph")
+    void missingSource() {
+      CSRGraph<Integer> graph = CSRGraphTest.randomGraph(10, 20, false, 1);
+      assertThrows(GraphException.class, () -> ParallelBreadthFirstSearch.search(graph, 10));
+    }
+
+    @Test
+    @DisplayName("handles a graph with an isolated source")
+    void isolatedSource() {
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(3, new int[]{1}, new int[]{2}, null, false);
+      ParallelBreadthFirstSearch.Result<Integer> result = ParallelBreadthFirstSearch.search(graph, 0, pool);
+      assertArrayEquals(new int[]{0, -1, -1}, result.distances());
+      assertArrayEquals(new int[]{0, -1, -1}, result.parents());
+    }
+  }
+
+  @Nested
+  @DisplayName("On large random graphs")
+  class TestCasesForLargeGraphs {
+
+    @Test
+    @DisplayName("agrees with sequential search on undirected graphs")
+    void undirected() {
+      for (long seed = 0; seed < 4; seed++) {
+        CSRGraph<Integer> graph = CSRGraphTest.randomGraph(20_000, 100_000, false, seed);
+        assertValidTree(graph, (int) seed);
+      }
+    }
+
+    @Test
+    @DisplayName("agrees with sequential search on directed graphs")
+    void directed() {
+      for (long seed = 0; seed < 4; seed++) {
+        CSRGraph<Integer> graph = CSRGraphTest.randomGraph(20_000, 60_000, true, seed);
+        assertValidTree(graph, (int) seed);
+      }
+    }
+
+    @Test
+    @DisplayName("agrees with sequential search on sparse graphs with many components")
+    void sparse() {
+      CSRGraph<Integer> graph = CSRGraphTest.randomGraph(50_000, 30_000, false, 7);
+      assertValidTree(graph, 0);
+    }
+
+    @Test
+    @DisplayName("agrees with sequential search on long paths")
+    void path() {
+      int n = 10_000;
+      int[] sources = new int[n - 1];
+      int[] targets = new int[n - 1];
+      for (int i = 0; i < n - 1; i++) {
+        sources[i] = i;
+        targets[i] = i + 1;
+      }
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(n, sources, targets, null, false);
+      assertValidTree(graph, n / 2);
+    }
+  }
+}
@@ -0,0 +1,73 @@
+package org.uma.ed.datastructures.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+
+@DisplayName("Test cases for class TopologicalSort")
+class TopologicalSortTest {
+
+  @Nested
+  @DisplayName("On a directed acyclic graph")
+  class TestCasesForAcyclicGraph {
+
+    @Test
+    @DisplayName("returns vertices in Kahn's order")
+    void order() {
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(5,
+          new int[]{3, 3, 0, 1, 4}, new int[]{0, 1, 2, 2, 0}, null, true);
+
+      assertEquals(JDKArrayList.of(3, 4, 1, 0, 2), TopologicalSort.topologicalSort(graph));
+    }
+
+    @Test
+    @DisplayName("puts sources of edges before their destinations")
+    void edgesGoForward() {
+      int n = 1000;
+      int[] sources = new int[3 * n];
+      int[] targets = new int[3 * n];
+      Random random = new Random(0);
+      int[] permutation = new int[n];
+      for (int v = 0; v < n; v++) {
+        permutation[v] = v;
+      }
+      for (int v = n - 1; v > 0; v--) {
+        int w = random.nextInt(v + 1);
+        int tmp = permutation[v];
+        permutation[v] = permutation[w];
+        permutation[w] = tmp;
+      }
+      for (int e = 0; e < sources.length; e++) {
+        int u = random.nextInt(n - 1);
+        int v = u + 1 + random.nextInt(n - 1 - u);
+        sources[e] = permutation[u];
+        targets[e] = permutation[v];
+      }
+      CSRGraph<Integer> graph = CSRGraph.fromArcs(n, sources, targets, null, true);
+
+      List<Integer> order = TopologicalSort.topologicalSort(graph);
+
+      assertEquals(n, order.size());
+      int[] position = new int[n];
+      for (int i = 0; i < n; i++) {
+        position[order.get(i)] = i;
+      }
+      for (int e = 0; e < sources.length; e++) {
+        assertTrue(position[sources[e]] < position[targets[e]]);
+      }
+    }
+  }
+
+  @Test
+  @DisplayName("throws an exception on a graph with a cycle")
+  void cycle() {
+    CSRGraph<Integer> graph = CSRGraph.fromArcs(3, new int[]{0, 1, 2}, new int[]{1, 2, 1}, null, true);
+
+    assertThrows(GraphException.class, () -> TopologicalSort.topologicalSort(graph));
+  }
+}
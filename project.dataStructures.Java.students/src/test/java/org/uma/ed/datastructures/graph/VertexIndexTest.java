@@ -0,0 +1,65 @@
+package org.uma.ed.datastructures.graph;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+
+@DisplayName("Test cases for class VertexIndex")
+class VertexIndexTest {
+
+  @Nested
+  @DisplayName("A VertexIndex")
+  class TestCasesForVertexIndex {
+
+    @Test
+    @DisplayName("is empty when created")
+    void empty() {
+      VertexIndex<String> index = VertexIndex.empty();
+      assertEquals(0, index.size());
+      assertEquals(-1, index.idOf("a"));
+      assertFalse(index.contains("a"));
+      assertThrows(IndexOutOfBoundsException.class, () -> index.vertex(0));
+    }
+
+    @Test
+    @DisplayName("interns vertices with consecutive identifiers")
+    void intern() {
+      VertexIndex<String> index = VertexIndex.withCapacity(1);
+      assertEquals(0, index.intern("a"));
+      assertEquals(1, index.intern("b"));
+      assertEquals(0, index.intern("a"));
+      assertEquals(2, index.intern("c"));
+      assertEquals(3, index.size());
+      assertEquals(1, index.idOf("b"));
+      assertEquals("c", index.vertex(2));
+      assertTrue(index.contains("c"));
+      assertEquals("VertexIndex(a, b, c)", index.toString());
+    }
+
+    @Test
+    @DisplayName("can be created from an iterable")
+    void from() {
+      VertexIndex<Integer> index = VertexIndex.from(JDKArrayList.of(30, 10, 20, 10));
+      assertEquals(3, index.size());
+      assertEquals(0, index.idOf(30));
+      assertEquals(2, index.idOf(20));
+      for (int id = 0; id < index.size(); id++) {
+        assertEquals(id, index.idOf(index.vertex(id)));
+      }
+    }
+
+    @Test
+    @DisplayName("grows to hold many vertices")
+    void grows() {
+      VertexIndex<Integer> index = VertexIndex.empty();
+      for (int i = 0; i < 10_000; i++) {
+        assertEquals(i, index.intern(3 * i));
+      }
+      assertEquals(10_000, index.size());
+      assertEquals(29_997, index.vertex(9_999));
+    }
+  }
+}
@@ -0,0 +1,143 @@
+package org.uma.ed.datastructures.heap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test cases for class IndexedMinHeap")
+class IndexedMinHeapTest {
+
+  @Nested
+  @DisplayName("An IndexedMinHeap is created")
+  class CreationTests {
+
+    @Test
+    @DisplayName("empty with a given capacity")
+    void withCapacity() {
+      IndexedMinHeap heap = IndexedMinHeap.withCapacity(10);
+      assertTrue(heap.isEmpty());
+      assertEquals(0, heap.size());
+      assertEquals(10, heap.capacity());
+      assertFalse(heap.contains(3));
+    }
+
+    @Test
+    @DisplayName("and rejects a negative capacity")
+    void negativeCapacity() {
+      assertThrows(IllegalArgumentException.class, () -> IndexedMinHeap.withCapacity(-1));
+    }
+  }
+
+  @Nested
+  @DisplayName("When items are inserted")
+  class InsertionTests {
+
+    @Test
+    @DisplayName("the item with minimum priority is at the root")
+    void minimum() {
+      IndexedMinHeap heap = IndexedMinHeap.withCapacity(5);
+      heap.insertOrDecrease(3, 30);
+      heap.insertOrDecrease(1, 10);
+      heap.insertOrDecrease(4, 20);
+      assertEquals(3, heap.size());
+      assertEquals(1, heap.minimum());
+      assertEquals(10, heap.minimumPriority());
+      assertEquals(20, heap.priority(4));
+      assertTrue(heap.contains(3));
+    }
+
+    @Test
+    @DisplayName("priorities can only be decreased")
+    void decrease() {
+      IndexedMinHeap heap = IndexedMinHeap.withCapacity(5);
+      heap.insertOrDecrease(3, 30);
+      heap.insertOrDecrease(1, 10);
+      assertTrue(heap.insertOrDecrease(3, 5));
+      assertEquals(3, heap.minimum());
+      assertFalse(heap.insertOrDecrease(3, 7));
+      assertEquals(5, heap.minimumPriority());
+      assertEquals(2, heap.size());
+    }
+
+    @Test
+    @DisplayName("priorities can be updated in both directions")
+    void update() {
+      IndexedMinHeap heap = IndexedMinHeap.withCapacity(5);
+      heap.insertOrUpdate(0, 10);
+      heap.insertOrUpdate(1, 20);
+      heap.insertOrUpdate(2, 30);
+      heap.insertOrUpdate(0, 25);
+      assertEquals(1, heap.minimum());
+      heap.insertOrUpdate(2, 5);
+      assertEquals(2, heap.deleteMinimum());
+      assertEquals(1, heap.deleteMinimum());
+      assertEquals(0, heap.deleteMinimum());
+      assertTrue(heap.isEmpty());
+    }
+
+    @Test
+    @DisplayName("items must be in range")
+    void outOfRange() {
+      IndexedMinHeap heap = IndexedMinHeap.withCapacity(5);
+      assertThrows(IllegalArgumentException.class, () -> heap.insertOrDecrease(5, 1));
+      assertThrows(IllegalArgumentException.class, () -> heap.contains(-1));
+      assertThrows(IllegalArgumentException.class, () -> heap.priority(2));
+    }
+  }
+
+  @Nested
+  @DisplayName("When items are deleted")
+  class DeletionTests {
+
+    @Test
+    @DisplayName("they come out in order of priority")
+    void sorted() {
+      Random random = new Random(0);
+      int n = 1000;
+      IndexedMinHeap heap = IndexedMinHeap.withCapacity(n);
+      long[] priorities = new long[n];
+      for (int i = 0; i < 3 * n; i++) {
+        int item = random.nextInt(n);
+        long priority = random.nextInt(1_000_000);
+        if (heap.insertOrDecrease(item, priority)) {
+          priorities[item] = priority;
+        }
+      }
+      long previous = Long.MIN_VALUE;
+      while (!heap.isEmpty()) {
+        long priority = heap.minimumPriority();
+        int item = heap.deleteMinimum();
+        assertFalse(heap.contains(item));
+        assertEquals(priorities[item], priority);
+        assertTrue(previous <= priority);
+        previous = priority;
+      }
+    }
+
+    @Test
+    @DisplayName("and an item can be inserted again after being deleted")
+    void reinsert() {
+      IndexedMinHeap heap = IndexedMinHeap.withCapacity(3);
+      heap.insertOrDecrease(2, 1);
+      assertEquals(2, heap.deleteMinimum());
+      assertTrue(heap.insertOrDecrease(2, 9));
+      assertEquals(9, heap.minimumPriority());
+    }
+
+    @Test
+    @DisplayName("throws an exception on an empty heap")
+    void empty() {
+      IndexedMinHeap heap = IndexedMinHeap.withCapacity(3);
+      assertThrows(EmptyHeapException.class, heap::minimum);
+      assertThrows(EmptyHeapException.class, heap::minimumPriority);
+      assertThrows(EmptyHeapException.class, heap::deleteMinimum);
+      heap.insertOrDecrease(0, 1);
+      heap.clear();
+      assertTrue(heap.isEmpty());
+      assertFalse(heap.contains(0));
+    }
+  }
+}
@@ -6,9 +6,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.uma.ed.datastructures.list.JDKArrayList;
 import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.utils.iterator.SeekableIterator;
 
 import java.lang.reflect.Field;
 import java.util.Comparator;
+import java.util.Iterator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -145,6 +147,50 @@ class AVLTest {
       tree.inOrder().forEach(actual::append);
       assertEquals(expected.toString(), actual.toString());
     }
+    @Test @DisplayName("forEachInOrder() visits elements in ascending order")
+    void testForEachInOrder() {
+      List<Integer> expected = JDKArrayList.of(1, 3, 4, 6, 7, 8, 10, 13, 14);
+      List<Integer> actual = JDKArrayList.empty();
+      tree.forEachInOrder(actual::append);
+      assertEquals(expected.toString(), actual.toString());
+    }
+    @Test @DisplayName("forEachInOrder() allows queries and nested traversals from action")
+    void testForEachInOrderReentrant() {
+      List<Integer> actual = JDKArrayList.empty();
+      tree.forEachInOrder(key -> {
+        assertFalse(tree.contains(61));
+        assertEquals(9, JDKArrayList.from(tree.inOrder()).size());
+        actual.append(key);
+      });
+      assertEquals(JDKArrayList.of(1, 3, 4, 6, 7, 8, 10, 13, 14).toString(), actual.toString());
+    }
+    @Test @DisplayName("inOrderIterator() seeks forward to the smallest key greater than or equal to given one")
+    void testInOrderIteratorSeek() {
+      SeekableIterator<Integer> iterator = tree.inOrderIterator();
+      assertEquals(1, iterator.next());
+      iterator.seek(5);
+      assertEquals(6, iterator.next());
+      iterator.seek(6);
+      assertEquals(7, iterator.next());
+      iterator.seek(11);
+      assertEquals(13, iterator.next());
+      iterator.seek(20);
+      assertFalse(iterator.hasNext());
+    }
+    @Test @DisplayName("inOrder() iterates 100000 ascending keys in order")
+    void testInOrderLargeTree() {
+      SearchTree<Integer> large = AVL.empty();
+      int size = 100_000;
+      for (int key = 0; key < size; key++) {
+        large.insert(key);
+      }
+      int expected = 0;
+      Iterator<Integer> iterator = large.inOrder().iterator();
+      while (iterator.hasNext()) {
+        assertEquals(expected++, iterator.next());
+      }
+      assertEquals(size, expected);
+    }
   }
 
   // ==========================================================
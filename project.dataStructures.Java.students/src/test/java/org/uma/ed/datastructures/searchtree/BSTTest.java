@@ -6,9 +6,13 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.uma.ed.datastructures.list.JDKArrayList;
 import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.utils.iterator.SeekableIterator;
 
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.Comparator;
+import java.util.Iterator;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -264,6 +268,73 @@ class BSTTest {
       tree.postOrder().forEach(actual::append);
       assertEquals(expected, actual);
     }
+
+    @Test @DisplayName("forEachInOrder() visits elements in ascending order and leaves tree unchanged")
+    void testForEachInOrder() {
+      List<Integer> expected = JDKArrayList.of(1, 3, 4, 6, 7, 8, 10, 13, 14);
+      List<Integer> actual = JDKArrayList.empty();
+      tree.forEachInOrder(actual::append);
+      assertEquals(expected, actual);
+      assertEquals(JDKArrayList.of(8, 3, 1, 6, 4, 7, 10, 14, 13), JDKArrayList.from(tree.preOrder()));
+    }
+
+    @Test @DisplayName("forEachInOrder() leaves tree unchanged if action throws an exception")
+    void testForEachInOrderRestoresTreeOnException() {
+      List<Integer> actual = JDKArrayList.empty();
+      assertThrows(IllegalStateException.class, () -> tree.forEachInOrder(key -> {
+        if (key == 6) throw new IllegalStateException();
+        actual.append(key);
+      }));
+      assertEquals(JDKArrayList.of(1, 3, 4), actual);
+      assertEquals(JDKArrayList.of(8, 3, 1, 6, 4, 7, 10, 14, 13), JDKArrayList.from(tree.preOrder()));
+      assertEquals(9, tree.size());
+    }
+
+    @Test @DisplayName("forEachInOrder() allows queries and nested traversals from action")
+    void testForEachInOrderReentrant() {
+      List<Integer> actual = JDKArrayList.empty();
+      tree.forEachInOrder(key -> {
+        assertFalse(tree.contains(61));
+        assertEquals(JDKArrayList.of(1, 3, 4, 6, 7, 8, 10, 13, 14), JDKArrayList.from(tree.inOrder()));
+        actual.append(key);
+      });
+      assertEquals(JDKArrayList.of(1, 3, 4, 6, 7, 8, 10, 13, 14), actual);
+    }
+
+    @Test @DisplayName("inOrder() iterators in progress at the same time are independent")
+    void testInterleavedInOrderIterators() {
+      Iterator<Integer> abandoned = tree.inOrder().iterator();
+      assertEquals(1, abandoned.next());
+      Iterator<Integer> iterator1 = tree.inOrder().iterator();
+      Iterator<Integer> iterator2 = tree.inOrder().iterator();
+      List<Integer> actual1 = JDKArrayList.empty();
+      List<Integer> actual2 = JDKArrayList.empty();
+      while (iterator1.hasNext()) {
+        actual1.append(iterator1.next());
+        actual2.append(iterator2.next());
+      }
+      assertFalse(iterator2.hasNext());
+      assertEquals(JDKArrayList.of(1, 3, 4, 6, 7, 8, 10, 13, 14), actual1);
+      assertEquals(actual1, actual2);
+      assertEquals(actual1, JDKArrayList.from(tree.inOrder()));
+      assertEquals(3, abandoned.next());
+    }
+
+    @Test @DisplayName("inOrderIterator() seeks forward to the smallest key greater than or equal to given one")
+    void testInOrderIteratorSeek() {
+      SeekableIterator<Integer> iterator = tree.inOrderIterator();
+      assertEquals(1, iterator.next());
+      iterator.seek(5);
+      assertEquals(6, iterator.next());
+      iterator.seek(6);
+      assertEquals(7, iterator.next());
+      iterator.seek(8);
+      assertEquals(8, iterator.next());
+      iterator.seek(11);
+      assertEquals(13, iterator.next());
+      assertEquals(14, iterator.next());
+      assertFalse(iterator.hasNext());
+    }
   }
 
   // ==========================================================
@@ -310,6 +381,47 @@ class BSTTest {
       validateBSTProperty(getField(node, "right"), comparator, key, max);
     }
 
+    /**
+     * Builds a degenerate tree with keys {@code 0...size-1} where every node is the left child of its
+     * parent. Nodes are linked directly, as inserting descending keys would take quadratic time.
+     */
+    private BST<Integer> degenerateTree(int size) throws ReflectiveOperationException {
+      BST<Integer> tree = BST.empty();
+      Class<?> nodeClass = Class.forName(BST.class.getName() + "$Node");
+      Constructor<?> constructor = nodeClass.getDeclaredConstructor(Object.class);
+      constructor.setAccessible(true);
+      Field leftField = nodeClass.getDeclaredField("left");
+      leftField.setAccessible(true);
+      Object root = null;
+      for (int key = 0; key < size; key++) {
+        Object node = constructor.newInstance(key);
+        leftField.set(node, root);
+        root = node;
+      }
+      Field rootField = BST.class.getDeclaredField("root");
+      rootField.setAccessible(true);
+      rootField.set(tree, root);
+      Field sizeField = BST.class.getDeclaredField("size");
+      sizeField.setAccessible(true);
+      sizeField.set(tree, size);
+      return tree;
+    }
+
+    @Test
+    @DisplayName("inOrder() iterates a degenerate tree of 100000 keys in linear time")
+    void inOrderIteratesDegenerateTreeInLinearTime() throws ReflectiveOperationException {
+      int size = 100_000;
+      BST<Integer> tree = degenerateTree(size);
+      assertTimeout(Duration.ofSeconds(2), () -> {
+        int expected = 0;
+        Iterator<Integer> iterator = tree.inOrder().iterator();
+        while (iterator.hasNext()) {
+          assertEquals(expected++, iterator.next());
+        }
+        assertEquals(size, expected);
+      });
+    }
+
     @Test
     @DisplayName("a sequence of random inserts and deletes should always maintain the BST property")
     void randomOperationsMaintainBSTProperty() throws ReflectiveOperationException {
@@ -0,0 +1,199 @@
+package org.uma.ed.datastructures.searchtree;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.dictionary.AVLDictionary;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.set.AVLSet;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Test cases for class PersistentAVL")
+class PersistentAVLTest {
+
+  @Nested
+  @DisplayName("A PersistentAVL tree is created")
+  class CreationTests {
+    @Test @DisplayName("by calling the constructor with a comparator")
+    void constructorWithComparator() {
+      SearchTree<Integer> tree = new PersistentAVL<Integer>(Comparator.naturalOrder());
+      assertTrue(tree.isEmpty());
+    }
+    @Test @DisplayName("by calling the empty() method")
+    void emptyFactory() {
+      SearchTree<Integer> tree = PersistentAVL.empty();
+      assertTrue(tree.isEmpty());
+      assertEquals(Comparator.naturalOrder(), tree.comparator());
+    }
+    @Test @DisplayName("by copying another kind of search tree")
+    void copyOfSearchTree() {
+      AVL<Integer> avl = AVL.empty();
+      avl.insert(3); avl.insert(1); avl.insert(2);
+      PersistentAVL<Integer> tree = PersistentAVL.copyOf((SearchTree<Integer>) avl);
+      assertEquals(JDKArrayList.of(1, 2, 3).toString(), JDKArrayList.from(tree.inOrder()).toString());
+    }
+  }
+
+  @Nested
+  @DisplayName("Core operations: insert(), search(), delete(), minimum(), maximum()")
+  class CoreOperationsTests {
+    private SearchTree<Integer> tree;
+    @BeforeEach void setup() {
+      tree = PersistentAVL.empty();
+      tree.insert(10); tree.insert(5); tree.insert(15);
+      tree.insert(3); tree.insert(7); tree.insert(12); tree.insert(18);
+    }
+    @Test @DisplayName("contains() and search() work correctly")
+    void testContainsAndSearch() {
+      assertTrue(tree.contains(7));
+      assertFalse(tree.contains(99));
+      assertEquals(7, tree.search(7));
+      assertNull(tree.search(99));
+    }
+    @Test @DisplayName("inserting an existing key does not change the size")
+    void testInsertExisting() { tree.insert(7); assertEquals(7, tree.size()); }
+    @Test @DisplayName("delete() nodes with zero, one and two children")
+    void testDelete() {
+      tree.delete(3); tree.delete(5); tree.delete(10); tree.delete(99);
+      assertEquals(4, tree.size());
+      assertEquals(7, tree.minimum());
+      assertEquals(18, tree.maximum());
+    }
+    @Test @DisplayName("deleteMinimum() and deleteMaximum() work correctly")
+    void testDeleteMinMax() {
+      tree.deleteMinimum(); assertEquals(5, tree.minimum());
+      tree.deleteMaximum(); assertEquals(15, tree.maximum());
+      assertEquals(5, tree.size());
+    }
+    @Test @DisplayName("minimum() throws on an empty tree")
+    void testMinimumOnEmpty() {
+      tree.clear();
+      assertThrows(EmptySearchTreeException.class, tree::minimum);
+    }
+  }
+
+  @Nested
+  @DisplayName("Persistence: snapshot() and copyOf()")
+  class PersistenceTests {
+    private List<Integer> inOrder(SearchTree<Integer> tree) {
+      List<Integer> keys = JDKArrayList.empty();
+      tree.inOrder().forEach(keys::append);
+      return keys;
+    }
+
+    @Test @DisplayName("a snapshot is not affected by later updates on the original tree")
+    void snapshotIsIsolatedFromOriginal() {
+      PersistentAVL<Integer> tree = PersistentAVL.empty();
+      for (int i = 0; i < 10; i++) tree.insert(i);
+      PersistentAVL<Integer> snapshot = tree.snapshot();
+
+      tree.insert(100); tree.delete(0); tree.delete(5);
+
+      assertEquals(JDKArrayList.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9).toString(), inOrder(snapshot).toString());
+      assertEquals(10, snapshot.size());
+      assertEquals(JDKArrayList.of(1, 2, 3, 4, 6, 7, 8, 9, 100).toString(), inOrder(tree).toString());
+      assertEquals(9, tree.size());
+    }
+
+    @Test @DisplayName("the original tree is not affected by updates on a snapshot")
+    void originalIsIsolatedFromSnapshot() {
+      PersistentAVL<Integer> tree = PersistentAVL.empty();
+      tree.insert(1); tree.insert(2);
+      PersistentAVL<Integer> copy = PersistentAVL.copyOf(tree);
+      copy.insert(3); copy.deleteMinimum();
+      assertEquals(JDKArrayList.of(1, 2).toString(), inOrder(tree).toString());
+      assertEquals(JDKArrayList.of(2, 3).toString(), inOrder(copy).toString());
+    }
+
+    @Test @DisplayName("an iterator traverses the version of the tree current at its creation")
+    void iteratorIsSnapshotConsistent() {
+      PersistentAVL<Integer> tree = PersistentAVL.empty();
+      tree.insert(1); tree.insert(2); tree.insert(3);
+      Iterator<Integer> iterator = tree.inOrder().iterator();
+      tree.delete(2); tree.insert(4);
+      List<Integer> keys = JDKArrayList.empty();
+      iterator.forEachRemaining(keys::append);
+      assertEquals(JDKArrayList.of(1, 2, 3).toString(), keys.toString());
+    }
+
+    @Test @DisplayName("snapshots taken while a writer updates the tree have consistent sizes")
+    void concurrentSnapshotsAreConsistent() throws InterruptedException {
+      PersistentAVL<Integer> tree = PersistentAVL.empty();
+      Thread writer = new Thread(() -> {
+        for (int i = 0; i < 200_000; i++) {
+          if ((i & 1) == 0) {
+            tree.insert(i % 1000);
+          } else {
+            tree.delete((i * 7) % 1000);
+          }
+        }
+      });
+      writer.start();
+      while (writer.isAlive()) {
+        PersistentAVL<Integer> snapshot = tree.snapshot();
+        int count = 0;
+        for (Integer ignored : snapshot.inOrder()) count++;
+        assertEquals(snapshot.size(), count);
+      }
+      writer.join();
+    }
+
+    @Test @DisplayName("AVLSet and AVLDictionary copies of persistent instances are independent")
+    void wrappersUsePersistentTree() {
+      AVLSet<Integer> set = AVLSet.persistent();
+      set.insert(2, 1, 3);
+      AVLSet<Integer> setCopy = AVLSet.copyOf(set);
+      set.delete(1);
+      assertEquals("AVLSet(1, 2, 3)", setCopy.toString());
+      assertEquals("AVLSet(2, 3)", set.toString());
+
+      AVLDictionary<String, Integer> dictionary = AVLDictionary.persistent();
+      dictionary.insert("a", 1);
+      AVLDictionary<String, Integer> dictionaryCopy = AVLDictionary.copyOf(dictionary);
+      dictionary.insert("a", 2);
+      assertEquals(1, dictionaryCopy.valueOf("a"));
+      assertEquals(2, dictionary.valueOf("a"));
+    }
+  }
+
+  @Nested
+  @DisplayName("Structural Integrity Tests")
+  class StructuralIntegrityTests {
+    @Test
+    @DisplayName("random inserts and deletes maintain AVL invariants in every version")
+    void randomOperationsMaintainAVLInvariants() {
+      PersistentAVL<Integer> tree = PersistentAVL.empty();
+      List<PersistentAVL<Integer>> versions = JDKArrayList.empty();
+      List<Integer> sizes = JDKArrayList.empty();
+      java.util.Random rand = new java.util.Random(0);
+
+      for (int i = 0; i < 3000; i++) {
+        int key = rand.nextInt(1000);
+        if (rand.nextFloat() < 0.4) {
+          tree.delete(key);
+        } else {
+          tree.insert(key);
+        }
+        assertTrue(tree.isAVL());
+        if (i % 100 == 0) {
+          versions.append(tree.snapshot());
+          sizes.append(tree.size());
+        }
+      }
+      for (int i = 0; i < versions.size(); i++) {
+        PersistentAVL<Integer> version = versions.get(i);
+        assertTrue(version.isAVL());
+        int count = 0;
+        for (Integer ignored : version.inOrder()) count++;
+        assertEquals(sizes.get(i), count);
+        assertEquals(sizes.get(i), version.size());
+      }
+    }
+  }
+}
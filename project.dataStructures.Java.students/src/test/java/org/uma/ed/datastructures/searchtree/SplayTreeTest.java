@@ -0,0 +1,183 @@
+package org.uma.ed.datastructures.searchtree;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.dictionary.AVLDictionary;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.set.AVLSet;
+import org.uma.ed.datastructures.set.JDKTreeSet;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Test cases for class SplayTree")
+class SplayTreeTest {
+
+  @Nested
+  @DisplayName("A SplayTree is created")
+  class CreationTests {
+    @Test @DisplayName("by calling the constructor with a comparator")
+    void constructorWithComparator() {
+      SearchTree<Integer> tree = new SplayTree<Integer>(Comparator.reverseOrder());
+      assertTrue(tree.isEmpty());
+      assertEquals(Comparator.reverseOrder(), tree.comparator());
+    }
+    @Test @DisplayName("by copying another splay tree, which preserves its shape")
+    void copyOfSplayTree() {
+      SplayTree<Integer> tree = SplayTree.empty();
+      tree.insert(3); tree.insert(1); tree.insert(2);
+      SplayTree<Integer> copy = SplayTree.copyOf(tree);
+      assertEquals(tree.toString(), copy.toString());
+      copy.delete(2);
+      assertEquals(3, tree.size());
+      assertEquals(2, copy.size());
+    }
+  }
+
+  @Nested
+  @DisplayName("Core operations: insert(), search(), delete(), minimum(), maximum()")
+  class CoreOperationsTests {
+    private SearchTree<Integer> tree;
+    @BeforeEach void setup() {
+      tree = SplayTree.empty();
+      tree.insert(10); tree.insert(5); tree.insert(15);
+      tree.insert(3); tree.insert(7); tree.insert(12); tree.insert(18);
+    }
+    @Test @DisplayName("contains() and search() work correctly")
+    void testContainsAndSearch() {
+      assertTrue(tree.contains(7));
+      assertFalse(tree.contains(99));
+      assertEquals(7, tree.search(7));
+      assertNull(tree.search(99));
+      assertEquals(7, tree.size());
+    }
+    @Test @DisplayName("search() moves the found key to the root")
+    void testSearchSplaysKey() {
+      tree.search(3);
+      assertEquals(3, tree.preOrder().iterator().next());
+      assertEquals(JDKArrayList.of(3, 5, 7, 10, 12, 15, 18), JDKArrayList.from(tree.inOrder()));
+    }
+    @Test @DisplayName("inserting an existing key does not change the size")
+    void testInsertExisting() { tree.insert(7); assertEquals(7, tree.size()); }
+    @Test @DisplayName("delete() removes existing keys and ignores missing ones")
+    void testDelete() {
+      tree.delete(3); tree.delete(5); tree.delete(10); tree.delete(99);
+      assertEquals(JDKArrayList.of(7, 12, 15, 18), JDKArrayList.from(tree.inOrder()));
+      assertEquals(4, tree.size());
+    }
+    @Test @DisplayName("minimum(), maximum(), deleteMinimum() and deleteMaximum() work correctly")
+    void testExtremal() {
+      assertEquals(3, tree.minimum());
+      assertEquals(18, tree.maximum());
+      tree.deleteMinimum(); assertEquals(5, tree.minimum());
+      tree.deleteMaximum(); assertEquals(15, tree.maximum());
+      assertEquals(5, tree.size());
+    }
+    @Test @DisplayName("extremal operations throw on an empty tree")
+    void testExtremalOnEmpty() {
+      tree.clear();
+      assertThrows(EmptySearchTreeException.class, tree::minimum);
+      assertThrows(EmptySearchTreeException.class, tree::deleteMaximum);
+    }
+  }
+
+  @Nested
+  @DisplayName("Skewed and degenerate workloads")
+  class WorkloadTests {
+    @Test @DisplayName("ascending insertions create a long path that height() and copyOf() can handle")
+    void testDegenerateTree() {
+      SplayTree<Integer> tree = SplayTree.empty();
+      int n = 100_000;
+      for (int i = 0; i < n; i++) tree.insert(i);
+      assertEquals(n, tree.height());
+      assertEquals(n, SplayTree.copyOf(tree).size());
+      assertEquals(0, tree.search(0));
+      assertTrue(tree.height() < n);
+    }
+    @Test @DisplayName("toString() handles a tree with a path of 200000 nodes")
+    void testToStringDegenerateTree() {
+      SplayTree<Integer> tree = SplayTree.empty();
+      int n = 200_000;
+      for (int i = 0; i < n; i++) tree.insert(i);
+      String string = tree.toString();
+      assertTrue(string.startsWith("SplayTree(Node(Node(Node("));
+      assertTrue(string.endsWith(", 199999, null))"));
+    }
+    @Test @DisplayName("toString() shows the shape of the tree")
+    void testToString() {
+      SplayTree<Integer> tree = SplayTree.empty();
+      assertEquals("SplayTree(null)", tree.toString());
+      tree.insert(1); tree.insert(3); tree.insert(2);
+      assertEquals("SplayTree(Node(Node(null, 1, null), 2, Node(null, 3, null)))", tree.toString());
+    }
+    @Test @DisplayName("in-order iterators resume after lookups, and fail fast after insertions")
+    void testIteratorAfterLookupsAndInsertions() {
+      SplayTree<Integer> tree = SplayTree.empty();
+      for (int i = 0; i < 37; i++) tree.insert((i * 7) % 37);
+      Iterator<Integer> preOrder = tree.preOrder().iterator();
+      Iterator<Integer> iterator = tree.inOrder().iterator();
+      assertEquals(0, iterator.next());
+      tree.contains(20);
+      assertThrows(ConcurrentModificationException.class, preOrder::next);
+      JDKArrayList<Integer> keys = JDKArrayList.empty();
+      while (iterator.hasNext()) {
+        int key = iterator.next();
+        keys.append(key);
+        tree.contains(36 - key);
+        tree.contains(100);
+      }
+      assertEquals(36, keys.size());
+      assertEquals(1, keys.get(0));
+      assertEquals(36, keys.get(35));
+
+      AVLSet<Integer> set = AVLSet.splay();
+      for (int i = 0; i < 37; i++) set.insert(i);
+      int sum = 0;
+      for (int element : set) {
+        assertTrue(set.contains(36 - element));
+        sum += element;
+      }
+      assertEquals(36 * 37 / 2, sum);
+      assertThrows(ConcurrentModificationException.class, () -> {
+        for (int element : set) {
+          set.insert(element + 100);
+        }
+      });
+    }
+    @Test @DisplayName("random operations agree with a reference set")
+    void testRandomOperations() {
+      SplayTree<Integer> tree = SplayTree.empty();
+      JDKTreeSet<Integer> reference = JDKTreeSet.empty();
+      java.util.Random rand = new java.util.Random(0);
+      for (int i = 0; i < 5000; i++) {
+        int key = rand.nextInt(500);
+        switch (rand.nextInt(3)) {
+          case 0 -> { tree.insert(key); reference.insert(key); }
+          case 1 -> { tree.delete(key); reference.delete(key); }
+          default -> assertEquals(reference.contains(key), tree.contains(key));
+        }
+        assertEquals(reference.size(), tree.size());
+      }
+      assertEquals(JDKArrayList.from(reference), JDKArrayList.from(tree.inOrder()));
+    }
+    @Test @DisplayName("AVLSet and AVLDictionary can be backed by a splay tree")
+    void testWrappers() {
+      AVLSet<Integer> set = AVLSet.splay();
+      set.insert(2, 1, 3);
+      AVLSet<Integer> copy = AVLSet.copyOf(set);
+      set.delete(1);
+      assertEquals("AVLSet(2, 3)", set.toString());
+      assertEquals("AVLSet(1, 2, 3)", copy.toString());
+
+      AVLDictionary<String, Integer> dictionary = AVLDictionary.splay();
+      dictionary.insert("a", 1); dictionary.insert("b", 2); dictionary.insert("a", 3);
+      assertEquals(3, dictionary.valueOf("a"));
+      assertEquals(2, dictionary.size());
+    }
+  }
+}
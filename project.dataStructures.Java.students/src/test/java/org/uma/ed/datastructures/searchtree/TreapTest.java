@@ -0,0 +1,148 @@
+package org.uma.ed.datastructures.searchtree;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.dictionary.AVLDictionary;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.set.AVLSet;
+import org.uma.ed.datastructures.set.JDKTreeSet;
+
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Test cases for class Treap")
+class TreapTest {
+
+  @Nested
+  @DisplayName("A Treap is created")
+  class CreationTests {
+    @Test @DisplayName("by calling the constructor with a comparator")
+    void constructorWithComparator() {
+      SearchTree<Integer> tree = new Treap<Integer>(Comparator.reverseOrder());
+      assertTrue(tree.isEmpty());
+      assertEquals(Comparator.reverseOrder(), tree.comparator());
+    }
+    @Test @DisplayName("by copying another treap, which preserves its shape")
+    void copyOfTreap() {
+      Treap<Integer> tree = Treap.empty();
+      for (int i = 0; i < 20; i++) tree.insert(i);
+      Treap<Integer> copy = Treap.copyOf(tree);
+      assertEquals(tree.toString(), copy.toString());
+      assertTrue(copy.isTreap());
+      copy.delete(2);
+      assertEquals(20, tree.size());
+      assertEquals(19, copy.size());
+    }
+  }
+
+  @Nested
+  @DisplayName("Core operations: insert(), search(), delete(), minimum(), maximum()")
+  class CoreOperationsTests {
+    private Treap<Integer> tree;
+    @BeforeEach void setup() {
+      tree = Treap.empty();
+      tree.insert(10); tree.insert(5); tree.insert(15);
+      tree.insert(3); tree.insert(7); tree.insert(12); tree.insert(18);
+    }
+    @Test @DisplayName("contains() and search() work correctly")
+    void testContainsAndSearch() {
+      assertTrue(tree.contains(7));
+      assertFalse(tree.contains(99));
+      assertEquals(7, tree.search(7));
+      assertNull(tree.search(99));
+      assertEquals(7, tree.size());
+    }
+    @Test @DisplayName("repeated searches keep treap invariants and contents")
+    void testSearchPromotion() {
+      for (int i = 0; i < 1000; i++) tree.search(18);
+      assertTrue(tree.isTreap());
+      assertEquals(JDKArrayList.of(3, 5, 7, 10, 12, 15, 18), JDKArrayList.from(tree.inOrder()));
+    }
+    @Test @DisplayName("delete() removes existing keys and ignores missing ones")
+    void testDelete() {
+      tree.delete(3); tree.delete(5); tree.delete(10); tree.delete(99);
+      assertEquals(JDKArrayList.of(7, 12, 15, 18), JDKArrayList.from(tree.inOrder()));
+      assertEquals(4, tree.size());
+      assertTrue(tree.isTreap());
+    }
+    @Test @DisplayName("minimum(), maximum(), deleteMinimum() and deleteMaximum() work correctly")
+    void testExtremal() {
+      assertEquals(3, tree.minimum());
+      assertEquals(18, tree.maximum());
+      tree.deleteMinimum(); assertEquals(5, tree.minimum());
+      tree.deleteMaximum(); assertEquals(15, tree.maximum());
+      assertEquals(5, tree.size());
+      assertTrue(tree.isTreap());
+    }
+    @Test @DisplayName("extremal operations throw on an empty tree")
+    void testExtremalOnEmpty() {
+      tree.clear();
+      assertThrows(EmptySearchTreeException.class, tree::maximum);
+      assertThrows(EmptySearchTreeException.class, tree::deleteMinimum);
+    }
+  }
+
+  @Nested
+  @DisplayName("Structural Integrity Tests")
+  class StructuralIntegrityTests {
+    @Test @DisplayName("random operations maintain treap invariants and agree with a reference set")
+    void testRandomOperations() {
+      Treap<Integer> tree = Treap.empty();
+      JDKTreeSet<Integer> reference = JDKTreeSet.empty();
+      java.util.Random rand = new java.util.Random(0);
+      for (int i = 0; i < 5000; i++) {
+        int key = rand.nextInt(500);
+        switch (rand.nextInt(3)) {
+          case 0 -> { tree.insert(key); reference.insert(key); }
+          case 1 -> { tree.delete(key); reference.delete(key); }
+          default -> assertEquals(reference.contains(key), tree.contains(key));
+        }
+        assertEquals(reference.size(), tree.size());
+        assertTrue(tree.isTreap());
+      }
+      assertEquals(JDKArrayList.from(reference), JDKArrayList.from(tree.inOrder()));
+    }
+    @Test @DisplayName("in-order iterators fail fast if the treap is modified, and resume after lookups")
+    void testIteratorFailsAfterModification() {
+      Treap<Integer> tree = Treap.empty();
+      for (int i = 0; i < 37; i++) tree.insert(i);
+      Iterator<Integer> iterator = tree.inOrder().iterator();
+      assertEquals(0, iterator.next());
+      tree.insert(100);
+      assertThrows(ConcurrentModificationException.class, iterator::next);
+
+      // lookups promote keys at random, so repeat them to be sure some do
+      JDKArrayList<Integer> keys = JDKArrayList.empty();
+      for (int key : tree.inOrder()) {
+        keys.append(key);
+        for (int i = 0; i < 100; i++) {
+          tree.contains(key);
+          tree.contains(37 - key);
+        }
+      }
+      assertEquals(JDKArrayList.from(tree.inOrder()), keys);
+      assertEquals(38, keys.size());
+      assertTrue(tree.isTreap());
+      assertEquals(38, tree.size());
+    }
+    @Test @DisplayName("AVLSet and AVLDictionary can be backed by a treap")
+    void testWrappers() {
+      AVLSet<Integer> set = AVLSet.treap();
+      set.insert(2, 1, 3);
+      AVLSet<Integer> copy = AVLSet.copyOf(set);
+      set.delete(1);
+      assertEquals("AVLSet(2, 3)", set.toString());
+      assertEquals("AVLSet(1, 2, 3)", copy.toString());
+
+      AVLDictionary<String, Integer> dictionary = AVLDictionary.treap();
+      dictionary.insert("a", 1); dictionary.insert("b", 2); dictionary.insert("a", 3);
+      assertEquals(3, dictionary.valueOf("a"));
+      assertEquals(2, dictionary.size());
+    }
+  }
+}
@@ -0,0 +1,171 @@
+package org.uma.ed.datastructures.set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.range.Range;
+
+@DisplayName("Test cases for class ConcurrentSkipListSet")
+class ConcurrentSkipListSetTest {
+
+  @Nested
+  @DisplayName("A ConcurrentSkipListSet is created")
+  class TestCasesForCreatingSets {
+
+    @Test
+    @DisplayName("by calling the empty() method with a comparator")
+    void whenTheEmptyMethodWithComparatorIsCalledThenASetIsCreated() {
+      Comparator<String> reverseOrder = Comparator.reverseOrder();
+      SortedSet<String> set = ConcurrentSkipListSet.empty(reverseOrder);
+
+      assertTrue(set.isEmpty());
+      assertEquals(reverseOrder, set.comparator());
+    }
+
+    @Test
+    @DisplayName("from a sequence with duplicate values using the of() method")
+    void whenTheOfMethodIsCalledWithDuplicateValuesThenDuplicatesAreIgnored() {
+      SortedSet<Integer> set = ConcurrentSkipListSet.of(5, 3, 2, 1, 3, 5, 8);
+
+      assertEquals(5, set.size());
+      assertEquals("ConcurrentSkipListSet(1, 2, 3, 5, 8)", set.toString());
+    }
+
+    @Test
+    @DisplayName("as a copy of another sorted set")
+    void whenTheCopyOfMethodIsCalledThenAnEqualSetIsCreated() {
+      SortedSet<Integer> set = AVLSet.of(3, 1, 2);
+      SortedSet<Integer> copy = ConcurrentSkipListSet.copyOf(set);
+
+      assertEquals(set, copy);
+    }
+  }
+
+  @Nested
+  @DisplayName("Core operations: insert(), contains(), delete(), clear()")
+  class TestCasesForCoreOperations {
+
+    @Test
+    @DisplayName("insert() keeps elements sorted and ignores duplicates")
+    void insertKeepsOrder() {
+      SortedSet<Integer> set = ConcurrentSkipListSet.empty();
+      set.insert(3, 1, 4, 1, 5, 9, 2, 6);
+
+      assertEquals(7, set.size());
+      assertEquals("ConcurrentSkipListSet(1, 2, 3, 4, 5, 6, 9)", set.toString());
+    }
+
+    @Test
+    @DisplayName("delete() removes existing elements and ignores missing ones")
+    void deleteRemovesElements() {
+      SortedSet<Integer> set = ConcurrentSkipListSet.of(1, 2, 3, 4);
+      set.delete(2);
+      set.delete(99);
+
+      assertFalse(set.contains(2));
+      assertTrue(set.contains(3));
+      assertEquals(3, set.size());
+    }
+
+    @Test
+    @DisplayName("clear() empties a non-empty set")
+    void clearEmptiesSet() {
+      SortedSet<Integer> set = ConcurrentSkipListSet.from(Range.inclusive(1, 100));
+      set.clear();
+
+      assertTrue(set.isEmpty());
+      assertEquals(0, set.size());
+    }
+  }
+
+  @Nested
+  @DisplayName("Extremal operations: minimum() and maximum()")
+  class TestCasesForExtremalOperations {
+
+    @Test
+    @DisplayName("throw exception on an empty set")
+    void throwOnEmptySet() {
+      SortedSet<Integer> set = ConcurrentSkipListSet.empty();
+      assertThrows(NoSuchElementException.class, set::minimum);
+      assertThrows(NoSuchElementException.class, set::maximum);
+    }
+
+    @Test
+    @DisplayName("return the smallest and largest elements")
+    void returnExtremalElements() {
+      SortedSet<Integer> set = ConcurrentSkipListSet.from(Range.inclusive(1, 1000));
+      set.delete(1000);
+
+      assertEquals(1, set.minimum());
+      assertEquals(999, set.maximum());
+    }
+  }
+
+  @Nested
+  @DisplayName("Concurrent access")
+  class TestCasesForConcurrentAccess {
+
+    @Test
+    @DisplayName("concurrent insertions and deletions from several threads are all applied")
+    void concurrentInsertionsAndDeletions() throws InterruptedException {
+      final int numberOfThreads = 8;
+      final int elementsPerThread = 5_000;
+      SortedSet<Integer> set = ConcurrentSkipListSet.empty();
+      CountDownLatch start = new CountDownLatch(1);
+      Thread[] threads = new Thread[numberOfThreads];
+
+      for (int t = 0; t < numberOfThreads; t++) {
+        final int first = t * elementsPerThread;
+        threads[t] = new Thread(() -> {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            return;
+          }
+          for (int i = first; i < first + elementsPerThread; i++) {
+            set.insert(i);
+          }
+          // delete odd elements inserted by this thread
+          for (int i = first + 1; i < first + elementsPerThread; i += 2) {
+            set.delete(i);
+          }
+        });
+        threads[t].start();
+      }
+      start.countDown();
+      for (Thread thread : threads) {
+        thread.join();
+      }
+
+      assertEquals(numberOfThreads * elementsPerThread / 2, set.size());
+      int expected = 0;
+      for (int element : set) {
+        assertEquals(expected, element);
+        expected += 2;
+      }
+      assertEquals(numberOfThreads * elementsPerThread, expected);
+    }
+
+    @Test
+    @DisplayName("iterators are weakly consistent and do not fail under concurrent updates")
+    void iteratorsAreWeaklyConsistent() {
+      SortedSet<Integer> set = ConcurrentSkipListSet.of(1, 2, 3, 4, 5);
+      Iterator<Integer> iterator = set.iterator();
+
+      assertEquals(1, iterator.next());
+      set.delete(3);
+      set.insert(6);
+      assertEquals(2, iterator.next());
+      assertEquals(4, iterator.next());
+      assertEquals(5, iterator.next());
+      assertEquals(6, iterator.next());
+      assertFalse(iterator.hasNext());
+    }
+  }
+}
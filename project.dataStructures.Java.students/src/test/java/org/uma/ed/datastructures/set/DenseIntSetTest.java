@@ -0,0 +1,148 @@
+package org.uma.ed.datastructures.set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.range.Range;
+
+@DisplayName("Test cases for class DenseIntSet")
+class DenseIntSetTest {
+
+  @Nested
+  @DisplayName("A DenseIntSet is created")
+  class TestCasesForCreation {
+
+    @Test
+    @DisplayName("empty over a universe")
+    void empty() {
+      DenseIntSet set = DenseIntSet.empty(Range.inclusive(1, 1000));
+      assertTrue(set.isEmpty());
+      assertEquals(0, set.size());
+      assertFalse(set.iterator().hasNext());
+    }
+
+    @Test
+    @DisplayName("full, with all integers in its universe")
+    void full() {
+      DenseIntSet set = DenseIntSet.full(Range.exclusive(-10, 90));
+      assertEquals(100, set.size());
+      assertEquals(JDKArrayList.from(Range.exclusive(-10, 90)), JDKArrayList.from(set));
+    }
+
+    @Test
+    @DisplayName("from given elements, iterated in the order of the universe")
+    void of() {
+      DenseIntSet set = DenseIntSet.of(Range.inclusive(0, 200), 130, 5, 64, 63, 5, 200);
+      assertEquals(5, set.size());
+      assertEquals(JDKArrayList.of(5, 63, 64, 130, 200), JDKArrayList.from(set));
+
+      DenseIntSet descending = DenseIntSet.of(Range.inclusive(10, 0, -1), 3, 7, 1);
+      assertEquals(JDKArrayList.of(7, 3, 1), JDKArrayList.from(descending));
+    }
+
+    @Test
+    @DisplayName("as an independent copy of another one")
+    void copyOf() {
+      DenseIntSet set = DenseIntSet.of(Range.inclusive(0, 10), 1, 2, 3);
+      DenseIntSet copy = DenseIntSet.copyOf(set);
+      copy.delete(2);
+      assertTrue(set.contains(2));
+      assertEquals(JDKArrayList.of(1, 3), JDKArrayList.from(copy));
+    }
+  }
+
+  @Nested
+  @DisplayName("Insertions, deletions and lookups")
+  class TestCasesForUpdates {
+
+    @Test
+    @DisplayName("behave as in a set for random elements")
+    void randomUpdates() {
+      Random random = new Random(0);
+      DenseIntSet set = DenseIntSet.empty(Range.exclusive(-5_000, 5_000));
+      JDKHashSet<Integer> expected = JDKHashSet.empty();
+      for (int i = 0; i < 50_000; i++) {
+        int element = -5_000 + random.nextInt(10_000);
+        if (random.nextBoolean()) {
+          set.insert(element);
+          expected.insert(element);
+        } else {
+          set.delete(element);
+          expected.delete(element);
+        }
+      }
+      assertEquals(expected.size(), set.size());
+      assertEquals(expected, set);
+    }
+
+    @Test
+    @DisplayName("only consider integers in a stepped universe")
+    void steppedUniverse() {
+      DenseIntSet set = DenseIntSet.full(Range.inclusive(0, 100, 5));
+      assertEquals(21, set.size());
+      assertTrue(set.contains(35));
+      assertFalse(set.contains(36));
+      assertFalse(set.contains(105));
+      set.delete(36);
+      assertEquals(21, set.size());
+    }
+
+    @Test
+    @DisplayName("throw an exception when inserting an integer outside the universe")
+    void outsideUniverse() {
+      DenseIntSet set = DenseIntSet.empty(Range.inclusive(0, 10));
+      assertThrows(IllegalArgumentException.class, () -> set.insert(11));
+      assertThrows(IllegalArgumentException.class, () -> set.insert(-1));
+      assertFalse(set.contains(11));
+    }
+
+    @Test
+    @DisplayName("and clear empties the set")
+    void clear() {
+      DenseIntSet set = DenseIntSet.full(Range.inclusive(0, 10));
+      set.clear();
+      assertTrue(set.isEmpty());
+      assertFalse(set.contains(3));
+    }
+  }
+
+  @Nested
+  @DisplayName("Set operations")
+  class TestCasesForSetOperations {
+
+    private final Range universe = Range.inclusive(1, 1_000);
+
+    private DenseIntSet multiplesOf(int n) {
+      return DenseIntSet.from(universe, Range.inclusive(n, 1_000, n));
+    }
+
+    @Test
+    @DisplayName("union, intersection, difference and complement work word by word")
+    void operations() {
+      DenseIntSet two = multiplesOf(2);
+      DenseIntSet three = multiplesOf(3);
+      assertEquals(multiplesOf(6), DenseIntSet.intersection(two, three));
+      assertEquals(500 + 333 - 166, DenseIntSet.union(two, three).size());
+      assertEquals(500 - 166, DenseIntSet.difference(two, three).size());
+      assertFalse(DenseIntSet.difference(two, three).contains(6));
+
+      DenseIntSet odd = DenseIntSet.complement(two);
+      assertEquals(500, odd.size());
+      assertEquals(DenseIntSet.full(universe), DenseIntSet.union(two, odd));
+    }
+
+    @Test
+    @DisplayName("accept equal universes and reject different ones")
+    void universes() {
+      DenseIntSet set1 = DenseIntSet.of(Range.inclusive(0, 9), 1);
+      DenseIntSet set2 = DenseIntSet.of(Range.exclusive(0, 10), 2);
+      assertEquals(2, DenseIntSet.union(set1, set2).size());
+      DenseIntSet set3 = DenseIntSet.of(Range.inclusive(0, 10), 2);
+      assertThrows(IllegalArgumentException.class, () -> DenseIntSet.union(set1, set3));
+    }
+  }
+}
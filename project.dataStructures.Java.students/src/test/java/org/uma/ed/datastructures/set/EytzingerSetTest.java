@@ -0,0 +1,110 @@
+package org.uma.ed.datastructures.set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+
+@DisplayName("Test cases for class EytzingerSet")
+class EytzingerSetTest {
+
+  private static SortedArraySet<Integer> evenNumbers(int size) {
+    SortedArraySet<Integer> set = SortedArraySet.empty();
+    for (int i = 0; i < size; i++) {
+      set.insert(2 * i);
+    }
+    return set;
+  }
+
+  @Nested
+  @DisplayName("An EytzingerSet is created")
+  class TestCasesForCreation {
+
+    @Test
+    @DisplayName("by freezing a SortedArraySet, which keeps its elements in order")
+    void frozenSortedArraySet() {
+      EytzingerSet<Integer> set = SortedArraySet.of(5, 3, 9, 1, 7).frozen();
+      assertEquals(5, set.size());
+      assertEquals("EytzingerSet(1, 3, 5, 7, 9)", set.toString());
+      assertEquals(SortedArraySet.of(1, 3, 5, 7, 9), set);
+    }
+
+    @Test
+    @DisplayName("by copying another sorted set")
+    void copyOfSortedSet() {
+      EytzingerSet<Integer> set = EytzingerSet.copyOf(AVLSet.of(4, 2, 8));
+      assertEquals("EytzingerSet(2, 4, 8)", set.toString());
+    }
+
+    @Test
+    @DisplayName("from an empty set")
+    void empty() {
+      EytzingerSet<Integer> set = SortedArraySet.<Integer>empty().frozen();
+      assertTrue(set.isEmpty());
+      assertFalse(set.contains(1));
+      assertFalse(set.iterator().hasNext());
+      assertThrows(NoSuchElementException.class, set::minimum);
+      assertThrows(NoSuchElementException.class, set::maximum);
+    }
+  }
+
+  @Nested
+  @DisplayName("Queries: contains(), search(), minimum(), maximum() and iteration")
+  class TestCasesForQueries {
+
+    @Test
+    @DisplayName("every member is found and no other element is, for all sizes up to 130")
+    void containsForAllSizes() {
+      for (int size = 1; size <= 130; size++) {
+        EytzingerSet<Integer> set = evenNumbers(size).frozen();
+        for (int i = -1; i <= 2 * size; i++) {
+          assertEquals(i >= 0 && i % 2 == 0 && i < 2 * size, set.contains(i), "size " + size + ", element " + i);
+        }
+        assertEquals(0, set.minimum());
+        assertEquals(2 * (size - 1), set.maximum());
+      }
+    }
+
+    @Test
+    @DisplayName("iteration returns elements in ascending order for all sizes up to 130")
+    void iterationInOrder() {
+      for (int size = 0; size <= 130; size++) {
+        SortedArraySet<Integer> sortedArraySet = evenNumbers(size);
+        List<Integer> expected = JDKArrayList.from(sortedArraySet);
+        List<Integer> actual = JDKArrayList.from(sortedArraySet.frozen());
+        assertEquals(expected, actual);
+      }
+    }
+
+    @Test
+    @DisplayName("search() returns the stored element")
+    void searchReturnsStoredElement() {
+      EytzingerSet<Integer> set = evenNumbers(10).frozen();
+      assertEquals(6, set.search(6));
+      assertNull(set.search(7));
+    }
+
+    @Test
+    @DisplayName("later changes to the original set are not reflected")
+    void independentOfOriginal() {
+      SortedArraySet<Integer> original = evenNumbers(5);
+      EytzingerSet<Integer> set = original.frozen();
+      original.insert(1);
+      assertFalse(set.contains(1));
+      assertEquals(5, set.size());
+    }
+  }
+
+  @Test
+  @DisplayName("modifying operations throw UnsupportedOperationException")
+  void immutability() {
+    EytzingerSet<Integer> set = evenNumbers(3).frozen();
+    assertThrows(UnsupportedOperationException.class, () -> set.insert(1));
+    assertThrows(UnsupportedOperationException.class, () -> set.delete(0));
+    assertThrows(UnsupportedOperationException.class, set::clear);
+  }
+}
@@ -0,0 +1,96 @@
+package org.uma.ed.datastructures.set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test cases for class FilteredSet")
+class FilteredSetTest {
+
+  private static void assertBehavesAsSet(FilteredSet<Integer> set) {
+    JDKHashSet<Integer> expected = JDKHashSet.empty();
+    for (int n = 0; n < 5_000; n++) {
+      set.insert(n);
+      expected.insert(n);
+    }
+    for (int n = 0; n < 5_000; n += 3) {
+      set.delete(n);
+      expected.delete(n);
+    }
+    set.insert(1);
+    set.delete(-1);
+    assertEquals(expected.size(), set.size());
+    assertEquals(expected, set);
+    for (int n = -1_000; n < 6_000; n++) {
+      assertEquals(expected.contains(n), set.contains(n));
+    }
+  }
+
+  @Nested
+  @DisplayName("A FilteredSet is created")
+  class TestCasesForCreation {
+
+    @Test
+    @DisplayName("in front of a non-empty set, with a filter summarizing its elements")
+    void nonEmpty() {
+      FilteredSet<String> set = FilteredSet.withBloomFilter(JDKHashSet.of("a", "b", "c"));
+      assertEquals(3, set.size());
+      assertTrue(set.filter().mightContain("a"));
+      assertTrue(set.contains("c"));
+      assertFalse(set.contains("d"));
+    }
+
+    @Test
+    @DisplayName("empty")
+    void empty() {
+      FilteredSet<String> set = FilteredSet.withCuckooFilter(JDKHashSet.empty());
+      assertTrue(set.isEmpty());
+      assertFalse(set.contains("a"));
+    }
+  }
+
+  @Nested
+  @DisplayName("A FilteredSet behaves as its underlying set")
+  class TestCasesForOperations {
+
+    @Test
+    @DisplayName("with a Bloom filter, which is rebuilt as the set grows and after many deletions")
+    void bloomFilter() {
+      FilteredSet<Integer> set = FilteredSet.withBloomFilter(JDKHashSet.empty());
+      assertBehavesAsSet(set);
+      assertTrue(set.filter().capacity() >= set.size());
+    }
+
+    @Test
+    @DisplayName("with a cuckoo filter, which is updated on deletions")
+    void cuckooFilter() {
+      FilteredSet<Integer> set = FilteredSet.withCuckooFilter(JDKHashSet.empty());
+      assertBehavesAsSet(set);
+      assertTrue(set.filter().supportsDeletion());
+    }
+
+    @Test
+    @DisplayName("with filters smaller than requested, which are rebuilt larger when they get full")
+    void smallFilters() {
+      FilteredSet<Integer> set = new FilteredSet<>(JDKHashSet.empty(),
+          capacity -> new CuckooFilter<>(Integer.highestOneBit(capacity) / 16));
+      for (int n = 0; n < 100; n++) {
+        set.insert(n);
+      }
+      for (int n = 0; n < 100; n++) {
+        assertTrue(set.contains(n));
+      }
+    }
+
+    @Test
+    @DisplayName("and clear empties both the set and the filter")
+    void clear() {
+      FilteredSet<Integer> set = FilteredSet.withBloomFilter(JDKHashSet.of(1, 2, 3));
+      set.clear();
+      assertTrue(set.isEmpty());
+      assertFalse(set.filter().mightContain(1));
+    }
+  }
+}
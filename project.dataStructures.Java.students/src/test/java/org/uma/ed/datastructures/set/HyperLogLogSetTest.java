@@ -0,0 +1,127 @@
+package org.uma.ed.datastructures.set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.utils.hashCode.HashCode;
+
+@DisplayName("Test cases for class HyperLogLogSet")
+class HyperLogLogSetTest {
+
+  private static void assertWithin(long expected, long actual, double relativeError) {
+    assertTrue(Math.abs(actual - expected) <= relativeError * expected,
+        "expected about " + expected + " but was " + actual);
+  }
+
+  @Nested
+  @DisplayName("A HyperLogLogSet is created")
+  class TestCasesForCreation {
+
+    @Test
+    @DisplayName("empty")
+    void empty() {
+      HyperLogLogSet<Integer> set = HyperLogLogSet.empty();
+      assertTrue(set.isEmpty());
+      assertEquals(0, set.size());
+      assertEquals(14, set.precision());
+    }
+
+    @Test
+    @DisplayName("with the smallest precision achieving a given error bound")
+    void withErrorBound() {
+      assertEquals(14, HyperLogLogSet.withErrorBound(0.01).precision());
+      assertEquals(4, HyperLogLogSet.withErrorBound(0.5).precision());
+      assertThrows(IllegalArgumentException.class, () -> HyperLogLogSet.withErrorBound(0.0001));
+      assertThrows(IllegalArgumentException.class, () -> new HyperLogLogSet<>(3));
+    }
+  }
+
+  @Nested
+  @DisplayName("The estimated size")
+  class TestCasesForSize {
+
+    @Test
+    @DisplayName("is exact or nearly so for a few elements, and ignores repeated insertions")
+    void smallSizes() {
+      HyperLogLogSet<String> set = HyperLogLogSet.empty();
+      for (int round = 0; round < 3; round++) {
+        set.insert("a", "b", "c", "d", "e");
+      }
+      assertFalse(set.isEmpty());
+      assertEquals(5, set.size());
+    }
+
+    @Test
+    @DisplayName("is within a few standard errors for large sizes")
+    void largeSizes() {
+      HyperLogLogSet<Integer> set = HyperLogLogSet.empty();
+      for (int n = 1; n <= 1_000_000; n++) {
+        set.insert(n);
+        if (n == 1_000 || n == 50_000 || n == 1_000_000) {
+          assertWithin(n, set.estimate(), 0.04);
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("tells apart elements with equal hash codes if given a 64-bit hash")
+    void customHash() {
+      // all these longs have hash code 0, so the default hash sees a single element
+      HyperLogLogSet<Long> byHashCode = HyperLogLogSet.empty();
+      HyperLogLogSet<Long> by64BitHash = HyperLogLogSet.empty(HashCode::mixLong);
+      for (long i = 0; i < 100_000; i++) {
+        long element = (i << 32) | i;
+        byHashCode.insert(element);
+        by64BitHash.insert(element);
+      }
+      assertEquals(1, byHashCode.estimate());
+      assertWithin(100_000, by64BitHash.estimate(), 0.04);
+      assertWithin(100_000, HyperLogLogSet.copyOf(by64BitHash).estimate(), 0.04);
+    }
+
+    @Test
+    @DisplayName("of a merged set estimates the union")
+    void merge() {
+      HyperLogLogSet<Integer> set1 = HyperLogLogSet.empty();
+      HyperLogLogSet<Integer> set2 = HyperLogLogSet.empty();
+      for (int i = 0; i < 200_000; i++) {
+        set1.insert(i);
+        set2.insert(i + 100_000);
+      }
+      HyperLogLogSet<Integer> union = HyperLogLogSet.union(set1, set2);
+      assertWithin(300_000, union.estimate(), 0.04);
+      assertWithin(200_000, set1.estimate(), 0.04);
+
+      set1.merge(set2);
+      assertEquals(union.estimate(), set1.estimate());
+      assertThrows(IllegalArgumentException.class, () -> set1.merge(new HyperLogLogSet<>(10)));
+    }
+  }
+
+  @Nested
+  @DisplayName("Operations that need stored elements")
+  class TestCasesForUnsupportedOperations {
+
+    @Test
+    @DisplayName("raise an exception")
+    void unsupported() {
+      HyperLogLogSet<Integer> set = HyperLogLogSet.empty();
+      set.insert(1);
+      assertThrows(UnsupportedOperationException.class, () -> set.contains(1));
+      assertThrows(UnsupportedOperationException.class, () -> set.delete(1));
+      assertThrows(UnsupportedOperationException.class, set::iterator);
+    }
+
+    @Test
+    @DisplayName("clear() is supported and empties the set")
+    void clear() {
+      HyperLogLogSet<Integer> set = HyperLogLogSet.empty();
+      set.insert(1);
+      set.clear();
+      assertTrue(set.isEmpty());
+      assertEquals(0, set.size());
+    }
+  }
+}
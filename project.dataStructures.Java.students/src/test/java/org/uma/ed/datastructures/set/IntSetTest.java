@@ -0,0 +1,191 @@
+package org.uma.ed.datastructures.set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+
+@DisplayName("Test cases for class IntSet")
+class IntSetTest {
+
+  /**
+   * Returns a random set with elements in [from, from + span), with given density, and a copy of it as
+   * a JDKTreeSet.
+   */
+  private static IntSet randomSet(Random random, int from, int span, double density, JDKTreeSet<Integer> expected) {
+    IntSet set = IntSet.empty();
+    for (int i = 0; i < span; i++) {
+      if (random.nextDouble() < density) {
+        set.insert(from + i);
+        expected.insert(from + i);
+      }
+    }
+    return set;
+  }
+
+  @Nested
+  @DisplayName("An IntSet is created")
+  class TestCasesForCreation {
+
+    @Test
+    @DisplayName("empty")
+    void empty() {
+      IntSet set = IntSet.empty();
+      assertTrue(set.isEmpty());
+      assertEquals(0, set.size());
+      assertFalse(set.iterator().hasNext());
+      assertThrows(NoSuchElementException.class, set::minimum);
+      assertThrows(NoSuchElementException.class, set::maximum);
+    }
+
+    @Test
+    @DisplayName("from given elements, which are kept in ascending order including negative ones")
+    void of() {
+      IntSet set = IntSet.of(5, -3, 70_000, Integer.MIN_VALUE, 5, Integer.MAX_VALUE, 0);
+      assertEquals(6, set.size());
+      assertEquals(JDKArrayList.of(Integer.MIN_VALUE, -3, 0, 5, 70_000, Integer.MAX_VALUE), JDKArrayList.from(set));
+      assertEquals(Integer.MIN_VALUE, set.minimum());
+      assertEquals(Integer.MAX_VALUE, set.maximum());
+    }
+
+    @Test
+    @DisplayName("from a closed interval spanning several chunks")
+    void inclusive() {
+      IntSet set = IntSet.inclusive(-100_000, 200_000);
+      assertEquals(300_001, set.size());
+      assertEquals(-100_000, set.minimum());
+      assertEquals(200_000, set.maximum());
+      assertTrue(set.contains(0));
+      assertFalse(set.contains(200_001));
+      assertEquals(IntSet.from(JDKArrayList.of(1, 2, 3)), IntSet.inclusive(1, 3));
+      assertTrue(IntSet.inclusive(3, 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("as an independent copy of another one")
+    void copyOf() {
+      IntSet set = IntSet.inclusive(0, 100_000);
+      IntSet copy = IntSet.copyOf(set);
+      copy.delete(50);
+      assertTrue(set.contains(50));
+      assertEquals(set.size() - 1, copy.size());
+      assertEquals(JDKTreeSet.from(JDKArrayList.of(1, 2)), IntSet.copyOf(JDKTreeSet.from(JDKArrayList.of(2, 1))));
+    }
+  }
+
+  @Nested
+  @DisplayName("Insertions and deletions behave as in a sorted set")
+  class TestCasesForUpdates {
+
+    @Test
+    @DisplayName("with sparse, dense and run containers")
+    void randomUpdates() {
+      Random random = new Random(0);
+      for (double density : new double[]{0.01, 0.5, 0.99}) {
+        JDKTreeSet<Integer> expected = JDKTreeSet.empty();
+        IntSet set = randomSet(random, -70_000, 200_000, density, expected);
+        set.insertRange(1_000, 30_000);
+        for (int n = 1_000; n <= 30_000; n++) {
+          expected.insert(n);
+        }
+        for (int i = 0; i < 100_000; i++) {
+          int element = -70_000 + random.nextInt(200_000);
+          if (random.nextBoolean()) {
+            set.insert(element);
+            expected.insert(element);
+          } else {
+            set.delete(element);
+            expected.delete(element);
+          }
+        }
+        assertEquals(expected.size(), set.size());
+        assertEquals(JDKArrayList.from(expected), JDKArrayList.from(set));
+        assertEquals(expected.minimum(), set.minimum());
+        assertEquals(expected.maximum(), set.maximum());
+        set.runOptimize();
+        assertEquals(JDKArrayList.from(expected), JDKArrayList.from(set));
+      }
+    }
+
+    @Test
+    @DisplayName("when a range is split into many runs")
+    void splitRuns() {
+      IntSet set = IntSet.inclusive(0, 0xFFFF);
+      for (int n = 0; n <= 0xFFFF; n += 2) {
+        set.delete(n);
+      }
+      assertEquals(0x8000, set.size());
+      for (int n = 0; n <= 0xFFFF; n++) {
+        assertEquals(n % 2 == 1, set.contains(n));
+      }
+    }
+
+    @Test
+    @DisplayName("and clear empties the set")
+    void clear() {
+      IntSet set = IntSet.of(1, 2, 100_000);
+      set.clear();
+      assertTrue(set.isEmpty());
+      assertFalse(set.contains(1));
+    }
+  }
+
+  @Nested
+  @DisplayName("Set operations")
+  class TestCasesForSetOperations {
+
+    @Test
+    @DisplayName("union, intersection and difference match those of sorted sets for all container kinds")
+    void operations() {
+      Random random = new Random(1);
+      double[] densities = {0.001, 0.05, 0.6};
+      for (double density1 : densities) {
+        for (double density2 : densities) {
+          JDKTreeSet<Integer> expected1 = JDKTreeSet.empty();
+          JDKTreeSet<Integer> expected2 = JDKTreeSet.empty();
+          IntSet set1 = randomSet(random, 0, 300_000, density1, expected1);
+          IntSet set2 = randomSet(random, 100_000, 300_000, density2, expected2);
+          set2.insertRange(150_000, 170_000);
+          for (int n = 150_000; n <= 170_000; n++) {
+            expected2.insert(n);
+          }
+
+          JDKTreeSet<Integer> union = JDKTreeSet.from(expected1);
+          JDKTreeSet<Integer> intersection = JDKTreeSet.empty();
+          JDKTreeSet<Integer> difference = JDKTreeSet.empty();
+          for (int element : expected2) {
+            union.insert(element);
+            if (expected1.contains(element)) {
+              intersection.insert(element);
+            }
+          }
+          for (int element : expected1) {
+            if (!expected2.contains(element)) {
+              difference.insert(element);
+            }
+          }
+
+          assertEquals(JDKArrayList.from(union), JDKArrayList.from(IntSet.union(set1, set2)));
+          assertEquals(JDKArrayList.from(intersection), JDKArrayList.from(IntSet.intersection(set1, set2)));
+          assertEquals(JDKArrayList.from(difference), JDKArrayList.from(IntSet.difference(set1, set2)));
+          assertEquals(union.size(), IntSet.union(set1, set2).size());
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("do not modify their arguments")
+    void arguments() {
+      IntSet set1 = IntSet.of(1, 2, 3);
+      IntSet set2 = IntSet.of(3, 4);
+      IntSet union = IntSet.union(set1, set2);
+      union.insert(5);
+      assertEquals(IntSet.of(1, 2, 3), set1);
+      assertEquals(IntSet.of(3, 4), set2);
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package org.uma.ed.datastructures.set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test cases for membership filters")
+class MembershipFilterTest {
+
+  private static int falsePositives(MembershipFilter<Integer> filter, int from, int to) {
+    int count = 0;
+    for (int n = from; n < to; n++) {
+      if (filter.mightContain(n)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  @Nested
+  @DisplayName("A BloomFilter")
+  class TestCasesForBloomFilter {
+
+    @Test
+    @DisplayName("has no false negatives")
+    void noFalseNegatives() {
+      BloomFilter<Integer> filter = BloomFilter.withCapacity(10_000, 0.01);
+      for (int n = 0; n < 10_000; n++) {
+        assertTrue(filter.insert(n));
+      }
+      for (int n = 0; n < 10_000; n++) {
+        assertTrue(filter.mightContain(n));
+      }
+    }
+
+    @Test
+    @DisplayName("has a false positive rate close to the target one when filled to capacity")
+    void falsePositiveRate() {
+      BloomFilter<Integer> filter = BloomFilter.withCapacity(10_000, 0.01);
+      for (int n = 0; n < 10_000; n++) {
+        filter.insert(n);
+      }
+      assertEquals(7, filter.numHashes());
+      assertTrue(falsePositives(filter, 10_000, 110_000) < 1_500);
+    }
+
+    @Test
+    @DisplayName("does not support deletion")
+    void deletion() {
+      BloomFilter<Integer> filter = BloomFilter.withCapacity(100, 0.01);
+      assertFalse(filter.supportsDeletion());
+      assertThrows(UnsupportedOperationException.class, () -> filter.delete(1));
+    }
+
+    @Test
+    @DisplayName("is empty after clear")
+    void clear() {
+      BloomFilter<String> filter = BloomFilter.withCapacity(100, 0.01);
+      filter.insert("a");
+      filter.clear();
+      assertFalse(filter.mightContain("a"));
+    }
+
+    @Test
+    @DisplayName("rejects invalid parameters")
+    void invalidParameters() {
+      assertThrows(IllegalArgumentException.class, () -> BloomFilter.withCapacity(0, 0.01));
+      assertThrows(IllegalArgumentException.class, () -> BloomFilter.withCapacity(100, 1.5));
+    }
+  }
+
+  @Nested
+  @DisplayName("A CuckooFilter")
+  class TestCasesForCuckooFilter {
+
+    @Test
+    @DisplayName("has no false negatives and few false positives when filled to capacity")
+    void noFalseNegatives() {
+      CuckooFilter<Integer> filter = CuckooFilter.withCapacity(10_000);
+      assertTrue(filter.capacity() >= 10_000);
+      for (int n = 0; n < 10_000; n++) {
+        assertTrue(filter.insert(n));
+      }
+      for (int n = 0; n < 10_000; n++) {
+        assertTrue(filter.mightContain(n));
+      }
+      assertTrue(falsePositives(filter, 10_000, 110_000) < 100);
+    }
+
+    @Test
+    @DisplayName("supports deletion")
+    void deletion() {
+      CuckooFilter<Integer> filter = CuckooFilter.withCapacity(1_000);
+      assertTrue(filter.supportsDeletion());
+      for (int n = 0; n < 1_000; n++) {
+        filter.insert(n);
+      }
+      for (int n = 0; n < 1_000; n += 2) {
+        filter.delete(n);
+      }
+      for (int n = 1; n < 1_000; n += 2) {
+        assertTrue(filter.mightContain(n));
+      }
+      assertTrue(falsePositives(filter, 0, 1_000) < 520);
+    }
+
+    @Test
+    @DisplayName("reports when it is full and keeps no false negatives")
+    void full() {
+      CuckooFilter<Integer> filter = new CuckooFilter<>(4);
+      int inserted = 0;
+      while (filter.insert(inserted)) {
+        inserted++;
+      }
+      assertTrue(inserted >= 12);
+      for (int n = 0; n < inserted; n++) {
+        assertTrue(filter.mightContain(n));
+      }
+    }
+
+    @Test
+    @DisplayName("rejects a number of buckets that is not a power of two")
+    void invalidParameters() {
+      assertThrows(IllegalArgumentException.class, () -> new CuckooFilter<>(3));
+      assertThrows(IllegalArgumentException.class, () -> CuckooFilter.withCapacity(0));
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package org.uma.ed.datastructures.set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+
+@DisplayName("Test cases for class PackedMemoryArraySet")
+class PackedMemoryArraySetTest {
+
+  @Nested
+  @DisplayName("A PackedMemoryArraySet is created")
+  class TestCasesForCreation {
+
+    @Test
+    @DisplayName("empty")
+    void empty() {
+      PackedMemoryArraySet<Integer> set = PackedMemoryArraySet.empty();
+      assertTrue(set.isEmpty());
+      assertEquals(0, set.size());
+      assertFalse(set.contains(1));
+      assertFalse(set.iterator().hasNext());
+      assertThrows(NoSuchElementException.class, set::minimum);
+      assertThrows(NoSuchElementException.class, set::maximum);
+    }
+
+    @Test
+    @DisplayName("using of(), which orders elements and discards duplicates")
+    void of() {
+      PackedMemoryArraySet<Integer> set = PackedMemoryArraySet.of(5, 3, 9, 1, 3, 7, 5);
+      assertEquals(5, set.size());
+      assertEquals("PackedMemoryArraySet(1, 3, 5, 7, 9)", set.toString());
+      assertEquals(SortedArraySet.of(1, 3, 5, 7, 9), set);
+    }
+
+    @Test
+    @DisplayName("by copying another sorted set")
+    void copyOf() {
+      PackedMemoryArraySet<Integer> set = PackedMemoryArraySet.copyOf(AVLSet.of(4, 2, 8));
+      assertEquals("PackedMemoryArraySet(2, 4, 8)", set.toString());
+      set.insert(6);
+      assertEquals("PackedMemoryArraySet(2, 4, 6, 8)", set.toString());
+    }
+  }
+
+  @Nested
+  @DisplayName("Operations insert(), delete(), contains(), minimum() and maximum()")
+  class TestCasesForOperations {
+
+    @Test
+    @DisplayName("ascending inserts keep every element findable")
+    void ascendingInserts() {
+      PackedMemoryArraySet<Integer> set = PackedMemoryArraySet.empty();
+      for (int i = 0; i < 5000; i++) {
+        set.insert(2 * i);
+      }
+      assertEquals(5000, set.size());
+      for (int i = -1; i < 10000; i++) {
+        assertEquals(i >= 0 && i % 2 == 0, set.contains(i), "element " + i);
+      }
+      assertEquals(0, set.minimum());
+      assertEquals(9998, set.maximum());
+    }
+
+    @Test
+    @DisplayName("descending inserts keep elements in ascending order")
+    void descendingInserts() {
+      PackedMemoryArraySet<Integer> set = PackedMemoryArraySet.empty();
+      JDKTreeSet<Integer> expected = JDKTreeSet.empty();
+      for (int i = 3000; i > 0; i--) {
+        set.insert(i);
+        expected.insert(i);
+      }
+      assertEquals(JDKArrayList.from(expected), JDKArrayList.from(set));
+    }
+
+    @Test
+    @DisplayName("random inserts and deletes behave as a TreeSet")
+    void randomOperations() {
+      Random random = new Random(0);
+      PackedMemoryArraySet<Integer> set = PackedMemoryArraySet.empty();
+      JDKTreeSet<Integer> expected = JDKTreeSet.empty();
+      for (int round = 0; round < 4; round++) {
+        for (int i = 0; i < 4000; i++) {
+          int element = random.nextInt(3000);
+          set.insert(element);
+          expected.insert(element);
+        }
+        assertEquals(expected.size(), set.size());
+        assertEquals(JDKArrayList.from(expected), JDKArrayList.from(set));
+        for (int i = 0; i < 5000; i++) {
+          int element = random.nextInt(3000);
+          set.delete(element);
+          expected.delete(element);
+          assertEquals(expected.size(), set.size());
+        }
+        assertEquals(JDKArrayList.from(expected), JDKArrayList.from(set));
+        for (int i = 0; i < 3000; i++) {
+          assertEquals(expected.contains(i), set.contains(i), "element " + i);
+        }
+        if (!expected.isEmpty()) {
+          assertEquals(expected.minimum(), set.minimum());
+          assertEquals(expected.maximum(), set.maximum());
+        }
+      }
+    }
+
+    @Test
+    @DisplayName("deleting every element leaves an empty set that can be reused")
+    void deleteAll() {
+      PackedMemoryArraySet<Integer> set = PackedMemoryArraySet.empty();
+      for (int i = 0; i < 1000; i++) {
+        set.insert(i);
+      }
+      for (int i = 0; i < 1000; i++) {
+        set.delete(i);
+      }
+      assertTrue(set.isEmpty());
+      assertFalse(set.iterator().hasNext());
+      set.insert(42);
+      assertEquals("PackedMemoryArraySet(42)", set.toString());
+    }
+
+    @Test
+    @DisplayName("clear() empties the set")
+    void clear() {
+      PackedMemoryArraySet<Integer> set = PackedMemoryArraySet.of(1, 2, 3);
+      set.clear();
+      assertTrue(set.isEmpty());
+      assertThrows(NoSuchElementException.class, set::minimum);
+    }
+  }
+}
@@ -977,4 +977,67 @@ class SortedArraySetTest {
       assertEquals(expectedResult, differenceSet.toString());
     }
   }
-}
\ No newline at end of file
+
+  @Nested
+  @DisplayName("When method insertAll() is called")
+  class TestCasesForMethodInsertAll {
+
+    @Test
+    @DisplayName("on an empty set, it contains the distinct elements in the batch")
+    void insertAllIntoEmptySet() {
+      SortedArraySet<Integer> set = SortedArraySet.empty();
+      set.insertAll(JDKArrayList.of(5, 1, 3, 1, 5, 2));
+
+      assertEquals("SortedArraySet(1, 2, 3, 5)", set.toString());
+      assertEquals(4, set.size());
+    }
+
+    @Test
+    @DisplayName("elements already in the set are not duplicated and new ones are merged in order")
+    void insertAllMergesWithExistingElements() {
+      SortedArraySet<Integer> set = SortedArraySet.of(2, 4, 6, 8);
+      set.insertAll(JDKArrayList.of(9, 4, 0, 5, 8, 5));
+
+      assertEquals("SortedArraySet(0, 2, 4, 5, 6, 8, 9)", set.toString());
+      assertEquals(7, set.size());
+    }
+
+    @Test
+    @DisplayName("an empty batch leaves the set unchanged")
+    void insertAllWithEmptyBatch() {
+      SortedArraySet<Integer> set = SortedArraySet.of(1, 2);
+      set.insertAll(JDKArrayList.empty());
+
+      assertEquals("SortedArraySet(1, 2)", set.toString());
+    }
+
+    @Test
+    @DisplayName("the result is the same as inserting elements one by one")
+    void insertAllSameAsRepeatedInsert() {
+      java.util.Random random = new java.util.Random(0);
+      SortedArraySet<Integer> set = SortedArraySet.empty();
+      SortedArraySet<Integer> expected = SortedArraySet.empty();
+      for (int round = 0; round < 20; round++) {
+        List<Integer> batch = JDKArrayList.empty();
+        for (int i = 0; i < 100; i++) {
+          batch.append(random.nextInt(1000));
+        }
+        set.insertAll(batch);
+        for (int element : batch) {
+          expected.insert(element);
+        }
+        assertEquals(JDKArrayList.from(expected), JDKArrayList.from(set));
+      }
+    }
+
+    @Test
+    @DisplayName("elements in the batch replace equal ones in the set, and the last equal one in the batch wins")
+    void insertAllReplacesEqualElements() {
+      Comparator<String> caseInsensitive = String.CASE_INSENSITIVE_ORDER;
+      SortedArraySet<String> set = SortedArraySet.of(caseInsensitive, "a", "b");
+      set.insertAll(JDKArrayList.of("B", "c", "C"));
+
+      assertEquals("SortedArraySet(a, B, C)", set.toString());
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package org.uma.ed.datastructures.utils.iterator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Comparator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.uma.ed.datastructures.list.JDKArrayList;
+import org.uma.ed.datastructures.list.List;
+import org.uma.ed.datastructures.set.AVLSet;
+import org.uma.ed.datastructures.set.SortedArraySet;
+import org.uma.ed.datastructures.set.SortedLinkedSet;
+import org.uma.ed.datastructures.set.SortedSet;
+
+@DisplayName("Test cases for class SortedIterators")
+class SortedIteratorsTest {
+
+  private static SortedArraySet<Integer> multiplesOf(int factor, int size) {
+    SortedArraySet<Integer> set = SortedArraySet.withCapacity(size);
+    for (int i = 0; i < size; i++) {
+      set.insert(factor * i);
+    }
+    return set;
+  }
+
+  @Nested
+  @DisplayName("gallop()")
+  class TestCasesForGallop {
+
+    @Test
+    @DisplayName("returns the first index not smaller than the element, from any starting index")
+    void gallopFindsLowerBound() {
+      Integer[] array = {1, 3, 5, 7, 9, 11, 13, 15, 17, 19, 21};
+      Comparator<Integer> comparator = Comparator.naturalOrder();
+      for (int from = 0; from <= array.length; from++) {
+        for (int element = 0; element <= 22; element++) {
+          int expected = from;
+          while (expected < array.length && array[expected] < element) {
+            expected++;
+          }
+          assertEquals(expected, SortedIterators.gallop(array, from, array.length, element, comparator));
+        }
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Seekable iterators")
+  class TestCasesForSeek {
+
+    @Test
+    @DisplayName("seek() skips forward in SortedArraySet, AVLSet and SortedLinkedSet iterators")
+    void seekSkipsForward() {
+      List<SortedSet<Integer>> sets = JDKArrayList.of(
+          multiplesOf(3, 100), AVLSet.from(multiplesOf(3, 100)), SortedLinkedSet.from(multiplesOf(3, 100)));
+      for (SortedSet<Integer> set : sets) {
+        SeekableIterator<Integer> iterator = SortedIterators.seekable(set.iterator(), set.comparator());
+        iterator.seek(10);
+        assertEquals(12, iterator.next());
+        iterator.seek(5);
+        assertEquals(15, iterator.next());
+        iterator.seek(297);
+        assertEquals(297, iterator.next());
+        iterator.seek(1000);
+        assertFalse(iterator.hasNext());
+      }
+    }
+  }
+
+  @Nested
+  @DisplayName("Set operations")
+  class TestCasesForSetOperations {
+
+    @Test
+    @DisplayName("intersection of a small and a large set is computed correctly for all kinds of sets")
+    void intersectionOfSkewedSets() {
+      SortedArraySet<Integer> large = multiplesOf(2, 100_000);
+      SortedArraySet<Integer> small = SortedArraySet.of(-1, 4, 5, 1000, 199_998, 300_000);
+      SortedSet<Integer> expected = SortedArraySet.of(4, 1000, 199_998);
+
+      assertEquals(expected, SortedArraySet.intersection(small, large));
+      assertEquals(expected, SortedArraySet.intersection(large, small));
+      assertEquals(expected, SortedArraySet.intersection(small, AVLSet.from(large)));
+      assertEquals(expected, SortedLinkedSet.intersection(SortedLinkedSet.from(small), large));
+    }
+
+    @Test
+    @DisplayName("intersection and difference agree with a naive computation on random sets")
+    void randomSetOperations() {
+      java.util.Random random = new java.util.Random(0);
+      for (int test = 0; test < 50; test++) {
+        SortedArraySet<Integer> set1 = SortedArraySet.empty();
+        SortedArraySet<Integer> set2 = SortedArraySet.empty();
+        int size1 = random.nextInt(50), size2 = random.nextInt(500);
+        for (int i = 0; i < size1; i++) set1.insert(random.nextInt(1000));
+        for (int i = 0; i < size2; i++) set2.insert(random.nextInt(1000));
+
+        SortedArraySet<Integer> expectedIntersection = SortedArraySet.empty();
+        SortedArraySet<Integer> expectedDifference = SortedArraySet.empty();
+        for (int element : set1) {
+          if (set2.contains(element)) {
+            expectedIntersection.insert(element);
+          } else {
+            expectedDifference.insert(element);
+          }
+        }
+        assertEquals(expectedIntersection, SortedArraySet.intersection(set1, set2));
+        assertEquals(expectedIntersection, SortedArraySet.intersection(set2, set1));
+        assertEquals(expectedDifference, SortedArraySet.difference(set1, set2));
+        assertEquals(expectedDifference, SortedArraySet.difference(set1, AVLSet.from(set2)));
+      }
+    }
+  }
+}